@@ -2,9 +2,13 @@ package org.parstastic.jparstastic_json;
 
 import org.parstastic.jparstastic_json.node.JsonParticle;
 import org.parstastic.jparstastic_json.node.JsonValue;
-import org.parstastic.jparstastic_json.parser.FullStringJsonParser;
+import org.parstastic.jparstastic_json.parser.JsonParser;
+import org.parstastic.jparstastic_json.parser.JsonParsingEngine;
 import org.parstastic.jparstastic_json.parser.JsonParsingResult;
 
+import java.io.IOException;
+import java.nio.file.Path;
+
 public final class JSON {
     private JSON() throws IllegalStateException {
         throw new IllegalStateException();
@@ -15,8 +19,24 @@ public final class JSON {
     }
 
     public static JsonValue parse(final String json) {
+        return parse(json, JsonParsingEngine.STEP_INTERPRETER);
+    }
+
+    public static JsonValue parse(final String json, final JsonParsingEngine engine) {
+        try {
+            return JsonParser.getInstance(engine).parse(json).getValue();
+        } catch (final JsonParsingResult.JsonParsingResultNoSuchElementException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public static JsonValue parse(final Path path) throws IOException {
+        return parse(path, JsonParsingEngine.STEP_INTERPRETER);
+    }
+
+    public static JsonValue parse(final Path path, final JsonParsingEngine engine) throws IOException {
         try {
-            return new FullStringJsonParser().parse(json).getValue();
+            return JsonParser.getInstance(engine).parse(path).getValue();
         } catch (final JsonParsingResult.JsonParsingResultNoSuchElementException e) {
             throw new RuntimeException(e);
         }
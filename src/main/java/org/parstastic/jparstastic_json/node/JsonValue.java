@@ -26,4 +26,16 @@ public class JsonValue extends JsonParticle {
                 this.jsonNode.stringify(options) +
                 options.getJsonValueTrailingWhitespace(this.trailingWhitespace).stringify(options);
     }
+
+    public Whitespace getLeadingWhitespace() {
+        return this.leadingWhitespace;
+    }
+
+    public JsonNode getJsonNode() {
+        return this.jsonNode;
+    }
+
+    public Whitespace getTrailingWhitespace() {
+        return this.trailingWhitespace;
+    }
 }
@@ -80,7 +80,7 @@ public class StringifyOptions {
     private static final WhitespaceStringifyOptions LINE_BREAK_AND_INDENTATION_WHITESPACE_STRINGIFY_OPTIONS = new WhitespaceStringifyOptions(
             options -> {
                 try {
-                    return new Whitespace("\n" + DEFAULT_INDENTATION.repeat(Math.max(0, options.indentationLevel)));
+                    return Whitespace.of("\n" + DEFAULT_INDENTATION.repeat(Math.max(0, options.indentationLevel)));
                 } catch (final JsonParticleInstantiationException e) {
                     return null;
                 }
@@ -89,29 +89,17 @@ public class StringifyOptions {
     private static final WhitespaceStringifyOptions LINE_BREAK_AND_INDENTATION_REDUCED_WHITESPACE_STRINGIFY_OPTIONS = new WhitespaceStringifyOptions(
             options -> {
                 try {
-                    return new Whitespace("\n" + DEFAULT_INDENTATION.repeat(Math.max(0, options.indentationLevel - 1)));
+                    return Whitespace.of("\n" + DEFAULT_INDENTATION.repeat(Math.max(0, options.indentationLevel - 1)));
                 } catch (final JsonParticleInstantiationException e) {
                     return null;
                 }
             }
     );
     private static final WhitespaceStringifyOptions ONE_SPACE_WHITESPACE_STRINGIFY_OPTIONS = new WhitespaceStringifyOptions(
-            options -> {
-                try {
-                    return new Whitespace(" ");
-                } catch (final JsonParticleInstantiationException e) {
-                    return null;
-                }
-            }
+            options -> Whitespace.SPACE
     );
     private static final WhitespaceStringifyOptions MINIMAL_WHITESPACE_STRINGIFY_OPTIONS = new WhitespaceStringifyOptions(
-            options -> {
-                try {
-                    return new Whitespace("");
-                } catch (final JsonParticleInstantiationException e) {
-                    return null;
-                }
-            }
+            options -> Whitespace.EMPTY
     );
 
     private static final JsonValueStringifyOptions<WhitespaceStringifyOptions> DEFAULT_JSON_VALUE_STRINGIFY_OPTIONS = new JsonValueStringifyOptions<>(
@@ -257,6 +245,18 @@ public class StringifyOptions {
         );
     }
 
+    /**
+     * Checks whether these options keep all whitespace of the stringified particles,
+     * so stringifying a parsed document returns exactly the parsed <code>JSON</code> {@link String}.
+     *
+     * @return {@code true} if no whitespace is replaced, {@code false} otherwise
+     */
+    public boolean isVerbatim() {
+        return this.jsonValueStringifyOptions == DEFAULT_JSON_VALUE_STRINGIFY_OPTIONS
+                && this.arrayNodeStringifyOptions == DEFAULT_ARRAY_NODE_STRINGIFY_OPTIONS
+                && this.objectNodeStringifyOptions == DEFAULT_OBJECT_NODE_STRINGIFY_OPTIONS;
+    }
+
     public StringifyOptions forContainerNode(final ContainerNode<?> containerNode) {
         return forContainerNode(containerNode, false);
     }
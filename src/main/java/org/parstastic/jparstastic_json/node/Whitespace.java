@@ -4,6 +4,11 @@ import java.util.Arrays;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+/**
+ * This class represents the whitespace between the tokens of a <code>JSON</code> document.
+ * Empty whitespace, a single space and a line break followed by an indentation of spaces or tabs are shared
+ * instances returned by {@link #of(String)}, as they make up almost all whitespace of real documents.
+ */
 public class Whitespace extends JsonParticle {
     public enum WhitespaceCharacter {
         SPACE(' '),
@@ -15,8 +20,15 @@ public class Whitespace extends JsonParticle {
                 .map(c -> c.character)
                 .collect(Collectors.toUnmodifiableSet());
 
+        /**
+         * Bit set of the {@link #CHARACTERS}, which are all below {@link Long#SIZE}
+         */
+        private static final long CHARACTER_BITS = Arrays.stream(WhitespaceCharacter.values())
+                .mapToLong(c -> 1L << c.character)
+                .reduce(0L, (bits, bit) -> bits | bit);
+
         public static boolean isWhitespaceCharacter(final char character) {
-            return CHARACTERS.contains(character);
+            return character < Long.SIZE && (CHARACTER_BITS & (1L << character)) != 0;
         }
 
         private final char character;
@@ -26,16 +38,136 @@ public class Whitespace extends JsonParticle {
         }
     }
 
+    /**
+     * Largest indentation of the shared instances of a line break followed by spaces
+     */
+    private static final int MAX_SHARED_SPACES = 64;
+    /**
+     * Largest indentation of the shared instances of a line break followed by tabs
+     */
+    private static final int MAX_SHARED_TABS = 16;
+    private static final String LINE_FEED = "\n";
+    private static final String CARRIAGE_RETURN_LINE_FEED = "\r\n";
+
+    /**
+     * Shared instance of empty whitespace
+     */
+    public static final Whitespace EMPTY = createShared("");
+    /**
+     * Shared instance of a single space
+     */
+    public static final Whitespace SPACE = createShared(" ");
+
+    private static final Whitespace[] LINE_FEED_AND_SPACES = createShared(LINE_FEED, ' ', MAX_SHARED_SPACES);
+    private static final Whitespace[] LINE_FEED_AND_TABS = createShared(LINE_FEED, '\t', MAX_SHARED_TABS);
+    private static final Whitespace[] CARRIAGE_RETURN_LINE_FEED_AND_SPACES = createShared(
+            CARRIAGE_RETURN_LINE_FEED,
+            ' ',
+            MAX_SHARED_SPACES
+    );
+    private static final Whitespace[] CARRIAGE_RETURN_LINE_FEED_AND_TABS = createShared(
+            CARRIAGE_RETURN_LINE_FEED,
+            '\t',
+            MAX_SHARED_TABS
+    );
+
+    private static Whitespace[] createShared(final String lineBreak, final char indentation, final int maxCount) {
+        final Whitespace[] shared = new Whitespace[maxCount + 1];
+        for (int i = 0; i < shared.length; i++) {
+            shared[i] = createShared(lineBreak + String.valueOf(indentation).repeat(i));
+        }
+        return shared;
+    }
+
+    private static Whitespace createShared(final String value) {
+        try {
+            return new Whitespace(value, true);
+        } catch (final JsonParticleInstantiationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns a {@link Whitespace} with the given value, which is a shared instance for empty whitespace,
+     * a single space and a line break followed by an indentation of spaces or tabs.
+     *
+     * @param value whitespace characters
+     * @return shared or new {@link Whitespace}
+     * @throws JsonParticleInstantiationException if {@code value} is {@code null} or no whitespace
+     */
+    public static Whitespace of(final String value) throws JsonParticleInstantiationException {
+        if (value != null) {
+            final Whitespace shared = findShared(value);
+            if (shared != null) {
+                return shared;
+            }
+        }
+        return new Whitespace(value);
+    }
+
+    private static Whitespace findShared(final String value) {
+        final int length = value.length();
+        if (length == 0) {
+            return EMPTY;
+        }
+        if (length == 1 && value.charAt(0) == ' ') {
+            return SPACE;
+        }
+        final int lineBreakLength;
+        if (value.startsWith(CARRIAGE_RETURN_LINE_FEED)) {
+            lineBreakLength = CARRIAGE_RETURN_LINE_FEED.length();
+        } else if (value.charAt(0) == '\n') {
+            lineBreakLength = LINE_FEED.length();
+        } else {
+            return null;
+        }
+        if (length == lineBreakLength) {
+            return lineBreakLength == 1 ? LINE_FEED_AND_SPACES[0] : CARRIAGE_RETURN_LINE_FEED_AND_SPACES[0];
+        }
+        final char indentation = value.charAt(lineBreakLength);
+        final Whitespace[] shared;
+        if (indentation == ' ') {
+            shared = lineBreakLength == 1 ? LINE_FEED_AND_SPACES : CARRIAGE_RETURN_LINE_FEED_AND_SPACES;
+        } else if (indentation == '\t') {
+            shared = lineBreakLength == 1 ? LINE_FEED_AND_TABS : CARRIAGE_RETURN_LINE_FEED_AND_TABS;
+        } else {
+            return null;
+        }
+        final int count = length - lineBreakLength;
+        if (count >= shared.length) {
+            return null;
+        }
+        for (int i = lineBreakLength + 1; i < length; i++) {
+            if (value.charAt(i) != indentation) {
+                return null;
+            }
+        }
+        return shared[count];
+    }
+
     private final String value;
 
     public Whitespace(final String value) throws JsonParticleInstantiationException {
+        this(value, false);
+    }
+
+    /**
+     * Creates a {@link Whitespace} with the given value.
+     *
+     * @param value       whitespace characters
+     * @param isValidated whether {@code value} is known to consist of whitespace characters, so it is not validated
+     */
+    private Whitespace(final String value, final boolean isValidated) throws JsonParticleInstantiationException {
         super();
 
-        validateNotNullOrThrowInstantiationException(value, "value");
+        if (!isValidated) {
+            validateNotNullOrThrowInstantiationException(value, "value");
 
-        for (final char c : value.toCharArray()) {
-            if (!WhitespaceCharacter.isWhitespaceCharacter(c)) {
-                throwInstantiationException("The character \"" + c + "\" is not a valid whitespace character.");
+            for (int i = 0; i < value.length(); i++) {
+                final char c = value.charAt(i);
+                if (!WhitespaceCharacter.isWhitespaceCharacter(c)) {
+                    throwInstantiationException("The character \"" + c + "\" is not a valid whitespace character.");
+                }
             }
         }
 
@@ -24,6 +24,13 @@ public class ArrayNode extends ContainerNode<JsonValue> {
      */
     public static final char DELIMITER_ELEMENTS = ',';
 
+    /**
+     * Creates a {@link ArrayNode} whose elements are provided by a subclass overriding {@link #getElements()}.
+     */
+    protected ArrayNode() {
+        super();
+    }
+
     public ArrayNode(final Whitespace whitespace) throws JsonParticleInstantiationException {
         super(whitespace);
     }
@@ -32,6 +39,24 @@ public class ArrayNode extends ContainerNode<JsonValue> {
         super(elements);
     }
 
+    /**
+     * Creates an {@link ArrayNode} of the given elements. Arrays of numbers without exponent, whose elements are all
+     * surrounded by the same whitespace, are packed into a {@link NumberArrayNode} storing their values in a primitive
+     * array, which stringifies exactly the same.
+     *
+     * @param elements elements of the array, kept by the created node unless it is packed
+     * @return created {@link ArrayNode}
+     */
+    public static ArrayNode of(final List<JsonValue> elements) throws JsonParticleInstantiationException {
+        if (elements != null && !elements.isEmpty()) {
+            final NumberArrayNode numberArrayNode = NumberArrayNode.pack(elements);
+            if (numberArrayNode != null) {
+                return numberArrayNode;
+            }
+        }
+        return new ArrayNode(elements);
+    }
+
     @Override
     public char getDelimiterStart() {
         return DELIMITER_START;
@@ -5,6 +5,7 @@ import org.parstastic.jparstastic_json.node.JsonParticleInstantiationException;
 import org.parstastic.jparstastic_json.node.StringifyOptions;
 import org.parstastic.jparstastic_json.node.Whitespace;
 
+import java.util.Collections;
 import java.util.List;
 
 public abstract class ContainerNode<P extends JsonParticle> extends JsonNode {
@@ -28,6 +29,16 @@ public abstract class ContainerNode<P extends JsonParticle> extends JsonNode {
         this.elements = elements;
     }
 
+    /**
+     * Creates a {@link ContainerNode} whose elements are provided by a subclass overriding {@link #getElements()},
+     * like nodes parsing their elements lazily. Such a node always contains at least one element.
+     */
+    protected ContainerNode() {
+        super();
+        this.whitespace = null;
+        this.elements = null;
+    }
+
     protected ContainerNode(final Whitespace whitespace) throws JsonParticleInstantiationException {
         this(whitespace, null);
     }
@@ -41,15 +52,16 @@ public abstract class ContainerNode<P extends JsonParticle> extends JsonNode {
         final StringifyOptions optionsForThisNode = options.forContainerNode(this);
         final StringBuilder stringBuilder = new StringBuilder();
         stringBuilder.append(getDelimiterStart());
-        if (this.elements != null) {
-            for (int i = 0; i < this.elements.size(); i++) {
-                final boolean isLastElement = i == this.elements.size() - 1;
+        if (this.whitespace == null) {
+            final List<P> elements = getElements();
+            for (int i = 0; i < elements.size(); i++) {
+                final boolean isLastElement = i == elements.size() - 1;
                 final StringifyOptions optionsForThisElement = isLastElement
                         ? options.forContainerNode(this, true)
                         : optionsForThisNode
                         ;
-                stringBuilder.append(this.elements.get(i).stringify(optionsForThisElement));
-                if (i < this.elements.size() - 1) {
+                stringBuilder.append(elements.get(i).stringify(optionsForThisElement));
+                if (i < elements.size() - 1) {
                     stringBuilder.append(getDelimiterElements());
                 }
             }
@@ -62,6 +74,15 @@ public abstract class ContainerNode<P extends JsonParticle> extends JsonNode {
         return stringBuilder.toString();
     }
 
+    /**
+     * Returns the elements of the <code>JSON</code> node.
+     *
+     * @return unmodifiable {@link List} of the elements, empty if the node only contains whitespace
+     */
+    public List<P> getElements() {
+        return this.elements == null ? List.of() : Collections.unmodifiableList(this.elements);
+    }
+
     public abstract char getDelimiterStart();
 
     public abstract char getDelimiterEnd();
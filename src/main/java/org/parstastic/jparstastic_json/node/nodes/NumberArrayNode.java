@@ -0,0 +1,316 @@
+package org.parstastic.jparstastic_json.node.nodes;
+
+import org.parstastic.jparstastic_json.node.JsonParticleInstantiationException;
+import org.parstastic.jparstastic_json.node.JsonValue;
+import org.parstastic.jparstastic_json.node.Whitespace;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * This class is a non-empty {@link ArrayNode} of numbers, which stores their values in a primitive array instead of
+ * a {@link JsonValue} and a {@link NumberNode} per element, like time series, coordinates or embeddings.
+ * Arrays of integers are stored as {@code long[]}, all others as {@code double[]} remembering which elements are
+ * integers, so they are stringified without a fraction.
+ * <p>
+ * The whitespace around the elements is stored once, so only arrays whose elements are all surrounded by the same
+ * whitespace are packed, like arrays without whitespace or pretty printed ones, see {@link ArrayNode#of(List)}.
+ * The {@link JsonValue}s returned by {@link #getElements()} are created on every access, the typed accessors read
+ * the values directly.
+ */
+public final class NumberArrayNode extends ArrayNode {
+    /**
+     * Largest magnitude up to which every integer is exactly representable as {@code double}
+     */
+    private static final long MAX_EXACT_DOUBLE_INTEGER = 1L << 53;
+
+    /**
+     * Values if all elements are integers, {@code null} otherwise
+     */
+    private final long[] longValues;
+    /**
+     * Values if not all elements are integers, {@code null} otherwise
+     */
+    private final double[] doubleValues;
+    /**
+     * Bit set of the elements of {@link #doubleValues} which are integers, {@code null} if there are none
+     */
+    private final long[] integerElements;
+    private final Whitespace firstLeadingWhitespace;
+    /**
+     * Leading whitespace of all elements but the first
+     */
+    private final Whitespace leadingWhitespace;
+    /**
+     * Trailing whitespace of all elements but the last
+     */
+    private final Whitespace trailingWhitespace;
+    private final Whitespace lastTrailingWhitespace;
+
+    /**
+     * Creates a {@link NumberArrayNode} of the given integers without whitespace.
+     *
+     * @param values values of the elements, which are copied
+     */
+    public NumberArrayNode(final long[] values) throws JsonParticleInstantiationException {
+        this(
+                values == null ? null : values.clone(),
+                null,
+                null,
+                Whitespace.EMPTY,
+                Whitespace.EMPTY,
+                Whitespace.EMPTY,
+                Whitespace.EMPTY
+        );
+        validateValues(values);
+    }
+
+    /**
+     * Creates a {@link NumberArrayNode} of the given {@code double}s without whitespace.
+     *
+     * @param values values of the elements, which are copied
+     */
+    public NumberArrayNode(final double[] values) throws JsonParticleInstantiationException {
+        this(
+                null,
+                values == null ? null : values.clone(),
+                null,
+                Whitespace.EMPTY,
+                Whitespace.EMPTY,
+                Whitespace.EMPTY,
+                Whitespace.EMPTY
+        );
+        validateValues(values);
+    }
+
+    private NumberArrayNode(final long[] longValues,
+                            final double[] doubleValues,
+                            final long[] integerElements,
+                            final Whitespace firstLeadingWhitespace,
+                            final Whitespace leadingWhitespace,
+                            final Whitespace trailingWhitespace,
+                            final Whitespace lastTrailingWhitespace) {
+        super();
+        this.longValues = longValues;
+        this.doubleValues = doubleValues;
+        this.integerElements = integerElements;
+        this.firstLeadingWhitespace = firstLeadingWhitespace;
+        this.leadingWhitespace = leadingWhitespace;
+        this.trailingWhitespace = trailingWhitespace;
+        this.lastTrailingWhitespace = lastTrailingWhitespace;
+    }
+
+    private void validateValues(final Object values) throws JsonParticleInstantiationException {
+        validateNotNullOrThrowInstantiationException(values, "values");
+        if (size() == 0) {
+            throwInstantiationException("The parameter \"values\" may not be empty.");
+        }
+    }
+
+    /**
+     * Packs the given elements if they are all {@link NumberNode}s without exponent, stored as {@code long} or
+     * {@code double}, surrounded by the same whitespace apart from the first and last element.
+     *
+     * Elements are only visited in order, so {@link java.util.LinkedList}s of elements are packed in linear time,
+     * and nothing is allocated for arrays whose first element is not a number.
+     *
+     * @param elements non-empty elements of the array
+     * @return packed array, {@code null} if the elements cannot be packed
+     */
+    static NumberArrayNode pack(final List<JsonValue> elements) {
+        final JsonValue first = elements.getFirst();
+        if (first.getJsonNode().getClass() != NumberNode.class) {
+            return null;
+        }
+        final int size = elements.size();
+        final JsonValue last = elements.getLast();
+        final Whitespace leadingWhitespace = size > 1 ? elements.get(1).getLeadingWhitespace() : Whitespace.EMPTY;
+        final Whitespace trailingWhitespace = size > 1 ? first.getTrailingWhitespace() : Whitespace.EMPTY;
+        final long[] bits = new long[size];
+        final long[] integerElements = new long[(size + Long.SIZE - 1) / Long.SIZE];
+        boolean isIntegral = true;
+        boolean hasIntegers = false;
+        int i = 0;
+        for (final JsonValue element : elements) {
+            if (element.getJsonNode().getClass() != NumberNode.class
+                    || (i > 0 && !isSame(element.getLeadingWhitespace(), leadingWhitespace))
+                    || (i < size - 1 && !isSame(element.getTrailingWhitespace(), trailingWhitespace))) {
+                return null;
+            }
+            final NumberNode numberNode = (NumberNode) element.getJsonNode();
+            if (numberNode.hasExponent()) {
+                return null;
+            }
+            switch (numberNode.getRepresentation()) {
+                case LONG -> {
+                    bits[i] = numberNode.longValue();
+                    integerElements[i / Long.SIZE] |= 1L << i;
+                    hasIntegers = true;
+                }
+                case DOUBLE -> {
+                    bits[i] = Double.doubleToRawLongBits(numberNode.doubleValue());
+                    isIntegral = false;
+                }
+                default -> {
+                    return null;
+                }
+            }
+            i++;
+        }
+
+        if (isIntegral) {
+            return new NumberArrayNode(
+                    bits,
+                    null,
+                    null,
+                    first.getLeadingWhitespace(),
+                    leadingWhitespace,
+                    trailingWhitespace,
+                    last.getTrailingWhitespace()
+            );
+        }
+        final double[] doubleValues = new double[size];
+        for (i = 0; i < size; i++) {
+            if (isInteger(integerElements, i)) {
+                if (bits[i] < -MAX_EXACT_DOUBLE_INTEGER || bits[i] > MAX_EXACT_DOUBLE_INTEGER) {
+                    return null;
+                }
+                doubleValues[i] = bits[i];
+            } else {
+                doubleValues[i] = Double.longBitsToDouble(bits[i]);
+            }
+        }
+        return new NumberArrayNode(
+                null,
+                doubleValues,
+                hasIntegers ? integerElements : null,
+                first.getLeadingWhitespace(),
+                leadingWhitespace,
+                trailingWhitespace,
+                last.getTrailingWhitespace()
+        );
+    }
+
+    private static boolean isSame(final Whitespace whitespace, final Whitespace other) {
+        return whitespace == other || whitespace.getValue().equals(other.getValue());
+    }
+
+    private static boolean isInteger(final long[] integerElements, final int index) {
+        return (integerElements[index / Long.SIZE] & (1L << index)) != 0;
+    }
+
+    /**
+     * Returns the number of elements.
+     *
+     * @return number of elements, at least one
+     */
+    public int size() {
+        return this.longValues != null ? this.longValues.length : this.doubleValues.length;
+    }
+
+    /**
+     * Checks whether all elements are integers, which are stored as {@code long}s.
+     *
+     * @return {@code true} if all elements are integers, {@code false} if the elements are stored as {@code double}s
+     */
+    public boolean isIntegral() {
+        return this.longValues != null;
+    }
+
+    /**
+     * Returns the element at the given index as {@code long}, truncating fractions like {@link NumberNode#longValue()}.
+     *
+     * @param index index of the element
+     * @return value of the element
+     * @throws IndexOutOfBoundsException if there is no element at the given index
+     */
+    public long getLong(final int index) throws IndexOutOfBoundsException {
+        return this.longValues != null ? this.longValues[index] : (long) this.doubleValues[index];
+    }
+
+    /**
+     * Returns the element at the given index as the nearest {@code double}.
+     *
+     * @param index index of the element
+     * @return value of the element
+     * @throws IndexOutOfBoundsException if there is no element at the given index
+     */
+    public double getDouble(final int index) throws IndexOutOfBoundsException {
+        return this.longValues != null ? (double) this.longValues[index] : this.doubleValues[index];
+    }
+
+    /**
+     * Returns all elements as {@code long}s, truncating fractions like {@link NumberNode#longValue()}.
+     *
+     * @return new array of the values of the elements
+     */
+    public long[] toLongArray() {
+        if (this.longValues != null) {
+            return this.longValues.clone();
+        }
+        final long[] values = new long[this.doubleValues.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (long) this.doubleValues[i];
+        }
+        return values;
+    }
+
+    /**
+     * Returns all elements as the nearest {@code double}s.
+     *
+     * @return new array of the values of the elements
+     */
+    public double[] toDoubleArray() {
+        if (this.doubleValues != null) {
+            return this.doubleValues.clone();
+        }
+        return Arrays.stream(this.longValues).asDoubleStream().toArray();
+    }
+
+    /**
+     * Returns the elements of the array, whose {@link JsonValue}s are created whenever they are accessed.
+     *
+     * @return unmodifiable {@link List} of the elements
+     */
+    @Override
+    public List<JsonValue> getElements() {
+        return new Elements();
+    }
+
+    private JsonValue createElement(final int index) {
+        final NumberNode numberNode;
+        if (this.longValues != null) {
+            numberNode = new NumberNode(this.longValues[index]);
+        } else if (this.integerElements != null && isInteger(this.integerElements, index)) {
+            numberNode = new NumberNode((long) this.doubleValues[index]);
+        } else {
+            numberNode = new NumberNode(this.doubleValues[index]);
+        }
+        try {
+            return new JsonValue(
+                    index == 0 ? this.firstLeadingWhitespace : this.leadingWhitespace,
+                    numberNode,
+                    index == size() - 1 ? this.lastTrailingWhitespace : this.trailingWhitespace
+            );
+        } catch (final JsonParticleInstantiationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * This class is the view of the elements returned by {@link #getElements()}.
+     */
+    private final class Elements extends AbstractList<JsonValue> implements RandomAccess {
+        @Override
+        public JsonValue get(final int index) {
+            return createElement(index);
+        }
+
+        @Override
+        public int size() {
+            return NumberArrayNode.this.size();
+        }
+    }
+}
@@ -2,6 +2,10 @@ package org.parstastic.jparstastic_json.node.nodes;
 
 import org.parstastic.jparstastic_json.node.JsonParticleInstantiationException;
 import org.parstastic.jparstastic_json.node.StringifyOptions;
+import org.parstastic.jparstastic_json.parser.parsers.nodes.DoubleConversion;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
 
 /**
  * This class represents a <code>JSON</code> number node.
@@ -39,21 +43,119 @@ public class NumberNode extends JsonNode {
     public static final char EXPONENT_SYMBOL_CAPITALIZED = 'E';
 
     /**
-     * Numeric value of the <code>JSON</code> number node
+     * This enum contains the representations a {@link NumberNode} stores its value in.
+     */
+    public enum NumberNodeRepresentation {
+        /**
+         * Integer fitting a {@code long}, stored without boxing
+         */
+        LONG,
+        /**
+         * Number with a fraction, stored as {@code double} without boxing
+         */
+        DOUBLE,
+        /**
+         * Integer beyond the range of a {@code long}, stored as {@link BigInteger}
+         */
+        BIG_INTEGER,
+        /**
+         * Number with a fraction a {@code double} cannot hold without losing digits, stored as {@link BigDecimal}
+         */
+        BIG_DECIMAL
+    }
+
+    /**
+     * This record holds the exponent of a {@link NumberNode}, apart from the node itself,
+     * so that the far more common numbers without exponent do not store its fields.
+     */
+    private record Exponent(boolean isCapitalized, NumberNodeExponentSignSymbol sign, long value) {
+        private long signedValue() {
+            return this.sign.getValue() * this.value;
+        }
+    }
+
+    private static final BigDecimal MIN_LONG = BigDecimal.valueOf(Long.MIN_VALUE);
+    private static final BigDecimal MAX_LONG = BigDecimal.valueOf(Long.MAX_VALUE);
+
+    private final NumberNodeRepresentation representation;
+    /**
+     * Value of the <code>JSON</code> number node without its exponent, either a {@code long} or the bits of a
+     * {@code double}, unused for the {@link BigInteger} and {@link BigDecimal} representations
+     */
+    private final long bits;
+    /**
+     * Value of the <code>JSON</code> number node without its exponent, {@code null} unless it is a {@link BigInteger}
+     * or {@link BigDecimal}
+     */
+    private final Number bigValue;
+    /**
+     * Exponent of the <code>JSON</code> number node, {@code null} if it has none
      */
-    private final Number value;
-    private final boolean hasExponent;
-    private final boolean isExponentCapitalized;
-    private final NumberNodeExponentSignSymbol exponentSign;
-    private final long exponent;
+    private final Exponent exponent;
+
+    /**
+     * Creates a {@link NumberNode} whose value is provided by a subclass overriding {@link #getRepresentation()},
+     * {@link #hasExponent()}, {@link #stringify(StringifyOptions)} and the numeric accessors,
+     * like nodes converting their text lazily.
+     */
+    protected NumberNode() {
+        this(NumberNodeRepresentation.LONG, 0, null, null);
+    }
+
+    /**
+     * Creates a {@link NumberNode} object with the given integer as numeric value.
+     *
+     * @param value numeric value of the <code>JSON</code> number node
+     */
+    public NumberNode(final long value) {
+        this(NumberNodeRepresentation.LONG, value, null, null);
+    }
+
+    /**
+     * Creates a {@link NumberNode} object with the given {@code double} as numeric value.
+     *
+     * @param value numeric value of the <code>JSON</code> number node
+     */
+    public NumberNode(final double value) {
+        this(NumberNodeRepresentation.DOUBLE, Double.doubleToRawLongBits(value), null, null);
+    }
 
     /**
      * Creates a {@link NumberNode} object with the given {@code value} as numeric value.
+     * Integers fitting a {@code long} and {@code double}s are stored unboxed, {@link Float}s keep their text.
      *
      * @param value numeric value of the <code>JSON</code> number node
      */
     public NumberNode(final Number value) throws JsonParticleInstantiationException {
-        this(value, false, false, null, 1);
+        this(value, false, false, null, 0);
+    }
+
+    public NumberNode(final long value,
+                      final boolean isExponentCapitalized,
+                      final NumberNodeExponentSignSymbol exponentSign,
+                      final long exponent)
+            throws JsonParticleInstantiationException {
+        this(
+                NumberNodeRepresentation.LONG,
+                value,
+                null,
+                new Exponent(isExponentCapitalized, exponentSign, exponent)
+        );
+        validateExponent(exponentSign, exponent);
+    }
+
+    public NumberNode(final double value,
+                      final boolean isExponentCapitalized,
+                      final NumberNodeExponentSignSymbol exponentSign,
+                      final long exponent)
+            throws JsonParticleInstantiationException {
+        this(
+                NumberNodeRepresentation.DOUBLE,
+                Double.doubleToRawLongBits(value),
+                null,
+                new Exponent(isExponentCapitalized, exponentSign, exponent)
+        );
+        validateExponent(exponentSign, exponent);
     }
 
     public NumberNode(final Number value,
@@ -70,51 +172,230 @@ public class NumberNode extends JsonNode {
                        final NumberNodeExponentSignSymbol exponentSign,
                        final long exponent)
             throws JsonParticleInstantiationException {
-        super();
+        this(
+                representationOf(value),
+                bitsOf(value),
+                bigValueOf(value),
+                hasExponent ? new Exponent(isExponentCapitalized, exponentSign, exponent) : null
+        );
 
         validateNotNullOrThrowInstantiationException(value, "value");
 
+        if (hasExponent) {
+            validateExponent(exponentSign, exponent);
+        }
+    }
+
+    private NumberNode(final NumberNodeRepresentation representation,
+                       final long bits,
+                       final Number bigValue,
+                       final Exponent exponent) {
+        super();
+
+        this.representation = representation;
+        this.bits = bits;
+        this.bigValue = bigValue;
+        this.exponent = exponent;
+    }
+
+    private void validateExponent(final NumberNodeExponentSignSymbol exponentSign, final long exponent)
+            throws JsonParticleInstantiationException {
         if (exponent < 0) {
             throwInstantiationException("Exponent may not be negative.");
         }
 
-        if (hasExponent && exponentSign == null) {
+        if (exponentSign == null) {
             throwInstantiationException("If an exponent is present, \"exponentSign\" may not be null.");
         }
+    }
 
-        this.value = value;
-        this.hasExponent = hasExponent;
-        this.isExponentCapitalized = isExponentCapitalized;
-        this.exponentSign = exponentSign;
-        this.exponent = exponent;
+    private static boolean isIntegral(final Number value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+
+    private static boolean isLongBigInteger(final Number value) {
+        return value instanceof BigInteger bigInteger && bigInteger.bitLength() < Long.SIZE;
+    }
+
+    private static NumberNodeRepresentation representationOf(final Number value) {
+        if (isIntegral(value) || isLongBigInteger(value)) {
+            return NumberNodeRepresentation.LONG;
+        } else if (value instanceof Double || value instanceof Float) {
+            return NumberNodeRepresentation.DOUBLE;
+        } else if (value instanceof BigInteger) {
+            return NumberNodeRepresentation.BIG_INTEGER;
+        } else {
+            return NumberNodeRepresentation.BIG_DECIMAL;
+        }
+    }
+
+    private static long bitsOf(final Number value) {
+        if (isIntegral(value) || isLongBigInteger(value)) {
+            return value.longValue();
+        } else if (value instanceof Double d) {
+            return Double.doubleToRawLongBits(d);
+        } else if (value instanceof Float f) {
+            return Double.doubleToRawLongBits(Double.parseDouble(f.toString()));
+        } else {
+            return 0;
+        }
+    }
+
+    private static Number bigValueOf(final Number value) throws JsonParticleInstantiationException {
+        if (value == null || isIntegral(value) || isLongBigInteger(value)
+                || value instanceof Double || value instanceof Float) {
+            return null;
+        } else if (value instanceof BigInteger || value instanceof BigDecimal) {
+            return value;
+        }
+        try {
+            return new BigDecimal(value.toString());
+        } catch (final NumberFormatException e) {
+            throw new JsonParticleInstantiationException("The value \"" + value + "\" is not a number.");
+        }
+    }
+
+    /**
+     * Returns the representation this {@link NumberNode} stores its value in.
+     *
+     * @return {@link NumberNodeRepresentation} of the value
+     */
+    public NumberNodeRepresentation getRepresentation() {
+        return this.representation;
+    }
+
+    /**
+     * Checks whether the <code>JSON</code> number node has an exponent like {@code 1e5}.
+     *
+     * @return {@code true} if there is an exponent, {@code false} otherwise
+     */
+    public boolean hasExponent() {
+        return this.exponent != null;
     }
 
     @Override
     public String stringify(final StringifyOptions options) {
         final StringBuilder stringBuilder = new StringBuilder();
 
-        stringBuilder.append(this.value.toString());
+        stringBuilder.append(stringifyValue());
 
-        if (this.hasExponent) {
-            if (this.isExponentCapitalized) {
+        if (hasExponent()) {
+            if (this.exponent.isCapitalized()) {
                 stringBuilder.append(EXPONENT_SYMBOL_CAPITALIZED);
             } else {
                 stringBuilder.append(EXPONENT_SYMBOL);
             }
 
-            stringBuilder.append(this.exponentSign.getSymbol());
+            stringBuilder.append(this.exponent.sign().getSymbol());
 
-            stringBuilder.append(this.exponent);
+            stringBuilder.append(this.exponent.value());
         }
 
         return stringBuilder.toString();
     }
 
-    public double getNumericValue() {
-        if (this.hasExponent) {
-            return Math.pow(this.value.doubleValue(), (double) this.exponentSign.value * this.exponent);
-        } else {
-            return this.value.doubleValue();
+    /**
+     * Creates the text of the value without its exponent.
+     * {@code double}s which {@link Double#toString(double)} writes in scientific notation are written without it if
+     * the node has an exponent, since a number may only have one.
+     *
+     * @return text of the value
+     */
+    private String stringifyValue() {
+        return switch (this.representation) {
+            case LONG -> Long.toString(this.bits);
+            case DOUBLE -> {
+                final String text = Double.toString(Double.longBitsToDouble(this.bits));
+                if (hasExponent() && text.indexOf(EXPONENT_SYMBOL_CAPITALIZED) >= 0) {
+                    yield new BigDecimal(text).toPlainString();
+                }
+                yield text;
+            }
+            case BIG_INTEGER -> this.bigValue.toString();
+            case BIG_DECIMAL -> ((BigDecimal) this.bigValue).toPlainString();
+        };
+    }
+
+    /**
+     * Returns the value of the <code>JSON</code> number node including its exponent as {@code long}.
+     * Fractions are truncated and values beyond the range of a {@code long} are clamped to
+     * {@link Long#MIN_VALUE} or {@link Long#MAX_VALUE}. Integers without exponent are returned without any conversion.
+     *
+     * @return value as {@code long}
+     */
+    public long longValue() {
+        if (!hasExponent()) {
+            return switch (this.representation) {
+                case LONG -> this.bits;
+                case DOUBLE -> (long) Double.longBitsToDouble(this.bits);
+                case BIG_INTEGER, BIG_DECIMAL -> clampToLong(toBigDecimal());
+            };
+        }
+        try {
+            return clampToLong(toBigDecimal());
+        } catch (final ArithmeticException e) {
+            return (long) doubleValue();
+        }
+    }
+
+    /**
+     * Returns the value of the <code>JSON</code> number node including its exponent as the nearest {@code double}.
+     * Values beyond the range of a {@code double} are infinite.
+     * Numbers with exponent are rounded only once, from the exact value without exponent scaled by the exponent.
+     *
+     * @return value as {@code double}
+     */
+    public double doubleValue() {
+        if (hasExponent()) {
+            if (this.representation == NumberNodeRepresentation.LONG) {
+                return DoubleConversion.toDouble(this.bits, this.exponent.signedValue());
+            }
+            return DoubleConversion.toDouble(stringifyValue(), this.exponent.signedValue());
+        }
+        return switch (this.representation) {
+            case LONG -> (double) this.bits;
+            case DOUBLE -> Double.longBitsToDouble(this.bits);
+            case BIG_INTEGER, BIG_DECIMAL -> this.bigValue.doubleValue();
+        };
+    }
+
+    /**
+     * Returns the exact value of the <code>JSON</code> number node including its exponent.
+     * {@code double}s are converted from the text they are stringified to.
+     *
+     * @return value as {@link BigDecimal}
+     * @throws ArithmeticException if the exponent is beyond the range of a {@link BigDecimal}
+     */
+    public BigDecimal toBigDecimal() throws ArithmeticException {
+        final BigDecimal value = switch (this.representation) {
+            case LONG -> BigDecimal.valueOf(this.bits);
+            case DOUBLE -> new BigDecimal(Double.toString(Double.longBitsToDouble(this.bits)));
+            case BIG_INTEGER -> new BigDecimal((BigInteger) this.bigValue);
+            case BIG_DECIMAL -> (BigDecimal) this.bigValue;
+        };
+        if (!hasExponent()) {
+            return value;
+        }
+        return value.scaleByPowerOfTen(this.exponent.sign().getValue() * Math.toIntExact(this.exponent.value()));
+    }
+
+    private static long clampToLong(final BigDecimal value) {
+        if (value.compareTo(MIN_LONG) < 0) {
+            return Long.MIN_VALUE;
         }
+        if (value.compareTo(MAX_LONG) > 0) {
+            return Long.MAX_VALUE;
+        }
+        return value.longValue();
+    }
+
+    /**
+     * Returns the value of the <code>JSON</code> number node including its exponent as the nearest {@code double}.
+     *
+     * @return value as {@code double}
+     * @see #doubleValue()
+     */
+    public double getNumericValue() {
+        return doubleValue();
     }
 }
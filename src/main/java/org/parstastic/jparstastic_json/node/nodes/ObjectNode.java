@@ -50,8 +50,67 @@ public class ObjectNode extends ContainerNode<ObjectNode.ObjectNodeProperty> {
                     KEY_VALUE_DELIMITER +
                     value.stringify(options);
         }
+
+        public Whitespace getLeadingWhitespace() {
+            return this.leadingWhitespace;
+        }
+
+        public StringNode getKey() {
+            return this.key;
+        }
+
+        public Whitespace getTrailingWhitespace() {
+            return this.trailingWhitespace;
+        }
+
+        public JsonValue getValue() {
+            return this.value;
+        }
     }
 
+    /**
+     * This class is an open addressing hash index of the keys of an {@link ObjectNode}, pointing to the first
+     * property with each key. It is immutable once created, so it is safely shared between threads.
+     */
+    private static final class PropertyIndex {
+        /**
+         * Position of the property plus one for every used slot, {@code 0} for free slots
+         */
+        private final int[] slots;
+
+        private PropertyIndex(final List<ObjectNodeProperty> properties) {
+            super();
+            this.slots = new int[Integer.highestOneBit(properties.size()) << 2];
+            final int mask = this.slots.length - 1;
+            for (int i = 0; i < properties.size(); i++) {
+                final String key = properties.get(i).getKey().getValue();
+                int slot = key.hashCode() & mask;
+                while (this.slots[slot] != 0 && !properties.get(this.slots[slot] - 1).getKey().getValue().equals(key)) {
+                    slot = (slot + 1) & mask;
+                }
+                if (this.slots[slot] == 0) {
+                    this.slots[slot] = i + 1;
+                }
+            }
+        }
+
+        private int indexOf(final List<ObjectNodeProperty> properties, final String key) {
+            final int mask = this.slots.length - 1;
+            for (int slot = key.hashCode() & mask; this.slots[slot] != 0; slot = (slot + 1) & mask) {
+                if (properties.get(this.slots[slot] - 1).getKey().getValue().equals(key)) {
+                    return this.slots[slot] - 1;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Number of properties above which keys are looked up in a {@link PropertyIndex} instead of being compared one
+     * by one
+     */
+    private static final int MIN_INDEXED_PROPERTIES = 8;
+
     /**
      * This is the delimiter used at the start of every <code>JSON</code> object node.
      */
@@ -65,6 +124,18 @@ public class ObjectNode extends ContainerNode<ObjectNode.ObjectNodeProperty> {
      */
     public static final char DELIMITER_ELEMENTS = ',';
 
+    /**
+     * Index of the keys, created by the first lookup in an object with more than {@link #MIN_INDEXED_PROPERTIES} properties
+     */
+    private PropertyIndex index;
+
+    /**
+     * Creates a {@link ObjectNode} whose elements are provided by a subclass overriding {@link #getElements()}.
+     */
+    protected ObjectNode() {
+        super();
+    }
+
     public ObjectNode(final Whitespace whitespace) throws JsonParticleInstantiationException {
         super(whitespace);
     }
@@ -73,6 +144,47 @@ public class ObjectNode extends ContainerNode<ObjectNode.ObjectNodeProperty> {
         super(elements);
     }
 
+    /**
+     * Returns the value of the first property with the given key.
+     * The key is compared with the keys as they are written in the document, including escape sequences.
+     * Wide objects build an index of their keys on the first lookup, so later lookups take constant time.
+     *
+     * @param key key of the property
+     * @return value of the property, {@code null} if the object has no property with the given key
+     */
+    public JsonValue get(final String key) {
+        final List<ObjectNodeProperty> properties = getElements();
+        final int position = indexOf(properties, key);
+        return position < 0 ? null : properties.get(position).getValue();
+    }
+
+    /**
+     * Checks whether the object has a property with the given key, which is compared like by {@link #get(String)}.
+     *
+     * @param key key of the property
+     * @return {@code true} if there is a property with the given key, {@code false} otherwise
+     */
+    public boolean has(final String key) {
+        return indexOf(getElements(), key) >= 0;
+    }
+
+    private int indexOf(final List<ObjectNodeProperty> properties, final String key) {
+        if (properties.size() <= MIN_INDEXED_PROPERTIES) {
+            for (int i = 0; i < properties.size(); i++) {
+                if (properties.get(i).getKey().getValue().equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        PropertyIndex index = this.index;
+        if (index == null) {
+            index = new PropertyIndex(properties);
+            this.index = index;
+        }
+        return index.indexOf(properties, key);
+    }
+
     @Override
     public char getDelimiterStart() {
         return DELIMITER_START;
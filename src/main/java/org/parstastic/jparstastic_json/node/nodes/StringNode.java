@@ -31,9 +31,18 @@ public class StringNode extends JsonNode {
         this.value = value;
     }
 
+    /**
+     * Creates a {@link StringNode} whose text value is provided by a subclass overriding {@link #getValue()},
+     * like nodes decoding their text lazily.
+     */
+    protected StringNode() {
+        super();
+        this.value = null;
+    }
+
     @Override
     public String stringify(final StringifyOptions options) {
-        return DELIMITER + this.value + DELIMITER;
+        return DELIMITER + getValue() + DELIMITER;
     }
 
     /**
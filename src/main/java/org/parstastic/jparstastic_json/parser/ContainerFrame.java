@@ -0,0 +1,217 @@
+package org.parstastic.jparstastic_json.parser;
+
+import org.parstastic.jparstastic_json.node.JsonParticleInstantiationException;
+import org.parstastic.jparstastic_json.node.JsonValue;
+import org.parstastic.jparstastic_json.node.Whitespace;
+import org.parstastic.jparstastic_json.node.nodes.ArrayNode;
+import org.parstastic.jparstastic_json.node.nodes.JsonNode;
+import org.parstastic.jparstastic_json.node.nodes.ObjectNode;
+import org.parstastic.jparstastic_json.node.nodes.StringNode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.parstastic.jparstastic_json.node.nodes.ObjectNode.ObjectNodeProperty;
+
+/**
+ * This class holds the state of a container whose elements are currently being parsed by a non-recursive parser.
+ * Frames are kept on an explicit {@link ContainerStack} instead of the Java call stack,
+ * so the nesting depth is only limited by the maximum depth of the parser.
+ * Frames are reused for all containers at the same depth, their buffers are copied into each created node.
+ */
+final class ContainerFrame {
+    /**
+     * Maximum number of elements a buffer may have to be kept for the next container
+     */
+    private static final int MAX_POOLED_ELEMENTS = 1024;
+    private static final int INITIAL_KEY_SLOTS = 16;
+
+    boolean isObject;
+    /**
+     * Leading whitespace of the {@link JsonValue} the container is the node of
+     */
+    Whitespace leadingWhitespace;
+    private ArrayList<JsonValue> elements = new ArrayList<>();
+    private ArrayList<ObjectNodeProperty> properties = new ArrayList<>();
+    /**
+     * Parts of the property whose value is currently being parsed
+     */
+    Whitespace propertyLeadingWhitespace;
+    StringNode key;
+    Whitespace keyTrailingWhitespace;
+    private final ParsingOptions.DuplicateKeyPolicy duplicateKeyPolicy;
+    /**
+     * Open addressing hash index of the keys of {@link #properties}, holding the position of the property plus one
+     * for every used slot, only used if duplicate keys are detected
+     */
+    private int[] keySlots;
+    /**
+     * Position of the property with the same key as {@link #key}, {@code -1} if the key is new
+     */
+    private int duplicate = -1;
+    /**
+     * Trailing whitespace of the value of the last property if it was dropped as duplicate, {@code null} otherwise,
+     * which is the whitespace before the end of the object
+     */
+    private Whitespace droppedTrailingWhitespace;
+
+    ContainerFrame(final ParsingOptions.DuplicateKeyPolicy duplicateKeyPolicy) {
+        super();
+        this.duplicateKeyPolicy = duplicateKeyPolicy;
+    }
+
+    void open(final boolean isObject, final Whitespace leadingWhitespace) {
+        this.isObject = isObject;
+        this.leadingWhitespace = leadingWhitespace;
+    }
+
+    /**
+     * Looks up the {@link #key} of the property whose value is parsed next among the keys of the previous properties.
+     *
+     * @return {@code false} if the key is a duplicate and duplicates are rejected, {@code true} otherwise
+     */
+    boolean acceptKey() {
+        if (this.duplicateKeyPolicy == ParsingOptions.DuplicateKeyPolicy.KEEP_ALL) {
+            return true;
+        }
+        if (this.keySlots == null) {
+            this.keySlots = new int[INITIAL_KEY_SLOTS];
+        }
+        final String key = this.key.getValue();
+        final int mask = this.keySlots.length - 1;
+        for (int slot = key.hashCode() & mask; this.keySlots[slot] != 0; slot = (slot + 1) & mask) {
+            if (this.properties.get(this.keySlots[slot] - 1).getKey().getValue().equals(key)) {
+                this.duplicate = this.keySlots[slot] - 1;
+                return this.duplicateKeyPolicy != ParsingOptions.DuplicateKeyPolicy.REJECT;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds the given element, or the property of the given value.
+     * Duplicate properties are dropped, apart from their value being kept in place of the value of the first
+     * property with the key for {@link ParsingOptions.DuplicateKeyPolicy#KEEP_LAST}, surrounded by the whitespace
+     * of the first value.
+     *
+     * @param value parsed element or value of the property
+     */
+    void add(final JsonValue value) throws JsonParticleInstantiationException {
+        if (this.isObject) {
+            if (this.duplicate < 0) {
+                this.properties.add(new ObjectNodeProperty(
+                        this.propertyLeadingWhitespace,
+                        this.key,
+                        this.keyTrailingWhitespace,
+                        value
+                ));
+                if (this.keySlots != null) {
+                    indexKey(this.properties.size() - 1);
+                }
+                this.droppedTrailingWhitespace = null;
+            } else {
+                if (this.duplicateKeyPolicy == ParsingOptions.DuplicateKeyPolicy.KEEP_LAST) {
+                    final ObjectNodeProperty first = this.properties.get(this.duplicate);
+                    this.properties.set(this.duplicate, withValue(
+                            first,
+                            first.getValue().getLeadingWhitespace(),
+                            value.getJsonNode(),
+                            first.getValue().getTrailingWhitespace()
+                    ));
+                }
+                this.droppedTrailingWhitespace = value.getTrailingWhitespace();
+            }
+            this.duplicate = -1;
+        } else {
+            this.elements.add(value);
+        }
+    }
+
+    private static ObjectNodeProperty withValue(final ObjectNodeProperty property,
+                                                final Whitespace leadingWhitespace,
+                                                final JsonNode jsonNode,
+                                                final Whitespace trailingWhitespace)
+            throws JsonParticleInstantiationException {
+        return new ObjectNodeProperty(
+                property.getLeadingWhitespace(),
+                property.getKey(),
+                property.getTrailingWhitespace(),
+                new JsonValue(leadingWhitespace, jsonNode, trailingWhitespace)
+        );
+    }
+
+    private void indexKey(final int position) {
+        if (2 * this.properties.size() > this.keySlots.length) {
+            this.keySlots = new int[2 * this.keySlots.length];
+            for (int i = 0; i < this.properties.size(); i++) {
+                insertKey(i);
+            }
+        } else {
+            insertKey(position);
+        }
+    }
+
+    private void insertKey(final int position) {
+        final int mask = this.keySlots.length - 1;
+        int slot = this.properties.get(position).getKey().getValue().hashCode() & mask;
+        while (this.keySlots[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        this.keySlots[slot] = position + 1;
+    }
+
+    char getElementsDelimiter() {
+        return this.isObject ? ObjectNode.DELIMITER_ELEMENTS : ArrayNode.DELIMITER_ELEMENTS;
+    }
+
+    char getEndDelimiter() {
+        return this.isObject ? ObjectNode.DELIMITER_END : ArrayNode.DELIMITER_END;
+    }
+
+    JsonNode createNode() throws JsonParticleInstantiationException {
+        if (this.droppedTrailingWhitespace != null) {
+            final int last = this.properties.size() - 1;
+            final JsonValue value = this.properties.get(last).getValue();
+            this.properties.set(last, withValue(
+                    this.properties.get(last),
+                    value.getLeadingWhitespace(),
+                    value.getJsonNode(),
+                    this.droppedTrailingWhitespace
+            ));
+        }
+        final JsonNode jsonNode = this.isObject
+                ? new ObjectNode(new ArrayList<>(this.properties))
+                : ArrayNode.of(new ArrayList<>(this.elements));
+        clear();
+        return jsonNode;
+    }
+
+    /**
+     * Drops all references to parsed particles, and buffers grown too large to be kept in a {@link ScratchPool}.
+     */
+    void clear() {
+        this.elements = clear(this.elements);
+        this.properties = clear(this.properties);
+        this.leadingWhitespace = null;
+        this.propertyLeadingWhitespace = null;
+        this.key = null;
+        this.keyTrailingWhitespace = null;
+        this.duplicate = -1;
+        this.droppedTrailingWhitespace = null;
+        if (this.keySlots != null) {
+            if (this.keySlots.length > 2 * MAX_POOLED_ELEMENTS) {
+                this.keySlots = null;
+            } else {
+                Arrays.fill(this.keySlots, 0);
+            }
+        }
+    }
+
+    private static <P> ArrayList<P> clear(final ArrayList<P> buffer) {
+        if (buffer.size() > MAX_POOLED_ELEMENTS) {
+            return new ArrayList<>();
+        }
+        buffer.clear();
+        return buffer;
+    }
+}
@@ -0,0 +1,71 @@
+package org.parstastic.jparstastic_json.parser;
+
+import org.parstastic.jparstastic_json.node.Whitespace;
+
+import java.util.Arrays;
+
+/**
+ * This class is the explicit stack of {@link ContainerFrame}s of a single parse, which is pooled between parses
+ * together with the {@link KeyTable} of the parse.
+ */
+final class ContainerStack {
+    private static final int INITIAL_FRAMES = 16;
+    private static final int MAX_POOLED_FRAMES = 256;
+
+    private ContainerFrame[] frames = new ContainerFrame[INITIAL_FRAMES];
+    /**
+     * Number of frames opened during the current parse
+     */
+    private int usedFrames;
+    private final KeyTable keyTable;
+
+    private final ParsingOptions.DuplicateKeyPolicy duplicateKeyPolicy;
+
+    /**
+     * Creates an empty {@link ContainerStack}.
+     *
+     * @param options options of the parser, which configure the {@link KeyTable} and the handling of duplicate keys
+     */
+    ContainerStack(final ParsingOptions options) {
+        super();
+        this.keyTable = options.getKeyTableCapacity() > 0 ? new KeyTable(options.getKeyTableCapacity()) : null;
+        this.duplicateKeyPolicy = options.getDuplicateKeyPolicy();
+    }
+
+    /**
+     * Returns the table interning the keys of object properties.
+     *
+     * @return {@link KeyTable} kept between parses, {@code null} if keys are not interned
+     */
+    KeyTable getKeyTable() {
+        return this.keyTable;
+    }
+
+    ContainerFrame open(final int depth, final boolean isObject, final Whitespace leadingWhitespace) {
+        if (depth == this.frames.length) {
+            this.frames = Arrays.copyOf(this.frames, 2 * depth);
+        }
+        ContainerFrame frame = this.frames[depth];
+        if (frame == null) {
+            frame = new ContainerFrame(this.duplicateKeyPolicy);
+            this.frames[depth] = frame;
+        }
+        this.usedFrames = Math.max(this.usedFrames, depth + 1);
+        frame.open(isObject, leadingWhitespace);
+        return frame;
+    }
+
+    ContainerFrame get(final int depth) {
+        return depth < 0 ? null : this.frames[depth];
+    }
+
+    void reset() {
+        for (int i = 0; i < this.usedFrames; i++) {
+            this.frames[i].clear();
+        }
+        this.usedFrames = 0;
+        if (this.frames.length > MAX_POOLED_FRAMES) {
+            this.frames = Arrays.copyOf(this.frames, MAX_POOLED_FRAMES);
+        }
+    }
+}
@@ -0,0 +1,469 @@
+package org.parstastic.jparstastic_json.parser;
+
+import org.parstastic.jparstastic_json.node.JsonParticleInstantiationException;
+import org.parstastic.jparstastic_json.node.JsonValue;
+import org.parstastic.jparstastic_json.node.Whitespace;
+import org.parstastic.jparstastic_json.node.nodes.*;
+import org.parstastic.jparstastic_json.parser.input.JsonInputEncodingException;
+import org.parstastic.jparstastic_json.parser.parsers.JsonParticleParser;
+import org.parstastic.jparstastic_json.parser.parsers.nodes.NumberNodeParser;
+
+import java.io.Serial;
+
+import static org.parstastic.jparstastic_json.node.nodes.ObjectNode.ObjectNodeProperty;
+
+/**
+ * This class is a hand-written parser for complete <code>JSON</code> {@link String}s.
+ * It creates exactly the same {@link JsonValue} trees and errors as {@link FullStringJsonParser},
+ * but looks at every character once in a tight loop instead of interpreting parsing steps.
+ * Nested containers are kept on an explicit stack instead of recursing, so the thread stack used does not grow
+ * with the nesting depth of the document, which is limited by a configurable maximum depth instead.
+ */
+public class FastJsonParser extends JsonParticleParser<JsonValue> {
+    /**
+     * This exception signals that the current node cannot be parsed.
+     * It only carries the code of the error, because the error is described by the position of the {@link JsonParsingProcess}.
+     */
+    private static final class FastJsonParsingException extends Exception {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final JsonParsingErrorCode errorCode;
+
+        private FastJsonParsingException(final JsonParsingErrorCode errorCode) {
+            super(null, null, false, false);
+            this.errorCode = errorCode;
+        }
+    }
+
+    private static final FastJsonParsingException FAILURE = new FastJsonParsingException(
+            JsonParsingErrorCode.PARSER_FAILED
+    );
+    private static final FastJsonParsingException MAX_DEPTH_EXCEEDED = new FastJsonParsingException(
+            JsonParsingErrorCode.MAX_DEPTH_EXCEEDED
+    );
+    private static final FastJsonParsingException INVALID_ENCODING = new FastJsonParsingException(
+            JsonParsingErrorCode.INVALID_ENCODING
+    );
+    private static final FastJsonParsingException DUPLICATE_KEY = new FastJsonParsingException(
+            JsonParsingErrorCode.DUPLICATE_KEY
+    );
+
+    /**
+     * Default maximum number of nested containers
+     */
+    public static final int DEFAULT_MAX_DEPTH = 1000;
+
+    /**
+     * Maximum number of nested containers
+     */
+    private final int maxDepth;
+    private final ParsingOptions options;
+    private final ScratchPool<ContainerStack> scratchPool;
+
+    /**
+     * Creates a {@link FastJsonParser} allowing up to {@link #DEFAULT_MAX_DEPTH} nested containers.
+     */
+    public FastJsonParser() {
+        this(DEFAULT_MAX_DEPTH);
+    }
+
+    /**
+     * Creates a {@link FastJsonParser} allowing up to the given number of nested containers.
+     * The depth does not influence the used thread stack, so even very deep documents may be parsed on small stacks.
+     *
+     * @param maxDepth maximum number of nested containers
+     * @throws IllegalArgumentException if {@code maxDepth} is negative
+     */
+    public FastJsonParser(final int maxDepth) throws IllegalArgumentException {
+        this(maxDepth, ParsingOptions.DEFAULT_PARSING_OPTIONS);
+    }
+
+    /**
+     * Creates a {@link FastJsonParser} allowing up to the given number of nested containers, which keeps whitespace
+     * and the text of numbers and interns keys as configured by the given {@link ParsingOptions}.
+     *
+     * @param maxDepth maximum number of nested containers
+     * @param options  options of the created trees
+     * @throws IllegalArgumentException if {@code maxDepth} is negative
+     */
+    public FastJsonParser(final int maxDepth, final ParsingOptions options) throws IllegalArgumentException {
+        super();
+        if (maxDepth < 0) {
+            throw new IllegalArgumentException("The maximum depth must not be negative.");
+        }
+        this.maxDepth = maxDepth;
+        this.options = options;
+        this.scratchPool = new ScratchPool<>(() -> new ContainerStack(options));
+    }
+
+    @Override
+    public boolean canParse(final JsonParsingProcess parsingProcess) {
+        return true;
+    }
+
+    @Override
+    public JsonValue tryParse(final JsonParsingProcess parsingProcess) {
+        final JsonValue value;
+        try {
+            final Whitespace leadingWhitespace = parseWhitespace(parsingProcess);
+            if (!canParseNode(parsingProcess)) {
+                return fail(parsingProcess, JsonParsingErrorCode.EXPORT_FAILED);
+            }
+            final ContainerStack stack = this.scratchPool.acquire();
+            try {
+                value = parseValue(parsingProcess, leadingWhitespace, stack);
+            } finally {
+                stack.reset();
+                this.scratchPool.release(stack);
+            }
+        } catch (final FastJsonParsingException e) {
+            return fail(parsingProcess, e.errorCode);
+        }
+
+        if (parsingProcess.isFinished()) {
+            return value;
+        } else {
+            return fail(parsingProcess, JsonParsingErrorCode.NOT_FULLY_PARSED);
+        }
+    }
+
+    private static JsonValue fail(final JsonParsingProcess parsingProcess, final JsonParsingErrorCode errorCode) {
+        parsingProcess.fail(errorCode);
+        return null;
+    }
+
+    private static boolean canParseNode(final JsonParsingProcess parsingProcess) {
+        if (!parsingProcess.isIndexInJson()) {
+            return false;
+        }
+        return switch (parsingProcess.getChar()) {
+            case StringNode.DELIMITER,
+                 ObjectNode.DELIMITER_START,
+                 ArrayNode.DELIMITER_START,
+                 NumberNode.NEGATIVE_NUMBER_PREFIX,
+                 '0', '1', '2', '3', '4', '5', '6', '7', '8', '9' -> true;
+            case 't' -> parsingProcess.startsWith(BooleanNode.BooleanValue.TRUE.toString());
+            case 'f' -> parsingProcess.startsWith(BooleanNode.BooleanValue.FALSE.toString());
+            case 'n' -> parsingProcess.startsWith(NullNode.STRING_VALUE);
+            default -> false;
+        };
+    }
+
+    /**
+     * Parses a {@link JsonValue} without recursion.
+     * Every opened non-empty container pushes a {@link ContainerFrame},
+     * which is popped again once its end delimiter is parsed.
+     *
+     * @param parsingProcess    {@link JsonParsingProcess} to parse from
+     * @param leadingWhitespace already parsed leading whitespace of the value
+     * @param stack             reusable stack of containers exclusively owned by this parse
+     * @return parsed {@link JsonValue}
+     * @throws FastJsonParsingException if the value cannot be parsed or is nested too deep
+     */
+    private JsonValue parseValue(final JsonParsingProcess parsingProcess,
+                                 final Whitespace leadingWhitespace,
+                                 final ContainerStack stack)
+            throws FastJsonParsingException {
+        ContainerFrame frame = null;
+        int depth = 0;
+        Whitespace currentLeadingWhitespace = leadingWhitespace;
+        try {
+            while (true) {
+                if (!canParseNode(parsingProcess)) {
+                    throw FAILURE;
+                }
+                final char c = parsingProcess.getChar();
+                final JsonNode jsonNode;
+                if (c == ObjectNode.DELIMITER_START || c == ArrayNode.DELIMITER_START) {
+                    if (depth == this.maxDepth) {
+                        throw MAX_DEPTH_EXCEEDED;
+                    }
+                    final boolean isObject = c == ObjectNode.DELIMITER_START;
+                    parsingProcess.incrementIndex();
+                    final Whitespace whitespace = parseWhitespace(parsingProcess);
+                    if (isObject && parsingProcess.isAtChar(ObjectNode.DELIMITER_END)) {
+                        parsingProcess.incrementIndex();
+                        jsonNode = new ObjectNode(whitespace);
+                    } else if (!isObject && parsingProcess.isAtChar(ArrayNode.DELIMITER_END)) {
+                        parsingProcess.incrementIndex();
+                        jsonNode = new ArrayNode(whitespace);
+                    } else {
+                        frame = stack.open(depth, isObject, currentLeadingWhitespace);
+                        depth++;
+                        currentLeadingWhitespace = beginElement(parsingProcess, frame, whitespace, stack.getKeyTable());
+                        continue;
+                    }
+                } else {
+                    jsonNode = parseScalar(parsingProcess);
+                }
+
+                JsonValue value = new JsonValue(currentLeadingWhitespace, jsonNode, parseWhitespace(parsingProcess));
+                while (true) {
+                    if (frame == null) {
+                        return value;
+                    }
+                    parsingProcess.release();
+                    frame.add(value);
+                    if (parsingProcess.isAtChar(frame.getElementsDelimiter())) {
+                        parsingProcess.incrementIndex();
+                        currentLeadingWhitespace = beginElement(
+                                parsingProcess,
+                                frame,
+                                parseWhitespace(parsingProcess),
+                                stack.getKeyTable()
+                        );
+                        break;
+                    }
+                    parseCharacter(parsingProcess, frame.getEndDelimiter());
+                    value = new JsonValue(frame.leadingWhitespace, frame.createNode(), parseWhitespace(parsingProcess));
+                    depth--;
+                    frame = stack.get(depth - 1);
+                }
+            }
+        } catch (final JsonParticleInstantiationException e) {
+            throw FAILURE;
+        }
+    }
+
+    /**
+     * Parses everything of the next element of the given container up to the leading whitespace of its value.
+     * For arrays this is the given whitespace, for objects the key of the property is parsed as well.
+     *
+     * @param parsingProcess {@link JsonParsingProcess} to parse from
+     * @param frame          container of the element
+     * @param whitespace     whitespace already parsed in front of the element
+     * @param keyTable       table interning the key of the property, {@code null} if keys are not interned
+     * @return leading whitespace of the value of the element
+     * @throws FastJsonParsingException if the key of the property cannot be parsed or is rejected as duplicate
+     */
+    private Whitespace beginElement(final JsonParsingProcess parsingProcess,
+                                    final ContainerFrame frame,
+                                    final Whitespace whitespace,
+                                    final KeyTable keyTable)
+            throws FastJsonParsingException, JsonParticleInstantiationException {
+        if (!frame.isObject) {
+            return whitespace;
+        }
+        if (!parsingProcess.isAtChar(StringNode.DELIMITER)) {
+            throw FAILURE;
+        }
+        frame.propertyLeadingWhitespace = whitespace;
+        frame.key = keyTable == null ? parseString(parsingProcess) : parseKey(parsingProcess, keyTable);
+        if (!frame.acceptKey()) {
+            throw DUPLICATE_KEY;
+        }
+        frame.keyTrailingWhitespace = parseWhitespace(parsingProcess);
+        parseCharacter(parsingProcess, ObjectNodeProperty.KEY_VALUE_DELIMITER);
+        return parseWhitespace(parsingProcess);
+    }
+
+    private JsonNode parseScalar(final JsonParsingProcess parsingProcess)
+            throws FastJsonParsingException, JsonParticleInstantiationException {
+        return switch (parsingProcess.getChar()) {
+            case StringNode.DELIMITER -> parseString(parsingProcess);
+            case 't' -> parseLiteral(parsingProcess, BooleanNode.BooleanValue.TRUE.toString(), BooleanNode.TRUE);
+            case 'f' -> parseLiteral(parsingProcess, BooleanNode.BooleanValue.FALSE.toString(), BooleanNode.FALSE);
+            case 'n' -> parseLiteral(parsingProcess, NullNode.STRING_VALUE, NullNode.NULL_NODE);
+            default -> parseNumber(parsingProcess);
+        };
+    }
+
+    private Whitespace parseWhitespace(final JsonParsingProcess parsingProcess) {
+        final long start = parsingProcess.getIndex();
+        parsingProcess.skipWhitespace();
+        if (!this.options.isWhitespaceKept() || parsingProcess.getIndex() == start) {
+            return Whitespace.EMPTY;
+        }
+        try {
+            return Whitespace.of(parsingProcess.substring(start));
+        } catch (final JsonParticleInstantiationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static <J extends JsonNode> J parseLiteral(final JsonParsingProcess parsingProcess,
+                                                       final String literal,
+                                                       final J node)
+            throws FastJsonParsingException {
+        if (!parsingProcess.startsWith(literal)) {
+            throw FAILURE;
+        }
+        parsingProcess.incrementIndex(literal.length());
+        return node;
+    }
+
+    private static StringNode parseString(final JsonParsingProcess parsingProcess)
+            throws FastJsonParsingException, JsonParticleInstantiationException {
+        parsingProcess.incrementIndex();
+        return parseString(parsingProcess, parsingProcess.getIndex());
+    }
+
+    /**
+     * Parses the key of a property, hashing its characters while looking for the closing quote,
+     * so keys already in the given {@link KeyTable} are shared without creating a {@link String}.
+     * Keys which cannot be interned are parsed like any other string once such a character is found.
+     *
+     * @param parsingProcess {@link JsonParsingProcess} at the opening quote of the key
+     * @param keyTable       table interning the key
+     * @return parsed {@link StringNode}
+     * @throws FastJsonParsingException if the key is no valid string
+     */
+    private static StringNode parseKey(final JsonParsingProcess parsingProcess, final KeyTable keyTable)
+            throws FastJsonParsingException, JsonParticleInstantiationException {
+        parsingProcess.incrementIndex();
+        final long start = parsingProcess.getIndex();
+        int hash = 0;
+        while (parsingProcess.isIndexInJson()) {
+            final char c = parsingProcess.getChar();
+            if (c == StringNode.DELIMITER) {
+                final StringNode key;
+                try {
+                    key = keyTable.intern(parsingProcess.getInput(), start, parsingProcess.getIndex(), hash);
+                } catch (final JsonInputEncodingException e) {
+                    throw INVALID_ENCODING;
+                }
+                parsingProcess.incrementIndex();
+                return key;
+            }
+            if (!KeyTable.isInternable(c)) {
+                break;
+            }
+            hash = KeyTable.hash(hash, c);
+            parsingProcess.incrementIndex();
+        }
+        return parseString(parsingProcess, start);
+    }
+
+    private static StringNode parseString(final JsonParsingProcess parsingProcess, final long start)
+            throws FastJsonParsingException, JsonParticleInstantiationException {
+        while (true) {
+            parsingProcess.skipStringCharacters();
+            if (!parsingProcess.isIndexInJson()) {
+                throw FAILURE;
+            }
+            final char c = parsingProcess.getChar();
+            if (c == StringNode.DELIMITER) {
+                break;
+            }
+            parsingProcess.incrementIndex();
+            if (c == '\\') {
+                parseEscapeTarget(parsingProcess);
+            }
+        }
+        final String value;
+        try {
+            value = parsingProcess.substring(start);
+        } catch (final JsonInputEncodingException e) {
+            throw INVALID_ENCODING;
+        }
+        parsingProcess.incrementIndex();
+        return new StringNode(value);
+    }
+
+    private static void parseEscapeTarget(final JsonParsingProcess parsingProcess) throws FastJsonParsingException {
+        if (!parsingProcess.isIndexInJson()) {
+            throw FAILURE;
+        }
+        switch (parsingProcess.getChar()) {
+            case '"', '\\', '/', 'b', 'f', 'n', 'r', 't' -> parsingProcess.incrementIndex();
+            case 'u' -> {
+                parsingProcess.incrementIndex();
+                for (int i = 0; i < 4; i++) {
+                    if (!parsingProcess.isIndexInJson() || Character.digit(parsingProcess.getChar(), 16) < 0) {
+                        throw FAILURE;
+                    }
+                    parsingProcess.incrementIndex();
+                }
+            }
+            default -> throw FAILURE;
+        }
+    }
+
+    private NumberNode parseNumber(final JsonParsingProcess parsingProcess)
+            throws FastJsonParsingException, JsonParticleInstantiationException {
+        final long start = parsingProcess.getIndex();
+        if (parsingProcess.isAtChar(NumberNode.NEGATIVE_NUMBER_PREFIX)) {
+            parsingProcess.incrementIndex();
+        }
+        if (parsingProcess.isAtChar('0')) {
+            parsingProcess.incrementIndex();
+        } else if (parsingProcess.isIndexInJson() && isDigitOneToNine(parsingProcess.getChar())) {
+            parsingProcess.incrementIndex();
+            skipDigits(parsingProcess);
+        } else {
+            throw FAILURE;
+        }
+        if (parsingProcess.isAtChar(NumberNode.DECIMAL_DELIMITER)) {
+            parsingProcess.incrementIndex();
+            parseDigits(parsingProcess);
+        }
+        if (this.options.isNumberTextKept()) {
+            if (parsingProcess.isAtChar(NumberNode.EXPONENT_SYMBOL)
+                    || parsingProcess.isAtChar(NumberNode.EXPONENT_SYMBOL_CAPITALIZED)) {
+                parsingProcess.incrementIndex();
+                if (parsingProcess.isAtChar('-') || parsingProcess.isAtChar('+')) {
+                    parsingProcess.incrementIndex();
+                }
+                parseDigits(parsingProcess);
+            }
+            return NumberNodeParser.createLazyNumberNode(parsingProcess.substring(start));
+        }
+        final String value = parsingProcess.substring(start);
+
+        if (!parsingProcess.isAtChar(NumberNode.EXPONENT_SYMBOL)
+                && !parsingProcess.isAtChar(NumberNode.EXPONENT_SYMBOL_CAPITALIZED)) {
+            return NumberNodeParser.createNumberNode(value, false, null, null);
+        }
+        final boolean isExponentCapitalized = parsingProcess.getChar() == NumberNode.EXPONENT_SYMBOL_CAPITALIZED;
+        parsingProcess.incrementIndex();
+        final NumberNode.NumberNodeExponentSignSymbol exponentSign;
+        if (parsingProcess.isAtChar('-')) {
+            exponentSign = NumberNode.NumberNodeExponentSignSymbol.MINUS;
+            parsingProcess.incrementIndex();
+        } else if (parsingProcess.isAtChar('+')) {
+            exponentSign = NumberNode.NumberNodeExponentSignSymbol.PLUS;
+            parsingProcess.incrementIndex();
+        } else {
+            exponentSign = NumberNode.NumberNodeExponentSignSymbol.BLANK;
+        }
+        final long exponentStart = parsingProcess.getIndex();
+        parseDigits(parsingProcess);
+        return NumberNodeParser.createNumberNode(
+                value,
+                isExponentCapitalized,
+                exponentSign,
+                parsingProcess.substring(exponentStart)
+        );
+    }
+
+    private static void parseDigits(final JsonParsingProcess parsingProcess) throws FastJsonParsingException {
+        if (!parsingProcess.isIndexInJson() || !isDigit(parsingProcess.getChar())) {
+            throw FAILURE;
+        }
+        parsingProcess.incrementIndex();
+        skipDigits(parsingProcess);
+    }
+
+    private static void skipDigits(final JsonParsingProcess parsingProcess) {
+        while (parsingProcess.isIndexInJson() && isDigit(parsingProcess.getChar())) {
+            parsingProcess.incrementIndex();
+        }
+    }
+
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isDigitOneToNine(final char c) {
+        return c >= '1' && c <= '9';
+    }
+
+    private static void parseCharacter(final JsonParsingProcess parsingProcess, final char c)
+            throws FastJsonParsingException {
+        if (!parsingProcess.isAtChar(c)) {
+            throw FAILURE;
+        }
+        parsingProcess.incrementIndex();
+    }
+}
@@ -5,12 +5,13 @@ import org.parstastic.jparstastic_json.parser.parsers.JsonValueParser;
 
 public class FullStringJsonParser extends JsonValueParser {
     @Override
-    public JsonParsingResult<JsonValue> parse(final JsonParsingProcess parsingProcess) {
-        final JsonParsingResult<JsonValue> result = super.parse(parsingProcess);
-        if (result.hasError() || parsingProcess.isFinished()) {
-            return result;
+    public JsonValue tryParse(final JsonParsingProcess parsingProcess) {
+        final JsonValue value = super.tryParse(parsingProcess);
+        if (value == null || parsingProcess.isFinished()) {
+            return value;
         } else {
-            return JsonParsingResult.error("The JSON String is not fully parsed.", parsingProcess);
+            parsingProcess.fail(JsonParsingErrorCode.NOT_FULLY_PARSED);
+            return null;
         }
     }
 }
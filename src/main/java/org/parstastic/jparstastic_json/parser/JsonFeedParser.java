@@ -0,0 +1,220 @@
+package org.parstastic.jparstastic_json.parser;
+
+import org.parstastic.jparstastic_json.node.JsonValue;
+import org.parstastic.jparstastic_json.node.Whitespace;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class parses a stream of <code>UTF-8</code> encoded <code>JSON</code> documents which arrives in chunks of
+ * arbitrary size, for example from a non-blocking channel, without blocking while waiting for the rest of a document.
+ * <p>
+ * Every chunk is scanned exactly once by a small state machine which keeps its state between chunks,
+ * so a chunk may end anywhere, even inside a string, a number, a nested container or a multibyte character.
+ * As soon as a document is complete, its bytes are parsed directly with a {@link JsonParser}.
+ * Only the bytes of the current, incomplete document are buffered.
+ * <p>
+ * Documents are separated by optional whitespace, which is the leading {@link Whitespace} of the following document.
+ * Numbers and literals can only be known to be complete when they are followed by another character,
+ * so the last document of the stream may only be completed by {@link #finish()}.
+ * Error positions are byte offsets relative to the start of the document including its leading {@link Whitespace}.
+ * <p>
+ * Instances are not thread-safe, every stream needs its own {@link JsonFeedParser}.
+ */
+public final class JsonFeedParser {
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+
+    /**
+     * State of the scanner between two bytes
+     */
+    private enum State {
+        /**
+         * Before a document, only whitespace was scanned
+         */
+        BETWEEN_DOCUMENTS,
+        /**
+         * Inside a string or container
+         */
+        IN_VALUE,
+        /**
+         * Inside a number or literal at top level, which ends at the next whitespace or structural character
+         */
+        IN_SCALAR
+    }
+
+    private final JsonParser parser;
+    private byte[] buffer;
+    /**
+     * Index in {@link #buffer} of the first byte of the current document
+     */
+    private int start;
+    /**
+     * Index in {@link #buffer} after the last buffered byte
+     */
+    private int size;
+    private State state;
+    /**
+     * Nesting depth of containers of the current document
+     */
+    private int depth;
+    private boolean isInString;
+    private boolean isEscaped;
+
+    public JsonFeedParser() {
+        this(JsonParser.getInstance(JsonParsingEngine.FAST));
+    }
+
+    /**
+     * Creates a {@link JsonFeedParser} object parsing completed documents with the given {@link JsonParser}.
+     *
+     * @param parser {@link JsonParser} to parse completed documents with
+     */
+    public JsonFeedParser(final JsonParser parser) {
+        super();
+        this.parser = parser;
+        this.buffer = new byte[INITIAL_BUFFER_SIZE];
+        this.state = State.BETWEEN_DOCUMENTS;
+    }
+
+    /**
+     * Scans the remaining bytes of the given chunk and parses all documents completed by them.
+     * The chunk is consumed completely.
+     *
+     * @param chunk next bytes of the stream
+     * @return {@link JsonParsingResult}s of the completed documents in stream order, possibly empty
+     */
+    public List<JsonParsingResult<JsonValue>> feed(final ByteBuffer chunk) {
+        final List<JsonParsingResult<JsonValue>> results = new ArrayList<>();
+        int scanIndex = append(chunk);
+        while (scanIndex < this.size) {
+            final int end = scan(scanIndex);
+            if (end < 0) {
+                break;
+            }
+            results.add(complete(end));
+            scanIndex = end;
+        }
+        return results;
+    }
+
+    /**
+     * Signals the end of the stream and parses the last document, if there is one.
+     * A document which is still incomplete results in an error. Trailing whitespace is dropped.
+     * Afterwards this {@link JsonFeedParser} can be fed with a new stream.
+     *
+     * @return {@link JsonParsingResult}s of the last document, empty if there is none
+     */
+    public List<JsonParsingResult<JsonValue>> finish() {
+        final List<JsonParsingResult<JsonValue>> results = new ArrayList<>();
+        if (this.state != State.BETWEEN_DOCUMENTS) {
+            results.add(complete(this.size));
+        }
+        this.start = 0;
+        this.size = 0;
+        return results;
+    }
+
+    /**
+     * Appends the remaining bytes of the given chunk to {@link #buffer},
+     * dropping the bytes of already completed documents first.
+     *
+     * @param chunk bytes to append
+     * @return index in {@link #buffer} of the first appended byte
+     */
+    private int append(final ByteBuffer chunk) {
+        final int buffered = this.size - this.start;
+        final int remaining = chunk.remaining();
+        if (this.buffer.length < buffered + remaining) {
+            final byte[] buffer = new byte[Math.max(buffered + remaining, 2 * this.buffer.length)];
+            System.arraycopy(this.buffer, this.start, buffer, 0, buffered);
+            this.buffer = buffer;
+        } else if (this.start > 0) {
+            System.arraycopy(this.buffer, this.start, this.buffer, 0, buffered);
+        }
+        this.start = 0;
+        this.size = buffered;
+        chunk.get(this.buffer, this.size, remaining);
+        this.size += remaining;
+        return buffered;
+    }
+
+    /**
+     * Advances the scanner over the buffered bytes, starting at the given index.
+     *
+     * @param from index of the first byte to scan
+     * @return index after the last byte of the completed document, {@code -1} if no document was completed
+     */
+    private int scan(final int from) {
+        for (int i = from; i < this.size; i++) {
+            final byte b = this.buffer[i];
+            switch (this.state) {
+                case BETWEEN_DOCUMENTS -> {
+                    if (isWhitespace(b)) {
+                        continue;
+                    }
+                    if (b == '{' || b == '[') {
+                        this.state = State.IN_VALUE;
+                        this.depth = 1;
+                    } else if (b == '"') {
+                        this.state = State.IN_VALUE;
+                        this.isInString = true;
+                    } else {
+                        this.state = State.IN_SCALAR;
+                    }
+                }
+                case IN_VALUE -> {
+                    if (this.isInString) {
+                        if (this.isEscaped) {
+                            this.isEscaped = false;
+                        } else if (b == '\\') {
+                            this.isEscaped = true;
+                        } else if (b == '"') {
+                            this.isInString = false;
+                            if (this.depth == 0) {
+                                return i + 1;
+                            }
+                        }
+                    } else if (b == '"') {
+                        this.isInString = true;
+                    } else if (b == '{' || b == '[') {
+                        this.depth++;
+                    } else if ((b == '}' || b == ']') && --this.depth == 0) {
+                        return i + 1;
+                    }
+                }
+                case IN_SCALAR -> {
+                    if (isWhitespace(b) || isStructural(b)) {
+                        return i;
+                    }
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Parses the buffered document ending at the given index, the following bytes belong to the next document.
+     *
+     * @param end index in {@link #buffer} after the last byte of the document
+     * @return {@link JsonParsingResult} of the document
+     */
+    private JsonParsingResult<JsonValue> complete(final int end) {
+        final JsonParsingResult<JsonValue> result = this.parser.parse(this.buffer, this.start, end - this.start);
+        this.start = end;
+        this.state = State.BETWEEN_DOCUMENTS;
+        this.depth = 0;
+        this.isInString = false;
+        this.isEscaped = false;
+        return result;
+    }
+
+    private static boolean isWhitespace(final byte b) {
+        return b == ' ' || b == '\t' || b == '\n' || b == '\r';
+    }
+
+    private static boolean isStructural(final byte b) {
+        return b == '{' || b == '}' || b == '[' || b == ']' || b == ',' || b == ':' || b == '"';
+    }
+}
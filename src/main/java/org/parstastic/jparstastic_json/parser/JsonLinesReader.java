@@ -0,0 +1,295 @@
+package org.parstastic.jparstastic_json.parser;
+
+import org.parstastic.jparstastic_json.node.JsonValue;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * This class reads newline-delimited <code>JSON</code> (<code>NDJSON</code>, <code>JSON Lines</code>) from a
+ * <code>UTF-8</code> encoded {@link InputStream} and parses the records in parallel, while returning their
+ * {@link JsonParsingResult}s in input order.
+ * <p>
+ * The calling thread only reads blocks of complete lines. Every block is split and parsed as one task on the
+ * given {@link Executor}, for example a {@link ForkJoinPool} or a virtual thread executor, directly on its bytes.
+ * At most a bounded number of blocks is read ahead, so memory stays bounded for streams of any length.
+ * Lines are separated by {@code \n}, an optional preceding {@code \r} is ignored and empty lines are skipped.
+ * <p>
+ * Instances are not thread-safe. Closing a {@link JsonLinesReader} closes its {@link InputStream}.
+ */
+public final class JsonLinesReader implements Iterator<JsonParsingResult<JsonValue>>, Closeable {
+    /**
+     * Minimum number of bytes of a block, lines are never split
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 1 << 16;
+    /**
+     * Number of blocks read ahead by default
+     */
+    public static final int DEFAULT_MAX_PENDING_BLOCKS = 2 * Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Opens a {@link JsonLinesReader} for the file at the given path, parsing with the {@link JsonParsingEngine#FAST}
+     * engine on the common {@link ForkJoinPool}.
+     *
+     * @param path path of the <code>UTF-8</code> encoded file
+     * @return {@link JsonLinesReader} reading the file, which must be closed
+     * @throws IOException if the file cannot be opened
+     */
+    public static JsonLinesReader open(final Path path) throws IOException {
+        return new JsonLinesReader(Files.newInputStream(path));
+    }
+
+    private final InputStream input;
+    private final JsonParser parser;
+    private final Executor executor;
+    private final int blockSize;
+    private final int maxPendingBlocks;
+    /**
+     * Parsing blocks in input order
+     */
+    private final Deque<CompletableFuture<List<JsonParsingResult<JsonValue>>>> pendingBlocks;
+    /**
+     * Results of the current block which were not returned yet
+     */
+    private Iterator<JsonParsingResult<JsonValue>> results;
+    /**
+     * Bytes read after the last complete line, which start the next block
+     */
+    private byte[] carry;
+    private boolean isEndOfInput;
+
+    /**
+     * Creates a {@link JsonLinesReader} object parsing with the {@link JsonParsingEngine#FAST} engine on the
+     * common {@link ForkJoinPool}.
+     *
+     * @param input <code>UTF-8</code> encoded {@link InputStream} to read from
+     */
+    public JsonLinesReader(final InputStream input) {
+        this(input, JsonParser.getInstance(JsonParsingEngine.FAST), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a {@link JsonLinesReader} object parsing with the given {@link JsonParser} on the given {@link Executor}.
+     *
+     * @param input    <code>UTF-8</code> encoded {@link InputStream} to read from
+     * @param parser   {@link JsonParser} to parse the records with
+     * @param executor {@link Executor} to parse the records on
+     */
+    public JsonLinesReader(final InputStream input, final JsonParser parser, final Executor executor) {
+        this(input, parser, executor, DEFAULT_BLOCK_SIZE, DEFAULT_MAX_PENDING_BLOCKS);
+    }
+
+    /**
+     * Creates a {@link JsonLinesReader} object parsing with the given {@link JsonParser} on the given {@link Executor}.
+     *
+     * @param input            <code>UTF-8</code> encoded {@link InputStream} to read from
+     * @param parser           {@link JsonParser} to parse the records with
+     * @param executor         {@link Executor} to parse the records on
+     * @param blockSize        minimum number of bytes parsed per task
+     * @param maxPendingBlocks maximum number of blocks read ahead
+     * @throws IllegalArgumentException if {@code blockSize} or {@code maxPendingBlocks} is not positive
+     */
+    public JsonLinesReader(final InputStream input,
+                           final JsonParser parser,
+                           final Executor executor,
+                           final int blockSize,
+                           final int maxPendingBlocks)
+            throws IllegalArgumentException {
+        super();
+        if (blockSize <= 0 || maxPendingBlocks <= 0) {
+            throw new IllegalArgumentException(
+                    "The block size and the number of pending blocks must be positive: "
+                            + blockSize + ", " + maxPendingBlocks
+            );
+        }
+        this.input = input;
+        this.parser = parser;
+        this.executor = executor;
+        this.blockSize = blockSize;
+        this.maxPendingBlocks = maxPendingBlocks;
+        this.pendingBlocks = new ArrayDeque<>(maxPendingBlocks);
+        this.results = Collections.emptyIterator();
+        this.carry = new byte[0];
+    }
+
+    /**
+     * Checks whether there is another record, waiting for its block to be parsed if necessary.
+     *
+     * @return {@code true} if there is another record, {@code false} otherwise
+     * @throws UncheckedIOException if reading from the {@link InputStream} fails
+     */
+    @Override
+    public boolean hasNext() throws UncheckedIOException {
+        while (!this.results.hasNext()) {
+            submitBlocks();
+            final CompletableFuture<List<JsonParsingResult<JsonValue>>> block = this.pendingBlocks.poll();
+            if (block == null) {
+                return false;
+            }
+            try {
+                this.results = block.join().iterator();
+            } catch (final CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the {@link JsonParsingResult} of the next record.
+     *
+     * @return {@link JsonParsingResult} of the next record
+     * @throws NoSuchElementException if there are no more records
+     * @throws UncheckedIOException   if reading from the {@link InputStream} fails
+     */
+    @Override
+    public JsonParsingResult<JsonValue> next() throws NoSuchElementException, UncheckedIOException {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return this.results.next();
+    }
+
+    /**
+     * Returns a sequential, ordered {@link Stream} of the remaining records, which closes this
+     * {@link JsonLinesReader} when it is closed. Parsing is parallel regardless.
+     *
+     * @return {@link Stream} of the {@link JsonParsingResult}s of the remaining records
+     */
+    public Stream<JsonParsingResult<JsonValue>> stream() {
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL),
+                false
+        ).onClose(() -> {
+            try {
+                close();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Cancels all blocks read ahead and closes the {@link InputStream}.
+     *
+     * @throws IOException if closing the {@link InputStream} fails
+     */
+    @Override
+    public void close() throws IOException {
+        for (final CompletableFuture<List<JsonParsingResult<JsonValue>>> block : this.pendingBlocks) {
+            block.cancel(false);
+        }
+        this.pendingBlocks.clear();
+        this.results = Collections.emptyIterator();
+        this.isEndOfInput = true;
+        this.input.close();
+    }
+
+    private void submitBlocks() throws UncheckedIOException {
+        while (this.pendingBlocks.size() < this.maxPendingBlocks && !this.isEndOfInput) {
+            final byte[] block = readBlock();
+            if (block.length > 0) {
+                this.pendingBlocks.add(CompletableFuture.supplyAsync(() -> parseBlock(block), this.executor));
+            }
+        }
+    }
+
+    /**
+     * Reads the next block of complete lines, starting with the bytes carried over from the previous block.
+     *
+     * @return next block of complete lines, ending with {@code \n} unless the input ended
+     * @throws UncheckedIOException if reading from the {@link InputStream} fails
+     */
+    private byte[] readBlock() throws UncheckedIOException {
+        byte[] block = Arrays.copyOf(this.carry, Math.max(this.blockSize, this.carry.length));
+        int size = this.carry.length;
+        int scanned = size;
+        while (true) {
+            if (size == block.length) {
+                final int lastLineEnd = lastIndexOf(block, scanned, size);
+                if (lastLineEnd >= 0) {
+                    this.carry = Arrays.copyOfRange(block, lastLineEnd + 1, size);
+                    return lastLineEnd + 1 == size ? block : Arrays.copyOf(block, lastLineEnd + 1);
+                }
+                scanned = size;
+                block = Arrays.copyOf(block, 2 * block.length);
+            }
+            final int read;
+            try {
+                read = this.input.read(block, size, block.length - size);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (read < 0) {
+                this.isEndOfInput = true;
+                this.carry = new byte[0];
+                return size == block.length ? block : Arrays.copyOf(block, size);
+            }
+            size += read;
+        }
+    }
+
+    private List<JsonParsingResult<JsonValue>> parseBlock(final byte[] block) {
+        final List<JsonParsingResult<JsonValue>> results = new ArrayList<>();
+        int start = 0;
+        while (start < block.length) {
+            int end = indexOf(block, start);
+            final int next = end + 1;
+            if (end > start && block[end - 1] == '\r') {
+                end--;
+            }
+            if (end > start) {
+                results.add(this.parser.parse(block, start, end - start));
+            }
+            start = next;
+        }
+        return results;
+    }
+
+    /**
+     * Returns the index of the first {@code \n} in the given block, starting at the given index.
+     *
+     * @param block block to search
+     * @param from  index to start searching at
+     * @return index of the first {@code \n}, the length of {@code block} if there is none
+     */
+    private static int indexOf(final byte[] block, final int from) {
+        for (int i = from; i < block.length; i++) {
+            if (block[i] == '\n') {
+                return i;
+            }
+        }
+        return block.length;
+    }
+
+    /**
+     * Returns the index of the last {@code \n} in the given range of the block.
+     *
+     * @param block block to search
+     * @param from  index of the first byte to search, inclusive
+     * @param to    index of the last byte to search, exclusive
+     * @return index of the last {@code \n}, {@code -1} if there is none
+     */
+    private static int lastIndexOf(final byte[] block, final int from, final int to) {
+        for (int i = to - 1; i >= from; i--) {
+            if (block[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,178 @@
+package org.parstastic.jparstastic_json.parser;
+
+import org.parstastic.jparstastic_json.node.JsonValue;
+import org.parstastic.jparstastic_json.parser.input.JsonInput;
+import org.parstastic.jparstastic_json.parser.parsers.JsonParticleParser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * This class is the entry point for parsing complete <code>JSON</code> documents.
+ * Instances are immutable and may be shared between any number of threads, including virtual threads,
+ * so a single instance should be created once and reused for all parses.
+ * Any mutable state needed during a parse is created per parse or taken from an internal bounded pool.
+ */
+public final class JsonParser {
+    private static final Map<JsonParsingEngine, JsonParser> INSTANCES = createInstances();
+
+    /**
+     * Returns the shared {@link JsonParser} using the {@link JsonParsingEngine#STEP_INTERPRETER} engine.
+     *
+     * @return shared {@link JsonParser}
+     */
+    public static JsonParser getInstance() {
+        return getInstance(JsonParsingEngine.STEP_INTERPRETER);
+    }
+
+    /**
+     * Returns the shared {@link JsonParser} using the given engine.
+     *
+     * @param engine engine to parse with
+     * @return shared {@link JsonParser} of the given engine
+     */
+    public static JsonParser getInstance(final JsonParsingEngine engine) {
+        return INSTANCES.get(engine);
+    }
+
+    private static Map<JsonParsingEngine, JsonParser> createInstances() {
+        final Map<JsonParsingEngine, JsonParser> instances = new EnumMap<>(JsonParsingEngine.class);
+        for (final JsonParsingEngine engine : JsonParsingEngine.values()) {
+            instances.put(engine, new JsonParser(engine.getParser()));
+        }
+        return instances;
+    }
+
+    /**
+     * Stateless parser of complete <code>JSON</code> {@link String}s
+     */
+    private final JsonParticleParser<JsonValue> parser;
+
+    /**
+     * Creates a {@link JsonParser} object using the given parser, for example a {@link FastJsonParser} with a custom
+     * maximum depth.
+     *
+     * @param parser stateless parser of complete <code>JSON</code> {@link String}s
+     */
+    public JsonParser(final JsonParticleParser<JsonValue> parser) {
+        super();
+        this.parser = parser;
+    }
+
+    /**
+     * Parses the given complete <code>JSON</code> {@link String}.
+     *
+     * @param json <code>JSON</code> {@link String} to parse
+     * @return {@link JsonParsingResult} containing the parsed {@link JsonValue} or the error that occurred
+     */
+    public JsonParsingResult<JsonValue> parse(final String json) {
+        return this.parser.parse(json);
+    }
+
+    /**
+     * Parses the given complete <code>JSON</code> {@link CharSequence} in place, without copying it into a {@link String}.
+     *
+     * @param json <code>JSON</code> {@link CharSequence} to parse, which must not change during parsing
+     * @return {@link JsonParsingResult} containing the parsed {@link JsonValue} or the error that occurred
+     * @see JsonInput#of(CharSequence)
+     */
+    public JsonParsingResult<JsonValue> parse(final CharSequence json) {
+        return this.parser.parse(JsonInput.of(json));
+    }
+
+    /**
+     * Parses the complete <code>JSON</code> document in the given slice of a character array in place.
+     *
+     * @param chars  array containing the <code>JSON</code> document, which must not change during parsing
+     * @param offset index of the first character of the document in {@code chars}
+     * @param length number of characters of the document
+     * @return {@link JsonParsingResult} containing the parsed {@link JsonValue} or the error that occurred
+     * @throws IndexOutOfBoundsException if the slice is outside of {@code chars}
+     */
+    public JsonParsingResult<JsonValue> parse(final char[] chars, final int offset, final int length)
+            throws IndexOutOfBoundsException {
+        return this.parser.parse(JsonInput.of(chars, offset, length));
+    }
+
+    /**
+     * Parses the complete <code>UTF-8</code> encoded <code>JSON</code> document directly on its bytes.
+     * Only the contents of strings are validated and decoded, error positions are byte offsets.
+     *
+     * @param utf8 <code>UTF-8</code> encoded <code>JSON</code> document, which must not change during parsing
+     * @return {@link JsonParsingResult} containing the parsed {@link JsonValue} or the error that occurred
+     */
+    public JsonParsingResult<JsonValue> parse(final byte[] utf8) {
+        return parse(utf8, 0, utf8.length);
+    }
+
+    /**
+     * Parses the complete <code>UTF-8</code> encoded <code>JSON</code> document in the given slice of a byte array
+     * directly on its bytes.
+     *
+     * @param utf8   array containing the <code>UTF-8</code> encoded document, which must not change during parsing
+     * @param offset index of the first byte of the document in {@code utf8}
+     * @param length number of bytes of the document
+     * @return {@link JsonParsingResult} containing the parsed {@link JsonValue} or the error that occurred
+     * @throws IndexOutOfBoundsException if the slice is outside of {@code utf8}
+     * @see JsonInput#ofUtf8(byte[], int, int)
+     */
+    public JsonParsingResult<JsonValue> parse(final byte[] utf8, final int offset, final int length)
+            throws IndexOutOfBoundsException {
+        return this.parser.parse(JsonInput.ofUtf8(utf8, offset, length));
+    }
+
+    /**
+     * Parses the complete <code>JSON</code> document read from the given {@link Reader}.
+     * The document is streamed through a fixed-size buffer, so apart from the parsed tree the memory needed does not
+     * depend on the size of the document.
+     *
+     * @param reader {@link Reader} to read the <code>JSON</code> document from, which is not closed
+     * @return {@link JsonParsingResult} containing the parsed {@link JsonValue} or the error that occurred
+     * @throws IOException if reading from {@code reader} fails
+     * @see JsonInput#of(Reader)
+     */
+    public JsonParsingResult<JsonValue> parse(final Reader reader) throws IOException {
+        return parseStreamed(JsonInput.of(reader));
+    }
+
+    /**
+     * Parses the complete <code>UTF-8</code> encoded <code>JSON</code> document read from the given {@link InputStream}.
+     * The document is streamed through fixed-size buffers, so apart from the parsed tree the memory needed does not
+     * depend on the size of the document.
+     *
+     * @param utf8 {@link InputStream} to read the <code>UTF-8</code> encoded document from, which is not closed
+     * @return {@link JsonParsingResult} containing the parsed {@link JsonValue} or the error that occurred
+     * @throws IOException if reading from {@code utf8} fails
+     * @see JsonInput#ofUtf8(InputStream)
+     */
+    public JsonParsingResult<JsonValue> parse(final InputStream utf8) throws IOException {
+        return parseStreamed(JsonInput.ofUtf8(utf8));
+    }
+
+    /**
+     * Parses the complete <code>UTF-8</code> encoded <code>JSON</code> file at the given path directly from its
+     * memory mapping, without reading it onto the heap. Files larger than 2 GB are supported,
+     * error positions are byte offsets in the file.
+     *
+     * @param path path of the <code>UTF-8</code> encoded file, which must not change during parsing
+     * @return {@link JsonParsingResult} containing the parsed {@link JsonValue} or the error that occurred
+     * @throws IOException if the file cannot be opened or mapped
+     * @see JsonInput#ofUtf8(Path)
+     */
+    public JsonParsingResult<JsonValue> parse(final Path path) throws IOException {
+        return this.parser.parse(JsonInput.ofUtf8(path));
+    }
+
+    private JsonParsingResult<JsonValue> parseStreamed(final JsonInput input) throws IOException {
+        try {
+            return this.parser.parse(input);
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package org.parstastic.jparstastic_json.parser;
+
+import org.parstastic.jparstastic_json.node.JsonValue;
+import org.parstastic.jparstastic_json.parser.parsers.JsonParticleParser;
+
+/**
+ * This enum contains all engines able to parse complete <code>JSON</code> {@link String}s.
+ * All engines create the same {@link JsonValue} trees.
+ */
+public enum JsonParsingEngine {
+    /**
+     * Interprets the parsing steps of the individual parsers.
+     *
+     * @see FullStringJsonParser
+     */
+    STEP_INTERPRETER(new FullStringJsonParser()),
+    /**
+     * Hand-written parser keeping nested containers on an explicit stack.
+     *
+     * @see FastJsonParser
+     */
+    FAST(new FastJsonParser()),
+    /**
+     * Two-stage parser, which first indexes all structural characters and then builds the tree from the index.
+     *
+     * @see StructuralJsonParser
+     */
+    STRUCTURAL(new StructuralJsonParser());
+
+    /**
+     * Stateless parser of the engine
+     */
+    private final JsonParticleParser<JsonValue> parser;
+
+    JsonParsingEngine(final JsonParticleParser<JsonValue> parser) {
+        this.parser = parser;
+    }
+
+    public JsonParticleParser<JsonValue> getParser() {
+        return this.parser;
+    }
+}
@@ -0,0 +1,54 @@
+package org.parstastic.jparstastic_json.parser;
+
+/**
+ * This enum lists all errors a {@link JsonParsingProcess} can fail with.
+ * Failing steps only record the code and the current index in the {@link JsonParsingProcess},
+ * the {@link JsonParsingResult.JsonParsingResultError} is created once it is requested.
+ */
+public enum JsonParsingErrorCode {
+    EXPORT_FAILED("Exporting failed"),
+    CHARACTER_NOT_FOUND("The required character to parse was not found."),
+    LENGTH_EXCEEDED("The JsonParsingProcess has exceeded its JSON's length."),
+    CHARACTER_INVALID("The character to validate was not found or invalid."),
+    PARSER_FAILED("An error occurred during usage of the parser."),
+    PARSER_NOT_APPLICABLE("The given parser cannot parse the JsonParsingProcess."),
+    INSTANTIATION_FAILED("An exception occurred during instantiation."),
+    NOT_FULLY_PARSED("The JSON String is not fully parsed."),
+    MAX_DEPTH_EXCEEDED("The maximum nesting depth was exceeded.", true),
+    INVALID_ENCODING("The JSON input is not validly encoded.", true),
+    DUPLICATE_KEY("The object contains the key more than once.", true);
+
+    private final String message;
+    /**
+     * Whether the error is not caused by the grammar and is therefore reported as is by enclosing parsers
+     */
+    private final boolean fatal;
+
+    JsonParsingErrorCode(final String message) {
+        this(message, false);
+    }
+
+    JsonParsingErrorCode(final String message, final boolean fatal) {
+        this.message = message;
+        this.fatal = fatal;
+    }
+
+    /**
+     * Returns the human-readable message of this error.
+     *
+     * @return message of this error
+     */
+    public String getMessage() {
+        return this.message;
+    }
+
+    /**
+     * Checks whether this error is reported as is, instead of being replaced by {@link #PARSER_FAILED} in enclosing
+     * parsers.
+     *
+     * @return {@code true} if this error is not caused by the grammar, {@code false} otherwise
+     */
+    public boolean isFatal() {
+        return this.fatal;
+    }
+}
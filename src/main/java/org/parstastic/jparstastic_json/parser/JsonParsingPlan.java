@@ -0,0 +1,54 @@
+package org.parstastic.jparstastic_json.parser;
+
+import org.parstastic.jparstastic_json.node.JsonParticle;
+import org.parstastic.jparstastic_json.node.JsonParticleInstantiationException;
+import org.parstastic.jparstastic_json.parser.steps.JsonParsingStep;
+
+/**
+ * This class represents the precompiled grammar of a {@link JsonParticle}.
+ * It is built once, is immutable and may be shared between threads.
+ * All state of a single parse is kept in a separate context object of type {@code C}.
+ *
+ * @param <C> type of the per-parse context
+ * @param <J> type of the {@link JsonParticle} created from the context
+ */
+public class JsonParsingPlan<C, J extends JsonParticle> {
+    /**
+     * This interface creates the parsed {@link JsonParticle} out of a context after all steps were executed successfully.
+     *
+     * @param <C> type of the per-parse context
+     * @param <J> type of the created {@link JsonParticle}
+     */
+    @FunctionalInterface
+    public interface JsonParticleCreator<C, J extends JsonParticle> {
+        J create(final C context) throws JsonParticleInstantiationException;
+    }
+
+    private final JsonParsingStep<C> step;
+    private final JsonParticleCreator<C, J> creator;
+
+    public JsonParsingPlan(final JsonParsingStep<C> step, final JsonParticleCreator<C, J> creator) {
+        super();
+        this.step = step;
+        this.creator = creator;
+    }
+
+    /**
+     * Executes this plan on the given {@link JsonParsingProcess}, collecting all parsed parts in the given context.
+     *
+     * @param parsingProcess {@link JsonParsingProcess} to parse from
+     * @param context        fresh context of this parse
+     * @return created {@link JsonParticle}, {@code null} if an error was recorded in the {@link JsonParsingProcess}
+     */
+    public J execute(final JsonParsingProcess parsingProcess, final C context) {
+        if (!this.step.execute(parsingProcess, context)) {
+            return null;
+        }
+        try {
+            return this.creator.create(context);
+        } catch (final JsonParticleInstantiationException e) {
+            parsingProcess.fail(JsonParsingErrorCode.INSTANTIATION_FAILED);
+            return null;
+        }
+    }
+}
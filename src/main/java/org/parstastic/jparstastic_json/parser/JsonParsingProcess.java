@@ -1,24 +1,95 @@
 package org.parstastic.jparstastic_json.parser;
 
+import org.parstastic.jparstastic_json.parser.input.CharArrayJsonInput;
+import org.parstastic.jparstastic_json.parser.input.JsonInput;
+import org.parstastic.jparstastic_json.parser.input.JsonInputEncodingException;
+import org.parstastic.jparstastic_json.parser.input.StringJsonInput;
+import org.parstastic.jparstastic_json.parser.input.Utf8JsonInput;
+
+import java.util.Objects;
 import java.util.function.Predicate;
 
 /**
- * This class encapsulates all information about an ongoing <code>JSON</code> {@link String} parsing process.
+ * This class encapsulates all information about an ongoing <code>JSON</code> parsing process.
+ * The characters are read from a {@link JsonInput}, so the document does not need to be a {@link String}.
+ * <p>
+ * Characters of documents held in a {@link String}, a character array or an array of <code>UTF-8</code> encoded
+ * bytes are read directly from the fields of the process, and they are scanned and cut by calling their final
+ * {@link JsonInput} classes, so parsing them stays inlined however many kinds of inputs a JVM parses.
+ * Only all other inputs, like streamed and memory-mapped ones, are read through virtual calls of {@link JsonInput}.
  */
 public class JsonParsingProcess {
     /**
-     * <code>JSON</code> {@link String} to be parsed
+     * <code>JSON</code> input to be parsed
+     */
+    private final JsonInput input;
+    /**
+     * Document of a {@link StringJsonInput}, {@code null} for all other inputs
+     */
+    private final String string;
+    /**
+     * Array of a {@link CharArrayJsonInput}, {@code null} for all other inputs
+     */
+    private final char[] chars;
+    /**
+     * Array of a {@link Utf8JsonInput}, {@code null} for all other inputs
+     */
+    private final byte[] bytes;
+    /**
+     * Index of the first character of the document in {@link #chars} or {@link #bytes}
+     */
+    private final int offset;
+    /**
+     * Number of characters of documents read directly, {@code -1} for documents read through {@link #input}
      */
-    private final String json;
+    private final long length;
     /**
-     * Current index in the <code>JSON</code> {@link String}
+     * Current index in the <code>JSON</code> input
      */
-    private int index;
+    private long index;
+    /**
+     * Code of the last recorded error, {@code null} if no error was recorded
+     */
+    private JsonParsingErrorCode errorCode;
+    /**
+     * Index in the <code>JSON</code> input at which the last error was recorded
+     */
+    private long errorIndex;
 
-    private JsonParsingProcess(final String json, final int index) {
+    private JsonParsingProcess(final JsonInput input, final long index) {
         super();
-        this.json = json;
+        this.input = input;
         this.index = index;
+        switch (input) {
+            case StringJsonInput stringInput -> {
+                this.string = stringInput.getString();
+                this.chars = null;
+                this.bytes = null;
+                this.offset = 0;
+                this.length = this.string.length();
+            }
+            case CharArrayJsonInput charArrayInput -> {
+                this.string = null;
+                this.chars = charArrayInput.getArray();
+                this.bytes = null;
+                this.offset = charArrayInput.getArrayOffset();
+                this.length = charArrayInput.length();
+            }
+            case Utf8JsonInput utf8Input -> {
+                this.string = null;
+                this.chars = null;
+                this.bytes = utf8Input.getArray();
+                this.offset = utf8Input.getArrayOffset();
+                this.length = utf8Input.length();
+            }
+            default -> {
+                this.string = null;
+                this.chars = null;
+                this.bytes = null;
+                this.offset = 0;
+                this.length = -1;
+            }
+        }
     }
 
     /**
@@ -27,11 +98,38 @@ public class JsonParsingProcess {
      * @param json <code>JSON</code> {@link String}
      */
     public JsonParsingProcess(final String json) {
-        this(json, 0);
+        this(new StringJsonInput(json));
+    }
+
+    /**
+     * Creates a {@link JsonParsingProcess} object with a given <code>JSON</code> input and initializes {@link #index} to {@code 0}.
+     *
+     * @param input <code>JSON</code> input
+     */
+    public JsonParsingProcess(final JsonInput input) {
+        this(input, 0);
     }
 
     public JsonParsingProcess(final JsonParsingProcess parsingProcess) {
-        this(parsingProcess.json, parsingProcess.index);
+        this(parsingProcess.input, parsingProcess.index);
+    }
+
+    /**
+     * Returns the <code>JSON</code> input, for parsers reading it in bulk instead of character by character.
+     *
+     * @return {@link #input}
+     */
+    public JsonInput getInput() {
+        return this.input;
+    }
+
+    /**
+     * Returns the current index in the <code>JSON</code> input.
+     *
+     * @return {@link #index}
+     */
+    public long getIndex() {
+        return this.index;
     }
 
     /**
@@ -42,72 +140,206 @@ public class JsonParsingProcess {
     }
 
     /**
-     * Returns the character at index {@link #index} in <code>JSON</code> {@link String} {@link #json}.
+     * Increments {@link #index} by the given number of characters.
+     *
+     * @param count number of characters to skip
+     */
+    public void incrementIndex(final long count) {
+        this.index += count;
+    }
+
+    /**
+     * Advances {@link #index} over all whitespace characters.
      *
-     * @return character at index {@link #index} in <code>JSON</code> {@link String} {@link #json}
-     * @throws IndexOutOfBoundsException if {@link #index} is outside <code>JSON</code> {@link String} {@link #json}
+     * @see JsonInput#skipWhitespace(long)
+     */
+    public void skipWhitespace() {
+        if (this.string != null) {
+            this.index = ((StringJsonInput) this.input).skipWhitespace(this.index);
+        } else if (this.chars != null) {
+            this.index = ((CharArrayJsonInput) this.input).skipWhitespace(this.index);
+        } else if (this.bytes != null) {
+            this.index = ((Utf8JsonInput) this.input).skipWhitespace(this.index);
+        } else {
+            this.index = this.input.skipWhitespace(this.index);
+        }
+    }
+
+    /**
+     * Advances {@link #index} to the next quote or backslash, over the plain characters of a string.
+     *
+     * @see JsonInput#skipStringCharacters(long)
+     */
+    public void skipStringCharacters() {
+        if (this.string != null) {
+            this.index = ((StringJsonInput) this.input).skipStringCharacters(this.index);
+        } else if (this.chars != null) {
+            this.index = ((CharArrayJsonInput) this.input).skipStringCharacters(this.index);
+        } else if (this.bytes != null) {
+            this.index = ((Utf8JsonInput) this.input).skipStringCharacters(this.index);
+        } else {
+            this.index = this.input.skipStringCharacters(this.index);
+        }
+    }
+
+    /**
+     * Returns the character at index {@link #index} in <code>JSON</code> input {@link #input}.
+     *
+     * @return character at index {@link #index} in <code>JSON</code> input {@link #input}
+     * @throws IndexOutOfBoundsException if {@link #index} is outside <code>JSON</code> input {@link #input}
      */
     public char getChar() throws IndexOutOfBoundsException {
-        return this.json.charAt(this.index);
+        return charAt(this.index);
+    }
+
+    private char charAt(final long index) throws IndexOutOfBoundsException {
+        if (this.string != null) {
+            return this.string.charAt((int) Objects.checkIndex(index, this.length));
+        }
+        if (this.chars != null) {
+            return this.chars[this.offset + (int) Objects.checkIndex(index, this.length)];
+        }
+        if (this.bytes != null) {
+            return (char) (this.bytes[this.offset + (int) Objects.checkIndex(index, this.length)] & 0xFF);
+        }
+        return this.input.charAt(index);
+    }
+
+    private boolean hasCharAt(final long index) {
+        return this.length >= 0 ? index < this.length : this.input.hasCharAt(index);
     }
 
     /**
-     * Checks whether the character at index {@link #index} in <code>JSON</code> {@link String} {@link #json} is given character {@code c}.
+     * Checks whether the character at index {@link #index} in <code>JSON</code> input {@link #input} is given character {@code c}.
      *
-     * @param c character to check equality with character at index {@link #index} in <code>JSON</code> {@link String} {@link #json}
-     * @return {@code true} if {@code c} and character at index {@link #index} in <code>JSON</code> {@link String} {@link #json} are equal,
-     *         {@code false} otherwise or if {@link #index} is outside <code>JSON</code> {@link String} {@link #json}
+     * @param c character to check equality with character at index {@link #index} in <code>JSON</code> input {@link #input}
+     * @return {@code true} if {@code c} and character at index {@link #index} in <code>JSON</code> input {@link #input} are equal,
+     *         {@code false} otherwise or if {@link #index} is outside <code>JSON</code> input {@link #input}
      */
     public boolean isAtChar(final char c) {
         if (isIndexInJson()) {
-            return c == this.json.charAt(this.index);
+            return c == charAt(this.index);
         }
         return false;
     }
 
     /**
-     * Applies a given {@link Predicate} to the character at index {@link #index} in <code>JSON</code> {@link String} {@link #json}.
+     * Applies a given {@link Predicate} to the character at index {@link #index} in <code>JSON</code> input {@link #input}.
      *
-     * @param validationFunction {@link Predicate} to apply to the character at index {@link #index} in <code>JSON</code> {@link String} {@link #json}
-     * @return result of applying the given {@link Predicate} to the character at index {@link #index} in <code>JSON</code> {@link String} {@link #json},
-     *         {@code false} if {@link #index} is outside <code>JSON</code> {@link String} {@link #json}
+     * @param validationFunction {@link Predicate} to apply to the character at index {@link #index} in <code>JSON</code> input {@link #input}
+     * @return result of applying the given {@link Predicate} to the character at index {@link #index} in <code>JSON</code> input {@link #input},
+     *         {@code false} if {@link #index} is outside <code>JSON</code> input {@link #input}
      */
     public boolean isCharValid(final Predicate<Character> validationFunction) {
         if (isIndexInJson()) {
-            return validationFunction.test(this.json.charAt(this.index));
+            return validationFunction.test(charAt(this.index));
         }
         return false;
     }
 
     /**
-     * Checks whether {@link #index} currently is inside the boundaries of <code>JSON</code> {@link String} {@link #json}.
+     * Checks whether {@link #index} currently is inside the boundaries of <code>JSON</code> input {@link #input}.
      *
-     * @return {@code true} if {@link #index} is less than length of {@link #json},
+     * @return {@code true} if {@link #input} has a character at {@link #index},
      *         {@code false} otherwise
      */
     public boolean isIndexInJson() {
-        return this.index < this.json.length();
+        return hasCharAt(this.index);
     }
 
     /**
-     * Checks whether <code>JSON</code> {@link String} {@link #json} starts with given {@link String} {@code string},
-     * starting from index {@link #index} in <code>JSON</code> {@link String} {@link #json}.
+     * Checks whether <code>JSON</code> input {@link #input} starts with given {@link String} {@code string},
+     * starting from index {@link #index} in <code>JSON</code> input {@link #input}.
      *
      * @param string {@link String} to compare starting position with
-     * @return {@code true} if <code>JSON</code> {@link String} {@link #json} at index {@link #index} starts with given {@link String} {@code string},
+     * @return {@code true} if <code>JSON</code> input {@link #input} at index {@link #index} starts with given {@link String} {@code string},
      *         {@code false} otherwise
      */
     public boolean startsWith(final String string) {
-        return this.json.startsWith(string, this.index);
+        if (this.length < 0) {
+            return this.input.startsWith(string, this.index);
+        }
+        if (this.index < 0 || this.index > this.length - string.length()) {
+            return false;
+        }
+        for (int i = 0; i < string.length(); i++) {
+            if (charAt(this.index + i) != string.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the part of <code>JSON</code> input {@link #input} from given {@code beginIndex} up to {@link #index}.
+     *
+     * @param beginIndex index of the first character of the part
+     * @return part of <code>JSON</code> input {@link #input} from {@code beginIndex} up to {@link #index}
+     * @throws IndexOutOfBoundsException  if {@code beginIndex} is negative or greater than {@link #index}
+     * @throws JsonInputEncodingException if the part cannot be decoded
+     */
+    public String substring(final long beginIndex) throws IndexOutOfBoundsException, JsonInputEncodingException {
+        if (this.string != null) {
+            return ((StringJsonInput) this.input).substring(beginIndex, this.index);
+        }
+        if (this.chars != null) {
+            return ((CharArrayJsonInput) this.input).substring(beginIndex, this.index);
+        }
+        if (this.bytes != null) {
+            return ((Utf8JsonInput) this.input).substring(beginIndex, this.index);
+        }
+        return this.input.substring(beginIndex, this.index);
+    }
+
+    /**
+     * Releases all characters of <code>JSON</code> input {@link #input} before {@link #index},
+     * which must not be read again, see {@link JsonInput#release(long)}.
+     * Documents read directly are held as a whole, so nothing is released.
+     */
+    public void release() {
+        if (this.length < 0) {
+            this.input.release(this.index);
+        }
+    }
+
+    /**
+     * Records the given error at the current {@link #index}.
+     * Only the code and the index are stored, so failing is free of allocations.
+     *
+     * @param errorCode code of the error that occurred
+     * @return always {@code false}, so failing steps can return the result directly
+     */
+    public boolean fail(final JsonParsingErrorCode errorCode) {
+        this.errorCode = errorCode;
+        this.errorIndex = this.index;
+        return false;
+    }
+
+    /**
+     * Returns the code of the last recorded error.
+     *
+     * @return {@link #errorCode}, {@code null} if no error was recorded
+     */
+    public JsonParsingErrorCode getErrorCode() {
+        return this.errorCode;
+    }
+
+    /**
+     * Creates a new {@link JsonParsingProcess} positioned at the index of the last recorded error.
+     *
+     * @return {@link JsonParsingProcess} at {@link #errorIndex} without any recorded error
+     */
+    public JsonParsingProcess getErrorPosition() {
+        return new JsonParsingProcess(this.input, this.errorIndex);
     }
 
     /**
-     * Checks whether the parsing process is finished by comparing {@link #index} to length of <code>JSON</code> {@link String} {@link #json}.
+     * Checks whether the parsing process is finished, meaning <code>JSON</code> input {@link #input} has no character at {@link #index}.
      *
-     * @return {@code true} if {@link #index} is equal to length of <code>JSON</code> {@link String} {@link #json},
+     * @return {@code true} if {@link #index} is at the end of <code>JSON</code> input {@link #input},
      *         {@code false} otherwise
      */
     public boolean isFinished() {
-        return this.index == this.json.length();
+        return !hasCharAt(this.index);
     }
 }
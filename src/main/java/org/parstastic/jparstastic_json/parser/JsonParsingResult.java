@@ -12,33 +12,41 @@ public class JsonParsingResult<T extends JsonParticle> {
     }
 
     public static <T extends JsonParticle> JsonParsingResult<T> value(final T value) {
-        return new JsonParsingResult<>(value);
+        return new JsonParsingResult<>(value, null, null);
     }
 
-    public static <T extends JsonParticle> JsonParsingResult<T> error(final String message,
-                                                                      final JsonParsingProcess parsingProcess) {
-        return error(new JsonParsingResultError(message, parsingProcess));
+    /**
+     * Creates a {@link JsonParsingResult} of the last error recorded in the given {@link JsonParsingProcess}.
+     *
+     * @param failedParsingProcess {@link JsonParsingProcess} an error was recorded in
+     * @return {@link JsonParsingResult} containing the recorded error
+     */
+    public static <T extends JsonParticle> JsonParsingResult<T> error(final JsonParsingProcess failedParsingProcess) {
+        return error(failedParsingProcess.getErrorCode(), failedParsingProcess.getErrorPosition());
     }
 
-    public static <T extends JsonParticle> JsonParsingResult<T> error(final JsonParsingResultError error) {
-        return new JsonParsingResult<>(error);
+    public static <T extends JsonParticle> JsonParsingResult<T> error(final JsonParsingErrorCode errorCode,
+                                                                      final JsonParsingProcess parsingProcess) {
+        return new JsonParsingResult<>(null, errorCode, parsingProcess);
     }
 
     private final T value;
-    private final JsonParsingResultError error;
-
-    private JsonParsingResult(final T value) {
-        this(value, null);
-    }
-
-    private JsonParsingResult(final JsonParsingResultError error) {
-        this(null, error);
-    }
-
-    private JsonParsingResult(final T value, final JsonParsingResultError error) {
+    /**
+     * Code of the error, the {@link JsonParsingResultError} is only created in {@link #getError()}
+     */
+    private final JsonParsingErrorCode errorCode;
+    /**
+     * {@link JsonParsingProcess} positioned where the error occurred
+     */
+    private final JsonParsingProcess errorParsingProcess;
+
+    private JsonParsingResult(final T value,
+                              final JsonParsingErrorCode errorCode,
+                              final JsonParsingProcess errorParsingProcess) {
         super();
         this.value = value;
-        this.error = error;
+        this.errorCode = errorCode;
+        this.errorParsingProcess = errorParsingProcess;
     }
 
     public boolean hasValue() {
@@ -50,11 +58,15 @@ public class JsonParsingResult<T extends JsonParticle> {
     }
 
     public boolean hasError() {
-        return this.error != null;
+        return this.errorCode != null;
+    }
+
+    public JsonParsingErrorCode getErrorCode() throws JsonParsingResultNoSuchElementException {
+        return get(this.errorCode);
     }
 
     public JsonParsingResultError getError() throws JsonParsingResultNoSuchElementException {
-        return get(this.error);
+        return new JsonParsingResultError(get(this.errorCode).getMessage(), this.errorParsingProcess);
     }
 
     private <R> R get(final R field) throws JsonParsingResultNoSuchElementException {
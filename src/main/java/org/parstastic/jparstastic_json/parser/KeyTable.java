@@ -0,0 +1,175 @@
+package org.parstastic.jparstastic_json.parser;
+
+import org.parstastic.jparstastic_json.node.JsonParticleInstantiationException;
+import org.parstastic.jparstastic_json.node.nodes.StringNode;
+import org.parstastic.jparstastic_json.parser.input.CharArrayJsonInput;
+import org.parstastic.jparstastic_json.parser.input.JsonInput;
+import org.parstastic.jparstastic_json.parser.input.JsonInputEncodingException;
+import org.parstastic.jparstastic_json.parser.input.StringJsonInput;
+import org.parstastic.jparstastic_json.parser.input.Utf8JsonInput;
+
+import java.util.Arrays;
+
+/**
+ * This class is a bounded symbol table of the keys of object properties, so keys repeated throughout a document,
+ * like those of large arrays of homogeneous objects, are created as a single shared {@link StringNode}.
+ * Keys are looked up by their range in the {@link JsonInput} and a hash computed while scanning them,
+ * only keys not found are created as {@link String}s.
+ * <p>
+ * Keys are compared unit by unit with the document, which is only the same as comparing characters for
+ * <code>ASCII</code> keys in <code>UTF-8</code> inputs, so only <code>ASCII</code> keys without escape sequences
+ * of up to {@link #MAX_KEY_LENGTH} characters are interned. Once the table holds its capacity of keys, it is
+ * cleared and filled again, so documents with ever new keys cannot grow it.
+ * Tables are part of the pooled scratch of a parse and keep their keys for the following parses.
+ */
+final class KeyTable {
+    /**
+     * Largest number of characters of interned keys
+     */
+    static final int MAX_KEY_LENGTH = 64;
+
+    private final int capacity;
+    private final int mask;
+    private final StringNode[] keys;
+    private final int[] hashes;
+    private int size;
+
+    /**
+     * Creates an empty {@link KeyTable}.
+     *
+     * @param capacity maximum number of keys, positive
+     */
+    KeyTable(final int capacity) {
+        super();
+        this.capacity = capacity;
+        final int slots = Integer.highestOneBit(capacity) << 2;
+        this.mask = slots - 1;
+        this.keys = new StringNode[slots];
+        this.hashes = new int[slots];
+    }
+
+    /**
+     * Continues the hash of a key with its next character, like {@link String#hashCode()} does.
+     *
+     * @param hash      hash of the previous characters, {@code 0} for the first one
+     * @param character next character of the key
+     * @return hash including {@code character}
+     */
+    static int hash(final int hash, final char character) {
+        return 31 * hash + character;
+    }
+
+    /**
+     * Checks whether a key may contain the given character to be interned.
+     *
+     * @param character character of the key
+     * @return {@code true} for <code>ASCII</code> characters other than backslashes, {@code false} otherwise
+     */
+    static boolean isInternable(final char character) {
+        return character < 0x80 && character != '\\';
+    }
+
+    /**
+     * Returns the {@link StringNode} of the key in the given range, which consists of internable characters only.
+     *
+     * @param input document containing the key
+     * @param begin index of the first character of the key, after the opening quote
+     * @param end   index of the closing quote
+     * @param hash  hash of all characters of the key, see {@link #hash(int, char)}
+     * @return shared {@link StringNode} of the key
+     */
+    StringNode intern(final JsonInput input, final long begin, final long end, final int hash)
+            throws JsonInputEncodingException, JsonParticleInstantiationException {
+        final int length = (int) (end - begin);
+        if (length > MAX_KEY_LENGTH) {
+            return new StringNode(input.substring(begin, end));
+        }
+        int slot = spread(hash) & this.mask;
+        while (this.keys[slot] != null) {
+            if (this.hashes[slot] == hash && matches(this.keys[slot].getValue(), input, begin, length)) {
+                return this.keys[slot];
+            }
+            slot = (slot + 1) & this.mask;
+        }
+
+        final StringNode key = new StringNode(input.substring(begin, end));
+        if (this.size == this.capacity) {
+            Arrays.fill(this.keys, null);
+            this.size = 0;
+            slot = spread(hash) & this.mask;
+        }
+        this.keys[slot] = key;
+        this.hashes[slot] = hash;
+        this.size++;
+        return key;
+    }
+
+    /**
+     * Returns the {@link StringNode} of the key in the given range, which may contain any characters.
+     *
+     * @param input document containing the key
+     * @param begin index of the first character of the key, after the opening quote
+     * @param end   index of the closing quote
+     * @return shared {@link StringNode} of the key, or {@code null} if the key cannot be interned
+     */
+    StringNode intern(final JsonInput input, final long begin, final long end)
+            throws JsonInputEncodingException, JsonParticleInstantiationException {
+        if (end - begin > MAX_KEY_LENGTH) {
+            return null;
+        }
+        int hash = 0;
+        for (long i = begin; i < end; i++) {
+            final char c = input.charAt(i);
+            if (!isInternable(c)) {
+                return null;
+            }
+            hash = hash(hash, c);
+        }
+        return intern(input, begin, end, hash);
+    }
+
+    /**
+     * Compares the given key with the range of the document, reading the documents of the inputs held in arrays
+     * directly, like {@link JsonParsingProcess} does.
+     */
+    private static boolean matches(final String key, final JsonInput input, final long begin, final int length) {
+        if (key.length() != length) {
+            return false;
+        }
+        switch (input) {
+            case StringJsonInput stringInput -> {
+                return key.regionMatches(0, stringInput.getString(), (int) begin, length);
+            }
+            case CharArrayJsonInput charArrayInput -> {
+                final char[] chars = charArrayInput.getArray();
+                final int offset = charArrayInput.getArrayOffset() + (int) begin;
+                for (int i = 0; i < length; i++) {
+                    if (key.charAt(i) != chars[offset + i]) {
+                        return false;
+                    }
+                }
+            }
+            case Utf8JsonInput utf8Input -> {
+                final byte[] bytes = utf8Input.getArray();
+                final int offset = utf8Input.getArrayOffset() + (int) begin;
+                for (int i = 0; i < length; i++) {
+                    if (key.charAt(i) != bytes[offset + i]) {
+                        return false;
+                    }
+                }
+            }
+            default -> {
+                for (int i = 0; i < length; i++) {
+                    if (key.charAt(i) != input.charAt(begin + i)) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    private static int spread(final int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,116 @@
+package org.parstastic.jparstastic_json.parser;
+
+import org.parstastic.jparstastic_json.node.JsonValue;
+import org.parstastic.jparstastic_json.node.Whitespace;
+import org.parstastic.jparstastic_json.parser.input.JsonInput;
+import org.parstastic.jparstastic_json.parser.parsers.JsonParticleParser;
+import org.parstastic.jparstastic_json.parser.parsers.JsonValueParser;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * This class parses concatenated <code>JSON</code> values, like {@code {..}{..} [..]}, which are separated by
+ * optional whitespace. Unlike {@link FullStringJsonParser}, the input does not end after the first value:
+ * a {@link JsonValueParser} is applied repeatedly to the same {@link JsonParsingProcess}, so the values are parsed
+ * lazily in a single pass, without searching for their boundaries first and without copying the input.
+ * <p>
+ * Whitespace between two values is the trailing {@link Whitespace} of the first one.
+ * After the first error no more values are parsed, since the start of the next value is unknown.
+ * Instances are stateless and may be shared, every iteration has its own {@link JsonParsingProcess}.
+ */
+public class MultiValueJsonParser {
+    /**
+     * Parser of a single value, which does not need to reach the end of the input
+     */
+    private final JsonParticleParser<JsonValue> valueParser;
+
+    public MultiValueJsonParser() {
+        this(new JsonValueParser());
+    }
+
+    /**
+     * Creates a {@link MultiValueJsonParser} object parsing every value with the given parser.
+     *
+     * @param valueParser parser of a single value, which must not require to reach the end of the input
+     */
+    public MultiValueJsonParser(final JsonParticleParser<JsonValue> valueParser) {
+        super();
+        this.valueParser = valueParser;
+    }
+
+    /**
+     * Returns an {@link Iterator} lazily parsing the values of the given <code>JSON</code> {@link String}.
+     *
+     * @param json concatenated <code>JSON</code> values
+     * @return {@link Iterator} over the {@link JsonParsingResult}s of the values
+     */
+    public Iterator<JsonParsingResult<JsonValue>> iterate(final String json) {
+        return iterate(new JsonParsingProcess(json));
+    }
+
+    /**
+     * Returns an {@link Iterator} lazily parsing the values of the given <code>JSON</code> input.
+     *
+     * @param input concatenated <code>JSON</code> values
+     * @return {@link Iterator} over the {@link JsonParsingResult}s of the values
+     */
+    public Iterator<JsonParsingResult<JsonValue>> iterate(final JsonInput input) {
+        return iterate(new JsonParsingProcess(input));
+    }
+
+    /**
+     * Returns an {@link Iterator} lazily parsing the values starting at the current position of the given
+     * {@link JsonParsingProcess}, which is advanced by every parsed value.
+     *
+     * @param parsingProcess {@link JsonParsingProcess} to parse from
+     * @return {@link Iterator} over the {@link JsonParsingResult}s of the values
+     */
+    public Iterator<JsonParsingResult<JsonValue>> iterate(final JsonParsingProcess parsingProcess) {
+        return new ValueIterator(this.valueParser, parsingProcess);
+    }
+
+    /**
+     * Returns a sequential, ordered {@link Stream} lazily parsing the values of the given <code>JSON</code> input.
+     *
+     * @param input concatenated <code>JSON</code> values
+     * @return {@link Stream} of the {@link JsonParsingResult}s of the values
+     */
+    public Stream<JsonParsingResult<JsonValue>> stream(final JsonInput input) {
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterate(input), Spliterator.ORDERED | Spliterator.NONNULL),
+                false
+        );
+    }
+
+    private static final class ValueIterator implements Iterator<JsonParsingResult<JsonValue>> {
+        private final JsonParticleParser<JsonValue> valueParser;
+        private final JsonParsingProcess parsingProcess;
+        private boolean hasFailed;
+
+        private ValueIterator(final JsonParticleParser<JsonValue> valueParser, final JsonParsingProcess parsingProcess) {
+            super();
+            this.valueParser = valueParser;
+            this.parsingProcess = parsingProcess;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !this.hasFailed && !this.parsingProcess.isFinished();
+        }
+
+        @Override
+        public JsonParsingResult<JsonValue> next() throws NoSuchElementException {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final JsonParsingResult<JsonValue> result = this.valueParser.parse(this.parsingProcess);
+            this.hasFailed = result.hasError();
+            return result;
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package org.parstastic.jparstastic_json.parser;
+
+import org.parstastic.jparstastic_json.node.JsonParticleInstantiationException;
+import org.parstastic.jparstastic_json.node.JsonValue;
+import org.parstastic.jparstastic_json.node.Whitespace;
+import org.parstastic.jparstastic_json.node.nodes.ArrayNode;
+import org.parstastic.jparstastic_json.parser.input.JsonInput;
+import org.parstastic.jparstastic_json.parser.input.JsonInputEncodingException;
+import org.parstastic.jparstastic_json.parser.input.JsonScanner;
+import org.parstastic.jparstastic_json.parser.parsers.JsonParticleParser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * This class parses documents consisting of a huge top-level array by parsing its elements in parallel.
+ * <p>
+ * A single sequential pass finds the commas separating the top-level elements, skipping strings and nested
+ * containers with the {@link JsonScanner}. Ranges of elements are then parsed by {@link FastJsonParser}s on a
+ * {@link ForkJoinPool}, each element as a document of its own with its surrounding whitespace, and are finally
+ * assembled into the top-level {@link ArrayNode}. The created {@link JsonValue} tree is exactly the same as the one
+ * of a sequential parse.
+ * <p>
+ * Documents shorter than a threshold, which are not worth the overhead, documents which are not a top-level array,
+ * inputs of unknown length and documents containing any error are parsed sequentially by a {@link FastJsonParser},
+ * so errors are exactly the same as well.
+ */
+public class ParallelArrayJsonParser extends JsonParticleParser<JsonValue> {
+    /**
+     * Default minimum number of characters of a document to be parsed in parallel
+     */
+    public static final long DEFAULT_THRESHOLD = 1 << 20;
+    /**
+     * Number of characters scanned per block while searching the top-level elements
+     */
+    private static final int BLOCK_SIZE = 4096;
+    /**
+     * Number of tasks created per thread of the {@link ForkJoinPool}, so threads finishing early can steal work
+     */
+    private static final int TASKS_PER_THREAD = 8;
+
+    private final ForkJoinPool pool;
+    private final long threshold;
+    private final FastJsonParser sequentialParser;
+    /**
+     * Parser of the elements, which are nested one level deeper than the top-level array,
+     * {@code null} if the maximum depth does not allow any array
+     */
+    private final FastJsonParser elementParser;
+
+    /**
+     * Creates a {@link ParallelArrayJsonParser} parsing documents of at least {@link #DEFAULT_THRESHOLD} characters
+     * on the common {@link ForkJoinPool}.
+     */
+    public ParallelArrayJsonParser() {
+        this(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@link ParallelArrayJsonParser} parsing documents of at least the given number of characters
+     * on the given {@link ForkJoinPool}.
+     *
+     * @param pool      {@link ForkJoinPool} to parse the elements on
+     * @param threshold minimum number of characters of a document to be parsed in parallel
+     */
+    public ParallelArrayJsonParser(final ForkJoinPool pool, final long threshold) {
+        this(pool, threshold, FastJsonParser.DEFAULT_MAX_DEPTH);
+    }
+
+    /**
+     * Creates a {@link ParallelArrayJsonParser} parsing documents of at least the given number of characters
+     * on the given {@link ForkJoinPool}, allowing up to the given number of nested containers.
+     *
+     * @param pool      {@link ForkJoinPool} to parse the elements on
+     * @param threshold minimum number of characters of a document to be parsed in parallel
+     * @param maxDepth  maximum number of nested containers, including the top-level array
+     * @throws IllegalArgumentException if {@code maxDepth} is negative
+     */
+    public ParallelArrayJsonParser(final ForkJoinPool pool, final long threshold, final int maxDepth)
+            throws IllegalArgumentException {
+        super();
+        this.pool = pool;
+        this.threshold = threshold;
+        this.sequentialParser = new FastJsonParser(maxDepth);
+        this.elementParser = maxDepth > 0 ? new FastJsonParser(maxDepth - 1) : null;
+    }
+
+    @Override
+    public boolean canParse(final JsonParsingProcess parsingProcess) {
+        return true;
+    }
+
+    @Override
+    public JsonValue tryParse(final JsonParsingProcess parsingProcess) {
+        final JsonInput input = parsingProcess.getInput();
+        if (this.elementParser == null
+                || !input.hasKnownLength()
+                || input.length() - parsingProcess.getIndex() < this.threshold) {
+            return this.sequentialParser.tryParse(parsingProcess);
+        }
+        final JsonValue value = tryParseInParallel(input, parsingProcess.getIndex());
+        if (value == null) {
+            return this.sequentialParser.tryParse(parsingProcess);
+        }
+        parsingProcess.incrementIndex(input.length() - parsingProcess.getIndex());
+        return value;
+    }
+
+    /**
+     * Parses the top-level array starting at the given index in parallel.
+     *
+     * @param input <code>JSON</code> input to parse
+     * @param start index of the leading whitespace of the array
+     * @return parsed {@link JsonValue},
+     *         {@code null} if the document is no non-empty top-level array or contains any error
+     */
+    private JsonValue tryParseInParallel(final JsonInput input, final long start) {
+        final long length = input.length();
+        final long arrayStart = input.skipWhitespace(start);
+        if (arrayStart == length || input.charAt(arrayStart) != ArrayNode.DELIMITER_START) {
+            return null;
+        }
+        final long[] delimiters = findElementDelimiters(input, arrayStart, length);
+        if (delimiters == null) {
+            return null;
+        }
+        final long arrayEnd = delimiters[delimiters.length - 1];
+        if (input.skipWhitespace(arrayEnd + 1) != length || input.skipWhitespace(arrayStart + 1) == arrayEnd) {
+            return null;
+        }
+        final JsonValue[] elements = new JsonValue[delimiters.length - 1];
+        final int elementsPerTask = Math.max(1, elements.length / (TASKS_PER_THREAD * this.pool.getParallelism()));
+        if (!this.pool.invoke(new ParseElementsTask(input, delimiters, elements, 0, elements.length, elementsPerTask))) {
+            return null;
+        }
+        try {
+            return new JsonValue(
+                    Whitespace.of(input.substring(start, arrayStart)),
+                    ArrayNode.of(new ArrayList<>(Arrays.asList(elements))),
+                    Whitespace.of(input.substring(arrayEnd + 1, length))
+            );
+        } catch (final JsonParticleInstantiationException | JsonInputEncodingException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Finds the indices of the delimiters of all top-level elements: the start of the array,
+     * the commas between the elements and the end of the array.
+     *
+     * @param input      <code>JSON</code> input to search
+     * @param arrayStart index of the start of the array
+     * @param length     length of the input
+     * @return indices of the delimiters in input order, {@code null} if the array is not closed
+     */
+    private static long[] findElementDelimiters(final JsonInput input, final long arrayStart, final long length) {
+        final JsonScanner scanner = JsonScanner.getInstance();
+        final char[] block = new char[BLOCK_SIZE];
+        long[] delimiters = new long[64];
+        int count = 0;
+        delimiters[count++] = arrayStart;
+        int depth = 0;
+        boolean isInString = false;
+        int escapedCharactersOfNextBlock = 0;
+        for (long blockStart = arrayStart + 1; blockStart < length; blockStart += block.length) {
+            final int blockLength = (int) Math.min(block.length, length - blockStart);
+            input.getChars(blockStart, blockStart + blockLength, block, 0);
+            int i = escapedCharactersOfNextBlock;
+            while (i < blockLength) {
+                if (isInString) {
+                    i = scanner.skipStringCharacters(block, i, blockLength);
+                    if (i == blockLength) {
+                        break;
+                    }
+                    if (block[i] == '\\') {
+                        i += 2;
+                        continue;
+                    }
+                    isInString = false;
+                    i++;
+                    continue;
+                }
+                i = scanner.findStructural(block, i, blockLength);
+                if (i == blockLength) {
+                    break;
+                }
+                final char c = block[i];
+                if (c == '"') {
+                    isInString = true;
+                } else if (c == '{' || c == '[') {
+                    depth++;
+                } else if ((c == '}' || c == ']') && depth > 0) {
+                    depth--;
+                } else if (c == ArrayNode.DELIMITER_END || c == ArrayNode.DELIMITER_ELEMENTS) {
+                    if (count == delimiters.length) {
+                        delimiters = Arrays.copyOf(delimiters, 2 * count);
+                    }
+                    delimiters[count++] = blockStart + i;
+                    if (c == ArrayNode.DELIMITER_END) {
+                        return Arrays.copyOf(delimiters, count);
+                    }
+                } else if (c == '}') {
+                    return null;
+                }
+                i++;
+            }
+            escapedCharactersOfNextBlock = i - blockLength;
+        }
+        return null;
+    }
+
+    /**
+     * This class parses a range of top-level elements, splitting it until it is small enough.
+     * The result signals whether all elements of the range were parsed.
+     * Tasks are only ever run in the {@link ForkJoinPool} and never serialized.
+     */
+    @SuppressWarnings("serial")
+    private final class ParseElementsTask extends RecursiveTask<Boolean> {
+        private final JsonInput input;
+        private final long[] delimiters;
+        private final JsonValue[] elements;
+        private final int from;
+        private final int to;
+        private final int elementsPerTask;
+
+        private ParseElementsTask(final JsonInput input,
+                                  final long[] delimiters,
+                                  final JsonValue[] elements,
+                                  final int from,
+                                  final int to,
+                                  final int elementsPerTask) {
+            super();
+            this.input = input;
+            this.delimiters = delimiters;
+            this.elements = elements;
+            this.from = from;
+            this.to = to;
+            this.elementsPerTask = elementsPerTask;
+        }
+
+        @Override
+        protected Boolean compute() {
+            if (this.to - this.from > this.elementsPerTask) {
+                final int middle = (this.from + this.to) >>> 1;
+                final ParseElementsTask second = split(middle, this.to);
+                second.fork();
+                final boolean isFirstParsed = split(this.from, middle).compute();
+                return second.join() && isFirstParsed;
+            }
+            for (int i = this.from; i < this.to; i++) {
+                final JsonInput element = this.input.slice(this.delimiters[i] + 1, this.delimiters[i + 1]);
+                try {
+                    this.elements[i] = elementParser.tryParse(new JsonParsingProcess(element));
+                } catch (final JsonInputEncodingException e) {
+                    return false;
+                }
+                if (this.elements[i] == null) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private ParseElementsTask split(final int from, final int to) {
+            return new ParseElementsTask(this.input, this.delimiters, this.elements, from, to, this.elementsPerTask);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package org.parstastic.jparstastic_json.parser;
+
+import org.parstastic.jparstastic_json.node.JsonValue;
+import org.parstastic.jparstastic_json.node.Whitespace;
+import org.parstastic.jparstastic_json.node.nodes.StringNode;
+import org.parstastic.jparstastic_json.parser.parsers.nodes.LazyNumberNode;
+
+/**
+ * This class holds the options of {@link FastJsonParser} and {@link StructuralJsonParser} about what to keep of a
+ * document besides its data, and how to share the parts of the created trees.
+ * Instances are immutable, options are changed by creating modified copies.
+ */
+public final class ParsingOptions {
+    /**
+     * This enum lists how objects containing the same key more than once are parsed.
+     * Keys are compared as they are written in the document, including escape sequences.
+     */
+    public enum DuplicateKeyPolicy {
+        /**
+         * All properties are kept, lookups find the first one
+         */
+        KEEP_ALL,
+        /**
+         * Only the first property with each key is kept
+         */
+        KEEP_FIRST,
+        /**
+         * Only the last value of each key is kept, in place of the value of the first property with the key
+         */
+        KEEP_LAST,
+        /**
+         * Objects containing a key more than once fail with {@link JsonParsingErrorCode#DUPLICATE_KEY}
+         */
+        REJECT
+    }
+
+    /**
+     * Default maximum number of distinct keys shared between the properties of objects
+     */
+    public static final int DEFAULT_KEY_TABLE_CAPACITY = 1024;
+    /**
+     * Largest supported maximum number of distinct keys shared between the properties of objects
+     */
+    public static final int MAX_KEY_TABLE_CAPACITY = 1 << 16;
+    /**
+     * Options keeping all whitespace and converting all numbers, so trees stringify to exactly the parsed document
+     * apart from the formatting of numbers
+     */
+    public static final ParsingOptions DEFAULT_PARSING_OPTIONS = new ParsingOptions(
+            true,
+            false,
+            DEFAULT_KEY_TABLE_CAPACITY,
+            DuplicateKeyPolicy.KEEP_ALL
+    );
+    /**
+     * Options dropping all whitespace, for callers only interested in the data of documents
+     */
+    public static final ParsingOptions DATA_ONLY_PARSING_OPTIONS = new ParsingOptions(
+            false,
+            false,
+            DEFAULT_KEY_TABLE_CAPACITY,
+            DuplicateKeyPolicy.KEEP_ALL
+    );
+
+    private final boolean isWhitespaceKept;
+    private final boolean isNumberTextKept;
+    private final int keyTableCapacity;
+    private final DuplicateKeyPolicy duplicateKeyPolicy;
+
+    private ParsingOptions(final boolean isWhitespaceKept,
+                           final boolean isNumberTextKept,
+                           final int keyTableCapacity,
+                           final DuplicateKeyPolicy duplicateKeyPolicy) {
+        super();
+        this.isWhitespaceKept = isWhitespaceKept;
+        this.isNumberTextKept = isNumberTextKept;
+        this.keyTableCapacity = keyTableCapacity;
+        this.duplicateKeyPolicy = duplicateKeyPolicy;
+    }
+
+    /**
+     * Checks whether the whitespace between tokens is kept. Otherwise it is skipped and every {@link JsonValue} gets
+     * {@link Whitespace#EMPTY}, so the created trees stringify like with minimal stringify options.
+     *
+     * @return {@code true} if whitespace is kept, {@code false} otherwise
+     */
+    public boolean isWhitespaceKept() {
+        return this.isWhitespaceKept;
+    }
+
+    /**
+     * Checks whether numbers are created as {@link LazyNumberNode}s, which keep the text of the number and only
+     * convert it when their value is accessed, so numbers which are only passed through cost no conversion and are
+     * stringified verbatim.
+     *
+     * @return {@code true} if the text of numbers is kept, {@code false} otherwise
+     */
+    public boolean isNumberTextKept() {
+        return this.isNumberTextKept;
+    }
+
+    /**
+     * Returns the maximum number of distinct keys of object properties which are interned.
+     * Keys are looked up in a symbol table while parsing, so every repetition of a known key shares the same
+     * {@link StringNode} instead of creating a new one. Only short <code>ASCII</code> keys without escape sequences
+     * are interned, and the table is cleared once it is full. Tables are kept between the parses of a parser.
+     *
+     * @return maximum number of interned keys, {@code 0} if keys are not interned
+     */
+    public int getKeyTableCapacity() {
+        return this.keyTableCapacity;
+    }
+
+    /**
+     * Returns how objects containing the same key more than once are parsed.
+     * Unless all properties are kept, the keys of every object are tracked in a hash index while parsing it,
+     * so duplicates are detected in constant time per property.
+     *
+     * @return {@link DuplicateKeyPolicy} of the parsed objects
+     */
+    public DuplicateKeyPolicy getDuplicateKeyPolicy() {
+        return this.duplicateKeyPolicy;
+    }
+
+    /**
+     * Creates a copy of these options with the given whitespace retention.
+     *
+     * @param isWhitespaceKept whether the whitespace between tokens is kept
+     * @return modified {@link ParsingOptions}
+     * @see #isWhitespaceKept()
+     */
+    public ParsingOptions withWhitespaceKept(final boolean isWhitespaceKept) {
+        return new ParsingOptions(isWhitespaceKept, this.isNumberTextKept, this.keyTableCapacity, this.duplicateKeyPolicy);
+    }
+
+    /**
+     * Creates a copy of these options with the given retention of the text of numbers.
+     *
+     * @param isNumberTextKept whether numbers are created as {@link LazyNumberNode}s
+     * @return modified {@link ParsingOptions}
+     * @see #isNumberTextKept()
+     */
+    public ParsingOptions withNumberTextKept(final boolean isNumberTextKept) {
+        return new ParsingOptions(this.isWhitespaceKept, isNumberTextKept, this.keyTableCapacity, this.duplicateKeyPolicy);
+    }
+
+    /**
+     * Creates a copy of these options with the given maximum number of interned keys.
+     *
+     * @param keyTableCapacity maximum number of interned keys, {@code 0} to not intern keys
+     * @return modified {@link ParsingOptions}
+     * @throws IllegalArgumentException if {@code keyTableCapacity} is negative or larger than {@link #MAX_KEY_TABLE_CAPACITY}
+     * @see #getKeyTableCapacity()
+     */
+    public ParsingOptions withKeyTableCapacity(final int keyTableCapacity) throws IllegalArgumentException {
+        if (keyTableCapacity < 0 || keyTableCapacity > MAX_KEY_TABLE_CAPACITY) {
+            throw new IllegalArgumentException("The key table capacity must be between 0 and " + MAX_KEY_TABLE_CAPACITY + ".");
+        }
+        return new ParsingOptions(this.isWhitespaceKept, this.isNumberTextKept, keyTableCapacity, this.duplicateKeyPolicy);
+    }
+
+    /**
+     * Creates a copy of these options with the given handling of duplicate keys.
+     *
+     * @param duplicateKeyPolicy how objects containing the same key more than once are parsed
+     * @return modified {@link ParsingOptions}
+     * @see #getDuplicateKeyPolicy()
+     */
+    public ParsingOptions withDuplicateKeyPolicy(final DuplicateKeyPolicy duplicateKeyPolicy) {
+        return new ParsingOptions(this.isWhitespaceKept, this.isNumberTextKept, this.keyTableCapacity, duplicateKeyPolicy);
+    }
+}
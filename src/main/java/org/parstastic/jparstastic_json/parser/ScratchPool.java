@@ -0,0 +1,77 @@
+package org.parstastic.jparstastic_json.parser;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * This class is a bounded pool of reusable scratch objects, which may be shared between threads.
+ * It never blocks and keeps no {@link ThreadLocal} state, so it also suits a large number of virtual threads:
+ * if all pooled objects are in use a new one is created, and objects released into a full pool are dropped.
+ *
+ * @param <T> type of the pooled scratch objects
+ */
+final class ScratchPool<T> {
+    /**
+     * Default number of pooled objects, roughly one per carrier thread parsing at the same time
+     */
+    static final int DEFAULT_CAPACITY = Runtime.getRuntime().availableProcessors() * 2;
+
+    private final Supplier<T> creator;
+    private final AtomicReferenceArray<T> slots;
+
+    /**
+     * Creates a {@link ScratchPool} holding up to {@link #DEFAULT_CAPACITY} objects.
+     *
+     * @param creator creates a new scratch object whenever the pool is empty
+     */
+    ScratchPool(final Supplier<T> creator) {
+        this(creator, DEFAULT_CAPACITY);
+    }
+
+    ScratchPool(final Supplier<T> creator, final int capacity) {
+        super();
+        this.creator = creator;
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * Takes a scratch object out of the pool, or creates a new one if the pool is empty.
+     *
+     * @return scratch object exclusively owned by the caller until it is released
+     */
+    T acquire() {
+        final int start = getStartSlot();
+        for (int i = 0; i < this.slots.length(); i++) {
+            final int slot = (start + i) % this.slots.length();
+            final T scratch = this.slots.get(slot);
+            if (scratch != null && this.slots.compareAndSet(slot, scratch, null)) {
+                return scratch;
+            }
+        }
+        return this.creator.get();
+    }
+
+    /**
+     * Returns a scratch object into the pool. The caller must not use it afterward.
+     *
+     * @param scratch scratch object to return, which must have been reset by the caller
+     */
+    void release(final T scratch) {
+        final int start = getStartSlot();
+        for (int i = 0; i < this.slots.length(); i++) {
+            final int slot = (start + i) % this.slots.length();
+            if (this.slots.get(slot) == null && this.slots.compareAndSet(slot, null, scratch)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Spreads threads over the slots, so concurrent parses rarely contend on the same slot.
+     *
+     * @return slot to start searching at
+     */
+    private int getStartSlot() {
+        return (int) (Thread.currentThread().threadId() % this.slots.length());
+    }
+}
@@ -0,0 +1,133 @@
+package org.parstastic.jparstastic_json.parser;
+
+import org.parstastic.jparstastic_json.parser.input.JsonInput;
+import org.parstastic.jparstastic_json.parser.input.JsonScanner;
+
+import java.util.Arrays;
+
+/**
+ * This class is the first stage of the {@link StructuralJsonParser}: a compact index of the positions of all
+ * structural characters of a <code>JSON</code> document, which are {@code { } [ ] : ,} outside of strings
+ * and the delimiting quotes of every string. Escaped quotes are not structural.
+ * <p>
+ * The document is copied block by block into a small array, which is searched for the next structural character
+ * or the end of the current string with the {@link JsonScanner}, so building the index is cache-friendly and
+ * vectorized if the Vector API is enabled. The second stage then jumps from position to position,
+ * taking string contents and whitespace in bulk instead of examining every character again.
+ * Positions are relative to the start of the indexed part, which is therefore limited to
+ * {@value Integer#MAX_VALUE} characters.
+ */
+public final class StructuralIndex {
+    /**
+     * Number of characters scanned per block
+     */
+    private static final int BLOCK_SIZE = 4096;
+
+    /**
+     * Builds the {@link StructuralIndex} of the given part of a <code>JSON</code> input.
+     *
+     * @param input      <code>JSON</code> input to index
+     * @param beginIndex index of the first character to index, inclusive
+     * @param endIndex   index of the last character to index, exclusive
+     * @return {@link StructuralIndex} of the part
+     * @throws IllegalArgumentException  if the part is longer than {@value Integer#MAX_VALUE} characters
+     * @throws IndexOutOfBoundsException if the indices are outside of the input
+     */
+    public static StructuralIndex build(final JsonInput input, final long beginIndex, final long endIndex)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        if (endIndex - beginIndex > Integer.MAX_VALUE - 1) {
+            throw new IllegalArgumentException("The part to index is too long: " + (endIndex - beginIndex));
+        }
+        final int length = (int) (endIndex - beginIndex);
+        int[] positions = new int[Math.max(16, length >>> 3)];
+        int size = 0;
+        boolean isInString = false;
+        int escapedCharactersOfNextBlock = 0;
+        final JsonScanner scanner = JsonScanner.getInstance();
+        final char[] block = new char[Math.min(BLOCK_SIZE, Math.max(length, 1))];
+        for (int blockStart = 0; blockStart < length; blockStart += block.length) {
+            final int blockLength = Math.min(block.length, length - blockStart);
+            input.getChars(beginIndex + blockStart, beginIndex + blockStart + blockLength, block, 0);
+            if (positions.length - size < blockLength) {
+                positions = Arrays.copyOf(positions, Math.max(size + blockLength, positions.length + (positions.length >> 1)));
+            }
+            int i = escapedCharactersOfNextBlock;
+            while (i < blockLength) {
+                if (isInString) {
+                    i = scanner.skipStringCharacters(block, i, blockLength);
+                    if (i == blockLength) {
+                        break;
+                    }
+                    if (block[i] == '\\') {
+                        i += 2;
+                        continue;
+                    }
+                    isInString = false;
+                } else {
+                    i = scanner.findStructural(block, i, blockLength);
+                    if (i == blockLength) {
+                        break;
+                    }
+                    isInString = block[i] == '"';
+                }
+                positions[size++] = blockStart + i;
+                i++;
+            }
+            escapedCharactersOfNextBlock = i - blockLength;
+        }
+        if (size == positions.length) {
+            positions = Arrays.copyOf(positions, size + 1);
+        }
+        positions[size] = length;
+        return new StructuralIndex(positions, size, !isInString);
+    }
+
+    /**
+     * Positions of the structural characters, followed by the length of the indexed part
+     */
+    private final int[] positions;
+    private final int size;
+    private final boolean areStringsTerminated;
+
+    private StructuralIndex(final int[] positions, final int size, final boolean areStringsTerminated) {
+        super();
+        this.positions = positions;
+        this.size = size;
+        this.areStringsTerminated = areStringsTerminated;
+    }
+
+    /**
+     * Returns the number of structural characters.
+     *
+     * @return number of structural characters
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the position of the structural character with the given number, relative to the start of the indexed
+     * part. Number {@link #size()} is allowed and returns the length of the indexed part, so the end of the document
+     * can be handled like a structural character.
+     *
+     * @param number number of the structural character, between {@code 0} and {@link #size()}
+     * @return position of the structural character
+     * @throws IndexOutOfBoundsException if {@code number} is negative or greater than {@link #size()}
+     */
+    public int getPosition(final int number) throws IndexOutOfBoundsException {
+        if (number > this.size) {
+            throw new IndexOutOfBoundsException(number);
+        }
+        return this.positions[number];
+    }
+
+    /**
+     * Checks whether the last string of the indexed part is terminated.
+     * Otherwise the quote opening it is the last structural character.
+     *
+     * @return {@code true} if all strings are terminated, {@code false} otherwise
+     */
+    public boolean areStringsTerminated() {
+        return this.areStringsTerminated;
+    }
+}
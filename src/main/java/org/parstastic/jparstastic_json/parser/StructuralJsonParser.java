@@ -0,0 +1,488 @@
+package org.parstastic.jparstastic_json.parser;
+
+import org.parstastic.jparstastic_json.node.JsonParticleInstantiationException;
+import org.parstastic.jparstastic_json.node.JsonValue;
+import org.parstastic.jparstastic_json.node.Whitespace;
+import org.parstastic.jparstastic_json.node.nodes.*;
+import org.parstastic.jparstastic_json.parser.input.JsonInput;
+import org.parstastic.jparstastic_json.parser.input.JsonInputEncodingException;
+import org.parstastic.jparstastic_json.parser.parsers.JsonParticleParser;
+import org.parstastic.jparstastic_json.parser.parsers.nodes.NumberNodeParser;
+
+import java.io.Serial;
+
+import static org.parstastic.jparstastic_json.node.nodes.ObjectNode.ObjectNodeProperty;
+
+/**
+ * This class is a two-stage parser for complete <code>JSON</code> documents.
+ * The first stage builds the {@link StructuralIndex} of the document in a single tight pass.
+ * The second stage builds the {@link JsonValue} tree by jumping from structural character to structural character:
+ * the text between two of them is either the content of a string, or whitespace around at most one number or literal,
+ * so it is taken as a whole instead of being examined character by character again.
+ * <p>
+ * Errors are not diagnosed by the second stage. As soon as the document turns out not to match the expected
+ * structure, it is parsed again by a {@link FastJsonParser}, so the {@link JsonValue} trees and errors are exactly
+ * the same as those of all other engines. Inputs of unknown length, like streamed ones, are always parsed by the
+ * {@link FastJsonParser}, as building the index would require buffering them completely.
+ */
+public class StructuralJsonParser extends JsonParticleParser<JsonValue> {
+    /**
+     * This exception signals that the document does not match the expected structure and is parsed again.
+     */
+    private static final class StructuralMismatchException extends Exception {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private StructuralMismatchException() {
+            super(null, null, false, false);
+        }
+    }
+
+    private static final StructuralMismatchException MISMATCH = new StructuralMismatchException();
+
+    /**
+     * Maximum number of nested containers
+     */
+    private final int maxDepth;
+    private final ParsingOptions options;
+    /**
+     * Parser of documents not matching the expected structure, which diagnoses their errors
+     */
+    private final FastJsonParser fallbackParser;
+    private final ScratchPool<ContainerStack> scratchPool;
+
+    /**
+     * Creates a {@link StructuralJsonParser} allowing up to {@link FastJsonParser#DEFAULT_MAX_DEPTH} nested containers.
+     */
+    public StructuralJsonParser() {
+        this(FastJsonParser.DEFAULT_MAX_DEPTH);
+    }
+
+    /**
+     * Creates a {@link StructuralJsonParser} allowing up to the given number of nested containers.
+     *
+     * @param maxDepth maximum number of nested containers
+     * @throws IllegalArgumentException if {@code maxDepth} is negative
+     */
+    public StructuralJsonParser(final int maxDepth) throws IllegalArgumentException {
+        this(maxDepth, ParsingOptions.DEFAULT_PARSING_OPTIONS);
+    }
+
+    /**
+     * Creates a {@link StructuralJsonParser} allowing up to the given number of nested containers, which keeps
+     * whitespace and the text of numbers and interns keys as configured by the given {@link ParsingOptions}.
+     *
+     * @param maxDepth maximum number of nested containers
+     * @param options  options of the created trees
+     * @throws IllegalArgumentException if {@code maxDepth} is negative
+     */
+    public StructuralJsonParser(final int maxDepth, final ParsingOptions options) throws IllegalArgumentException {
+        super();
+        this.fallbackParser = new FastJsonParser(maxDepth, options);
+        this.maxDepth = maxDepth;
+        this.options = options;
+        this.scratchPool = new ScratchPool<>(() -> new ContainerStack(options));
+    }
+
+    @Override
+    public boolean canParse(final JsonParsingProcess parsingProcess) {
+        return true;
+    }
+
+    @Override
+    public JsonValue tryParse(final JsonParsingProcess parsingProcess) {
+        final JsonInput input = parsingProcess.getInput();
+        if (!input.hasKnownLength() || input.length() - parsingProcess.getIndex() >= Integer.MAX_VALUE) {
+            return this.fallbackParser.tryParse(parsingProcess);
+        }
+        final long start = parsingProcess.getIndex();
+        final ContainerStack stack = this.scratchPool.acquire();
+        try {
+            final StructuralIndex index = StructuralIndex.build(input, start, input.length());
+            if (index.areStringsTerminated()) {
+                final JsonValue value = new Document(input, start, index, this.options).parseValue(stack, this.maxDepth);
+                parsingProcess.incrementIndex(index.getPosition(index.size()));
+                return value;
+            }
+        } catch (final StructuralMismatchException | JsonParticleInstantiationException | JsonInputEncodingException e) {
+            // the document is parsed again below
+        } finally {
+            stack.reset();
+            this.scratchPool.release(stack);
+        }
+        return this.fallbackParser.tryParse(parsingProcess);
+    }
+
+    /**
+     * This class is the second stage of a single parse, reading the regions between the structural characters.
+     * Region {@code k} is the text in front of structural character {@code k}, region {@link StructuralIndex#size()}
+     * is the text after the last one.
+     */
+    private static final class Document {
+        private final JsonInput input;
+        private final long start;
+        private final StructuralIndex index;
+        private final ParsingOptions options;
+        /**
+         * Number of the next structural character to parse
+         */
+        private int k;
+        /**
+         * Trailing whitespace of the last parsed scalar, which is part of the region in front of structural character {@link #k}
+         */
+        private Whitespace scalarTrailingWhitespace;
+
+        private Document(final JsonInput input,
+                         final long start,
+                         final StructuralIndex index,
+                         final ParsingOptions options) {
+            super();
+            this.input = input;
+            this.start = start;
+            this.index = index;
+            this.options = options;
+        }
+
+        /**
+         * Parses the whole document as a {@link JsonValue} without recursion, like {@link FastJsonParser}.
+         *
+         * @param stack    reusable stack of containers exclusively owned by this parse
+         * @param maxDepth maximum number of nested containers
+         * @return parsed {@link JsonValue}
+         * @throws StructuralMismatchException if the document does not match the expected structure
+         */
+        private JsonValue parseValue(final ContainerStack stack, final int maxDepth)
+                throws StructuralMismatchException, JsonParticleInstantiationException {
+            ContainerFrame frame = null;
+            int depth = 0;
+            while (true) {
+                final long regionStart = regionStart(this.k);
+                final long regionEnd = this.start + this.index.getPosition(this.k);
+                final long contentStart = skipWhitespace(regionStart, regionEnd);
+                final Whitespace leadingWhitespace = createWhitespace(regionStart, contentStart);
+                final JsonNode jsonNode;
+                if (contentStart < regionEnd) {
+                    final long contentEnd = skipWhitespaceBackwards(contentStart, regionEnd);
+                    jsonNode = parseScalar(this.input.substring(contentStart, contentEnd), this.options);
+                    this.scalarTrailingWhitespace = createWhitespace(contentEnd, regionEnd);
+                } else {
+                    final char c = structuralChar(this.k);
+                    if (c == StringNode.DELIMITER) {
+                        jsonNode = parseString();
+                    } else if (c == ObjectNode.DELIMITER_START || c == ArrayNode.DELIMITER_START) {
+                        if (depth == maxDepth) {
+                            throw MISMATCH;
+                        }
+                        final boolean isObject = c == ObjectNode.DELIMITER_START;
+                        this.k++;
+                        final char end = isObject ? ObjectNode.DELIMITER_END : ArrayNode.DELIMITER_END;
+                        final long innerStart = regionStart(this.k);
+                        final long innerEnd = this.start + this.index.getPosition(this.k);
+                        if (skipWhitespace(innerStart, innerEnd) == innerEnd && structuralChar(this.k) == end) {
+                            final Whitespace whitespace = createWhitespace(innerStart, innerEnd);
+                            this.k++;
+                            jsonNode = isObject ? new ObjectNode(whitespace) : new ArrayNode(whitespace);
+                        } else {
+                            frame = stack.open(depth, isObject, leadingWhitespace);
+                            depth++;
+                            beginElement(frame, stack.getKeyTable());
+                            continue;
+                        }
+                    } else {
+                        throw MISMATCH;
+                    }
+                }
+
+                JsonValue value = new JsonValue(leadingWhitespace, jsonNode, parseTrailingWhitespace());
+                while (true) {
+                    if (frame == null) {
+                        if (this.k != this.index.size()) {
+                            throw MISMATCH;
+                        }
+                        return value;
+                    }
+                    frame.add(value);
+                    final char c = structuralChar(this.k);
+                    this.k++;
+                    if (c == frame.getElementsDelimiter()) {
+                        beginElement(frame, stack.getKeyTable());
+                        break;
+                    }
+                    if (c != frame.getEndDelimiter()) {
+                        throw MISMATCH;
+                    }
+                    value = new JsonValue(frame.leadingWhitespace, frame.createNode(), parseTrailingWhitespace());
+                    depth--;
+                    frame = stack.get(depth - 1);
+                }
+            }
+        }
+
+        /**
+         * Parses everything of the next element of the given container up to the region containing its value.
+         * For arrays this is nothing, for objects the key of the property is parsed.
+         *
+         * @param frame    container of the element
+         * @param keyTable table interning the key of the property, {@code null} if keys are not interned
+         * @throws StructuralMismatchException if the key of the property does not match the expected structure
+         */
+        private void beginElement(final ContainerFrame frame, final KeyTable keyTable)
+                throws StructuralMismatchException, JsonParticleInstantiationException {
+            if (!frame.isObject) {
+                return;
+            }
+            frame.propertyLeadingWhitespace = regionWhitespace(this.k);
+            if (structuralChar(this.k) != StringNode.DELIMITER) {
+                throw MISMATCH;
+            }
+            frame.key = keyTable == null ? parseString() : parseKey(keyTable);
+            if (!frame.acceptKey()) {
+                throw MISMATCH;
+            }
+            frame.keyTrailingWhitespace = regionWhitespace(this.k);
+            if (structuralChar(this.k) != ObjectNodeProperty.KEY_VALUE_DELIMITER) {
+                throw MISMATCH;
+            }
+            this.k++;
+        }
+
+        /**
+         * Returns the trailing whitespace of the last parsed value, which ends in front of structural character {@link #k}.
+         *
+         * @return trailing whitespace of the last parsed value
+         */
+        private Whitespace parseTrailingWhitespace() throws StructuralMismatchException, JsonParticleInstantiationException {
+            if (this.scalarTrailingWhitespace != null) {
+                final Whitespace whitespace = this.scalarTrailingWhitespace;
+                this.scalarTrailingWhitespace = null;
+                return whitespace;
+            }
+            return regionWhitespace(this.k);
+        }
+
+        /**
+         * Returns the text in front of the structural character with the given number as {@link Whitespace}.
+         *
+         * @param number number of the structural character, {@link StructuralIndex#size()} for the end of the document
+         * @return whitespace between the previous structural character and the given one
+         * @throws StructuralMismatchException if there is no such structural character or the text is no whitespace
+         */
+        private Whitespace regionWhitespace(final int number)
+                throws StructuralMismatchException, JsonParticleInstantiationException {
+            return createWhitespace(regionStart(number), this.start + this.index.getPosition(number));
+        }
+
+        /**
+         * Creates the {@link Whitespace} of the given range, which is {@link Whitespace#EMPTY} if whitespace is not kept.
+         *
+         * @param begin index of the first character
+         * @param end   index after the last character
+         * @return created {@link Whitespace}
+         * @throws StructuralMismatchException if the range contains other characters than whitespace
+         */
+        private Whitespace createWhitespace(final long begin, final long end)
+                throws StructuralMismatchException, JsonParticleInstantiationException {
+            if (begin == end) {
+                return Whitespace.EMPTY;
+            }
+            if (this.options.isWhitespaceKept()) {
+                return Whitespace.of(this.input.substring(begin, end));
+            }
+            if (this.input.skipWhitespace(begin) < end) {
+                throw MISMATCH;
+            }
+            return Whitespace.EMPTY;
+        }
+
+        /**
+         * Parses the string starting at structural character {@link #k}, which is closed by the next one.
+         *
+         * @return parsed {@link StringNode}
+         * @throws StructuralMismatchException if the string contains an invalid escape sequence
+         */
+        private StringNode parseString() throws StructuralMismatchException, JsonParticleInstantiationException {
+            final String value = region(this.k + 1);
+            if (value.indexOf('\\') >= 0) {
+                validateEscapes(value);
+            }
+            this.k += 2;
+            return new StringNode(value);
+        }
+
+        /**
+         * Parses the key of a property starting at structural character {@link #k}, which is closed by the next one,
+         * looking it up in the given {@link KeyTable} without creating a {@link String} if it can be interned.
+         *
+         * @param keyTable table interning the key
+         * @return parsed {@link StringNode}
+         * @throws StructuralMismatchException if the key contains an invalid escape sequence
+         */
+        private StringNode parseKey(final KeyTable keyTable)
+                throws StructuralMismatchException, JsonParticleInstantiationException {
+            final long begin = regionStart(this.k + 1);
+            final StringNode key = keyTable.intern(this.input, begin, this.start + this.index.getPosition(this.k + 1));
+            if (key == null) {
+                return parseString();
+            }
+            this.k += 2;
+            return key;
+        }
+
+        /**
+         * Returns the text in front of the structural character with the given number.
+         *
+         * @param number number of the structural character, {@link StructuralIndex#size()} for the end of the document
+         * @return text between the previous structural character and the given one
+         * @throws StructuralMismatchException if there is no such structural character
+         */
+        private String region(final int number) throws StructuralMismatchException {
+            return this.input.substring(regionStart(number), this.start + this.index.getPosition(number));
+        }
+
+        private long regionStart(final int number) throws StructuralMismatchException {
+            if (number > this.index.size()) {
+                throw MISMATCH;
+            }
+            return this.start + (number == 0 ? 0 : this.index.getPosition(number - 1) + 1);
+        }
+
+        private long skipWhitespace(final long from, final long to) {
+            return Math.min(this.input.skipWhitespace(from), to);
+        }
+
+        private long skipWhitespaceBackwards(final long from, final long to) {
+            long i = to;
+            while (i > from && isWhitespace(this.input.charAt(i - 1))) {
+                i--;
+            }
+            return i;
+        }
+
+        private char structuralChar(final int number) throws StructuralMismatchException {
+            if (number >= this.index.size()) {
+                throw MISMATCH;
+            }
+            return this.input.charAt(this.start + this.index.getPosition(number));
+        }
+    }
+
+    private static void validateEscapes(final String value) throws StructuralMismatchException {
+        for (int i = value.indexOf('\\'); i >= 0; i = value.indexOf('\\', i)) {
+            i++;
+            switch (i < value.length() ? value.charAt(i) : 0) {
+                case '"', '\\', '/', 'b', 'f', 'n', 'r', 't' -> i++;
+                case 'u' -> {
+                    if (i + 5 > value.length()) {
+                        throw MISMATCH;
+                    }
+                    for (int j = i + 1; j < i + 5; j++) {
+                        if (Character.digit(value.charAt(j), 16) < 0) {
+                            throw MISMATCH;
+                        }
+                    }
+                    i += 5;
+                }
+                default -> throw MISMATCH;
+            }
+        }
+    }
+
+    /**
+     * Parses a number or literal which makes up the whole given text.
+     *
+     * @param text text of the scalar without surrounding whitespace
+     * @return parsed {@link JsonNode}
+     * @throws StructuralMismatchException if the text is no valid number or literal
+     */
+    private static JsonNode parseScalar(final String text, final ParsingOptions options)
+            throws StructuralMismatchException, JsonParticleInstantiationException {
+        return switch (text.charAt(0)) {
+            case 't' -> parseLiteral(text, BooleanNode.BooleanValue.TRUE.toString(), BooleanNode.TRUE);
+            case 'f' -> parseLiteral(text, BooleanNode.BooleanValue.FALSE.toString(), BooleanNode.FALSE);
+            case 'n' -> parseLiteral(text, NullNode.STRING_VALUE, NullNode.NULL_NODE);
+            default -> parseNumber(text, options.isNumberTextKept());
+        };
+    }
+
+    private static <J extends JsonNode> J parseLiteral(final String text, final String literal, final J node)
+            throws StructuralMismatchException {
+        if (!text.equals(literal)) {
+            throw MISMATCH;
+        }
+        return node;
+    }
+
+    private static NumberNode parseNumber(final String text, final boolean isNumberTextKept)
+            throws StructuralMismatchException, JsonParticleInstantiationException {
+        int i = 0;
+        if (text.charAt(i) == NumberNode.NEGATIVE_NUMBER_PREFIX) {
+            i++;
+        }
+        if (isAt(text, i, '0')) {
+            i++;
+        } else if (i < text.length() && text.charAt(i) >= '1' && text.charAt(i) <= '9') {
+            i = skipDigits(text, i + 1);
+        } else {
+            throw MISMATCH;
+        }
+        if (isAt(text, i, NumberNode.DECIMAL_DELIMITER)) {
+            i = parseDigits(text, i + 1);
+        }
+        if (i == text.length()) {
+            if (isNumberTextKept) {
+                return NumberNodeParser.createLazyNumberNode(text);
+            }
+            return NumberNodeParser.createNumberNode(text, false, null, null);
+        }
+        final String value = text.substring(0, i);
+        final boolean isExponentCapitalized = text.charAt(i) == NumberNode.EXPONENT_SYMBOL_CAPITALIZED;
+        if (!isExponentCapitalized && text.charAt(i) != NumberNode.EXPONENT_SYMBOL) {
+            throw MISMATCH;
+        }
+        i++;
+        final NumberNode.NumberNodeExponentSignSymbol exponentSign;
+        if (isAt(text, i, '-')) {
+            exponentSign = NumberNode.NumberNodeExponentSignSymbol.MINUS;
+            i++;
+        } else if (isAt(text, i, '+')) {
+            exponentSign = NumberNode.NumberNodeExponentSignSymbol.PLUS;
+            i++;
+        } else {
+            exponentSign = NumberNode.NumberNodeExponentSignSymbol.BLANK;
+        }
+        if (parseDigits(text, i) != text.length()) {
+            throw MISMATCH;
+        }
+        if (isNumberTextKept) {
+            return NumberNodeParser.createLazyNumberNode(text);
+        }
+        return NumberNodeParser.createNumberNode(value, isExponentCapitalized, exponentSign, text.substring(i));
+    }
+
+    private static int parseDigits(final String text, final int from) throws StructuralMismatchException {
+        if (from >= text.length() || !isDigit(text.charAt(from))) {
+            throw MISMATCH;
+        }
+        return skipDigits(text, from + 1);
+    }
+
+    private static int skipDigits(final String text, final int from) {
+        int i = from;
+        while (i < text.length() && isDigit(text.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isAt(final String text, final int i, final char c) {
+        return i < text.length() && text.charAt(i) == c;
+    }
+
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isWhitespace(final char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r';
+    }
+}
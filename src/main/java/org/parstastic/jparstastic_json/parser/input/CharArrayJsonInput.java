@@ -0,0 +1,122 @@
+package org.parstastic.jparstastic_json.parser.input;
+
+import java.util.Objects;
+
+/**
+ * This class reads a <code>JSON</code> document from a slice of a character array without copying it.
+ */
+public final class CharArrayJsonInput extends JsonInput {
+    private final char[] chars;
+    /**
+     * Index of the first character of the document in {@link #chars}
+     */
+    private final int offset;
+    private final int length;
+
+    public CharArrayJsonInput(final char[] chars, final int offset, final int length) throws IndexOutOfBoundsException {
+        super();
+        Objects.checkFromIndexSize(offset, length, chars.length);
+        this.chars = chars;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * Returns the array containing the document, for parsers reading it directly instead of through
+     * {@link #charAt(long)}.
+     *
+     * @return array of the characters, which must not be modified
+     * @see #getArrayOffset()
+     */
+    public char[] getArray() {
+        return this.chars;
+    }
+
+    /**
+     * Returns the index of the first character of the document in {@link #getArray()}.
+     *
+     * @return offset of the document
+     */
+    public int getArrayOffset() {
+        return this.offset;
+    }
+
+    @Override
+    public long length() {
+        return this.length;
+    }
+
+    @Override
+    public char charAt(final long index) throws IndexOutOfBoundsException {
+        Objects.checkIndex(index, this.length);
+        return this.chars[this.offset + (int) index];
+    }
+
+    @Override
+    public void getChars(final long beginIndex,
+                         final long endIndex,
+                         final char[] destination,
+                         final int destinationOffset)
+            throws IndexOutOfBoundsException {
+        Objects.checkFromToIndex(beginIndex, endIndex, this.length);
+        System.arraycopy(
+                this.chars,
+                this.offset + (int) beginIndex,
+                destination,
+                destinationOffset,
+                (int) (endIndex - beginIndex)
+        );
+    }
+
+    @Override
+    public long skipWhitespace(final long index) {
+        if (index >= this.length) {
+            return index;
+        }
+        return JsonScanner.getInstance().skipWhitespace(
+                this.chars,
+                this.offset + (int) index,
+                this.offset + this.length
+        ) - this.offset;
+    }
+
+    @Override
+    public long skipStringCharacters(final long index) {
+        if (index >= this.length) {
+            return index;
+        }
+        return JsonScanner.getInstance().skipStringCharacters(
+                this.chars,
+                this.offset + (int) index,
+                this.offset + this.length
+        ) - this.offset;
+    }
+
+    @Override
+    public JsonInput slice(final long beginIndex, final long endIndex) throws IndexOutOfBoundsException {
+        Objects.checkFromToIndex(beginIndex, endIndex, this.length);
+        return new CharArrayJsonInput(this.chars, this.offset + (int) beginIndex, (int) (endIndex - beginIndex));
+    }
+
+    @Override
+    public boolean startsWith(final String prefix, final long index) {
+        if (index < 0 || index > this.length - prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (this.chars[this.offset + (int) index + i] != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String substring(final long beginIndex, final long endIndex) throws IndexOutOfBoundsException {
+        Objects.checkFromToIndex(beginIndex, endIndex, this.length);
+        if (beginIndex == endIndex) {
+            return "";
+        }
+        return new String(this.chars, this.offset + (int) beginIndex, (int) (endIndex - beginIndex));
+    }
+}
@@ -0,0 +1,42 @@
+package org.parstastic.jparstastic_json.parser.input;
+
+/**
+ * This class reads a <code>JSON</code> document from any {@link CharSequence},
+ * for example a {@link StringBuilder} or a direct {@link java.nio.CharBuffer}.
+ */
+public final class CharSequenceJsonInput extends JsonInput {
+    private final CharSequence json;
+
+    public CharSequenceJsonInput(final CharSequence json) {
+        super();
+        this.json = json;
+    }
+
+    @Override
+    public long length() {
+        return this.json.length();
+    }
+
+    @Override
+    public char charAt(final long index) throws IndexOutOfBoundsException {
+        return this.json.charAt(toArrayIndex(index));
+    }
+
+    @Override
+    public boolean startsWith(final String prefix, final long index) {
+        if (index < 0 || index > this.json.length() - prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (this.json.charAt((int) index + i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String substring(final long beginIndex, final long endIndex) throws IndexOutOfBoundsException {
+        return this.json.subSequence(toArrayIndex(beginIndex), toArrayIndex(endIndex)).toString();
+    }
+}
@@ -0,0 +1,285 @@
+package org.parstastic.jparstastic_json.parser.input;
+
+import org.parstastic.jparstastic_json.parser.JsonParsingProcess;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * This class is the source of the characters of a <code>JSON</code> document parsed by a {@link JsonParsingProcess}.
+ * Inputs read the characters they were created with in place, they never copy the document as a whole.
+ * Streamed inputs only buffer a window of the document, see {@link ReaderJsonInput}.
+ * All indices are relative to the start of the document. They are {@code long}s, so documents which are not held in
+ * an array, like streamed or memory-mapped ones, may be larger than {@value Integer#MAX_VALUE} characters.
+ * <p>
+ * Calls of {@link JsonInput} methods are only inlined while a JVM uses at most two classes of inputs at the same
+ * call site, so {@link JsonParsingProcess} reads the documents of {@link StringJsonInput}s, {@link CharArrayJsonInput}s
+ * and {@link Utf8JsonInput}s directly, see {@link StringJsonInput#getString()} and
+ * {@link CharArrayJsonInput#getArray()}.
+ */
+public abstract class JsonInput {
+    /**
+     * Creates the most specific {@link JsonInput} for the given characters.
+     * {@link CharBuffer}s backed by an array are read directly from their array, starting at their position.
+     *
+     * @param json characters of the <code>JSON</code> document, which must not change during parsing
+     * @return {@link JsonInput} reading the given characters
+     */
+    public static JsonInput of(final CharSequence json) {
+        if (json instanceof String string) {
+            return new StringJsonInput(string);
+        }
+        if (json instanceof CharBuffer charBuffer && charBuffer.hasArray()) {
+            return new CharArrayJsonInput(
+                    charBuffer.array(),
+                    charBuffer.arrayOffset() + charBuffer.position(),
+                    charBuffer.remaining()
+            );
+        }
+        return new CharSequenceJsonInput(json);
+    }
+
+    /**
+     * Creates a {@link JsonInput} reading the given slice of a character array.
+     *
+     * @param chars  array containing the <code>JSON</code> document, which must not change during parsing
+     * @param offset index of the first character of the document in {@code chars}
+     * @param length number of characters of the document
+     * @return {@link JsonInput} reading the given slice
+     * @throws IndexOutOfBoundsException if the slice is outside of {@code chars}
+     */
+    public static JsonInput of(final char[] chars, final int offset, final int length)
+            throws IndexOutOfBoundsException {
+        return new CharArrayJsonInput(chars, offset, length);
+    }
+
+    /**
+     * Creates a {@link JsonInput} reading the given slice of <code>UTF-8</code> encoded bytes without decoding it first.
+     *
+     * @param bytes  array containing the <code>UTF-8</code> encoded document, which must not change during parsing
+     * @param offset index of the first byte of the document in {@code bytes}
+     * @param length number of bytes of the document
+     * @return {@link JsonInput} reading the given slice
+     * @throws IndexOutOfBoundsException if the slice is outside of {@code bytes}
+     * @see Utf8JsonInput
+     */
+    public static JsonInput ofUtf8(final byte[] bytes, final int offset, final int length)
+            throws IndexOutOfBoundsException {
+        return new Utf8JsonInput(bytes, offset, length);
+    }
+
+    /**
+     * Creates a {@link JsonInput} streaming the <code>JSON</code> document from the given {@link Reader}
+     * through a buffer of {@link ReaderJsonInput#DEFAULT_BUFFER_SIZE} characters.
+     *
+     * @param reader {@link Reader} to read the <code>JSON</code> document from, which is not closed
+     * @return {@link JsonInput} streaming from {@code reader}
+     * @see ReaderJsonInput
+     */
+    public static JsonInput of(final Reader reader) {
+        return new ReaderJsonInput(reader);
+    }
+
+    /**
+     * Creates a {@link JsonInput} streaming the <code>UTF-8</code> encoded <code>JSON</code> document from the given
+     * {@link InputStream}. Malformed bytes are reported as {@link JsonInputEncodingException}s instead of being replaced.
+     *
+     * @param utf8 {@link InputStream} to read the <code>UTF-8</code> encoded document from, which is not closed
+     * @return {@link JsonInput} streaming from {@code utf8}
+     * @see ReaderJsonInput
+     */
+    public static JsonInput ofUtf8(final InputStream utf8) {
+        return new ReaderJsonInput(
+                new InputStreamReader(
+                        utf8,
+                        StandardCharsets.UTF_8.newDecoder()
+                                .onMalformedInput(CodingErrorAction.REPORT)
+                                .onUnmappableCharacter(CodingErrorAction.REPORT)
+                )
+        );
+    }
+
+    /**
+     * Creates a {@link JsonInput} reading the <code>UTF-8</code> encoded <code>JSON</code> document directly from the
+     * memory-mapped file at the given path.
+     *
+     * @param path path of the <code>UTF-8</code> encoded file, which must not change during parsing
+     * @return {@link JsonInput} reading the mapped file
+     * @throws IOException if the file cannot be opened or mapped
+     * @see MappedUtf8JsonInput
+     */
+    public static JsonInput ofUtf8(final Path path) throws IOException {
+        return new MappedUtf8JsonInput(path);
+    }
+
+    /**
+     * Narrows the given index for documents held in an array or a {@link CharSequence}.
+     * Indices which do not fit into an {@code int} are mapped to {@code -1}, so they stay out of bounds.
+     *
+     * @param index index in the document
+     * @return {@code index} as {@code int}, {@code -1} if it does not fit
+     */
+    protected static int toArrayIndex(final long index) {
+        final int arrayIndex = (int) index;
+        return arrayIndex == index ? arrayIndex : -1;
+    }
+
+    protected JsonInput() {
+        super();
+    }
+
+    /**
+     * Returns the number of characters of the document.
+     *
+     * @return number of characters of the document
+     * @throws UnsupportedOperationException if the length is not known in advance, like for streamed documents
+     */
+    public abstract long length() throws UnsupportedOperationException;
+
+    /**
+     * Checks whether {@link #length()} is known in advance.
+     *
+     * @return {@code true} if {@link #length()} is supported, {@code false} for streamed documents
+     */
+    public boolean hasKnownLength() {
+        return true;
+    }
+
+    /**
+     * Checks whether the document has a character at the given index.
+     * Unlike {@link #length()}, this is supported by all inputs, streamed ones read up to the given index.
+     *
+     * @param index index of the character, not negative
+     * @return {@code true} if {@code index} is inside the document, {@code false} otherwise
+     */
+    public boolean hasCharAt(final long index) {
+        return index < length();
+    }
+
+    /**
+     * Returns the character at the given index.
+     *
+     * @param index index of the character
+     * @return character at the given index
+     * @throws IndexOutOfBoundsException if {@code index} is outside of the document
+     */
+    public abstract char charAt(final long index) throws IndexOutOfBoundsException;
+
+    /**
+     * Copies the characters between the given indices into the given array,
+     * which is faster than calling {@link #charAt(long)} for every character.
+     *
+     * @param beginIndex        index of the first character, inclusive
+     * @param endIndex          index of the last character, exclusive
+     * @param destination       array to copy the characters to
+     * @param destinationOffset index in {@code destination} to copy the first character to
+     * @throws IndexOutOfBoundsException if the indices are outside of the document or {@code destination}
+     */
+    public void getChars(final long beginIndex,
+                         final long endIndex,
+                         final char[] destination,
+                         final int destinationOffset)
+            throws IndexOutOfBoundsException {
+        Objects.checkFromIndexSize(destinationOffset, Math.toIntExact(endIndex - beginIndex), destination.length);
+        for (long i = beginIndex; i < endIndex; i++) {
+            destination[destinationOffset + (int) (i - beginIndex)] = charAt(i);
+        }
+    }
+
+    /**
+     * Returns the index of the first character at or after the given index which is not whitespace.
+     * Inputs backed by arrays skip the whitespace in bulk with the {@link JsonScanner}.
+     *
+     * @param index index to start at, not negative
+     * @return index of the first non-whitespace character, the end of the document if there is none
+     */
+    public long skipWhitespace(final long index) {
+        long i = index;
+        while (hasCharAt(i) && JsonScanner.isWhitespace(charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Returns the index of the first quote or backslash at or after the given index,
+     * skipping the plain characters of a string in bulk if the input is backed by an array.
+     *
+     * @param index index to start at, not negative
+     * @return index of the first quote or backslash, the end of the document if there is none
+     */
+    public long skipStringCharacters(final long index) {
+        long i = index;
+        while (hasCharAt(i) && !JsonScanner.isStringDelimiter(charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Returns the part of the document between the given indices as a document of its own, without copying it.
+     * Indices of the returned {@link JsonInput} are relative to {@code beginIndex}.
+     *
+     * @param beginIndex index of the first character, inclusive
+     * @param endIndex   index of the last character, exclusive
+     * @return {@link JsonInput} reading the part of the document
+     * @throws IndexOutOfBoundsException if the indices are outside of the document or in wrong order
+     */
+    public JsonInput slice(final long beginIndex, final long endIndex) throws IndexOutOfBoundsException {
+        Objects.checkFromToIndex(beginIndex, endIndex, length());
+        return new SliceJsonInput(this, beginIndex, endIndex - beginIndex);
+    }
+
+    /**
+     * Checks whether the document contains the given {@link String} starting at the given index.
+     *
+     * @param prefix {@link String} to compare with
+     * @param index  index in the document to compare at
+     * @return {@code true} if the document contains {@code prefix} at {@code index}, {@code false} otherwise
+     */
+    public abstract boolean startsWith(final String prefix, final long index);
+
+    /**
+     * Checks whether the part of the document between the given indices can be decoded by
+     * {@link #substring(long, long)}, without creating the {@link String}.
+     * Inputs of characters can always be decoded.
+     *
+     * @param beginIndex index of the first character, inclusive
+     * @param endIndex   index of the last character, exclusive
+     * @throws IndexOutOfBoundsException  if the indices are outside of the document or in wrong order
+     * @throws JsonInputEncodingException if the part cannot be decoded
+     */
+    public void checkEncoding(final long beginIndex, final long endIndex)
+            throws IndexOutOfBoundsException, JsonInputEncodingException {
+        Objects.checkFromToIndex(beginIndex, endIndex, length());
+    }
+
+    /**
+     * Returns the part of the document between the given indices as a new {@link String}.
+     *
+     * @param beginIndex index of the first character, inclusive
+     * @param endIndex   index of the last character, exclusive
+     * @return part of the document between the given indices
+     * @throws IndexOutOfBoundsException  if the indices are outside of the document or in wrong order
+     * @throws JsonInputEncodingException if the part cannot be decoded
+     */
+    public abstract String substring(final long beginIndex, final long endIndex)
+            throws IndexOutOfBoundsException, JsonInputEncodingException;
+
+    /**
+     * Tells the input that no character before the given index is read again, so streamed inputs may drop them.
+     * Parsers call this at the boundaries of values, the characters must not be read afterwards.
+     * Inputs holding the whole document ignore it.
+     *
+     * @param index index of the first character which may still be read
+     */
+    public void release(final long index) {
+    }
+}
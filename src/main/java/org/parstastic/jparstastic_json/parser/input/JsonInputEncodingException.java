@@ -0,0 +1,16 @@
+package org.parstastic.jparstastic_json.parser.input;
+
+import java.io.Serial;
+
+/**
+ * This exception signals that a part of a {@link JsonInput} cannot be decoded into characters.
+ * It is unchecked, because only inputs reading encoded bytes can throw it.
+ */
+public class JsonInputEncodingException extends RuntimeException {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public JsonInputEncodingException(final String message) {
+        super(message);
+    }
+}
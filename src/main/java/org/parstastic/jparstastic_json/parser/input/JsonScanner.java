@@ -0,0 +1,129 @@
+package org.parstastic.jparstastic_json.parser.input;
+
+/**
+ * This class searches arrays of characters or <code>UTF-8</code> encoded bytes for the next character
+ * a parser has to look at, so runs of characters it would skip one by one are skipped in bulk.
+ * <p>
+ * If the incubating Vector API is enabled, by running with {@code --add-modules jdk.incubator.vector},
+ * {@link #getInstance()} returns a scanner comparing as many characters at once as the vector registers
+ * of the CPU hold. Otherwise it returns a scalar scanner with the same results.
+ * Instances are stateless and thread-safe.
+ */
+public abstract class JsonScanner {
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final JsonScanner SCALAR_INSTANCE = new ScalarJsonScanner();
+    private static final JsonScanner INSTANCE = create();
+
+    /**
+     * Returns the fastest available {@link JsonScanner}.
+     *
+     * @return vectorized {@link JsonScanner} if the Vector API is enabled, scalar {@link JsonScanner} otherwise
+     */
+    public static JsonScanner getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the scalar {@link JsonScanner}, which examines one character at a time.
+     *
+     * @return scalar {@link JsonScanner}
+     */
+    public static JsonScanner getScalarInstance() {
+        return SCALAR_INSTANCE;
+    }
+
+    /**
+     * Creates the vectorized {@link JsonScanner} if the Vector API is enabled.
+     * It is instantiated reflectively, so its class is never linked without the module.
+     *
+     * @return fastest available {@link JsonScanner}
+     */
+    private static JsonScanner create() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            return SCALAR_INSTANCE;
+        }
+        try {
+            return (JsonScanner) Class.forName(JsonScanner.class.getPackageName() + ".VectorJsonScanner")
+                    .getDeclaredConstructor()
+                    .newInstance();
+        } catch (final ReflectiveOperationException | LinkageError e) {
+            return SCALAR_INSTANCE;
+        }
+    }
+
+    JsonScanner() {
+        super();
+    }
+
+    /**
+     * Checks whether this {@link JsonScanner} uses the Vector API.
+     *
+     * @return {@code true} if this {@link JsonScanner} is vectorized, {@code false} otherwise
+     */
+    public abstract boolean isVectorized();
+
+    /**
+     * Returns the index of the first character in the given range which is not whitespace.
+     *
+     * @param chars array to search
+     * @param from  index of the first character to search, inclusive
+     * @param to    index of the last character to search, exclusive
+     * @return index of the first non-whitespace character, {@code to} if there is none
+     */
+    public abstract int skipWhitespace(final char[] chars, final int from, final int to);
+
+    /**
+     * Returns the index of the first byte in the given range which is not whitespace.
+     *
+     * @param bytes array of <code>UTF-8</code> encoded bytes to search
+     * @param from  index of the first byte to search, inclusive
+     * @param to    index of the last byte to search, exclusive
+     * @return index of the first non-whitespace byte, {@code to} if there is none
+     */
+    public abstract int skipWhitespace(final byte[] bytes, final int from, final int to);
+
+    /**
+     * Returns the index of the first quote or backslash in the given range,
+     * which are the only characters ending a run of plain characters inside a string.
+     *
+     * @param chars array to search
+     * @param from  index of the first character to search, inclusive
+     * @param to    index of the last character to search, exclusive
+     * @return index of the first quote or backslash, {@code to} if there is none
+     */
+    public abstract int skipStringCharacters(final char[] chars, final int from, final int to);
+
+    /**
+     * Returns the index of the first quote or backslash in the given range,
+     * which are the only characters ending a run of plain characters inside a string.
+     * Bytes of multibyte sequences never match.
+     *
+     * @param bytes array of <code>UTF-8</code> encoded bytes to search
+     * @param from  index of the first byte to search, inclusive
+     * @param to    index of the last byte to search, exclusive
+     * @return index of the first quote or backslash, {@code to} if there is none
+     */
+    public abstract int skipStringCharacters(final byte[] bytes, final int from, final int to);
+
+    /**
+     * Returns the index of the first structural character {@code { } [ ] : ,} or quote in the given range.
+     *
+     * @param chars array to search
+     * @param from  index of the first character to search, inclusive
+     * @param to    index of the last character to search, exclusive
+     * @return index of the first structural character or quote, {@code to} if there is none
+     */
+    public abstract int findStructural(final char[] chars, final int from, final int to);
+
+    static boolean isWhitespace(final int c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r';
+    }
+
+    static boolean isStringDelimiter(final int c) {
+        return c == '"' || c == '\\';
+    }
+
+    static boolean isStructural(final int c) {
+        return c == '{' || c == '}' || c == '[' || c == ']' || c == ':' || c == ',' || c == '"';
+    }
+}
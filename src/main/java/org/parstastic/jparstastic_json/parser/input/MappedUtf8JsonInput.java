@@ -0,0 +1,140 @@
+package org.parstastic.jparstastic_json.parser.input;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * This class reads a <code>UTF-8</code> encoded <code>JSON</code> document directly from a memory-mapped file,
+ * so the file is neither copied onto the heap nor decoded as a whole and reading is left to the page cache.
+ * Like {@link Utf8JsonInput}, every byte is returned as one character and only the parts returned by
+ * {@link #substring(long, long)} are validated and decoded. All indices are byte offsets in the file.
+ * <p>
+ * A single mapping cannot exceed {@value Integer#MAX_VALUE} bytes, so the file is mapped in chunks of
+ * {@link #CHUNK_SIZE} bytes, which allows files larger than 2 GB. The file must not change during parsing.
+ * The chunks are {@link MappedByteBuffer}s rather than a {@link java.lang.foreign.MemorySegment}, whose mapping
+ * would be tied to an {@link java.lang.foreign.Arena} that has to be closed, so a {@link MappedUtf8JsonInput} is
+ * used like any in-memory {@link JsonInput} and its mapping lives as long as it is reachable.
+ * <p>
+ * The mapping is only read with absolute indices, so parts of the same {@link MappedUtf8JsonInput} may be parsed
+ * concurrently, like the elements of {@link #slice(long, long) slices} of a top-level array.
+ */
+public final class MappedUtf8JsonInput extends JsonInput {
+    /**
+     * Binary logarithm of {@link #CHUNK_SIZE}
+     */
+    private static final int CHUNK_SHIFT = 30;
+    /**
+     * Number of bytes mapped per chunk
+     */
+    public static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+
+    private final MappedByteBuffer[] chunks;
+    private final int chunkShift;
+    private final long chunkMask;
+    private final long length;
+
+    /**
+     * Maps the given file.
+     * The file is closed again right away, the mapping stays valid until this {@link MappedUtf8JsonInput} is
+     * garbage collected.
+     *
+     * @param path path of the <code>UTF-8</code> encoded file to map
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    public MappedUtf8JsonInput(final Path path) throws IOException {
+        this(path, CHUNK_SHIFT);
+    }
+
+    MappedUtf8JsonInput(final Path path, final int chunkShift) throws IOException {
+        super();
+        this.chunkShift = chunkShift;
+        this.chunkMask = (1L << chunkShift) - 1;
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            this.length = channel.size();
+            this.chunks = new MappedByteBuffer[(int) ((this.length + this.chunkMask) >>> chunkShift)];
+            for (int i = 0; i < this.chunks.length; i++) {
+                final long position = (long) i << chunkShift;
+                this.chunks[i] = channel.map(
+                        FileChannel.MapMode.READ_ONLY,
+                        position,
+                        Math.min(this.chunkMask + 1, this.length - position)
+                );
+            }
+        }
+    }
+
+    @Override
+    public long length() {
+        return this.length;
+    }
+
+    @Override
+    public char charAt(final long index) throws IndexOutOfBoundsException {
+        Objects.checkIndex(index, this.length);
+        return (char) (byteAt(index) & 0xFF);
+    }
+
+    @Override
+    public boolean startsWith(final String prefix, final long index) {
+        if (index < 0 || index > this.length - prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if ((byteAt(index + i) & 0xFF) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks the bytes between the given indices by decoding them, see {@link #substring(long, long)}.
+     */
+    @Override
+    public void checkEncoding(final long beginIndex, final long endIndex)
+            throws IndexOutOfBoundsException, JsonInputEncodingException {
+        substring(beginIndex, endIndex);
+    }
+
+    /**
+     * Copies the bytes between the given indices out of the mapping into a new array and decodes them.
+     *
+     * @param beginIndex index of the first byte, inclusive
+     * @param endIndex   index of the last byte, exclusive
+     * @return decoded bytes between the given indices
+     * @throws IndexOutOfBoundsException  if the indices are outside of the document or in wrong order,
+     *                                    or if the part is too large for a {@link String}
+     * @throws JsonInputEncodingException if the bytes are not valid <code>UTF-8</code>
+     */
+    @Override
+    public String substring(final long beginIndex, final long endIndex)
+            throws IndexOutOfBoundsException, JsonInputEncodingException {
+        Objects.checkFromToIndex(beginIndex, endIndex, this.length);
+        if (beginIndex == endIndex) {
+            return "";
+        }
+        if (endIndex - beginIndex > Integer.MAX_VALUE) {
+            throw new IndexOutOfBoundsException("The part at index " + beginIndex + " is too large for a String.");
+        }
+        final int length = (int) (endIndex - beginIndex);
+        final byte[] bytes = new byte[length];
+        int copied = 0;
+        while (copied < length) {
+            final long index = beginIndex + copied;
+            final MappedByteBuffer chunk = this.chunks[(int) (index >>> this.chunkShift)];
+            final int chunkIndex = (int) (index & this.chunkMask);
+            final int count = Math.min(length - copied, chunk.limit() - chunkIndex);
+            chunk.get(chunkIndex, bytes, copied, count);
+            copied += count;
+        }
+        return Utf8JsonInput.decode(bytes, 0, length, beginIndex);
+    }
+
+    private byte byteAt(final long index) {
+        return this.chunks[(int) (index >>> this.chunkShift)].get((int) (index & this.chunkMask));
+    }
+}
@@ -0,0 +1,209 @@
+package org.parstastic.jparstastic_json.parser.input;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.CharacterCodingException;
+import java.util.Arrays;
+
+/**
+ * This class reads a <code>JSON</code> document from a {@link Reader} through a fixed-size buffer,
+ * so the document never has to be in memory as a whole.
+ * The buffer is a window of the document which is refilled on demand, so lookahead like
+ * {@link #startsWith(String, long)} works across refills.
+ * <p>
+ * Parsers only read forward and {@link #release(long) release} the characters of every parsed value, like the end of
+ * every {@link #substring(long, long)} does, so all released characters are dropped when the buffer is refilled.
+ * Only a single part which is longer than the buffer, like a very long string, grows the buffer temporarily.
+ * Reading dropped characters fails with an {@link IndexOutOfBoundsException}.
+ * <p>
+ * Read failures are thrown as {@link UncheckedIOException}s, characters the {@link Reader} cannot decode as
+ * {@link JsonInputEncodingException}s. The {@link Reader} is not closed.
+ */
+public final class ReaderJsonInput extends JsonInput {
+    /**
+     * Number of characters buffered by default
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private final Reader reader;
+    /**
+     * Number of characters the buffer shrinks back to after it had to grow
+     */
+    private final int bufferSize;
+    private char[] buffer;
+    /**
+     * Index in the document of the first character in {@link #buffer}
+     */
+    private long bufferStart;
+    /**
+     * Number of characters read into {@link #buffer}
+     */
+    private int filled;
+    /**
+     * Index in the document of the first character which may still be needed,
+     * the end of the last substring or the last released index
+     */
+    private long retainedStart;
+    private boolean endOfInput;
+
+    public ReaderJsonInput(final Reader reader) {
+        this(reader, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a {@link ReaderJsonInput} object reading through a buffer of the given size.
+     *
+     * @param reader     {@link Reader} to read the <code>JSON</code> document from
+     * @param bufferSize number of characters to buffer
+     * @throws IllegalArgumentException if {@code bufferSize} is not positive
+     */
+    public ReaderJsonInput(final Reader reader, final int bufferSize) throws IllegalArgumentException {
+        super();
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("The buffer size must be positive: " + bufferSize);
+        }
+        this.reader = reader;
+        this.bufferSize = bufferSize;
+        this.buffer = new char[bufferSize];
+    }
+
+    /**
+     * The length of a streamed document is not known before it was read completely.
+     *
+     * @throws UnsupportedOperationException always, use {@link #hasCharAt(long)} instead
+     */
+    @Override
+    public long length() throws UnsupportedOperationException {
+        throw new UnsupportedOperationException("The length of a streamed document is unknown");
+    }
+
+    @Override
+    public boolean hasKnownLength() {
+        return false;
+    }
+
+    @Override
+    public boolean hasCharAt(final long index) {
+        return index >= 0 && fill(index);
+    }
+
+    @Override
+    public char charAt(final long index) throws IndexOutOfBoundsException {
+        if (index < this.bufferStart || !fill(index)) {
+            throw new IndexOutOfBoundsException("Index " + index + " is not available in the buffered input");
+        }
+        return this.buffer[(int) (index - this.bufferStart)];
+    }
+
+    @Override
+    public boolean startsWith(final String prefix, final long index) {
+        if (index < this.bufferStart || !fill(index + prefix.length() - 1)) {
+            return false;
+        }
+        final int start = (int) (index - this.bufferStart);
+        for (int i = 0; i < prefix.length(); i++) {
+            if (this.buffer[start + i] != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the part of the document between the given indices and drops all characters before {@code endIndex}
+     * on the next refill.
+     *
+     * @param beginIndex index of the first character, inclusive
+     * @param endIndex   index of the last character, exclusive
+     * @return part of the document between the given indices
+     * @throws IndexOutOfBoundsException if the indices are in wrong order, were not read yet or were already dropped
+     */
+    @Override
+    public String substring(final long beginIndex, final long endIndex) throws IndexOutOfBoundsException {
+        if (beginIndex < this.bufferStart || beginIndex > endIndex || endIndex > this.bufferStart + this.filled) {
+            throw new IndexOutOfBoundsException(
+                    "Range [" + beginIndex + ", " + endIndex + ") is not available in the buffered input"
+            );
+        }
+        release(endIndex);
+        if (beginIndex == endIndex) {
+            return "";
+        }
+        return new String(this.buffer, (int) (beginIndex - this.bufferStart), (int) (endIndex - beginIndex));
+    }
+
+    /**
+     * Drops all characters before the given index on the next refill.
+     *
+     * @param index index of the first character which may still be read
+     */
+    @Override
+    public void release(final long index) {
+        this.retainedStart = Math.max(this.retainedStart, Math.min(index, this.bufferStart + this.filled));
+    }
+
+    /**
+     * Returns the number of characters the buffer currently holds room for.
+     *
+     * @return length of {@link #buffer}
+     */
+    int getBufferCapacity() {
+        return this.buffer.length;
+    }
+
+    /**
+     * Reads from {@link #reader} until the character at the given index is buffered or the input ended.
+     *
+     * @param index index in the document of the character to buffer
+     * @return {@code true} if the character at {@code index} is buffered, {@code false} if the input ended before
+     */
+    private boolean fill(final long index) {
+        while (index >= this.bufferStart + this.filled) {
+            if (this.endOfInput) {
+                return false;
+            }
+            if (this.filled == this.buffer.length) {
+                makeRoom();
+            }
+            final int read = read();
+            if (read < 0) {
+                this.endOfInput = true;
+            } else {
+                this.filled += read;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Drops all characters before {@link #retainedStart} from the full {@link #buffer}.
+     * The buffer only grows if all of its characters are still needed, and shrinks back as soon as possible.
+     */
+    private void makeRoom() {
+        final int dropped = (int) (this.retainedStart - this.bufferStart);
+        final int retained = this.filled - dropped;
+        final char[] target;
+        if (retained == this.buffer.length) {
+            target = Arrays.copyOf(this.buffer, this.buffer.length * 2);
+        } else if (this.buffer.length > this.bufferSize && retained < this.bufferSize) {
+            target = new char[this.bufferSize];
+        } else {
+            target = this.buffer;
+        }
+        System.arraycopy(this.buffer, dropped, target, 0, retained);
+        this.buffer = target;
+        this.bufferStart = this.retainedStart;
+        this.filled = retained;
+    }
+
+    private int read() {
+        try {
+            return this.reader.read(this.buffer, this.filled, this.buffer.length - this.filled);
+        } catch (final CharacterCodingException e) {
+            throw new JsonInputEncodingException("The JSON input is not validly encoded: " + e.getMessage());
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package org.parstastic.jparstastic_json.parser.input;
+
+/**
+ * This class is the {@link JsonScanner} examining one character at a time,
+ * used if the Vector API is not enabled and for the tails of ranges too short for a vector.
+ */
+final class ScalarJsonScanner extends JsonScanner {
+    ScalarJsonScanner() {
+        super();
+    }
+
+    @Override
+    public boolean isVectorized() {
+        return false;
+    }
+
+    @Override
+    public int skipWhitespace(final char[] chars, final int from, final int to) {
+        int i = from;
+        while (i < to && isWhitespace(chars[i])) {
+            i++;
+        }
+        return i;
+    }
+
+    @Override
+    public int skipWhitespace(final byte[] bytes, final int from, final int to) {
+        int i = from;
+        while (i < to && isWhitespace(bytes[i])) {
+            i++;
+        }
+        return i;
+    }
+
+    @Override
+    public int skipStringCharacters(final char[] chars, final int from, final int to) {
+        int i = from;
+        while (i < to && !isStringDelimiter(chars[i])) {
+            i++;
+        }
+        return i;
+    }
+
+    @Override
+    public int skipStringCharacters(final byte[] bytes, final int from, final int to) {
+        int i = from;
+        while (i < to && !isStringDelimiter(bytes[i])) {
+            i++;
+        }
+        return i;
+    }
+
+    @Override
+    public int findStructural(final char[] chars, final int from, final int to) {
+        int i = from;
+        while (i < to && !isStructural(chars[i])) {
+            i++;
+        }
+        return i;
+    }
+}
@@ -0,0 +1,89 @@
+package org.parstastic.jparstastic_json.parser.input;
+
+import java.util.Objects;
+
+/**
+ * This class reads a part of another {@link JsonInput} as a document of its own, without copying it.
+ * All indices are relative to the start of the part.
+ */
+final class SliceJsonInput extends JsonInput {
+    private final JsonInput input;
+    /**
+     * Index of the first character of the part in {@link #input}
+     */
+    private final long offset;
+    private final long length;
+
+    SliceJsonInput(final JsonInput input, final long offset, final long length) {
+        super();
+        this.input = input;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public long length() {
+        return this.length;
+    }
+
+    @Override
+    public boolean hasCharAt(final long index) {
+        return index < this.length;
+    }
+
+    @Override
+    public char charAt(final long index) throws IndexOutOfBoundsException {
+        Objects.checkIndex(index, this.length);
+        return this.input.charAt(this.offset + index);
+    }
+
+    @Override
+    public void getChars(final long beginIndex,
+                         final long endIndex,
+                         final char[] destination,
+                         final int destinationOffset)
+            throws IndexOutOfBoundsException {
+        Objects.checkFromToIndex(beginIndex, endIndex, this.length);
+        this.input.getChars(this.offset + beginIndex, this.offset + endIndex, destination, destinationOffset);
+    }
+
+    @Override
+    public long skipWhitespace(final long index) {
+        return Math.min(this.input.skipWhitespace(this.offset + index) - this.offset, Math.max(index, this.length));
+    }
+
+    @Override
+    public long skipStringCharacters(final long index) {
+        return Math.min(this.input.skipStringCharacters(this.offset + index) - this.offset, Math.max(index, this.length));
+    }
+
+    @Override
+    public boolean startsWith(final String prefix, final long index) {
+        return index >= 0 && index <= this.length - prefix.length() && this.input.startsWith(prefix, this.offset + index);
+    }
+
+    @Override
+    public void checkEncoding(final long beginIndex, final long endIndex)
+            throws IndexOutOfBoundsException, JsonInputEncodingException {
+        Objects.checkFromToIndex(beginIndex, endIndex, this.length);
+        this.input.checkEncoding(this.offset + beginIndex, this.offset + endIndex);
+    }
+
+    @Override
+    public String substring(final long beginIndex, final long endIndex)
+            throws IndexOutOfBoundsException, JsonInputEncodingException {
+        Objects.checkFromToIndex(beginIndex, endIndex, this.length);
+        return this.input.substring(this.offset + beginIndex, this.offset + endIndex);
+    }
+
+    @Override
+    public void release(final long index) {
+        this.input.release(this.offset + Math.min(index, this.length));
+    }
+
+    @Override
+    public JsonInput slice(final long beginIndex, final long endIndex) throws IndexOutOfBoundsException {
+        Objects.checkFromToIndex(beginIndex, endIndex, this.length);
+        return this.input.slice(this.offset + beginIndex, this.offset + endIndex);
+    }
+}
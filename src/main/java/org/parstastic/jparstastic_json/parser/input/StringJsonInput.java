@@ -0,0 +1,92 @@
+package org.parstastic.jparstastic_json.parser.input;
+
+/**
+ * This class reads a <code>JSON</code> document from a {@link String}.
+ */
+public final class StringJsonInput extends JsonInput {
+    /**
+     * Number of characters searched at once for the end of a run of plain string characters
+     */
+    private static final int STRING_SCAN_WINDOW = 128;
+
+    private final String json;
+
+    public StringJsonInput(final String json) {
+        super();
+        this.json = json;
+    }
+
+    /**
+     * Returns the document, for parsers reading it directly instead of through {@link #charAt(long)}.
+     *
+     * @return <code>JSON</code> {@link String}
+     */
+    public String getString() {
+        return this.json;
+    }
+
+    @Override
+    public long length() {
+        return this.json.length();
+    }
+
+    @Override
+    public char charAt(final long index) throws IndexOutOfBoundsException {
+        return this.json.charAt(toArrayIndex(index));
+    }
+
+    @Override
+    public void getChars(final long beginIndex,
+                         final long endIndex,
+                         final char[] destination,
+                         final int destinationOffset)
+            throws IndexOutOfBoundsException {
+        this.json.getChars(toArrayIndex(beginIndex), toArrayIndex(endIndex), destination, destinationOffset);
+    }
+
+    @Override
+    public long skipWhitespace(final long index) {
+        final int length = this.json.length();
+        long i = index;
+        while (i < length && JsonScanner.isWhitespace(this.json.charAt((int) i))) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Returns the index of the first quote or backslash at or after the given index.
+     * The contents of a {@link String} cannot be accessed as an array, but searching it for a single character
+     * is vectorized by the JVM. Both characters are searched window by window, so strings with many escapes
+     * are not searched up to their end for every escape.
+     *
+     * @param index index to start at, not negative
+     * @return index of the first quote or backslash, the end of the document if there is none
+     */
+    @Override
+    public long skipStringCharacters(final long index) {
+        final int length = this.json.length();
+        for (long from = index; from < length; from += STRING_SCAN_WINDOW) {
+            final int to = (int) Math.min(length, from + STRING_SCAN_WINDOW);
+            final int quote = this.json.indexOf('"', (int) from, to);
+            final int backslash = this.json.indexOf('\\', (int) from, quote < 0 ? to : quote);
+            if (backslash >= 0) {
+                return backslash;
+            }
+            if (quote >= 0) {
+                return quote;
+            }
+        }
+        return Math.max(index, length);
+    }
+
+    @Override
+    public boolean startsWith(final String prefix, final long index) {
+        return this.json.startsWith(prefix, toArrayIndex(index));
+    }
+
+    @Override
+    public String substring(final long beginIndex, final long endIndex) throws IndexOutOfBoundsException {
+        return this.json.substring(toArrayIndex(beginIndex), toArrayIndex(endIndex));
+    }
+}
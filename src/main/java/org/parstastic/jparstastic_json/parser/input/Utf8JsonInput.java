@@ -0,0 +1,220 @@
+package org.parstastic.jparstastic_json.parser.input;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * This class reads a <code>JSON</code> document directly from a slice of <code>UTF-8</code> encoded bytes.
+ * All structural characters of <code>JSON</code> are <code>ASCII</code>, so the structure is parsed on the raw bytes:
+ * every byte is returned as one character, and bytes of multibyte sequences never match any structural character.
+ * Only the parts returned by {@link #substring(long, long)}, like the contents of strings, are validated and decoded.
+ * All indices are byte offsets relative to the start of the slice.
+ */
+public final class Utf8JsonInput extends JsonInput {
+    /**
+     * Character the decoder of {@link String} replaces malformed input with
+     */
+    private static final char REPLACEMENT_CHARACTER = '\uFFFD';
+
+    private final byte[] bytes;
+    /**
+     * Index of the first byte of the document in {@link #bytes}
+     */
+    private final int offset;
+    private final int length;
+
+    public Utf8JsonInput(final byte[] bytes, final int offset, final int length) throws IndexOutOfBoundsException {
+        super();
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        this.bytes = bytes;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * Returns the array containing the document, for parsers reading it directly instead of through
+     * {@link #charAt(long)}.
+     *
+     * @return array of the <code>UTF-8</code> encoded bytes, which must not be modified
+     * @see #getArrayOffset()
+     */
+    public byte[] getArray() {
+        return this.bytes;
+    }
+
+    /**
+     * Returns the index of the first byte of the document in {@link #getArray()}.
+     *
+     * @return offset of the document
+     */
+    public int getArrayOffset() {
+        return this.offset;
+    }
+
+    @Override
+    public long length() {
+        return this.length;
+    }
+
+    @Override
+    public char charAt(final long index) throws IndexOutOfBoundsException {
+        Objects.checkIndex(index, this.length);
+        return (char) (this.bytes[this.offset + (int) index] & 0xFF);
+    }
+
+    @Override
+    public void getChars(final long beginIndex,
+                         final long endIndex,
+                         final char[] destination,
+                         final int destinationOffset)
+            throws IndexOutOfBoundsException {
+        Objects.checkFromToIndex(beginIndex, endIndex, this.length);
+        final int length = (int) (endIndex - beginIndex);
+        Objects.checkFromIndexSize(destinationOffset, length, destination.length);
+        final int from = this.offset + (int) beginIndex;
+        for (int i = 0; i < length; i++) {
+            destination[destinationOffset + i] = (char) (this.bytes[from + i] & 0xFF);
+        }
+    }
+
+    @Override
+    public long skipWhitespace(final long index) {
+        if (index >= this.length) {
+            return index;
+        }
+        return JsonScanner.getInstance().skipWhitespace(
+                this.bytes,
+                this.offset + (int) index,
+                this.offset + this.length
+        ) - this.offset;
+    }
+
+    @Override
+    public long skipStringCharacters(final long index) {
+        if (index >= this.length) {
+            return index;
+        }
+        return JsonScanner.getInstance().skipStringCharacters(
+                this.bytes,
+                this.offset + (int) index,
+                this.offset + this.length
+        ) - this.offset;
+    }
+
+    @Override
+    public JsonInput slice(final long beginIndex, final long endIndex) throws IndexOutOfBoundsException {
+        Objects.checkFromToIndex(beginIndex, endIndex, this.length);
+        return new Utf8JsonInput(this.bytes, this.offset + (int) beginIndex, (int) (endIndex - beginIndex));
+    }
+
+    @Override
+    public boolean startsWith(final String prefix, final long index) {
+        if (index < 0 || index > this.length - prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if ((this.bytes[this.offset + (int) index + i] & 0xFF) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Decodes the bytes between the given indices.
+     *
+     * @param beginIndex index of the first byte, inclusive
+     * @param endIndex   index of the last byte, exclusive
+     * @return decoded bytes between the given indices
+     * @throws IndexOutOfBoundsException  if the indices are outside of the document or in wrong order
+     * @throws JsonInputEncodingException if the bytes are not valid <code>UTF-8</code>
+     * @see #decode(byte[], int, int, long)
+     */
+    @Override
+    public String substring(final long beginIndex, final long endIndex)
+            throws IndexOutOfBoundsException, JsonInputEncodingException {
+        Objects.checkFromToIndex(beginIndex, endIndex, this.length);
+        if (beginIndex == endIndex) {
+            return "";
+        }
+        return decode(this.bytes, this.offset + (int) beginIndex, this.offset + (int) endIndex, beginIndex);
+    }
+
+    @Override
+    public void checkEncoding(final long beginIndex, final long endIndex)
+            throws IndexOutOfBoundsException, JsonInputEncodingException {
+        Objects.checkFromToIndex(beginIndex, endIndex, this.length);
+        if (!isValidUtf8(this.bytes, this.offset + (int) beginIndex, this.offset + (int) endIndex)) {
+            throw new JsonInputEncodingException("The bytes at index " + beginIndex + " are not valid UTF-8.");
+        }
+    }
+
+    /**
+     * Decodes the given <code>UTF-8</code> encoded bytes.
+     * Decoding is left to the vectorized decoder of {@link String}, which replaces malformed input with
+     * {@code U+FFFD}. Only if the decoded part contains that character, which pure <code>ASCII</code> and
+     * <code>Latin-1</code> parts cannot, the bytes are validated as well.
+     *
+     * @param bytes array containing the bytes to decode
+     * @param from  index of the first byte to decode, inclusive
+     * @param to    index of the last byte to decode, exclusive
+     * @param index index of the first byte in the document, only used for the error message
+     * @return decoded bytes
+     * @throws JsonInputEncodingException if the bytes are not valid <code>UTF-8</code>
+     */
+    static String decode(final byte[] bytes, final int from, final int to, final long index)
+            throws JsonInputEncodingException {
+        final String value = new String(bytes, from, to - from, StandardCharsets.UTF_8);
+        if (value.indexOf(REPLACEMENT_CHARACTER) >= 0 && !isValidUtf8(bytes, from, to)) {
+            throw new JsonInputEncodingException("The bytes at index " + index + " are not valid UTF-8.");
+        }
+        return value;
+    }
+
+    /**
+     * Checks the given bytes for well-formed <code>UTF-8</code>,
+     * rejecting overlong encodings, surrogates and code points above {@code U+10FFFF}.
+     *
+     * @param bytes array containing the bytes to check
+     * @param from  index of the first byte to check, inclusive
+     * @param to    index of the last byte to check, exclusive
+     * @return {@code true} if the bytes are well-formed <code>UTF-8</code>, {@code false} otherwise
+     */
+    private static boolean isValidUtf8(final byte[] bytes, final int from, final int to) {
+        int i = from;
+        while (i < to) {
+            final int b = bytes[i] & 0xFF;
+            if (b < 0x80) {
+                i++;
+                continue;
+            }
+            final int continuationBytes;
+            if (b >= 0xC2 && b <= 0xDF) {
+                continuationBytes = 1;
+            } else if (b >= 0xE0 && b <= 0xEF) {
+                continuationBytes = 2;
+            } else if (b >= 0xF0 && b <= 0xF4) {
+                continuationBytes = 3;
+            } else {
+                return false;
+            }
+            if (to - i <= continuationBytes) {
+                return false;
+            }
+            final int second = bytes[i + 1] & 0xFF;
+            if ((b == 0xE0 && second < 0xA0)
+                    || (b == 0xED && second > 0x9F)
+                    || (b == 0xF0 && second < 0x90)
+                    || (b == 0xF4 && second > 0x8F)) {
+                return false;
+            }
+            for (int j = 1; j <= continuationBytes; j++) {
+                if ((bytes[i + j] & 0xC0) != 0x80) {
+                    return false;
+                }
+            }
+            i += continuationBytes + 1;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,116 @@
+package org.parstastic.jparstastic_json.parser.input;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * This class is the {@link JsonScanner} using the incubating Vector API, which compares a whole vector of characters
+ * with every searched character and finds the first match in the combined mask.
+ * Characters are compared as 16-bit lanes, bytes as 8-bit lanes, using the preferred vector size of the CPU.
+ * It may only be loaded if the module {@code jdk.incubator.vector} is enabled, see {@link JsonScanner#getInstance()}.
+ * <p>
+ * Most runs of whitespace are empty or a single space, so the first character is always checked before loading a vector.
+ */
+final class VectorJsonScanner extends JsonScanner {
+    private static final VectorSpecies<Short> CHARS = ShortVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Byte> BYTES = ByteVector.SPECIES_PREFERRED;
+    /**
+     * Bit distinguishing {@code [ ]} from <code>{ }</code>, which are matched together after setting it
+     */
+    private static final int BRACKET_TO_BRACE = 0x20;
+
+    private final ScalarJsonScanner scalarScanner = new ScalarJsonScanner();
+
+    VectorJsonScanner() {
+        super();
+    }
+
+    @Override
+    public boolean isVectorized() {
+        return true;
+    }
+
+    @Override
+    public int skipWhitespace(final char[] chars, final int from, final int to) {
+        if (from >= to || !isWhitespace(chars[from])) {
+            return from;
+        }
+        int i = from + 1;
+        for (final int bound = to - CHARS.length(); i <= bound; i += CHARS.length()) {
+            final ShortVector vector = ShortVector.fromCharArray(CHARS, chars, i);
+            final VectorMask<Short> whitespace = vector.eq((short) ' ')
+                    .or(vector.eq((short) '\n'))
+                    .or(vector.eq((short) '\r'))
+                    .or(vector.eq((short) '\t'));
+            if (!whitespace.allTrue()) {
+                return i + whitespace.not().firstTrue();
+            }
+        }
+        return this.scalarScanner.skipWhitespace(chars, i, to);
+    }
+
+    @Override
+    public int skipWhitespace(final byte[] bytes, final int from, final int to) {
+        if (from >= to || !isWhitespace(bytes[from])) {
+            return from;
+        }
+        int i = from + 1;
+        for (final int bound = to - BYTES.length(); i <= bound; i += BYTES.length()) {
+            final ByteVector vector = ByteVector.fromArray(BYTES, bytes, i);
+            final VectorMask<Byte> whitespace = vector.eq((byte) ' ')
+                    .or(vector.eq((byte) '\n'))
+                    .or(vector.eq((byte) '\r'))
+                    .or(vector.eq((byte) '\t'));
+            if (!whitespace.allTrue()) {
+                return i + whitespace.not().firstTrue();
+            }
+        }
+        return this.scalarScanner.skipWhitespace(bytes, i, to);
+    }
+
+    @Override
+    public int skipStringCharacters(final char[] chars, final int from, final int to) {
+        int i = from;
+        for (final int bound = to - CHARS.length(); i <= bound; i += CHARS.length()) {
+            final ShortVector vector = ShortVector.fromCharArray(CHARS, chars, i);
+            final VectorMask<Short> delimiters = vector.eq((short) '"').or(vector.eq((short) '\\'));
+            if (delimiters.anyTrue()) {
+                return i + delimiters.firstTrue();
+            }
+        }
+        return this.scalarScanner.skipStringCharacters(chars, i, to);
+    }
+
+    @Override
+    public int skipStringCharacters(final byte[] bytes, final int from, final int to) {
+        int i = from;
+        for (final int bound = to - BYTES.length(); i <= bound; i += BYTES.length()) {
+            final ByteVector vector = ByteVector.fromArray(BYTES, bytes, i);
+            final VectorMask<Byte> delimiters = vector.eq((byte) '"').or(vector.eq((byte) '\\'));
+            if (delimiters.anyTrue()) {
+                return i + delimiters.firstTrue();
+            }
+        }
+        return this.scalarScanner.skipStringCharacters(bytes, i, to);
+    }
+
+    @Override
+    public int findStructural(final char[] chars, final int from, final int to) {
+        int i = from;
+        for (final int bound = to - CHARS.length(); i <= bound; i += CHARS.length()) {
+            final ShortVector vector = ShortVector.fromCharArray(CHARS, chars, i);
+            final ShortVector braces = vector.or((short) BRACKET_TO_BRACE);
+            final VectorMask<Short> structurals = braces.eq((short) '{')
+                    .or(braces.eq((short) '}'))
+                    .or(vector.eq((short) ':'))
+                    .or(vector.eq((short) ','))
+                    .or(vector.eq((short) '"'));
+            if (structurals.anyTrue()) {
+                return i + structurals.firstTrue();
+            }
+        }
+        return this.scalarScanner.findStructural(chars, i, to);
+    }
+}
@@ -0,0 +1,51 @@
+package org.parstastic.jparstastic_json.parser.lazy;
+
+import org.parstastic.jparstastic_json.node.JsonValue;
+import org.parstastic.jparstastic_json.node.StringifyOptions;
+import org.parstastic.jparstastic_json.node.nodes.ArrayNode;
+
+import java.util.List;
+
+/**
+ * This class is a non-empty {@link ArrayNode} which only knows where it is in the source,
+ * and parses its elements when they are first accessed.
+ * Nested containers and strings are lazy again, so accessing a single value only parses the containers on its path.
+ * <p>
+ * Stringifying with verbatim {@link StringifyOptions} copies the source without parsing anything.
+ */
+public final class LazyArrayNode extends ArrayNode {
+    private final LazyDocument document;
+    private final int container;
+    private List<JsonValue> elements;
+
+    LazyArrayNode(final LazyDocument document, final int container) {
+        super();
+        this.document = document;
+        this.container = container;
+    }
+
+    /**
+     * Checks whether the elements were already accessed.
+     *
+     * @return {@code true} if the elements were created, {@code false} otherwise
+     */
+    public boolean isMaterialized() {
+        return this.elements != null;
+    }
+
+    @Override
+    public List<JsonValue> getElements() {
+        if (this.elements == null) {
+            this.elements = List.copyOf(this.document.parseElements(this.container));
+        }
+        return this.elements;
+    }
+
+    @Override
+    public String stringify(final StringifyOptions options) {
+        if (options.isVerbatim()) {
+            return this.document.source(this.container);
+        }
+        return super.stringify(options);
+    }
+}
@@ -0,0 +1,425 @@
+package org.parstastic.jparstastic_json.parser.lazy;
+
+import org.parstastic.jparstastic_json.node.JsonParticleInstantiationException;
+import org.parstastic.jparstastic_json.node.JsonValue;
+import org.parstastic.jparstastic_json.node.Whitespace;
+import org.parstastic.jparstastic_json.node.nodes.*;
+import org.parstastic.jparstastic_json.parser.input.JsonInput;
+import org.parstastic.jparstastic_json.parser.input.JsonInputEncodingException;
+import org.parstastic.jparstastic_json.parser.parsers.nodes.NumberNodeParser;
+
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.parstastic.jparstastic_json.node.nodes.ObjectNode.ObjectNodeProperty;
+
+/**
+ * This class holds the source of a lazily parsed document together with the positions of its non-empty containers.
+ * <p>
+ * {@link #index(JsonInput, long, int)} validates the whole document in one pass without creating any node and
+ * records every non-empty container in document order: the positions of its delimiters and the number of the
+ * first container following it, so the containers nested in a container are skipped at once.
+ * Lazy nodes later parse only the direct children of their container out of the source.
+ */
+final class LazyDocument {
+    /**
+     * This exception signals that the document is invalid. It is thrown without stack trace.
+     */
+    static final class InvalidDocumentException extends Exception {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private InvalidDocumentException() {
+            super(null, null, false, false);
+        }
+    }
+
+    private static final InvalidDocumentException INVALID = new InvalidDocumentException();
+
+    private final JsonInput input;
+    /**
+     * Index of the start delimiter of every recorded container
+     */
+    private long[] starts = new long[16];
+    /**
+     * Index of the end delimiter of every recorded container
+     */
+    private long[] ends = new long[16];
+    /**
+     * Number of the first container following every recorded container, skipping the containers nested in it
+     */
+    private int[] skips = new int[16];
+    private int count = 0;
+
+    private LazyDocument(final JsonInput input) {
+        super();
+        this.input = input;
+    }
+
+    /**
+     * Validates the document starting at the given index and records its containers.
+     * Exactly the documents accepted by {@link org.parstastic.jparstastic_json.parser.FastJsonParser} are valid.
+     *
+     * @param input    <code>JSON</code> input of known length
+     * @param begin    index of the leading whitespace of the document
+     * @param maxDepth maximum number of nested containers
+     * @return {@link LazyDocument} of the input
+     * @throws InvalidDocumentException if the document is invalid or nested too deep
+     */
+    static LazyDocument index(final JsonInput input, final long begin, final int maxDepth)
+            throws InvalidDocumentException {
+        final LazyDocument document = new LazyDocument(input);
+        try {
+            document.validate(begin, maxDepth);
+        } catch (final JsonInputEncodingException e) {
+            throw INVALID;
+        }
+        return document;
+    }
+
+    /**
+     * Returns the source of the given container, from its start delimiter to its end delimiter.
+     *
+     * @param container number of the container
+     * @return source of the container
+     */
+    String source(final int container) {
+        return this.input.substring(this.starts[container], this.ends[container] + 1);
+    }
+
+    private void validate(final long begin, final int maxDepth) throws InvalidDocumentException {
+        final long length = this.input.length();
+        int[] open = new int[16];
+        int depth = 0;
+        long i = this.input.skipWhitespace(begin);
+        while (true) {
+            if (i >= length) {
+                throw INVALID;
+            }
+            final char c = this.input.charAt(i);
+            if (c == ObjectNode.DELIMITER_START || c == ArrayNode.DELIMITER_START) {
+                if (depth == maxDepth) {
+                    throw INVALID;
+                }
+                final long first = this.input.skipWhitespace(i + 1);
+                if (first < length && this.input.charAt(first) == endDelimiter(c)) {
+                    i = first + 1;
+                } else {
+                    if (depth == open.length) {
+                        open = Arrays.copyOf(open, 2 * depth);
+                    }
+                    open[depth++] = record(i);
+                    i = c == ObjectNode.DELIMITER_START ? skipKey(first) : first;
+                    continue;
+                }
+            } else {
+                i = skipScalar(i);
+            }
+
+            i = this.input.skipWhitespace(i);
+            while (true) {
+                if (depth == 0) {
+                    if (i != length) {
+                        throw INVALID;
+                    }
+                    return;
+                }
+                final int container = open[depth - 1];
+                final char start = this.input.charAt(this.starts[container]);
+                if (i < length && this.input.charAt(i) == ObjectNode.DELIMITER_ELEMENTS) {
+                    i = this.input.skipWhitespace(i + 1);
+                    if (start == ObjectNode.DELIMITER_START) {
+                        i = skipKey(i);
+                    }
+                    break;
+                }
+                if (i >= length || this.input.charAt(i) != endDelimiter(start)) {
+                    throw INVALID;
+                }
+                this.ends[container] = i;
+                this.skips[container] = this.count;
+                depth--;
+                i = this.input.skipWhitespace(i + 1);
+            }
+        }
+    }
+
+    private int record(final long start) {
+        if (this.count == this.starts.length) {
+            this.starts = Arrays.copyOf(this.starts, 2 * this.count);
+            this.ends = Arrays.copyOf(this.ends, 2 * this.count);
+            this.skips = Arrays.copyOf(this.skips, 2 * this.count);
+        }
+        this.starts[this.count] = start;
+        return this.count++;
+    }
+
+    private static char endDelimiter(final char startDelimiter) {
+        return startDelimiter == ObjectNode.DELIMITER_START ? ObjectNode.DELIMITER_END : ArrayNode.DELIMITER_END;
+    }
+
+    /**
+     * Skips the key of a property up to the leading whitespace of its value.
+     *
+     * @param index index of the key
+     * @return index of the value
+     * @throws InvalidDocumentException if the key is invalid
+     */
+    private long skipKey(final long index) throws InvalidDocumentException {
+        if (!isAt(index, StringNode.DELIMITER)) {
+            throw INVALID;
+        }
+        final long delimiter = this.input.skipWhitespace(skipString(index));
+        if (!isAt(delimiter, ObjectNodeProperty.KEY_VALUE_DELIMITER)) {
+            throw INVALID;
+        }
+        return this.input.skipWhitespace(delimiter + 1);
+    }
+
+    private long skipScalar(final long index) throws InvalidDocumentException {
+        return switch (this.input.charAt(index)) {
+            case StringNode.DELIMITER -> skipString(index);
+            case 't' -> skipLiteral(index, BooleanNode.BooleanValue.TRUE.toString());
+            case 'f' -> skipLiteral(index, BooleanNode.BooleanValue.FALSE.toString());
+            case 'n' -> skipLiteral(index, NullNode.STRING_VALUE);
+            default -> skipNumber(index);
+        };
+    }
+
+    private long skipLiteral(final long index, final String literal) throws InvalidDocumentException {
+        if (!this.input.startsWith(literal, index)) {
+            throw INVALID;
+        }
+        return index + literal.length();
+    }
+
+    /**
+     * Skips a string, validating its escape sequences and encoding.
+     *
+     * @param index index of the opening quote
+     * @return index after the closing quote
+     * @throws InvalidDocumentException if the string is invalid
+     */
+    private long skipString(final long index) throws InvalidDocumentException {
+        long i = index + 1;
+        while (true) {
+            i = this.input.skipStringCharacters(i);
+            if (!this.input.hasCharAt(i)) {
+                throw INVALID;
+            }
+            if (this.input.charAt(i) == StringNode.DELIMITER) {
+                break;
+            }
+            i++;
+            if (!this.input.hasCharAt(i)) {
+                throw INVALID;
+            }
+            switch (this.input.charAt(i)) {
+                case '"', '\\', '/', 'b', 'f', 'n', 'r', 't' -> i++;
+                case 'u' -> {
+                    for (int j = 1; j <= 4; j++) {
+                        if (!this.input.hasCharAt(i + j) || Character.digit(this.input.charAt(i + j), 16) < 0) {
+                            throw INVALID;
+                        }
+                    }
+                    i += 5;
+                }
+                default -> throw INVALID;
+            }
+        }
+        this.input.checkEncoding(index + 1, i);
+        return i + 1;
+    }
+
+    private long skipNumber(final long index) throws InvalidDocumentException {
+        long i = index;
+        if (isAt(i, NumberNode.NEGATIVE_NUMBER_PREFIX)) {
+            i++;
+        }
+        if (isAt(i, '0')) {
+            i++;
+        } else if (this.input.hasCharAt(i) && this.input.charAt(i) >= '1' && this.input.charAt(i) <= '9') {
+            i = skipDigits(i);
+        } else {
+            throw INVALID;
+        }
+        if (isAt(i, NumberNode.DECIMAL_DELIMITER)) {
+            i = parseDigits(i + 1);
+        }
+        if (isAt(i, NumberNode.EXPONENT_SYMBOL) || isAt(i, NumberNode.EXPONENT_SYMBOL_CAPITALIZED)) {
+            i++;
+            if (isAt(i, '-') || isAt(i, '+')) {
+                i++;
+            }
+            i = parseDigits(i);
+        }
+        return i;
+    }
+
+    private long parseDigits(final long index) throws InvalidDocumentException {
+        if (!isDigitAt(index)) {
+            throw INVALID;
+        }
+        return skipDigits(index);
+    }
+
+    private long skipDigits(final long index) {
+        long i = index;
+        while (isDigitAt(i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private boolean isDigitAt(final long index) {
+        return this.input.hasCharAt(index) && this.input.charAt(index) >= '0' && this.input.charAt(index) <= '9';
+    }
+
+    private boolean isAt(final long index, final char c) {
+        return this.input.hasCharAt(index) && this.input.charAt(index) == c;
+    }
+
+    /**
+     * Creates the top-level {@link JsonValue} of the document.
+     *
+     * @param begin index of the leading whitespace of the document
+     * @return created {@link JsonValue}
+     */
+    JsonValue createValue(final long begin) {
+        return new ChildReader(begin, 0).readValue();
+    }
+
+    /**
+     * Parses the elements of the given array.
+     *
+     * @param container number of the array
+     * @return created elements
+     */
+    List<JsonValue> parseElements(final int container) {
+        final ChildReader reader = new ChildReader(this.starts[container] + 1, container + 1);
+        final List<JsonValue> elements = new ArrayList<>();
+        do {
+            elements.add(reader.readValue());
+        } while (reader.readDelimiter() != ArrayNode.DELIMITER_END);
+        return elements;
+    }
+
+    /**
+     * Parses the properties of the given object.
+     *
+     * @param container number of the object
+     * @return created properties
+     */
+    List<ObjectNodeProperty> parseProperties(final int container) {
+        final ChildReader reader = new ChildReader(this.starts[container] + 1, container + 1);
+        final List<ObjectNodeProperty> properties = new ArrayList<>();
+        try {
+            do {
+                final Whitespace leadingWhitespace = reader.readWhitespace();
+                final StringNode key = (StringNode) reader.readNode();
+                final Whitespace trailingWhitespace = reader.readWhitespace();
+                reader.readDelimiter();
+                properties.add(new ObjectNodeProperty(leadingWhitespace, key, trailingWhitespace, reader.readValue()));
+            } while (reader.readDelimiter() != ObjectNode.DELIMITER_END);
+        } catch (final JsonParticleInstantiationException e) {
+            throw new IllegalStateException(e);
+        }
+        return properties;
+    }
+
+    /**
+     * This class creates the direct children of a container from the already validated source,
+     * replacing nested non-empty containers by lazy nodes.
+     */
+    private final class ChildReader {
+        private long index;
+        /**
+         * Number of the next container to be read
+         */
+        private int container;
+
+        private ChildReader(final long index, final int container) {
+            super();
+            this.index = index;
+            this.container = container;
+        }
+
+        private JsonValue readValue() {
+            try {
+                return new JsonValue(readWhitespace(), readNode(), readWhitespace());
+            } catch (final JsonParticleInstantiationException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private Whitespace readWhitespace() {
+            final long start = this.index;
+            this.index = input.skipWhitespace(start);
+            if (this.index == start) {
+                return Whitespace.EMPTY;
+            }
+            try {
+                return Whitespace.of(input.substring(start, this.index));
+            } catch (final JsonParticleInstantiationException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private char readDelimiter() {
+            return input.charAt(this.index++);
+        }
+
+        private long findStringEnd(final long index) {
+            long i = input.skipStringCharacters(index);
+            while (input.charAt(i) != StringNode.DELIMITER) {
+                i = input.skipStringCharacters(i + 2);
+            }
+            return i;
+        }
+
+        private JsonNode readNode() {
+            final long start = this.index;
+            try {
+                switch (input.charAt(start)) {
+                    case ObjectNode.DELIMITER_START, ArrayNode.DELIMITER_START -> {
+                        final boolean isObject = input.charAt(start) == ObjectNode.DELIMITER_START;
+                        if (this.container < count && starts[this.container] == start) {
+                            final int node = this.container;
+                            this.index = ends[node] + 1;
+                            this.container = skips[node];
+                            return isObject ? new LazyObjectNode(LazyDocument.this, node) : new LazyArrayNode(LazyDocument.this, node);
+                        }
+                        this.index++;
+                        final Whitespace whitespace = readWhitespace();
+                        this.index++;
+                        return isObject ? new ObjectNode(whitespace) : new ArrayNode(whitespace);
+                    }
+                    case StringNode.DELIMITER -> {
+                        this.index = findStringEnd(start + 1) + 1;
+                        return new LazyStringNode(input, start + 1, this.index - 1);
+                    }
+                    case 't' -> {
+                        this.index += BooleanNode.BooleanValue.TRUE.toString().length();
+                        return BooleanNode.TRUE;
+                    }
+                    case 'f' -> {
+                        this.index += BooleanNode.BooleanValue.FALSE.toString().length();
+                        return BooleanNode.FALSE;
+                    }
+                    case 'n' -> {
+                        this.index += NullNode.STRING_VALUE.length();
+                        return NullNode.NULL_NODE;
+                    }
+                    default -> {
+                        this.index = skipNumber(start);
+                        return NumberNodeParser.createNumberNode(input.substring(start, this.index));
+                    }
+                }
+            } catch (final InvalidDocumentException | JsonParticleInstantiationException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package org.parstastic.jparstastic_json.parser.lazy;
+
+import org.parstastic.jparstastic_json.node.JsonValue;
+import org.parstastic.jparstastic_json.parser.FastJsonParser;
+import org.parstastic.jparstastic_json.parser.JsonParsingProcess;
+import org.parstastic.jparstastic_json.parser.input.JsonInput;
+import org.parstastic.jparstastic_json.parser.parsers.JsonParticleParser;
+
+/**
+ * This class parses <code>JSON</code> documents into {@link JsonValue} trees whose containers and strings are
+ * created lazily. Objects, arrays and strings are {@link LazyObjectNode}s, {@link LazyArrayNode}s and
+ * {@link LazyStringNode}s which only parse their children or copy their text when first accessed,
+ * so reading a few values of a large document only creates the nodes on their paths.
+ * <p>
+ * The whole document is still validated up front, in a single pass which creates no node,
+ * so errors are reported by the parse like for any other parser. Invalid documents are parsed again by a
+ * {@link FastJsonParser}, so errors are exactly the same as its errors.
+ * Lazy nodes keep the {@link JsonInput} and read it again later, so inputs of unknown length, which are
+ * streamed, are parsed eagerly by a {@link FastJsonParser}. Other inputs must not change while nodes are in use.
+ * <p>
+ * With {@link org.parstastic.jparstastic_json.node.StringifyOptions#isVerbatim() verbatim} options, lazy containers
+ * stringify by copying their text from the document, so the numbers in them keep their spelling, like {@code -0}
+ * or {@code 0.10}, which the trees created by {@link FastJsonParser} stringify as {@code 0} and {@code 0.1}.
+ * With all other options, the created trees stringify to the same <code>JSON</code> {@link String}s as those trees.
+ * Like the {@link JsonInput} they read, lazy nodes must not be accessed by multiple threads at once.
+ */
+public class LazyJsonParser extends JsonParticleParser<JsonValue> {
+    private final int maxDepth;
+    private final FastJsonParser eagerParser;
+
+    /**
+     * Creates a {@link LazyJsonParser} allowing up to {@link FastJsonParser#DEFAULT_MAX_DEPTH} nested containers.
+     */
+    public LazyJsonParser() {
+        this(FastJsonParser.DEFAULT_MAX_DEPTH);
+    }
+
+    /**
+     * Creates a {@link LazyJsonParser} allowing up to the given number of nested containers.
+     *
+     * @param maxDepth maximum number of nested containers
+     * @throws IllegalArgumentException if {@code maxDepth} is negative
+     */
+    public LazyJsonParser(final int maxDepth) throws IllegalArgumentException {
+        super();
+        this.eagerParser = new FastJsonParser(maxDepth);
+        this.maxDepth = maxDepth;
+    }
+
+    @Override
+    public boolean canParse(final JsonParsingProcess parsingProcess) {
+        return true;
+    }
+
+    @Override
+    public JsonValue tryParse(final JsonParsingProcess parsingProcess) {
+        final JsonInput input = parsingProcess.getInput();
+        if (!input.hasKnownLength()) {
+            return this.eagerParser.tryParse(parsingProcess);
+        }
+        final LazyDocument document;
+        try {
+            document = LazyDocument.index(input, parsingProcess.getIndex(), this.maxDepth);
+        } catch (final LazyDocument.InvalidDocumentException e) {
+            if (this.eagerParser.tryParse(parsingProcess) != null) {
+                throw new IllegalStateException("The document was rejected, but is valid.");
+            }
+            return null;
+        }
+        final JsonValue value = document.createValue(parsingProcess.getIndex());
+        parsingProcess.incrementIndex(input.length() - parsingProcess.getIndex());
+        return value;
+    }
+}
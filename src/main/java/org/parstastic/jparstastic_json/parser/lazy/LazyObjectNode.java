@@ -0,0 +1,52 @@
+package org.parstastic.jparstastic_json.parser.lazy;
+
+import org.parstastic.jparstastic_json.node.StringifyOptions;
+import org.parstastic.jparstastic_json.node.nodes.ObjectNode;
+
+import java.util.List;
+
+import static org.parstastic.jparstastic_json.node.nodes.ObjectNode.ObjectNodeProperty;
+
+/**
+ * This class is a non-empty {@link ObjectNode} which only knows where it is in the source,
+ * and parses its properties when they are first accessed.
+ * Nested containers and strings are lazy again, so accessing a single value only parses the containers on its path.
+ * <p>
+ * Stringifying with verbatim {@link StringifyOptions} copies the source without parsing anything.
+ */
+public final class LazyObjectNode extends ObjectNode {
+    private final LazyDocument document;
+    private final int container;
+    private List<ObjectNodeProperty> elements;
+
+    LazyObjectNode(final LazyDocument document, final int container) {
+        super();
+        this.document = document;
+        this.container = container;
+    }
+
+    /**
+     * Checks whether the properties were already accessed.
+     *
+     * @return {@code true} if the properties were created, {@code false} otherwise
+     */
+    public boolean isMaterialized() {
+        return this.elements != null;
+    }
+
+    @Override
+    public List<ObjectNodeProperty> getElements() {
+        if (this.elements == null) {
+            this.elements = List.copyOf(this.document.parseProperties(this.container));
+        }
+        return this.elements;
+    }
+
+    @Override
+    public String stringify(final StringifyOptions options) {
+        if (options.isVerbatim()) {
+            return this.document.source(this.container);
+        }
+        return super.stringify(options);
+    }
+}
@@ -0,0 +1,39 @@
+package org.parstastic.jparstastic_json.parser.lazy;
+
+import org.parstastic.jparstastic_json.node.nodes.StringNode;
+import org.parstastic.jparstastic_json.parser.input.JsonInput;
+
+/**
+ * This class is a {@link StringNode} which only knows where its text is in the source,
+ * and copies or decodes the text when it is first accessed.
+ */
+public final class LazyStringNode extends StringNode {
+    private final JsonInput input;
+    private final long beginIndex;
+    private final long endIndex;
+    private String value;
+
+    LazyStringNode(final JsonInput input, final long beginIndex, final long endIndex) {
+        super();
+        this.input = input;
+        this.beginIndex = beginIndex;
+        this.endIndex = endIndex;
+    }
+
+    /**
+     * Checks whether the text value was already accessed.
+     *
+     * @return {@code true} if the text value was created, {@code false} otherwise
+     */
+    public boolean isMaterialized() {
+        return this.value != null;
+    }
+
+    @Override
+    public String getValue() {
+        if (this.value == null) {
+            this.value = this.input.substring(this.beginIndex, this.endIndex);
+        }
+        return this.value;
+    }
+}
@@ -1,15 +1,19 @@
 package org.parstastic.jparstastic_json.parser.parsers;
 
 import org.parstastic.jparstastic_json.node.JsonParticle;
-import org.parstastic.jparstastic_json.node.JsonParticleInstantiationException;
+import org.parstastic.jparstastic_json.parser.JsonParsingErrorCode;
+import org.parstastic.jparstastic_json.parser.JsonParsingPlan;
 import org.parstastic.jparstastic_json.parser.JsonParsingProcess;
 import org.parstastic.jparstastic_json.parser.JsonParsingResult;
-import org.parstastic.jparstastic_json.parser.steps.JsonParsingStep;
-
-import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import org.parstastic.jparstastic_json.parser.input.JsonInput;
+import org.parstastic.jparstastic_json.parser.input.JsonInputEncodingException;
 
+/**
+ * This class is the base of all parsers.
+ * Parsers are stateless, they execute a shared {@link JsonParsingPlan} with a fresh context on every parse.
+ *
+ * @param <J> type of the parsed {@link JsonParticle}
+ */
 public abstract class JsonParticleParser<J extends JsonParticle> {
     protected JsonParticleParser() {
         super();
@@ -19,33 +23,52 @@ public abstract class JsonParticleParser<J extends JsonParticle> {
         return canParse(new JsonParsingProcess(json));
     }
 
+    /**
+     * Checks whether this parser can parse at the current position of the given {@link JsonParsingProcess}.
+     * The {@link JsonParsingProcess} is not changed.
+     *
+     * @param parsingProcess {@link JsonParsingProcess} to check
+     * @return {@code true} if this parser can parse at the current position, {@code false} otherwise
+     */
     public abstract boolean canParse(final JsonParsingProcess parsingProcess);
 
     public final JsonParsingResult<J> parse(final String json) {
         return parse(new JsonParsingProcess(json));
     }
 
-    public JsonParsingResult<J> parse(final JsonParsingProcess parsingProcess) {
-        final JsonParsingStep step = getStep();
-        final Optional<JsonParsingResult.JsonParsingResultError> result = step.execute(parsingProcess);
-        if (result.isEmpty()) {
-            try {
-                return JsonParsingResult.value(create());
-            } catch (final JsonParticleInstantiationException e) {
-                return JsonParsingResult.error("An exception occurred during instantiation.", parsingProcess);
-            }
+    public final JsonParsingResult<J> parse(final JsonInput input) {
+        return parse(new JsonParsingProcess(input));
+    }
+
+    /**
+     * Parses a {@link JsonParticle} at the current position of the given {@link JsonParsingProcess}.
+     * Characters a streamed input cannot decode are reported as {@link JsonParsingErrorCode#INVALID_ENCODING}.
+     *
+     * @param parsingProcess {@link JsonParsingProcess} to parse from
+     * @return {@link JsonParsingResult} containing the parsed {@link JsonParticle} or the error that occurred
+     */
+    public final JsonParsingResult<J> parse(final JsonParsingProcess parsingProcess) {
+        final J value;
+        try {
+            value = tryParse(parsingProcess);
+        } catch (final JsonInputEncodingException e) {
+            parsingProcess.fail(JsonParsingErrorCode.INVALID_ENCODING);
+            return JsonParsingResult.error(parsingProcess);
+        }
+        if (value == null) {
+            return JsonParsingResult.error(parsingProcess);
         } else {
-            return JsonParsingResult.error(result.get());
+            return JsonParsingResult.value(value);
         }
     }
 
-    protected abstract JsonParsingStep getStep();
-
-    protected abstract J create() throws JsonParticleInstantiationException;
+    /**
+     * Parses a {@link JsonParticle} at the current position of the given {@link JsonParsingProcess}.
+     * On failure no result is created, the error is only recorded in the {@link JsonParsingProcess}.
+     *
+     * @param parsingProcess {@link JsonParsingProcess} to parse from
+     * @return parsed {@link JsonParticle}, {@code null} if an error was recorded in the {@link JsonParsingProcess}
+     */
+    public abstract J tryParse(final JsonParsingProcess parsingProcess);
 
-    protected String joinCharacters(final List<Character> characters) {
-        return characters.stream()
-                .map(Object::toString)
-                .collect(Collectors.joining());
-    }
 }
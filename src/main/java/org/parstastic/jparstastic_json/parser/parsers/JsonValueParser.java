@@ -1,69 +1,51 @@
 package org.parstastic.jparstastic_json.parser.parsers;
 
-import org.parstastic.jparstastic_json.node.JsonParticle;
-import org.parstastic.jparstastic_json.node.JsonParticleInstantiationException;
 import org.parstastic.jparstastic_json.node.JsonValue;
 import org.parstastic.jparstastic_json.node.Whitespace;
 import org.parstastic.jparstastic_json.node.nodes.JsonNode;
+import org.parstastic.jparstastic_json.parser.JsonParsingPlan;
 import org.parstastic.jparstastic_json.parser.JsonParsingProcess;
 import org.parstastic.jparstastic_json.parser.parsers.nodes.*;
 import org.parstastic.jparstastic_json.parser.steps.*;
 
-import java.util.AbstractMap;
 import java.util.List;
-import java.util.Map;
-import java.util.function.Consumer;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 public class JsonValueParser extends JsonParticleParser<JsonValue> {
-    private Whitespace leadingWhitespace;
-    private JsonNode jsonNode;
-    private Whitespace trailingWhitespace;
+    private static final class Context {
+        private Whitespace leadingWhitespace;
+        private JsonNode jsonNode;
+        private Whitespace trailingWhitespace;
 
-    public JsonValueParser() {
-        this(null);
+        private Context(final Whitespace leadingWhitespace) {
+            super();
+            this.leadingWhitespace = leadingWhitespace;
+        }
     }
 
-    /**
-     * Creates a new {@link JsonValueParser} with given leading {@link Whitespace}.
-     *
-     * @param leadingWhitespace leading {@link Whitespace}, may be {@code null}
-     */
-    public JsonValueParser(final Whitespace leadingWhitespace) {
-        super();
-        this.leadingWhitespace = leadingWhitespace;
-    }
-
-    @Override
-    public boolean canParse(final JsonParsingProcess parsingProcess) {
-        return new WhitespaceParser().canParse(parsingProcess);
-    }
-
-    @Override
-    protected JsonParsingStep getStep() {
-        return new BlockStep(
-                createParseStep(
-                        new WhitespaceParser(this.leadingWhitespace),
-                        w -> this.leadingWhitespace = w
-                ),
-                OrStep.elseError(
-                        createParsersMap()
-                ),
-                createParseStep(
-                        new WhitespaceParser(),
-                        w -> this.trailingWhitespace = w
-                )
-        );
-    }
+    private static final JsonParsingPlan<Context, JsonValue> PLAN = new JsonParsingPlan<>(
+            new BlockStep<>(
+                    new ParseStep<>(
+                            (Context context) -> WhitespaceParser.startingWith(context.leadingWhitespace),
+                            (context, w) -> context.leadingWhitespace = w
+                    ),
+                    OrStep.elseError(
+                            createBranches()
+                    ),
+                    new ParseStep<>(
+                            () -> new WhitespaceParser(),
+                            (context, w) -> context.trailingWhitespace = w
+                    )
+            ),
+            context -> new JsonValue(context.leadingWhitespace, context.jsonNode, context.trailingWhitespace)
+    );
 
-    private Map<JsonParsingStep, Predicate<JsonParsingProcess>> createParsersMap() {
+    private static List<OrStep.Branch<Context>> createBranches() {
         return createNodeParsers().stream()
-                .map(this::createParserEntry)
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+                .map(JsonValueParser::createBranch)
+                .toList();
     }
 
-    private List<JsonNodeParser<?>> createNodeParsers() {
+    private static List<JsonNodeParser<?>> createNodeParsers() {
         return List.of(
                 new StringNodeParser(),
                 new NumberNodeParser(),
@@ -74,26 +56,40 @@ public class JsonValueParser extends JsonParticleParser<JsonValue> {
         );
     }
 
-    private Map.Entry<JsonParsingStep, Predicate<JsonParsingProcess>> createParserEntry(final JsonNodeParser<?> parser) {
-        return new AbstractMap.SimpleEntry<>(
-                createParseStep(parser, v -> this.jsonNode = v),
-                parser::canParse
+    private static <J extends JsonNode> OrStep.Branch<Context> createBranch(final JsonNodeParser<J> parser) {
+        return new OrStep.Branch<>(
+                parser.getStartCharacters(),
+                parser.isStartCharacterSufficient() ? null : parser::canParse,
+                new ParseStep<Context, J>(
+                        () -> parser,
+                        (context, v) -> context.jsonNode = v
+                )
         );
     }
 
-    private <J extends JsonParticle> ParseStep<J> createParseStep(final JsonParticleParser<J> parser,
-                                                                  final Consumer<J> consumer) {
-        return new ParseStep<>(
-                parser,
-                v -> new ExportStep(() -> {
-                    consumer.accept(v);
-                    return true;
-                })
-        );
+    private final Whitespace leadingWhitespace;
+
+    public JsonValueParser() {
+        this(null);
+    }
+
+    /**
+     * Creates a new {@link JsonValueParser} with given leading {@link Whitespace}.
+     *
+     * @param leadingWhitespace leading {@link Whitespace}, may be {@code null}
+     */
+    public JsonValueParser(final Whitespace leadingWhitespace) {
+        super();
+        this.leadingWhitespace = leadingWhitespace;
+    }
+
+    @Override
+    public boolean canParse(final JsonParsingProcess parsingProcess) {
+        return new WhitespaceParser().canParse(parsingProcess);
     }
 
     @Override
-    protected JsonValue create() throws JsonParticleInstantiationException {
-        return new JsonValue(this.leadingWhitespace, this.jsonNode, this.trailingWhitespace);
+    public JsonValue tryParse(final JsonParsingProcess parsingProcess) {
+        return PLAN.execute(parsingProcess, new Context(this.leadingWhitespace));
     }
 }
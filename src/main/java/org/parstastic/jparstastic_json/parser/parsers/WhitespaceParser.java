@@ -2,16 +2,58 @@ package org.parstastic.jparstastic_json.parser.parsers;
 
 import org.parstastic.jparstastic_json.node.JsonParticleInstantiationException;
 import org.parstastic.jparstastic_json.node.Whitespace;
+import org.parstastic.jparstastic_json.parser.JsonParsingPlan;
 import org.parstastic.jparstastic_json.parser.JsonParsingProcess;
-import org.parstastic.jparstastic_json.parser.steps.JsonParsingStep;
-import org.parstastic.jparstastic_json.parser.steps.ParseCharacterStep;
-import org.parstastic.jparstastic_json.parser.steps.WhileLoopStep;
-
-import java.util.LinkedList;
-import java.util.List;
+import org.parstastic.jparstastic_json.parser.steps.*;
 
 public class WhitespaceParser extends JsonParticleParser<Whitespace> {
-    private final List<Character> characters;
+    private static final class Context {
+        private final Whitespace whitespace;
+        /**
+         * Index of the first parsed whitespace character
+         */
+        private long start;
+        private String value;
+
+        private Context(final Whitespace whitespace) {
+            super();
+            this.whitespace = whitespace;
+        }
+    }
+
+    private static final JsonParsingPlan<Context, Whitespace> PLAN = new JsonParsingPlan<>(
+            new BlockStep<>(
+                    new MarkStep<>((Context context, long index) -> context.start = index),
+                    new SkipStep<>(JsonParsingProcess::skipWhitespace),
+                    new SubstringStep<>(
+                            context -> context.start,
+                            (Context context, String value) -> context.value = value
+                    )
+            ),
+            WhitespaceParser::create
+    );
+
+    private static Whitespace create(final Context context) throws JsonParticleInstantiationException {
+        if (context.whitespace == null) {
+            return Whitespace.of(context.value);
+        }
+        return Whitespace.of(context.whitespace.getValue() + context.value);
+    }
+
+    private static final WhitespaceParser INSTANCE = new WhitespaceParser();
+
+    /**
+     * Returns a {@link WhitespaceParser} prepending the given initial {@link Whitespace} to the parsed one.
+     * A shared instance is returned if there is no initial {@link Whitespace}.
+     *
+     * @param whitespace initial {@link Whitespace}, may be {@code null}
+     * @return {@link WhitespaceParser} starting with {@code whitespace}
+     */
+    public static WhitespaceParser startingWith(final Whitespace whitespace) {
+        return whitespace == null ? INSTANCE : new WhitespaceParser(whitespace);
+    }
+
+    private final Whitespace whitespace;
 
     public WhitespaceParser() {
         this(null);
@@ -24,12 +66,7 @@ public class WhitespaceParser extends JsonParticleParser<Whitespace> {
      */
     public WhitespaceParser(final Whitespace whitespace) {
         super();
-        this.characters = new LinkedList<>();
-        if (whitespace != null) {
-            for (final char c : whitespace.getValue().toCharArray()) {
-                this.characters.add(c);
-            }
-        }
+        this.whitespace = whitespace;
     }
 
     @Override
@@ -38,15 +75,7 @@ public class WhitespaceParser extends JsonParticleParser<Whitespace> {
     }
 
     @Override
-    protected JsonParsingStep getStep() {
-        return new WhileLoopStep(
-                new ParseCharacterStep(this.characters::add),
-                p -> p.isCharValid(Whitespace.WhitespaceCharacter::isWhitespaceCharacter)
-        );
-    }
-
-    @Override
-    protected Whitespace create() throws JsonParticleInstantiationException {
-        return new Whitespace(joinCharacters(this.characters));
+    public Whitespace tryParse(final JsonParsingProcess parsingProcess) {
+        return PLAN.execute(parsingProcess, new Context(this.whitespace));
     }
 }
@@ -4,16 +4,24 @@ import org.parstastic.jparstastic_json.node.JsonParticleInstantiationException;
 import org.parstastic.jparstastic_json.node.JsonValue;
 import org.parstastic.jparstastic_json.node.Whitespace;
 import org.parstastic.jparstastic_json.node.nodes.ArrayNode;
+import org.parstastic.jparstastic_json.parser.JsonParsingPlan;
 import org.parstastic.jparstastic_json.parser.parsers.JsonParticleParser;
 import org.parstastic.jparstastic_json.parser.parsers.JsonValueParser;
 
 import java.util.List;
 
 public class ArrayNodeParser extends ContainerNodeParser<JsonValue, ArrayNode> {
+    private static final JsonParsingPlan<Context<JsonValue>, ArrayNode> PLAN = new ArrayNodeParser().createPlan();
+
     public ArrayNodeParser() {
         super();
     }
 
+    @Override
+    protected JsonParsingPlan<Context<JsonValue>, ArrayNode> getPlan() {
+        return PLAN;
+    }
+
     @Override
     protected char getStartDelimiter() {
         return ArrayNode.DELIMITER_START;
@@ -46,6 +54,6 @@ public class ArrayNodeParser extends ContainerNodeParser<JsonValue, ArrayNode> {
 
     @Override
     protected ArrayNode create(final List<JsonValue> elements) throws JsonParticleInstantiationException {
-        return new ArrayNode(elements);
+        return ArrayNode.of(elements);
     }
 }
@@ -2,63 +2,83 @@ package org.parstastic.jparstastic_json.parser.parsers.nodes;
 
 import org.parstastic.jparstastic_json.node.JsonParticleInstantiationException;
 import org.parstastic.jparstastic_json.node.nodes.BooleanNode;
+import org.parstastic.jparstastic_json.parser.JsonParsingPlan;
 import org.parstastic.jparstastic_json.parser.JsonParsingProcess;
 import org.parstastic.jparstastic_json.parser.steps.*;
 
-import java.util.AbstractMap;
 import java.util.Arrays;
-import java.util.Map;
-import java.util.function.Predicate;
+import java.util.List;
 import java.util.stream.Collectors;
 
 public class BooleanNodeParser extends JsonNodeParser<BooleanNode> {
-    private BooleanNode.BooleanValue value;
-
-    public BooleanNodeParser() {
-        super();
+    private static final class Context {
+        private BooleanNode.BooleanValue value;
     }
 
-    @Override
-    public boolean canParse(final JsonParsingProcess parsingProcess) {
-        return Arrays.stream(BooleanNode.BooleanValue.values())
-                .anyMatch(v -> parsingProcess.startsWith(v.toString()));
-    }
+    private static final String START_CHARACTERS = Arrays.stream(BooleanNode.BooleanValue.values())
+            .map(v -> v.toString().substring(0, 1))
+            .collect(Collectors.joining());
 
-    @Override
-    protected JsonParsingStep getStep() {
-        return OrStep.elseError(
-                createParsersMap()
-        );
-    }
+    private static final JsonParsingPlan<Context, BooleanNode> PLAN = new JsonParsingPlan<>(
+            OrStep.elseError(
+                    createBranches()
+            ),
+            BooleanNodeParser::create
+    );
 
-    private Map<JsonParsingStep, Predicate<JsonParsingProcess>> createParsersMap() {
+    private static List<OrStep.Branch<Context>> createBranches() {
         return Arrays.stream(BooleanNode.BooleanValue.values())
-                .map(this::createEntry)
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+                .map(BooleanNodeParser::createBranch)
+                .toList();
     }
 
-    private Map.Entry<JsonParsingStep, Predicate<JsonParsingProcess>> createEntry(final BooleanNode.BooleanValue b) {
+    private static OrStep.Branch<Context> createBranch(final BooleanNode.BooleanValue b) {
         final String stringValue = b.toString();
-        return new AbstractMap.SimpleEntry<>(
-                new BlockStep(
-                        new ForLoopStep(
-                                new ParseCharacterStep(c -> true),
+        return new OrStep.Branch<>(
+                stringValue.substring(0, 1),
+                p -> p.startsWith(stringValue),
+                new BlockStep<>(
+                        new ForLoopStep<>(
+                                new ParseCharacterStep<>(c -> true),
                                 stringValue.length()
                         ),
-                        new ExportStep(() -> {
-                            this.value = b;
+                        new ExportStep<>(context -> {
+                            context.value = b;
                             return true;
                         })
-                ),
-                p -> p.startsWith(stringValue)
+                )
         );
     }
 
-    @Override
-    protected BooleanNode create() throws JsonParticleInstantiationException {
+    private static BooleanNode create(final Context context) throws JsonParticleInstantiationException {
         return BooleanNode.VALUES.stream()
-                .filter(b -> b.hasValue(this.value))
+                .filter(b -> b.hasValue(context.value))
                 .findFirst()
                 .orElseThrow(() -> new JsonParticleInstantiationException("There was no matching BooleanNode found."));
     }
+
+    public BooleanNodeParser() {
+        super();
+    }
+
+    @Override
+    public String getStartCharacters() {
+        return START_CHARACTERS;
+    }
+
+    @Override
+    public boolean isStartCharacterSufficient() {
+        return false;
+    }
+
+    @Override
+    public boolean canParse(final JsonParsingProcess parsingProcess) {
+        return Arrays.stream(BooleanNode.BooleanValue.values())
+                .anyMatch(v -> parsingProcess.startsWith(v.toString()));
+    }
+
+    @Override
+    public BooleanNode tryParse(final JsonParsingProcess parsingProcess) {
+        return PLAN.execute(parsingProcess, new Context());
+    }
 }
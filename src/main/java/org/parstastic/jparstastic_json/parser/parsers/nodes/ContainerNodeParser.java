@@ -4,6 +4,7 @@ import org.parstastic.jparstastic_json.node.JsonParticle;
 import org.parstastic.jparstastic_json.node.JsonParticleInstantiationException;
 import org.parstastic.jparstastic_json.node.Whitespace;
 import org.parstastic.jparstastic_json.node.nodes.ContainerNode;
+import org.parstastic.jparstastic_json.parser.JsonParsingPlan;
 import org.parstastic.jparstastic_json.parser.JsonParsingProcess;
 import org.parstastic.jparstastic_json.parser.parsers.JsonParticleParser;
 import org.parstastic.jparstastic_json.parser.parsers.WhitespaceParser;
@@ -14,12 +15,23 @@ import java.util.List;
 import java.util.Map;
 
 public abstract class ContainerNodeParser<P extends JsonParticle, J extends ContainerNode<P>> extends JsonNodeParser<J> {
-    protected Whitespace whitespace;
-    protected final List<P> elements;
+    /**
+     * This class contains the state of parsing a single container node.
+     *
+     * @param <P> type of the elements of the container node
+     */
+    protected static final class Context<P extends JsonParticle> {
+        private Whitespace whitespace;
+        private final List<P> elements;
+
+        private Context() {
+            super();
+            this.elements = new LinkedList<>();
+        }
+    }
 
     protected ContainerNodeParser() {
         super();
-        this.elements = new LinkedList<>();
     }
 
     @Override
@@ -28,43 +40,68 @@ public abstract class ContainerNodeParser<P extends JsonParticle, J extends Cont
     }
 
     @Override
-    protected JsonParsingStep getStep() {
-        return new BlockStep(
-                new ParseCharacterStep(getStartDelimiter()),
-                createContentParser(),
-                new ParseCharacterStep(getEndDelimiter())
+    public String getStartCharacters() {
+        return String.valueOf(getStartDelimiter());
+    }
+
+    @Override
+    public J tryParse(final JsonParsingProcess parsingProcess) {
+        return getPlan().execute(parsingProcess, new Context<>());
+    }
+
+    /**
+     * Returns the {@link JsonParsingPlan} of this container node, which should be created once using {@link #createPlan()}.
+     *
+     * @return {@link JsonParsingPlan} of this container node
+     */
+    protected abstract JsonParsingPlan<Context<P>, J> getPlan();
+
+    protected final JsonParsingPlan<Context<P>, J> createPlan() {
+        return new JsonParsingPlan<>(
+                new BlockStep<>(
+                        new ParseCharacterStep<>(getStartDelimiter()),
+                        createContentParser(),
+                        new ParseCharacterStep<>(getEndDelimiter())
+                ),
+                context -> context.whitespace != null ?
+                        create(context.whitespace) :
+                        create(context.elements)
         );
     }
 
-    protected JsonParsingStep createContentParser() {
-        return new ParseStep<>(
-                new WhitespaceParser(),
-                w -> new OrStep(
+    protected JsonParsingStep<Context<P>> createContentParser() {
+        return new BlockStep<>(
+                new ParseStep<>(
+                        () -> new WhitespaceParser(),
+                        (context, w) -> context.whitespace = w
+                ),
+                OrStep.elseSuccess(
                         Map.of(
-                                createElementsParser(w),
+                                createElementsParser(),
                                 p -> !p.isAtChar(getEndDelimiter())
-                        ),
-                        new ExportStep(() -> {
-                            this.whitespace = w;
-                            return true;
-                        })
+                        )
                 )
         );
     }
 
-    protected JsonParsingStep createElementsParser(final Whitespace whitespace) {
-        return new BlockStep(
+    protected JsonParsingStep<Context<P>> createElementsParser() {
+        return new BlockStep<>(
                 new ParseStep<>(
-                        getElementParser(whitespace),
-                        element -> new ExportStep(() -> this.elements.add(element))
+                        (Context<P> context) -> getElementParser(context.whitespace),
+                        (context, element) -> {
+                            context.whitespace = null;
+                            context.elements.add(element);
+                        }
                 ),
-                new WhileLoopStep(
-                        new BlockStep(
-                                new ParseCharacterStep(c -> true),
-                                new StepCreationStep(() -> new ParseStep<>(
-                                        getElementParser(),
-                                        element -> new ExportStep(() -> this.elements.add(element))
-                                ))
+                new SkipStep<>(JsonParsingProcess::release),
+                new WhileLoopStep<>(
+                        new BlockStep<>(
+                                new ParseCharacterStep<>(c -> true),
+                                new ParseStep<>(
+                                        () -> getElementParser(),
+                                        (context, element) -> context.elements.add(element)
+                                ),
+                                new SkipStep<>(JsonParsingProcess::release)
                         ),
                         p -> p.isAtChar(getElementDelimiter())
                 )
@@ -81,12 +118,6 @@ public abstract class ContainerNodeParser<P extends JsonParticle, J extends Cont
 
     protected abstract JsonParticleParser<P> getElementParser(final Whitespace whitespace);
 
-    protected final J create() throws JsonParticleInstantiationException {
-        return this.whitespace != null ?
-                create(this.whitespace) :
-                create(this.elements);
-    }
-
     protected abstract J create(final Whitespace whitespace) throws JsonParticleInstantiationException;
 
     protected abstract J create(final List<P> elements) throws JsonParticleInstantiationException;
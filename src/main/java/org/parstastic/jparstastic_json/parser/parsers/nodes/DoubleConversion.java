@@ -0,0 +1,449 @@
+package org.parstastic.jparstastic_json.parser.parsers.nodes;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * This class converts the text of already validated <code>JSON</code> numbers into correctly rounded
+ * {@code double}s, like {@link Double#parseDouble(String)} does, but without creating any object.
+ * <p>
+ * The digits are accumulated into a {@code long} mantissa and a decimal exponent in a single pass.
+ * Mantissas of up to 53 bits with exponents of up to 22 are converted exactly by one multiplication or division
+ * (Clinger's fast path), all others by the Eisel-Lemire algorithm, which multiplies the mantissa with a 128 bit
+ * approximation of the power of ten. Only numbers with more than 19 significant digits and the very rare cases
+ * the approximation cannot decide fall back to {@link Double#parseDouble(String)}.
+ */
+public final class DoubleConversion {
+    /**
+     * Largest number of digits accumulated into the mantissa, which is unsigned and may exceed {@link Long#MAX_VALUE}
+     */
+    private static final int MAX_MANTISSA_DIGITS = 19;
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+    private static final int MAX_EXACT_POWER_OF_TEN = 22;
+    private static final double[] EXACT_POWERS_OF_TEN = createExactPowersOfTen();
+    /**
+     * Largest exponent whose powers of ten stay below {@link Double#MAX_VALUE} for every mantissa
+     */
+    private static final int LARGEST_POWER_OF_TEN = 308;
+    /**
+     * Smallest exponent whose powers of ten do not round to zero for every mantissa
+     */
+    private static final int SMALLEST_POWER_OF_TEN = -342;
+    /**
+     * Upper and lower 64 bits of the normalized 128 bit approximations of the powers of five
+     * from {@link #SMALLEST_POWER_OF_TEN} to {@link #LARGEST_POWER_OF_TEN}
+     */
+    private static final long[] POWERS_OF_FIVE = createPowersOfFive();
+    private static final int MANTISSA_BITS = 52;
+    private static final int EXPONENT_BIAS = 1023;
+    private static final int INFINITE_EXPONENT = 0x7FF;
+    private static final long INFINITY_BITS = (long) INFINITE_EXPONENT << MANTISSA_BITS;
+    /**
+     * Marker of conversions the Eisel-Lemire algorithm cannot decide, no valid result has all bits set
+     */
+    private static final long UNDECIDED = -1L;
+    /**
+     * Exponent beyond which every mantissa converts to zero or infinity, larger exponents are capped to it
+     */
+    private static final int MAX_EXPONENT = 100_000;
+    /**
+     * Largest number of significant digits {@link Double#toString(double)} writes
+     */
+    private static final int MAX_SHORTEST_DIGITS = 17;
+    /**
+     * Largest exponent whose power of five fits a {@code long}
+     */
+    private static final int MAX_LONG_POWER_OF_FIVE = 27;
+    /**
+     * Smallest significand of three digits, shorter ones are not always written as the shortest decimal
+     */
+    private static final long MIN_SHORTEST_SIGNIFICAND = 100;
+    private static final long[] LONG_POWERS_OF_FIVE = createLongPowersOfFive();
+    private static final int MIN_BINARY_EXPONENT = 1 - EXPONENT_BIAS - MANTISSA_BITS;
+
+    private DoubleConversion() {
+        super();
+    }
+
+    /**
+     * Converts the text of a <code>JSON</code> number into the nearest {@code double}.
+     *
+     * @param number validated text of the number, with optional sign, fraction and exponent
+     * @return nearest {@code double}
+     */
+    public static double toDouble(final CharSequence number) {
+        return toDouble(number, 0, number.length());
+    }
+
+    /**
+     * Converts the text of a <code>JSON</code> number inside the given range into the nearest {@code double}.
+     *
+     * @param text  text containing the validated number, with optional sign, fraction and exponent
+     * @param begin index of the first character of the number
+     * @param end   index after the last character of the number
+     * @return nearest {@code double}
+     */
+    public static double toDouble(final CharSequence text, final int begin, final int end) {
+        return toDouble(text, begin, end, 0);
+    }
+
+    /**
+     * Converts the text of a <code>JSON</code> number without exponent, multiplied by the given power of ten,
+     * into the nearest {@code double}, so the parts of a number with exponent are rounded only once.
+     *
+     * @param mantissa validated text of the number without exponent, with optional sign and fraction
+     * @param exponent power of ten to multiply the number with
+     * @return nearest {@code double}
+     */
+    public static double toDouble(final CharSequence mantissa, final long exponent) {
+        return toDouble(mantissa, 0, mantissa.length(), exponent);
+    }
+
+    private static double toDouble(final CharSequence text, final int begin, final int end, final long scale) {
+        int i = begin;
+        final boolean isNegative = text.charAt(i) == '-';
+        if (isNegative) {
+            i++;
+        }
+
+        long mantissa = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean isTruncated = false;
+        boolean isFraction = false;
+        for (; i < end; i++) {
+            final char c = text.charAt(i);
+            if (c == '.') {
+                isFraction = true;
+                continue;
+            }
+            if (c < '0' || c > '9') {
+                break;
+            }
+            if (digits < MAX_MANTISSA_DIGITS) {
+                mantissa = mantissa * 10 + (c - '0');
+                if (mantissa != 0) {
+                    digits++;
+                }
+                if (isFraction) {
+                    exponent--;
+                }
+            } else {
+                isTruncated |= c != '0';
+                if (!isFraction) {
+                    exponent++;
+                }
+            }
+        }
+
+        if (i < end) {
+            i++;
+            final boolean isExponentNegative = text.charAt(i) == '-';
+            if (isExponentNegative || text.charAt(i) == '+') {
+                i++;
+            }
+            int explicitExponent = 0;
+            for (; i < end; i++) {
+                explicitExponent = Math.min(explicitExponent * 10 + (text.charAt(i) - '0'), MAX_EXPONENT);
+            }
+            exponent += isExponentNegative ? -explicitExponent : explicitExponent;
+        }
+        exponent += Math.clamp(scale, -MAX_EXPONENT, MAX_EXPONENT);
+
+        if (isTruncated) {
+            return parseDouble(text, begin, end, scale);
+        }
+        final long bits = toBits(mantissa, exponent);
+        if (bits == UNDECIDED) {
+            return parseDouble(text, begin, end, scale);
+        }
+        final double value = Double.longBitsToDouble(bits);
+        return isNegative ? -value : value;
+    }
+
+    /**
+     * Converts the given integer multiplied by the given power of ten into the nearest {@code double},
+     * without creating any object.
+     *
+     * @param mantissa integer to multiply
+     * @param exponent power of ten to multiply the integer with
+     * @return nearest {@code double}
+     */
+    public static double toDouble(final long mantissa, final long exponent) {
+        // the absolute value of Long.MIN_VALUE stays negative, which is its correct unsigned value
+        final long bits = toBits(Math.abs(mantissa), Math.clamp(exponent, -MAX_EXPONENT, MAX_EXPONENT));
+        if (bits == UNDECIDED) {
+            return Double.parseDouble(Long.toString(mantissa) + 'e' + exponent);
+        }
+        final double value = Double.longBitsToDouble(bits);
+        return mantissa < 0 ? -value : value;
+    }
+
+    /**
+     * Checks whether the text of a <code>JSON</code> number without exponent is what {@link Double#toString(double)}
+     * writes for the {@code double} converted from it, so the {@code double} keeps all of its digits.
+     * Only decimals which no shorter decimal converts to the same {@code double} and which are nearer to it than any
+     * other decimal of as many digits are written.
+     * <p>
+     * Both are decided with {@code long} arithmetic for numbers with at most 27 fraction digits, without creating
+     * any object, all others are compared with the written text.
+     *
+     * @param number validated text of the number without exponent, with optional sign and fraction
+     * @param value  {@code double} converted from {@code number}, see {@link #toDouble(CharSequence)}
+     * @return {@code true} if {@code value} is written as {@code number}, apart from trailing zeros
+     */
+    public static boolean isShortest(final CharSequence number, final double value) {
+        if (!Double.isFinite(value)) {
+            return false;
+        }
+
+        long significand = 0;
+        int digits = 0;
+        int exponent = 0;
+        int trailingZeros = 0;
+        boolean isFraction = false;
+        for (int i = number.charAt(0) == '-' ? 1 : 0; i < number.length(); i++) {
+            final char c = number.charAt(i);
+            if (c == '.') {
+                isFraction = true;
+                continue;
+            }
+            if (isFraction) {
+                exponent--;
+            }
+            if (c == '0') {
+                trailingZeros++;
+                continue;
+            }
+            if (significand != 0) {
+                digits += trailingZeros;
+            }
+            digits++;
+            if (digits > MAX_SHORTEST_DIGITS) {
+                return false;
+            }
+            for (; trailingZeros > 0; trailingZeros--) {
+                significand *= 10;
+            }
+            significand = significand * 10 + (c - '0');
+        }
+        exponent += trailingZeros;
+        return significand == 0 ? value == 0 : isShortest(significand, exponent, Math.abs(value));
+    }
+
+    /**
+     * Checks whether {@link Double#toString(double)} writes the given {@code double} as
+     * {@code significand * 10^exponent}, which converts to it.
+     *
+     * @param significand positive significand without trailing zeros, at most 17 digits
+     * @param exponent    power of ten to multiply the significand with
+     * @param value       positive {@code double}
+     * @return {@code true} if {@code value} is written as the given decimal
+     */
+    private static boolean isShortest(final long significand, final int exponent, final double value) {
+        if (significand < MIN_SHORTEST_SIGNIFICAND) {
+            // doubles with a decimal of one digit are written with two, the nearest of them
+            return isWritten(significand, exponent, value);
+        }
+        final long shorter = significand / 10;
+        if (toDouble(shorter, exponent + 1) == value || toDouble(shorter + 1, exponent + 1) == value) {
+            return false;
+        }
+        if (exponent >= 0 || exponent < -MAX_LONG_POWER_OF_FIVE) {
+            return isWritten(significand, exponent, value);
+        }
+
+        // value / 10^exponent is mantissa * 5^-exponent * 2^(binaryExponent - exponent), compared exactly with the
+        // midpoints to the neighbouring decimals, (2 * significand -+ 1) * 2^(binaryExponent - exponent - 1)
+        final long bits = Double.doubleToRawLongBits(value);
+        final int biasedExponent = (int) (bits >>> MANTISSA_BITS);
+        final long fraction = bits & ((1L << MANTISSA_BITS) - 1);
+        final long mantissa = biasedExponent == 0 ? fraction : fraction | (1L << MANTISSA_BITS);
+        final int binaryExponent = MIN_BINARY_EXPONENT + Math.max(biasedExponent - 1, 0);
+        final long powerOfFive = LONG_POWERS_OF_FIVE[-exponent];
+        final long high = Math.unsignedMultiplyHigh(mantissa, powerOfFive);
+        final long low = mantissa * powerOfFive;
+        final int shift = exponent - binaryExponent - 1;
+        if (shift < 0) {
+            return isWritten(significand, exponent, value);
+        }
+
+        final boolean isOdd = (significand & 1) == 1;
+        final int lower = compareShifted(high, low, 2 * significand - 1, shift);
+        if ((lower < 0 || lower == 0 && isOdd) && toDouble(significand - 1, exponent) == value) {
+            return false;
+        }
+        final int upper = compareShifted(high, low, 2 * significand + 1, shift);
+        return !((upper > 0 || upper == 0 && isOdd) && toDouble(significand + 1, exponent) == value);
+    }
+
+    private static boolean isWritten(final long significand, final int exponent, final double value) {
+        return new BigDecimal(Double.toString(value)).compareTo(BigDecimal.valueOf(significand, -exponent)) == 0;
+    }
+
+    /**
+     * Compares the unsigned 128 bit integer of the given halves with {@code value * 2^shift}.
+     *
+     * @param high  upper 64 bits
+     * @param low   lower 64 bits
+     * @param value positive value to shift
+     * @param shift non-negative number of bits to shift {@code value} by
+     * @return negative, zero or positive if the integer is less than, equal to or greater than the shifted value
+     */
+    private static int compareShifted(final long high, final long low, final long value, final int shift) {
+        if (shift > Long.numberOfLeadingZeros(value) + Long.SIZE) {
+            return -1;
+        }
+        final long shiftedHigh;
+        final long shiftedLow;
+        if (shift >= Long.SIZE) {
+            shiftedHigh = value << (shift - Long.SIZE);
+            shiftedLow = 0;
+        } else {
+            shiftedHigh = shift == 0 ? 0 : value >>> (Long.SIZE - shift);
+            shiftedLow = value << shift;
+        }
+        final int comparison = Long.compareUnsigned(high, shiftedHigh);
+        return comparison != 0 ? comparison : Long.compareUnsigned(low, shiftedLow);
+    }
+
+    /**
+     * Computes the bits of the {@code double} nearest to {@code mantissa * 10^exponent},
+     * by Clinger's fast path if possible and by the Eisel-Lemire algorithm otherwise.
+     *
+     * @param mantissa unsigned decimal mantissa, at most 19 digits
+     * @param exponent decimal exponent
+     * @return bits of the positive {@code double}, or {@link #UNDECIDED}
+     */
+    private static long toBits(final long mantissa, final int exponent) {
+        if (mantissa == 0) {
+            return 0;
+        }
+        if (Long.compareUnsigned(mantissa, MAX_EXACT_MANTISSA) <= 0
+                && exponent >= -MAX_EXACT_POWER_OF_TEN
+                && exponent <= MAX_EXACT_POWER_OF_TEN) {
+            return Double.doubleToRawLongBits(exponent < 0
+                    ? mantissa / EXACT_POWERS_OF_TEN[-exponent]
+                    : mantissa * EXACT_POWERS_OF_TEN[exponent]);
+        }
+        return eiselLemire(mantissa, exponent);
+    }
+
+    private static double parseDouble(final CharSequence text, final int begin, final int end, final long scale) {
+        final String number = text.subSequence(begin, end).toString();
+        return Double.parseDouble(scale == 0 ? number : number + 'e' + scale);
+    }
+
+    /**
+     * Computes the bits of the {@code double} nearest to {@code mantissa * 10^exponent}.
+     *
+     * @param mantissa unsigned decimal mantissa, at most 19 digits
+     * @param exponent decimal exponent
+     * @return bits of the positive {@code double}, or {@link #UNDECIDED}
+     */
+    private static long eiselLemire(final long mantissa, final int exponent) {
+        if (exponent < SMALLEST_POWER_OF_TEN) {
+            return 0;
+        }
+        if (exponent > LARGEST_POWER_OF_TEN) {
+            return INFINITY_BITS;
+        }
+
+        final int leadingZeros = Long.numberOfLeadingZeros(mantissa);
+        final long normalizedMantissa = mantissa << leadingZeros;
+        final int index = 2 * (exponent - SMALLEST_POWER_OF_TEN);
+        long high = Math.unsignedMultiplyHigh(normalizedMantissa, POWERS_OF_FIVE[index]);
+        long low = normalizedMantissa * POWERS_OF_FIVE[index];
+        final long precisionMask = -1L >>> (MANTISSA_BITS + 3);
+        if ((high & precisionMask) == precisionMask) {
+            final long secondHigh = Math.unsignedMultiplyHigh(normalizedMantissa, POWERS_OF_FIVE[index + 1]);
+            low += secondHigh;
+            if (Long.compareUnsigned(secondHigh, low) > 0) {
+                high++;
+            }
+        }
+        if (low == -1L && (exponent < -27 || exponent > 55)) {
+            return UNDECIDED;
+        }
+
+        final int upperBit = (int) (high >>> 63);
+        final int shift = upperBit + 64 - MANTISSA_BITS - 3;
+        long result = high >>> shift;
+        int binaryExponent = (((152_170 + 65_536) * exponent) >> 16) + 63 + upperBit - leadingZeros + EXPONENT_BIAS;
+
+        if (binaryExponent <= 0) {
+            if (-binaryExponent + 1 >= 64) {
+                return 0;
+            }
+            result >>>= -binaryExponent + 1;
+            result += result & 1;
+            result >>>= 1;
+            binaryExponent = result < (1L << MANTISSA_BITS) ? 0 : 1;
+            return result | (long) binaryExponent << MANTISSA_BITS;
+        }
+
+        if (Long.compareUnsigned(low, 1) <= 0 && exponent >= -4 && exponent <= 23 && (result & 3) == 1
+                && result << shift == high) {
+            result &= ~1L;
+        }
+        result += result & 1;
+        result >>>= 1;
+        if (result >= (2L << MANTISSA_BITS)) {
+            result = 1L << MANTISSA_BITS;
+            binaryExponent++;
+        }
+        result &= ~(1L << MANTISSA_BITS);
+        if (binaryExponent >= INFINITE_EXPONENT) {
+            return INFINITY_BITS;
+        }
+        return result | (long) binaryExponent << MANTISSA_BITS;
+    }
+
+    private static double[] createExactPowersOfTen() {
+        final double[] powers = new double[MAX_EXACT_POWER_OF_TEN + 1];
+        powers[0] = 1;
+        for (int i = 1; i < powers.length; i++) {
+            powers[i] = powers[i - 1] * 10;
+        }
+        return powers;
+    }
+
+    private static long[] createLongPowersOfFive() {
+        final long[] powers = new long[MAX_LONG_POWER_OF_FIVE + 1];
+        powers[0] = 1;
+        for (int i = 1; i < powers.length; i++) {
+            powers[i] = powers[i - 1] * 5;
+        }
+        return powers;
+    }
+
+    /**
+     * Computes the 128 bit approximations of the powers of five used by the Eisel-Lemire algorithm.
+     * Positive powers are truncated, negative powers are reciprocals rounded up, all are shifted so that their
+     * highest bit is set.
+     *
+     * @return upper and lower 64 bits of every power
+     */
+    private static long[] createPowersOfFive() {
+        final long[] powers = new long[2 * (LARGEST_POWER_OF_TEN - SMALLEST_POWER_OF_TEN + 1)];
+        final BigInteger five = BigInteger.valueOf(5);
+        for (int exponent = SMALLEST_POWER_OF_TEN; exponent <= LARGEST_POWER_OF_TEN; exponent++) {
+            BigInteger power;
+            if (exponent < 0) {
+                final BigInteger divisor = five.pow(-exponent);
+                final int bits = divisor.bitLength();
+                final int shift = exponent >= -27 ? bits + 127 : 2 * bits + 128;
+                power = BigInteger.ONE.shiftLeft(shift).divide(divisor).add(BigInteger.ONE);
+            } else {
+                power = five.pow(exponent);
+            }
+            power = power.bitLength() > 128
+                    ? power.shiftRight(power.bitLength() - 128)
+                    : power.shiftLeft(128 - power.bitLength());
+            final int index = 2 * (exponent - SMALLEST_POWER_OF_TEN);
+            powers[index] = power.shiftRight(64).longValue();
+            powers[index + 1] = power.longValue();
+        }
+        return powers;
+    }
+}
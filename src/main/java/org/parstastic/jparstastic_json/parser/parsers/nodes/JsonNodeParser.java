@@ -7,4 +7,21 @@ public abstract class JsonNodeParser<J extends JsonNode> extends JsonParticlePar
     protected JsonNodeParser() {
         super();
     }
+
+    /**
+     * Returns all characters a node parsed by this parser may start with.
+     *
+     * @return all possible first characters
+     */
+    public abstract String getStartCharacters();
+
+    /**
+     * Checks whether starting with one of {@link #getStartCharacters()} is sufficient for this parser to be able to parse.
+     *
+     * @return {@code true} if {@link #canParse} only checks the first character,
+     *         {@code false} if it checks more
+     */
+    public boolean isStartCharacterSufficient() {
+        return true;
+    }
 }
@@ -0,0 +1,90 @@
+package org.parstastic.jparstastic_json.parser.parsers.nodes;
+
+import org.parstastic.jparstastic_json.node.JsonParticleInstantiationException;
+import org.parstastic.jparstastic_json.node.StringifyOptions;
+import org.parstastic.jparstastic_json.node.nodes.NumberNode;
+
+import java.math.BigDecimal;
+
+/**
+ * This class is a {@link NumberNode} which keeps the validated text of its number and only converts it
+ * when its value is first accessed. It is stringified to exactly that text, so numbers which are only passed
+ * through keep every digit and their formatting, like {@code 1.50} or {@code 1e0}.
+ *
+ * @see NumberNodeParser#createLazyNumberNode(String)
+ */
+public final class LazyNumberNode extends NumberNode {
+    private final String text;
+    private NumberNode value;
+
+    LazyNumberNode(final String text) {
+        super();
+        this.text = text;
+    }
+
+    /**
+     * Checks whether the text was already converted into a {@link NumberNode}.
+     *
+     * @return {@code true} if the text was converted, {@code false} otherwise
+     */
+    public boolean isMaterialized() {
+        return this.value != null;
+    }
+
+    private NumberNode getValue() {
+        if (this.value == null) {
+            try {
+                this.value = NumberNodeParser.createNumberNode(this.text);
+            } catch (final JsonParticleInstantiationException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return this.value;
+    }
+
+    @Override
+    public NumberNodeRepresentation getRepresentation() {
+        return getValue().getRepresentation();
+    }
+
+    @Override
+    public boolean hasExponent() {
+        return this.text.indexOf(EXPONENT_SYMBOL) >= 0 || this.text.indexOf(EXPONENT_SYMBOL_CAPITALIZED) >= 0;
+    }
+
+    @Override
+    public String stringify(final StringifyOptions options) {
+        return this.text;
+    }
+
+    @Override
+    public long longValue() {
+        return getValue().longValue();
+    }
+
+    /**
+     * Returns the value of the <code>JSON</code> number node including its exponent as the nearest {@code double},
+     * converted from the whole text without rounding its parts first.
+     *
+     * @return value as {@code double}
+     */
+    @Override
+    public double doubleValue() {
+        return DoubleConversion.toDouble(this.text);
+    }
+
+    /**
+     * Returns the exact value of the text of the <code>JSON</code> number node.
+     *
+     * @return value as {@link BigDecimal}
+     * @throws ArithmeticException if the exponent is beyond the range of a {@link BigDecimal}
+     */
+    @Override
+    public BigDecimal toBigDecimal() throws ArithmeticException {
+        try {
+            return new BigDecimal(this.text);
+        } catch (final NumberFormatException e) {
+            throw new ArithmeticException(e.getMessage());
+        }
+    }
+}
@@ -1,35 +1,44 @@
 package org.parstastic.jparstastic_json.parser.parsers.nodes;
 
-import org.parstastic.jparstastic_json.node.JsonParticleInstantiationException;
 import org.parstastic.jparstastic_json.node.nodes.NullNode;
+import org.parstastic.jparstastic_json.parser.JsonParsingPlan;
 import org.parstastic.jparstastic_json.parser.JsonParsingProcess;
 import org.parstastic.jparstastic_json.parser.steps.BlockStep;
-import org.parstastic.jparstastic_json.parser.steps.JsonParsingStep;
 import org.parstastic.jparstastic_json.parser.steps.ParseCharacterStep;
 
 import java.util.List;
 
 public class NullNodeParser extends JsonNodeParser<NullNode> {
+    private static final JsonParsingPlan<Void, NullNode> PLAN = new JsonParsingPlan<>(
+            new BlockStep<>(
+                    createValidation()
+            ),
+            context -> NullNode.NULL_NODE
+    );
+
+    private static List<ParseCharacterStep<Void>> createValidation() {
+        return NullNode.STRING_VALUE.chars()
+                .mapToObj(i -> new ParseCharacterStep<Void>((char) i))
+                .toList();
+    }
+
     @Override
-    public boolean canParse(final JsonParsingProcess parsingProcess) {
-        return parsingProcess.startsWith(NullNode.STRING_VALUE);
+    public String getStartCharacters() {
+        return NullNode.STRING_VALUE.substring(0, 1);
     }
 
     @Override
-    protected JsonParsingStep getStep() {
-        return new BlockStep(
-                createValidation()
-        );
+    public boolean isStartCharacterSufficient() {
+        return false;
     }
 
-    private List<ParseCharacterStep> createValidation() {
-        return NullNode.STRING_VALUE.chars()
-                .mapToObj(i -> new ParseCharacterStep((char) i))
-                .toList();
+    @Override
+    public boolean canParse(final JsonParsingProcess parsingProcess) {
+        return parsingProcess.startsWith(NullNode.STRING_VALUE);
     }
 
     @Override
-    protected NullNode create() throws JsonParticleInstantiationException {
-        return NullNode.NULL_NODE;
+    public NullNode tryParse(final JsonParsingProcess parsingProcess) {
+        return PLAN.execute(parsingProcess, null);
     }
 }
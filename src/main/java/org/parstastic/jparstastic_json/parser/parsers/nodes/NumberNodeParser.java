@@ -2,153 +2,339 @@ package org.parstastic.jparstastic_json.parser.parsers.nodes;
 
 import org.parstastic.jparstastic_json.node.JsonParticleInstantiationException;
 import org.parstastic.jparstastic_json.node.nodes.NumberNode;
+import org.parstastic.jparstastic_json.parser.JsonParsingPlan;
 import org.parstastic.jparstastic_json.parser.JsonParsingProcess;
 import org.parstastic.jparstastic_json.parser.steps.*;
 
-import java.util.AbstractMap;
-import java.util.LinkedList;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.List;
-import java.util.Map;
 import java.util.function.Predicate;
 
 public class NumberNodeParser extends JsonNodeParser<NumberNode> {
+    private static final class Context {
+        /**
+         * Index of the first character of the number
+         */
+        private long start;
+        private String value;
+        private boolean isExponentCapitalized;
+        private NumberNode.NumberNodeExponentSignSymbol exponentSign;
+        /**
+         * Index of the first digit of the exponent
+         */
+        private long exponentStart;
+        private String exponent;
+    }
+
+    /**
+     * Largest number of characters of an integer which always fits a {@code long}, including its sign
+     */
+    private static final int MAX_LONG_DIGITS = 18;
+    /**
+     * Largest number of significant digits of fractions which a {@code double} always writes with the same value,
+     * only longer fractions need to be checked
+     */
+    private static final int MAX_EXACT_DOUBLE_DIGITS = 15;
+
+    private static final String DIGIT_ZERO = "0";
+    private static final String DIGITS_ONE_TO_NINE = "123456789";
     private static final Predicate<Character> IS_DIGIT_ZERO = c -> c == '0';
     private static final Predicate<Character> IS_DIGIT_ONE_TO_NINE = c -> c >= '1' && c <= '9';
     private static final Predicate<Character> IS_DIGIT = c -> IS_DIGIT_ZERO.test(c) || IS_DIGIT_ONE_TO_NINE.test(c);
 
-    private final List<Character> value;
-    private boolean isExponentCapitalized;
-    private NumberNode.NumberNodeExponentSignSymbol exponentSign;
-    private final List<Character> exponent;
-
-    public NumberNodeParser() {
-        super();
-        this.value = new LinkedList<>();
-        this.exponent = new LinkedList<>();
-    }
-
-    @Override
-    public boolean canParse(final JsonParsingProcess parsingProcess) {
-        return parsingProcess.isCharValid(c -> c == NumberNode.NEGATIVE_NUMBER_PREFIX || IS_DIGIT.test(c));
-    }
-
-    @Override
-    protected JsonParsingStep getStep() {
-        return new BlockStep(
-                createBaseSignParser(),
-                createBaseParser(),
-                createFractionParser(),
-                createExponentParser()
-        );
-    }
+    private static final JsonParsingPlan<Context, NumberNode> PLAN = new JsonParsingPlan<>(
+            new BlockStep<>(
+                    new MarkStep<>((Context context, long index) -> context.start = index),
+                    createBaseSignParser(),
+                    createBaseParser(),
+                    createFractionParser(),
+                    new SubstringStep<>(
+                            context -> context.start,
+                            (Context context, String value) -> context.value = value
+                    ),
+                    createExponentParser()
+            ),
+            NumberNodeParser::create
+    );
 
-    private JsonParsingStep createBaseSignParser() {
+    private static JsonParsingStep<Context> createBaseSignParser() {
         return OrStep.elseSuccess(
-                Map.of(
-                        new ParseCharacterStep(this.value::add),
-                        parsingProcess -> parsingProcess.isAtChar(NumberNode.NEGATIVE_NUMBER_PREFIX)
+                List.of(
+                        new OrStep.Branch<>(
+                                String.valueOf(NumberNode.NEGATIVE_NUMBER_PREFIX),
+                                createValueCharacterParser()
+                        )
                 )
         );
     }
 
-    private JsonParsingStep createBaseParser() {
+    private static JsonParsingStep<Context> createBaseParser() {
         return OrStep.elseError(
-                Map.of(
-                        new ParseCharacterStep(this.value::add),
-                        parsingProcess -> parsingProcess.isCharValid(IS_DIGIT_ZERO),
-                        new BlockStep(
-                                new ParseCharacterStep(this.value::add),
-                                new WhileLoopStep(
-                                        new ParseCharacterStep(this.value::add),
-                                        parsingProcess -> parsingProcess.isCharValid(IS_DIGIT)
-                                )
+                List.of(
+                        new OrStep.Branch<>(
+                                DIGIT_ZERO,
+                                createValueCharacterParser()
                         ),
-                        parsingProcess -> parsingProcess.isCharValid(IS_DIGIT_ONE_TO_NINE)
+                        new OrStep.Branch<>(
+                                DIGITS_ONE_TO_NINE,
+                                new BlockStep<>(
+                                        createValueCharacterParser(),
+                                        new WhileLoopStep<>(
+                                                createValueCharacterParser(),
+                                                parsingProcess -> parsingProcess.isCharValid(IS_DIGIT)
+                                        )
+                                )
+                        )
                 )
         );
     }
 
-    private JsonParsingStep createFractionParser() {
+    private static JsonParsingStep<Context> createFractionParser() {
         return OrStep.elseSuccess(
-                Map.of(
-                        new BlockStep(
-                                new ParseCharacterStep(this.value::add),
-                                createWhileLoopWithAtLeastOneIterationParser(this.value)
-                        ),
-                        parsingProcess -> parsingProcess.isAtChar(NumberNode.DECIMAL_DELIMITER)
+                List.of(
+                        new OrStep.Branch<>(
+                                String.valueOf(NumberNode.DECIMAL_DELIMITER),
+                                new BlockStep<>(
+                                        createValueCharacterParser(),
+                                        createWhileLoopWithAtLeastOneIterationParser()
+                                )
+                        )
                 )
         );
     }
 
-    private JsonParsingStep createWhileLoopWithAtLeastOneIterationParser(final List<Character> characters) {
-        return new BlockStep(
-                new ValidateCharacterStep(IS_DIGIT),
-                new ParseCharacterStep(characters::add),
-                new WhileLoopStep(
-                        new ParseCharacterStep(characters::add),
+    private static JsonParsingStep<Context> createValueCharacterParser() {
+        return new ParseCharacterStep<>((Context context, Character c) -> true);
+    }
+
+    private static JsonParsingStep<Context> createWhileLoopWithAtLeastOneIterationParser() {
+        return new BlockStep<>(
+                new ValidateCharacterStep<>(IS_DIGIT),
+                createValueCharacterParser(),
+                new WhileLoopStep<>(
+                        createValueCharacterParser(),
                         parsingProcess -> parsingProcess.isCharValid(IS_DIGIT)
                 )
         );
     }
 
-    private JsonParsingStep createExponentParser() {
+    private static JsonParsingStep<Context> createExponentParser() {
         return OrStep.elseSuccess(
-                Map.of(
-                        new BlockStep(
-                                new ParseCharacterStep(c -> {
-                                    this.isExponentCapitalized = Character.isUpperCase(c);
-                                    return true;
-                                }),
-                                createExponentSignParser(),
-                                createWhileLoopWithAtLeastOneIterationParser(this.exponent)
-                        ),
-                        p -> p.isCharValid(
-                                c -> c == NumberNode.EXPONENT_SYMBOL || c == NumberNode.EXPONENT_SYMBOL_CAPITALIZED
+                List.of(
+                        new OrStep.Branch<>(
+                                "" + NumberNode.EXPONENT_SYMBOL + NumberNode.EXPONENT_SYMBOL_CAPITALIZED,
+                                new BlockStep<>(
+                                        new ParseCharacterStep<>((Context context, Character c) -> {
+                                            context.isExponentCapitalized = Character.isUpperCase(c);
+                                            return true;
+                                        }),
+                                        createExponentSignParser(),
+                                        new MarkStep<>((Context context, long index) -> context.exponentStart = index),
+                                        createWhileLoopWithAtLeastOneIterationParser(),
+                                        new SubstringStep<>(
+                                                context -> context.exponentStart,
+                                                (Context context, String exponent) -> context.exponent = exponent
+                                        )
+                                )
                         )
                 )
         );
     }
 
-    private JsonParsingStep createExponentSignParser() {
-        return new OrStep(
-                Map.ofEntries(
-                        createExponentSignSymbolParserEntry(NumberNode.NumberNodeExponentSignSymbol.MINUS),
-                        createExponentSignSymbolParserEntry(NumberNode.NumberNodeExponentSignSymbol.PLUS)
+    private static JsonParsingStep<Context> createExponentSignParser() {
+        return new OrStep<>(
+                List.of(
+                        createExponentSignSymbolBranch(NumberNode.NumberNodeExponentSignSymbol.MINUS),
+                        createExponentSignSymbolBranch(NumberNode.NumberNodeExponentSignSymbol.PLUS)
                 ),
-                new ExportStep(() -> {
-                    this.exponentSign = NumberNode.NumberNodeExponentSignSymbol.BLANK;
+                new ExportStep<>(context -> {
+                    context.exponentSign = NumberNode.NumberNodeExponentSignSymbol.BLANK;
                     return true;
                 })
         );
     }
 
-    private Map.Entry<JsonParsingStep, Predicate<JsonParsingProcess>> createExponentSignSymbolParserEntry(
+    private static OrStep.Branch<Context> createExponentSignSymbolBranch(
             final NumberNode.NumberNodeExponentSignSymbol exponentSignSymbol
     ) {
-        return new AbstractMap.SimpleEntry<>(
-                new ParseCharacterStep(c -> {
-                    this.exponentSign = exponentSignSymbol;
+        return new OrStep.Branch<>(
+                exponentSignSymbol.getSymbol(),
+                new ParseCharacterStep<>((Context context, Character c) -> {
+                    context.exponentSign = exponentSignSymbol;
                     return true;
-                }),
-                p -> p.startsWith(exponentSignSymbol.getSymbol())
+                })
         );
     }
 
-    @Override
-    protected NumberNode create() throws JsonParticleInstantiationException {
-        final String s = joinCharacters(this.value);
-        final Number number;
-        if (this.value.contains(NumberNode.DECIMAL_DELIMITER)) {
-            number = Double.parseDouble(s);
+    private static NumberNode create(final Context context) throws JsonParticleInstantiationException {
+        return createNumberNode(
+                context.value,
+                context.isExponentCapitalized,
+                context.exponentSign,
+                context.exponent
+        );
+    }
+
+    /**
+     * Creates a {@link NumberNode} out of the already validated text of a whole <code>JSON</code> number.
+     *
+     * @param number text of the number, including its sign and exponent
+     * @return created {@link NumberNode}
+     * @throws JsonParticleInstantiationException if the {@link NumberNode} cannot be instantiated
+     */
+    public static NumberNode createNumberNode(final String number) throws JsonParticleInstantiationException {
+        int exponentIndex = number.indexOf(NumberNode.EXPONENT_SYMBOL);
+        if (exponentIndex < 0) {
+            exponentIndex = number.indexOf(NumberNode.EXPONENT_SYMBOL_CAPITALIZED);
+        }
+        if (exponentIndex < 0) {
+            return createNumberNode(number, false, null, null);
+        }
+        final NumberNode.NumberNodeExponentSignSymbol exponentSign = switch (number.charAt(exponentIndex + 1)) {
+            case '-' -> NumberNode.NumberNodeExponentSignSymbol.MINUS;
+            case '+' -> NumberNode.NumberNodeExponentSignSymbol.PLUS;
+            default -> NumberNode.NumberNodeExponentSignSymbol.BLANK;
+        };
+        return createNumberNode(
+                number.substring(0, exponentIndex),
+                number.charAt(exponentIndex) == NumberNode.EXPONENT_SYMBOL_CAPITALIZED,
+                exponentSign,
+                number.substring(exponentIndex + 1 + exponentSign.getSymbol().length())
+        );
+    }
+
+    /**
+     * Creates a {@link LazyNumberNode} out of the already validated text of a whole <code>JSON</code> number,
+     * which keeps the text and only converts it when its value is accessed.
+     *
+     * @param number text of the number, including its sign and exponent
+     * @return created {@link LazyNumberNode}
+     */
+    public static LazyNumberNode createLazyNumberNode(final String number) {
+        return new LazyNumberNode(number);
+    }
+
+    /**
+     * Creates a {@link NumberNode} out of the already validated parts of a <code>JSON</code> number.
+     * Integers are stored as {@code long} and fractions as {@code double}, unless they do not fit without
+     * losing digits, in which case they are stored as {@link BigInteger} or {@link BigDecimal}.
+     * Fractions only fit a {@code double} if it is written with exactly their value, like {@code 0.1} but not
+     * {@code 0.30000000000000001}, which is written as {@code 0.3}, so the text of the number is kept and
+     * an exponent scales the exact value.
+     * Exponents beyond the range of a {@code long} are clamped to {@link Long#MAX_VALUE}.
+     *
+     * @param value                 sign, integer and fraction part of the number
+     * @param isExponentCapitalized whether the exponent symbol is capitalized, ignored without exponent
+     * @param exponentSign          sign of the exponent, ignored without exponent
+     * @param exponent              digits of the exponent, {@code null} if there is no exponent
+     * @return created {@link NumberNode}
+     * @throws JsonParticleInstantiationException if the {@link NumberNode} cannot be instantiated
+     */
+    public static NumberNode createNumberNode(final String value,
+                                              final boolean isExponentCapitalized,
+                                              final NumberNode.NumberNodeExponentSignSymbol exponentSign,
+                                              final String exponent)
+            throws JsonParticleInstantiationException {
+        if (value.indexOf(NumberNode.DECIMAL_DELIMITER) < 0) {
+            if (value.length() <= MAX_LONG_DIGITS) {
+                return createNumberNode(Long.parseLong(value), isExponentCapitalized, exponentSign, exponent);
+            }
+            return createNumberNode(new BigInteger(value), isExponentCapitalized, exponentSign, exponent);
+        }
+
+        final double number = DoubleConversion.toDouble(value);
+        final int digits = value.length() - (value.charAt(0) == NumberNode.NEGATIVE_NUMBER_PREFIX ? 2 : 1);
+        if (digits > MAX_EXACT_DOUBLE_DIGITS
+                && countSignificantDigits(value) > MAX_EXACT_DOUBLE_DIGITS
+                && !DoubleConversion.isShortest(value, number)) {
+            return createNumberNode(new BigDecimal(value), isExponentCapitalized, exponentSign, exponent);
+        }
+        return createNumberNode(number, isExponentCapitalized, exponentSign, exponent);
+    }
+
+    private static NumberNode createNumberNode(final long value,
+                                               final boolean isExponentCapitalized,
+                                               final NumberNode.NumberNodeExponentSignSymbol exponentSign,
+                                               final String exponent)
+            throws JsonParticleInstantiationException {
+        if (exponent == null) {
+            return new NumberNode(value);
         } else {
-            number = Long.parseLong(s);
+            return new NumberNode(value, isExponentCapitalized, exponentSign, parseExponent(exponent));
         }
+    }
+
+    private static NumberNode createNumberNode(final double value,
+                                               final boolean isExponentCapitalized,
+                                               final NumberNode.NumberNodeExponentSignSymbol exponentSign,
+                                               final String exponent)
+            throws JsonParticleInstantiationException {
+        if (exponent == null) {
+            return new NumberNode(value);
+        } else {
+            return new NumberNode(value, isExponentCapitalized, exponentSign, parseExponent(exponent));
+        }
+    }
 
-        if (this.exponent.isEmpty()) {
-            return new NumberNode(number);
+    private static NumberNode createNumberNode(final Number value,
+                                               final boolean isExponentCapitalized,
+                                               final NumberNode.NumberNodeExponentSignSymbol exponentSign,
+                                               final String exponent)
+            throws JsonParticleInstantiationException {
+        if (exponent == null) {
+            return new NumberNode(value);
         } else {
-            final long exponentValue = Long.parseLong(joinCharacters(this.exponent));
-            return new NumberNode(number, this.isExponentCapitalized, this.exponentSign, exponentValue);
+            return new NumberNode(value, isExponentCapitalized, exponentSign, parseExponent(exponent));
         }
     }
+
+    /**
+     * Parses the digits of an exponent, clamping exponents beyond the range of a {@code long} to
+     * {@link Long#MAX_VALUE}, which scales every number but zero beyond the range of a {@code double} just the same.
+     *
+     * @param exponent digits of the exponent
+     * @return value of the exponent, not negative
+     */
+    private static long parseExponent(final String exponent) {
+        long value = 0;
+        for (int i = 0; i < exponent.length(); i++) {
+            final int digit = exponent.charAt(i) - '0';
+            if (value > (Long.MAX_VALUE - digit) / 10) {
+                return Long.MAX_VALUE;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static int countSignificantDigits(final String value) {
+        int count = 0;
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c >= '1' && c <= '9' || c == '0' && count > 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public NumberNodeParser() {
+        super();
+    }
+
+    @Override
+    public String getStartCharacters() {
+        return NumberNode.NEGATIVE_NUMBER_PREFIX + DIGIT_ZERO + DIGITS_ONE_TO_NINE;
+    }
+
+    @Override
+    public boolean canParse(final JsonParsingProcess parsingProcess) {
+        return parsingProcess.isCharValid(c -> c == NumberNode.NEGATIVE_NUMBER_PREFIX || IS_DIGIT.test(c));
+    }
+
+    @Override
+    public NumberNode tryParse(final JsonParsingProcess parsingProcess) {
+        return PLAN.execute(parsingProcess, new Context());
+    }
 }
@@ -6,6 +6,7 @@ import org.parstastic.jparstastic_json.node.Whitespace;
 import org.parstastic.jparstastic_json.node.nodes.ObjectNode;
 import org.parstastic.jparstastic_json.node.nodes.StringNode;
 import org.parstastic.jparstastic_json.parser.JsonParsingProcess;
+import org.parstastic.jparstastic_json.parser.JsonParsingPlan;
 import org.parstastic.jparstastic_json.parser.parsers.JsonParticleParser;
 import org.parstastic.jparstastic_json.parser.parsers.JsonValueParser;
 import org.parstastic.jparstastic_json.parser.parsers.WhitespaceParser;
@@ -17,10 +18,47 @@ import static org.parstastic.jparstastic_json.node.nodes.ObjectNode.ObjectNodePr
 
 public class ObjectNodeParser extends ContainerNodeParser<ObjectNodeProperty, ObjectNode> {
     public static class ObjectNodePropertyParser extends JsonParticleParser<ObjectNodeProperty> {
-        private Whitespace leadingWhitespace;
-        private StringNode key;
-        private Whitespace trailingWhitespace;
-        private JsonValue value;
+        private static final class PropertyContext {
+            private Whitespace leadingWhitespace;
+            private StringNode key;
+            private Whitespace trailingWhitespace;
+            private JsonValue value;
+
+            private PropertyContext(final Whitespace leadingWhitespace) {
+                super();
+                this.leadingWhitespace = leadingWhitespace;
+            }
+        }
+
+        private static final JsonParsingPlan<PropertyContext, ObjectNodeProperty> PLAN = new JsonParsingPlan<>(
+                new BlockStep<>(
+                        new ParseStep<>(
+                                (PropertyContext context) -> WhitespaceParser.startingWith(context.leadingWhitespace),
+                                (context, w) -> context.leadingWhitespace = w
+                        ),
+                        new ParseStep<>(
+                                () -> new StringNodeParser(),
+                                (context, s) -> context.key = s
+                        ),
+                        new ParseStep<>(
+                                () -> new WhitespaceParser(),
+                                (context, w) -> context.trailingWhitespace = w
+                        ),
+                        new ParseCharacterStep<>(ObjectNodeProperty.KEY_VALUE_DELIMITER),
+                        new ParseStep<>(
+                                () -> new JsonValueParser(),
+                                (context, v) -> context.value = v
+                        )
+                ),
+                context -> new ObjectNodeProperty(
+                        context.leadingWhitespace,
+                        context.key,
+                        context.trailingWhitespace,
+                        context.value
+                )
+        );
+
+        private final Whitespace leadingWhitespace;
 
         public ObjectNodePropertyParser() {
             this(null);
@@ -37,55 +75,22 @@ public class ObjectNodeParser extends ContainerNodeParser<ObjectNodeProperty, Ob
         }
 
         @Override
-        protected JsonParsingStep getStep() {
-            return new BlockStep(
-                    new ParseStep<>(
-                            new WhitespaceParser(this.leadingWhitespace),
-                            w -> new ExportStep(() -> {
-                                this.leadingWhitespace = w;
-                                return true;
-                            })
-                    ),
-                    new ParseStep<>(
-                            new StringNodeParser(),
-                            s -> new ExportStep(() -> {
-                                this.key = s;
-                                return true;
-                            })
-                    ),
-                    new ParseStep<>(
-                            new WhitespaceParser(),
-                            w -> new ExportStep(() -> {
-                                this.trailingWhitespace = w;
-                                return true;
-                            })
-                    ),
-                    new ParseCharacterStep(ObjectNodeProperty.KEY_VALUE_DELIMITER),
-                    new ParseStep<>(
-                            new JsonValueParser(),
-                            v -> new ExportStep(() -> {
-                                this.value = v;
-                                return true;
-                            })
-                    )
-            );
-        }
-
-        @Override
-        protected ObjectNodeProperty create() throws JsonParticleInstantiationException {
-            return new ObjectNodeProperty(
-                    this.leadingWhitespace,
-                    this.key,
-                    this.trailingWhitespace,
-                    this.value
-            );
+        public ObjectNodeProperty tryParse(final JsonParsingProcess parsingProcess) {
+            return PLAN.execute(parsingProcess, new PropertyContext(this.leadingWhitespace));
         }
     }
 
+    private static final JsonParsingPlan<Context<ObjectNodeProperty>, ObjectNode> PLAN = new ObjectNodeParser().createPlan();
+
     public ObjectNodeParser() {
         super();
     }
 
+    @Override
+    protected JsonParsingPlan<Context<ObjectNodeProperty>, ObjectNode> getPlan() {
+        return PLAN;
+    }
+
     @Override
     protected char getStartDelimiter() {
         return ObjectNode.DELIMITER_START;
@@ -1,105 +1,119 @@
 package org.parstastic.jparstastic_json.parser.parsers.nodes;
 
-import org.parstastic.jparstastic_json.node.JsonParticleInstantiationException;
 import org.parstastic.jparstastic_json.node.nodes.StringNode;
+import org.parstastic.jparstastic_json.parser.JsonParsingPlan;
 import org.parstastic.jparstastic_json.parser.JsonParsingProcess;
 import org.parstastic.jparstastic_json.parser.steps.*;
 
-import java.util.AbstractMap;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 public class StringNodeParser extends JsonNodeParser<StringNode> {
-    private final List<Character> characters;
-
-    public StringNodeParser() {
-        super();
-        this.characters = new LinkedList<>();
+    private static final class Context {
+        /**
+         * Index of the first character of the value
+         */
+        private long start;
+        private String value;
     }
 
-    @Override
-    public boolean canParse(final JsonParsingProcess parsingProcess) {
-        return parsingProcess.isAtChar(StringNode.DELIMITER);
-    }
+    /**
+     * All characters that may follow an escaping backslash, except for the unicode escape {@code u}
+     */
+    private static final String ESCAPE_TARGETS = "\"\\/bfnrt";
 
-    @Override
-    protected JsonParsingStep getStep() {
-        return new BlockStep(
-                createDelimiterParsingStep(),
-                createCharactersParsingStep(),
-                createDelimiterParsingStep()
-        );
-    }
+    private static final JsonParsingPlan<Context, StringNode> PLAN = new JsonParsingPlan<>(
+            new BlockStep<>(
+                    createDelimiterParsingStep(),
+                    new MarkStep<>((Context context, long index) -> context.start = index),
+                    createCharactersParsingStep(),
+                    new SubstringStep<>(
+                            context -> context.start,
+                            (Context context, String value) -> context.value = value
+                    ),
+                    createDelimiterParsingStep()
+            ),
+            context -> new StringNode(context.value)
+    );
 
-    private JsonParsingStep createDelimiterParsingStep() {
-        return new ParseCharacterStep(StringNode.DELIMITER);
+    private static JsonParsingStep<Context> createDelimiterParsingStep() {
+        return new ParseCharacterStep<>(StringNode.DELIMITER);
     }
 
-    private JsonParsingStep createCharactersParsingStep() {
-        return new WhileLoopStep(
+    private static JsonParsingStep<Context> createCharactersParsingStep() {
+        return new WhileLoopStep<>(
                 createCharacterParsingStep(),
                 p -> !p.isAtChar(StringNode.DELIMITER)
         );
     }
 
-    private JsonParsingStep createCharacterParsingStep() {
-        return new OrStep(
-                Map.of(
-                        new BlockStep(
-                                new ParseCharacterStep(this.characters::add),
-                                createEscapeTargetsParsingStep()
-                        ),
-                        p -> p.isAtChar('\\')
+    /**
+     * Parses an escape sequence, or a plain character followed by all plain characters up to the next quote or
+     * backslash, which are skipped in bulk. The first character is parsed on its own, so the end of the input fails.
+     */
+    private static JsonParsingStep<Context> createCharacterParsingStep() {
+        return new OrStep<>(
+                List.of(
+                        new OrStep.Branch<>(
+                                "\\",
+                                new BlockStep<>(
+                                        createAnyCharacterParsingStep(),
+                                        createEscapeTargetsParsingStep()
+                                )
+                        )
                 ),
-                new ParseCharacterStep(this.characters::add)
+                new BlockStep<>(
+                        createAnyCharacterParsingStep(),
+                        new SkipStep<>(JsonParsingProcess::skipStringCharacters)
+                )
         );
     }
 
-    private JsonParsingStep createEscapeTargetsParsingStep() {
-        return new OrStep(
-                createEscapeTargetsParserMap(),
-                createUnicodeParser()
-        );
+    private static JsonParsingStep<Context> createAnyCharacterParsingStep() {
+        return new ParseCharacterStep<>((Context context, Character c) -> true);
     }
 
-    private Map<JsonParsingStep, Predicate<JsonParsingProcess>> createEscapeTargetsParserMap() {
-        return Stream.of(
-                        '"',
-                        '\\',
-                        '/',
-                        'b',
-                        'f',
-                        'n',
-                        'r',
-                        't'
-                )
-                .map(c -> new AbstractMap.SimpleEntry<>(
-                        new ParseCharacterStep(this.characters::add),
-                        (Predicate<JsonParsingProcess>) p -> p.isAtChar(c)
-                ))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    private static JsonParsingStep<Context> createEscapeTargetsParsingStep() {
+        return new OrStep<>(
+                List.of(
+                        new OrStep.Branch<>(
+                                ESCAPE_TARGETS,
+                                createAnyCharacterParsingStep()
+                        )
+                ),
+                createUnicodeParser()
+        );
     }
 
-    private JsonParsingStep createUnicodeParser() {
-        return new BlockStep(
-                new ValidateCharacterStep('u'),
-                new ParseCharacterStep(this.characters::add),
-                new ForLoopStep(
-                        new BlockStep(
-                                new ValidateCharacterStep(c -> Character.digit(c, 16) >= 0),
-                                new ParseCharacterStep(this.characters::add)
+    private static JsonParsingStep<Context> createUnicodeParser() {
+        return new BlockStep<>(
+                new ValidateCharacterStep<>('u'),
+                createAnyCharacterParsingStep(),
+                new ForLoopStep<>(
+                        new BlockStep<>(
+                                new ValidateCharacterStep<>(c -> Character.digit(c, 16) >= 0),
+                                createAnyCharacterParsingStep()
                         ),
                         4
                 )
         );
     }
 
+    public StringNodeParser() {
+        super();
+    }
+
+    @Override
+    public String getStartCharacters() {
+        return String.valueOf(StringNode.DELIMITER);
+    }
+
+    @Override
+    public boolean canParse(final JsonParsingProcess parsingProcess) {
+        return parsingProcess.isAtChar(StringNode.DELIMITER);
+    }
+
     @Override
-    protected StringNode create() throws JsonParticleInstantiationException {
-        return new StringNode(joinCharacters(this.characters));
+    public StringNode tryParse(final JsonParsingProcess parsingProcess) {
+        return PLAN.execute(parsingProcess, new Context());
     }
 }
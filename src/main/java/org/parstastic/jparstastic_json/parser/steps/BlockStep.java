@@ -1,31 +1,37 @@
 package org.parstastic.jparstastic_json.parser.steps;
 
 import org.parstastic.jparstastic_json.parser.JsonParsingProcess;
-import org.parstastic.jparstastic_json.parser.JsonParsingResult;
 
 import java.util.List;
-import java.util.Optional;
 
-public class BlockStep extends JsonParsingStep {
-    private final JsonParsingStep[] instructions;
+public class BlockStep<C> extends JsonParsingStep<C> {
+    private final JsonParsingStep<C>[] instructions;
 
-    public BlockStep(final JsonParsingStep... instructions) {
+    /**
+     * Creates a {@link BlockStep} executing the given steps in order.
+     * The array is copied and only ever read as {@code JsonParsingStep<C>}s, so it cannot pollute the heap.
+     *
+     * @param instructions steps to execute
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public BlockStep(final JsonParsingStep<C>... instructions) {
         super();
-        this.instructions = instructions;
+        this.instructions = instructions.clone();
     }
 
-    public BlockStep(final List<? extends JsonParsingStep> instructions) {
-        this(instructions.toArray(new JsonParsingStep[0]));
+    @SuppressWarnings("unchecked")
+    public BlockStep(final List<? extends JsonParsingStep<C>> instructions) {
+        this((JsonParsingStep<C>[]) instructions.toArray(new JsonParsingStep<?>[0]));
     }
 
     @Override
-    public Optional<JsonParsingResult.JsonParsingResultError> execute(final JsonParsingProcess parsingProcess) {
-        for (final JsonParsingStep instruction : this.instructions) {
-            final Optional<JsonParsingResult.JsonParsingResultError> result = instruction.execute(parsingProcess);
-            if (result.isPresent()) {
-                return result;
+    public boolean execute(final JsonParsingProcess parsingProcess, final C context) {
+        for (final JsonParsingStep<C> instruction : this.instructions) {
+            if (!instruction.execute(parsingProcess, context)) {
+                return false;
             }
         }
-        return Optional.empty();
+        return true;
     }
 }
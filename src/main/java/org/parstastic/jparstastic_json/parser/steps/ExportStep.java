@@ -1,25 +1,24 @@
 package org.parstastic.jparstastic_json.parser.steps;
 
 import org.parstastic.jparstastic_json.parser.JsonParsingProcess;
-import org.parstastic.jparstastic_json.parser.JsonParsingResult;
+import org.parstastic.jparstastic_json.parser.JsonParsingErrorCode;
 
-import java.util.Optional;
-import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
 
-public class ExportStep extends JsonParsingStep {
-    private final BooleanSupplier exporter;
+public class ExportStep<C> extends JsonParsingStep<C> {
+    private final Predicate<C> exporter;
 
-    public ExportStep(final BooleanSupplier exporter) {
+    public ExportStep(final Predicate<C> exporter) {
         super();
         this.exporter = exporter;
     }
 
     @Override
-    public Optional<JsonParsingResult.JsonParsingResultError> execute(final JsonParsingProcess parsingProcess) {
-        if (this.exporter.getAsBoolean()) {
-            return Optional.empty();
+    public boolean execute(final JsonParsingProcess parsingProcess, final C context) {
+        if (this.exporter.test(context)) {
+            return true;
         } else {
-            return Optional.of(new JsonParsingResult.JsonParsingResultError("Exporting failed", parsingProcess));
+            return parsingProcess.fail(JsonParsingErrorCode.EXPORT_FAILED);
         }
     }
 }
@@ -1,27 +1,24 @@
 package org.parstastic.jparstastic_json.parser.steps;
 
 import org.parstastic.jparstastic_json.parser.JsonParsingProcess;
-import org.parstastic.jparstastic_json.parser.JsonParsingResult;
 
-import java.util.Optional;
 
-public class ForLoopStep extends LoopStep {
+public class ForLoopStep<C> extends LoopStep<C> {
     private final int numberOfIterations;
 
-    public ForLoopStep(final JsonParsingStep instruction,
+    public ForLoopStep(final JsonParsingStep<C> instruction,
                        final int numberOfIterations) {
         super(instruction);
         this.numberOfIterations = numberOfIterations;
     }
 
     @Override
-    public Optional<JsonParsingResult.JsonParsingResultError> execute(final JsonParsingProcess parsingProcess) {
+    public boolean execute(final JsonParsingProcess parsingProcess, final C context) {
         for (int i = 0; i < this.numberOfIterations; i++) {
-            final Optional<JsonParsingResult.JsonParsingResultError> result = this.instruction.execute(parsingProcess);
-            if (result.isPresent()) {
-                return result;
+            if (!this.instruction.execute(parsingProcess, context)) {
+                return false;
             }
         }
-        return Optional.empty();
+        return true;
     }
 }
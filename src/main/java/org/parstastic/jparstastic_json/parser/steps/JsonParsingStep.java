@@ -1,14 +1,25 @@
 package org.parstastic.jparstastic_json.parser.steps;
 
 import org.parstastic.jparstastic_json.parser.JsonParsingProcess;
-import org.parstastic.jparstastic_json.parser.JsonParsingResult;
 
-import java.util.Optional;
-
-public abstract class JsonParsingStep {
+/**
+ * This class is the base of all steps a parsing plan is built from.
+ * Steps are immutable and may be shared between threads, all state of a single parse is kept in the given context.
+ *
+ * @param <C> type of the per-parse context the step operates on
+ */
+public abstract class JsonParsingStep<C> {
     protected JsonParsingStep() {
         super();
     }
 
-    public abstract Optional<JsonParsingResult.JsonParsingResultError> execute(final JsonParsingProcess parsingProcess);
+    /**
+     * Executes this step on the given {@link JsonParsingProcess}.
+     * On failure the error is recorded in the {@link JsonParsingProcess} via {@link JsonParsingProcess#fail}.
+     *
+     * @param parsingProcess {@link JsonParsingProcess} to parse from
+     * @param context        context of the current parse
+     * @return {@code true} if the step succeeded, {@code false} if an error was recorded
+     */
+    public abstract boolean execute(final JsonParsingProcess parsingProcess, final C context);
 }
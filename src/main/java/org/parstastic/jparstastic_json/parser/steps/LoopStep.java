@@ -1,9 +1,9 @@
 package org.parstastic.jparstastic_json.parser.steps;
 
-public abstract class LoopStep extends JsonParsingStep {
-    protected final JsonParsingStep instruction;
+public abstract class LoopStep<C> extends JsonParsingStep<C> {
+    protected final JsonParsingStep<C> instruction;
 
-    protected LoopStep(final JsonParsingStep instruction) {
+    protected LoopStep(final JsonParsingStep<C> instruction) {
         super();
         this.instruction = instruction;
     }
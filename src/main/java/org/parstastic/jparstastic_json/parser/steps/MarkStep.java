@@ -0,0 +1,26 @@
+package org.parstastic.jparstastic_json.parser.steps;
+
+import org.parstastic.jparstastic_json.parser.JsonParsingProcess;
+
+import java.util.function.ObjLongConsumer;
+
+/**
+ * This step exports the current index of the {@link JsonParsingProcess} into the context, for example
+ * to remember where a part of the input starts. It always succeeds.
+ *
+ * @param <C> type of the per-parse context
+ */
+public class MarkStep<C> extends JsonParsingStep<C> {
+    private final ObjLongConsumer<C> exporter;
+
+    public MarkStep(final ObjLongConsumer<C> exporter) {
+        super();
+        this.exporter = exporter;
+    }
+
+    @Override
+    public boolean execute(final JsonParsingProcess parsingProcess, final C context) {
+        this.exporter.accept(context, parsingProcess.getIndex());
+        return true;
+    }
+}
@@ -1,43 +1,186 @@
 package org.parstastic.jparstastic_json.parser.steps;
 
 import org.parstastic.jparstastic_json.parser.JsonParsingProcess;
-import org.parstastic.jparstastic_json.parser.JsonParsingResult;
 
+import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.function.Predicate;
 
-public class OrStep extends JsonParsingStep {
-    public static OrStep elseError(final Map<JsonParsingStep, Predicate<JsonParsingProcess>> ifSteps) {
-        return new OrStep(
+/**
+ * This step executes the first of its branches matching the current position of the {@link JsonParsingProcess},
+ * or its else step if no branch matches.
+ * Branches declaring their possible first characters are selected through a lookup table precomputed for all
+ * <code>ASCII</code> characters, so only branches that may start with the current character are ever tested.
+ * Conditions must not change the {@link JsonParsingProcess}.
+ *
+ * @param <C> type of the per-parse context
+ */
+public class OrStep<C> extends JsonParsingStep<C> {
+    /**
+     * This class represents a single branch of an {@link OrStep}.
+     *
+     * @param <C> type of the per-parse context
+     */
+    public static final class Branch<C> {
+        /**
+         * All characters the branch may start with, {@code null} if it may start with any character or at the end
+         */
+        private final String firstCharacters;
+        /**
+         * Additional condition of the branch, {@code null} if the first character is sufficient
+         */
+        private final Predicate<JsonParsingProcess> condition;
+        private final JsonParsingStep<C> step;
+
+        /**
+         * Creates a {@link Branch} taken whenever the current character is one of the given first characters.
+         *
+         * @param firstCharacters all characters the branch starts with
+         * @param step            step of the branch
+         */
+        public Branch(final String firstCharacters, final JsonParsingStep<C> step) {
+            this(firstCharacters, null, step);
+        }
+
+        /**
+         * Creates a {@link Branch} taken whenever the current character is one of the given first characters
+         * and the given condition is met.
+         *
+         * @param firstCharacters all characters the branch may start with, {@code null} for any
+         * @param condition       additional condition of the branch, {@code null} for none
+         * @param step            step of the branch
+         */
+        public Branch(final String firstCharacters,
+                      final Predicate<JsonParsingProcess> condition,
+                      final JsonParsingStep<C> step) {
+            super();
+            this.firstCharacters = firstCharacters;
+            this.condition = condition;
+            this.step = step;
+        }
+
+        private boolean mayStartWith(final char c) {
+            return this.firstCharacters == null || this.firstCharacters.indexOf(c) >= 0;
+        }
+
+        private boolean test(final JsonParsingProcess parsingProcess) {
+            return this.condition == null || this.condition.test(parsingProcess);
+        }
+    }
+
+    private static final int TABLE_SIZE = 128;
+
+    public static <C> OrStep<C> elseError(final Map<JsonParsingStep<C>, Predicate<JsonParsingProcess>> ifSteps) {
+        return new OrStep<>(
                 ifSteps,
-                new ExportStep(() -> false)
+                new ExportStep<>(context -> false)
+        );
+    }
+
+    public static <C> OrStep<C> elseError(final List<Branch<C>> branches) {
+        return new OrStep<>(
+                branches,
+                new ExportStep<>(context -> false)
         );
     }
 
-    public static OrStep elseSuccess(final Map<JsonParsingStep, Predicate<JsonParsingProcess>> ifSteps) {
-        return new OrStep(
+    public static <C> OrStep<C> elseSuccess(final Map<JsonParsingStep<C>, Predicate<JsonParsingProcess>> ifSteps) {
+        return new OrStep<>(
                 ifSteps,
-                new ExportStep(() -> true)
+                new ExportStep<>(context -> true)
+        );
+    }
+
+    public static <C> OrStep<C> elseSuccess(final List<Branch<C>> branches) {
+        return new OrStep<>(
+                branches,
+                new ExportStep<>(context -> true)
         );
     }
 
-    private final Map<JsonParsingStep, Predicate<JsonParsingProcess>> ifSteps;
-    private final JsonParsingStep elseStep;
+    /**
+     * Candidate branches for every <code>ASCII</code> character, in declaration order
+     */
+    private final Branch<C>[][] asciiTable;
+    /**
+     * All branches, tested for characters outside {@link #asciiTable}
+     */
+    private final Branch<C>[] branches;
+    /**
+     * Candidate branches at the end of the <code>JSON</code> {@link String}
+     */
+    private final Branch<C>[] endBranches;
+    private final JsonParsingStep<C> elseStep;
 
-    public OrStep(final Map<JsonParsingStep, Predicate<JsonParsingProcess>> ifSteps, final JsonParsingStep elseStep) {
+    /**
+     * Creates an {@link OrStep} testing the condition of every branch in iteration order of the given {@link Map}.
+     *
+     * @param ifSteps  branches and their conditions
+     * @param elseStep step executed if no condition is met
+     */
+    public OrStep(final Map<JsonParsingStep<C>, Predicate<JsonParsingProcess>> ifSteps,
+                  final JsonParsingStep<C> elseStep) {
+        this(
+                ifSteps.entrySet().stream()
+                        .map(e -> new Branch<>(null, e.getValue(), e.getKey()))
+                        .toList(),
+                elseStep
+        );
+    }
+
+    public OrStep(final List<Branch<C>> branches, final JsonParsingStep<C> elseStep) {
         super();
-        this.ifSteps = ifSteps;
+        this.branches = branches.toArray(OrStep::newBranches);
+        this.asciiTable = newBranchTable();
+        for (char c = 0; c < TABLE_SIZE; c++) {
+            final char character = c;
+            this.asciiTable[c] = branches.stream()
+                    .filter(b -> b.mayStartWith(character))
+                    .toArray(OrStep::newBranches);
+        }
+        this.endBranches = branches.stream()
+                .filter(b -> b.firstCharacters == null)
+                .toArray(OrStep::newBranches);
         this.elseStep = elseStep;
     }
 
+    @SuppressWarnings("unchecked")
+    private static <C> Branch<C>[] newBranches(final int length) {
+        return (Branch<C>[]) new Branch<?>[length];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <C> Branch<C>[][] newBranchTable() {
+        return (Branch<C>[][]) new Branch<?>[TABLE_SIZE][];
+    }
+
     @Override
-    public Optional<JsonParsingResult.JsonParsingResultError> execute(final JsonParsingProcess parsingProcess) {
-        for (final Map.Entry<JsonParsingStep, Predicate<JsonParsingProcess>> ifStep : ifSteps.entrySet()) {
-            if (ifStep.getValue().test(new JsonParsingProcess(parsingProcess))) {
-                return ifStep.getKey().execute(parsingProcess);
+    public boolean execute(final JsonParsingProcess parsingProcess, final C context) {
+        return select(parsingProcess).execute(parsingProcess, context);
+    }
+
+    private JsonParsingStep<C> select(final JsonParsingProcess parsingProcess) {
+        if (!parsingProcess.isIndexInJson()) {
+            return selectFrom(this.endBranches, parsingProcess);
+        }
+        final char c = parsingProcess.getChar();
+        if (c < TABLE_SIZE) {
+            return selectFrom(this.asciiTable[c], parsingProcess);
+        }
+        for (final Branch<C> branch : this.branches) {
+            if (branch.mayStartWith(c) && branch.test(parsingProcess)) {
+                return branch.step;
+            }
+        }
+        return this.elseStep;
+    }
+
+    private JsonParsingStep<C> selectFrom(final Branch<C>[] candidates, final JsonParsingProcess parsingProcess) {
+        for (final Branch<C> branch : candidates) {
+            if (branch.test(parsingProcess)) {
+                return branch.step;
             }
         }
-        return this.elseStep.execute(parsingProcess);
+        return this.elseStep;
     }
 }
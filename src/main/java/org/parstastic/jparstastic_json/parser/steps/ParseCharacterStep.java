@@ -1,41 +1,39 @@
 package org.parstastic.jparstastic_json.parser.steps;
 
 import org.parstastic.jparstastic_json.parser.JsonParsingProcess;
-import org.parstastic.jparstastic_json.parser.JsonParsingResult;
+import org.parstastic.jparstastic_json.parser.JsonParsingErrorCode;
 
-import java.util.Optional;
+import java.util.function.BiPredicate;
 import java.util.function.Predicate;
 
-public class ParseCharacterStep extends JsonParsingStep {
-    private final Predicate<Character> exporter;
+public class ParseCharacterStep<C> extends JsonParsingStep<C> {
+    private final BiPredicate<C, Character> exporter;
 
     public ParseCharacterStep(final char character) {
         this(c -> c == character);
     }
 
-    public ParseCharacterStep(final Predicate<Character> exporter) {
+    public ParseCharacterStep(final Predicate<Character> validator) {
+        this((context, c) -> validator.test(c));
+    }
+
+    public ParseCharacterStep(final BiPredicate<C, Character> exporter) {
         super();
         this.exporter = exporter;
     }
 
     @Override
-    public Optional<JsonParsingResult.JsonParsingResultError> execute(final JsonParsingProcess parsingProcess) {
+    public boolean execute(final JsonParsingProcess parsingProcess, final C context) {
         if (parsingProcess.isIndexInJson()) {
             final char c = parsingProcess.getChar();
-            if (this.exporter.test(c)) {
+            if (this.exporter.test(context, c)) {
                 parsingProcess.incrementIndex();
-                return Optional.empty();
+                return true;
             } else {
-                return Optional.of(new JsonParsingResult.JsonParsingResultError(
-                        "The required character to parse was not found.",
-                        parsingProcess
-                ));
+                return parsingProcess.fail(JsonParsingErrorCode.CHARACTER_NOT_FOUND);
             }
         } else {
-            return Optional.of(new JsonParsingResult.JsonParsingResultError(
-                    "The JsonParsingProcess has exceeded its JSON's length.",
-                    parsingProcess
-            ));
+            return parsingProcess.fail(JsonParsingErrorCode.LENGTH_EXCEEDED);
         }
     }
 }
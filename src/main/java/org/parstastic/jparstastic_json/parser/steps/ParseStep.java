@@ -1,40 +1,80 @@
 package org.parstastic.jparstastic_json.parser.steps;
 
 import org.parstastic.jparstastic_json.node.JsonParticle;
+import org.parstastic.jparstastic_json.parser.JsonParsingErrorCode;
 import org.parstastic.jparstastic_json.parser.JsonParsingProcess;
-import org.parstastic.jparstastic_json.parser.JsonParsingResult;
 import org.parstastic.jparstastic_json.parser.parsers.JsonParticleParser;
 
-import java.util.Optional;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
-public class ParseStep<J extends JsonParticle> extends JsonParsingStep {
-    private final JsonParticleParser<J> parser;
-    private final Function<J, JsonParsingStep> nextCreator;
+public class ParseStep<C, J extends JsonParticle> extends JsonParsingStep<C> {
+    private final Function<C, ? extends JsonParticleParser<J>> parserSelector;
+    private final BiConsumer<C, J> exporter;
 
-    public ParseStep(final JsonParticleParser<J> parser, final Function<J, JsonParsingStep> nextCreator) {
+    /**
+     * Creates a {@link ParseStep} using the same parser for every execution.
+     * The parser is created lazily on first execution, so plans of mutually recursive grammars may reference each other.
+     *
+     * @param parserCreator creator of the stateless parser to use
+     * @param exporter      exports the parsed value into the context
+     */
+    public ParseStep(final Supplier<? extends JsonParticleParser<J>> parserCreator, final BiConsumer<C, J> exporter) {
+        this(new LazyParserSelector<>(parserCreator), exporter);
+    }
+
+    /**
+     * Creates a {@link ParseStep} selecting the parser to use from the context on every execution.
+     *
+     * @param parserSelector selects the parser to use from the context
+     * @param exporter       exports the parsed value into the context
+     */
+    public ParseStep(final Function<C, ? extends JsonParticleParser<J>> parserSelector,
+                     final BiConsumer<C, J> exporter) {
         super();
-        this.parser = parser;
-        this.nextCreator = nextCreator;
+        this.parserSelector = parserSelector;
+        this.exporter = exporter;
     }
 
     @Override
-    public Optional<JsonParsingResult.JsonParsingResultError> execute(final JsonParsingProcess parsingProcess) {
-        if (this.parser.canParse(new JsonParsingProcess(parsingProcess))) {
-            try {
-                final JsonParsingResult<J> result = this.parser.parse(parsingProcess);
-                return this.nextCreator.apply(result.getValue()).execute(parsingProcess);
-            } catch (final JsonParsingResult.JsonParsingResultNoSuchElementException e) {
-                return Optional.of(new JsonParsingResult.JsonParsingResultError(
-                        "An error occurred during usage of the parser.",
-                        parsingProcess
-                ));
+    public boolean execute(final JsonParsingProcess parsingProcess, final C context) {
+        final JsonParticleParser<J> parser = this.parserSelector.apply(context);
+        if (!parser.canParse(parsingProcess)) {
+            return parsingProcess.fail(JsonParsingErrorCode.PARSER_NOT_APPLICABLE);
+        }
+        final J value = parser.tryParse(parsingProcess);
+        if (value == null) {
+            if (parsingProcess.getErrorCode().isFatal()) {
+                return false;
+            }
+            return parsingProcess.fail(JsonParsingErrorCode.PARSER_FAILED);
+        }
+        this.exporter.accept(context, value);
+        return true;
+    }
+
+    /**
+     * Parsers are stateless, so racing threads creating separate instances is harmless.
+     */
+    private static final class LazyParserSelector<C, J extends JsonParticle>
+            implements Function<C, JsonParticleParser<J>> {
+        private final Supplier<? extends JsonParticleParser<J>> parserCreator;
+        private JsonParticleParser<J> parser;
+
+        private LazyParserSelector(final Supplier<? extends JsonParticleParser<J>> parserCreator) {
+            super();
+            this.parserCreator = parserCreator;
+        }
+
+        @Override
+        public JsonParticleParser<J> apply(final C context) {
+            JsonParticleParser<J> p = this.parser;
+            if (p == null) {
+                p = this.parserCreator.get();
+                this.parser = p;
             }
-        } else {
-            return Optional.of(new JsonParsingResult.JsonParsingResultError(
-                    "The given parser cannot parse the JsonParsingProcess.",
-                    parsingProcess
-            ));
+            return p;
         }
     }
 }
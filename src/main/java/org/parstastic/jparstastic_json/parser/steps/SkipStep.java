@@ -0,0 +1,27 @@
+package org.parstastic.jparstastic_json.parser.steps;
+
+import org.parstastic.jparstastic_json.parser.JsonParsingProcess;
+
+import java.util.function.Consumer;
+
+/**
+ * This step advances the {@link JsonParsingProcess} over a run of characters in bulk, like
+ * {@link JsonParsingProcess#skipWhitespace()}, instead of parsing them one by one, or releases the characters already
+ * parsed, like {@link JsonParsingProcess#release()}. It always succeeds.
+ *
+ * @param <C> type of the per-parse context
+ */
+public class SkipStep<C> extends JsonParsingStep<C> {
+    private final Consumer<JsonParsingProcess> skipper;
+
+    public SkipStep(final Consumer<JsonParsingProcess> skipper) {
+        super();
+        this.skipper = skipper;
+    }
+
+    @Override
+    public boolean execute(final JsonParsingProcess parsingProcess, final C context) {
+        this.skipper.accept(parsingProcess);
+        return true;
+    }
+}
@@ -0,0 +1,38 @@
+package org.parstastic.jparstastic_json.parser.steps;
+
+import org.parstastic.jparstastic_json.parser.JsonParsingErrorCode;
+import org.parstastic.jparstastic_json.parser.JsonParsingProcess;
+import org.parstastic.jparstastic_json.parser.input.JsonInputEncodingException;
+
+import java.util.function.BiConsumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * This step exports the part of the input from an index previously marked with a {@link MarkStep} up to the
+ * current index into the context.
+ * Characters are only decoded here, so the part is extracted once instead of being collected character by character.
+ *
+ * @param <C> type of the per-parse context
+ */
+public class SubstringStep<C> extends JsonParsingStep<C> {
+    private final ToLongFunction<C> beginIndexSupplier;
+    private final BiConsumer<C, String> exporter;
+
+    public SubstringStep(final ToLongFunction<C> beginIndexSupplier, final BiConsumer<C, String> exporter) {
+        super();
+        this.beginIndexSupplier = beginIndexSupplier;
+        this.exporter = exporter;
+    }
+
+    @Override
+    public boolean execute(final JsonParsingProcess parsingProcess, final C context) {
+        final String value;
+        try {
+            value = parsingProcess.substring(this.beginIndexSupplier.applyAsLong(context));
+        } catch (final JsonInputEncodingException e) {
+            return parsingProcess.fail(JsonParsingErrorCode.INVALID_ENCODING);
+        }
+        this.exporter.accept(context, value);
+        return true;
+    }
+}
@@ -1,12 +1,11 @@
 package org.parstastic.jparstastic_json.parser.steps;
 
 import org.parstastic.jparstastic_json.parser.JsonParsingProcess;
-import org.parstastic.jparstastic_json.parser.JsonParsingResult;
+import org.parstastic.jparstastic_json.parser.JsonParsingErrorCode;
 
-import java.util.Optional;
 import java.util.function.Predicate;
 
-public class ValidateCharacterStep extends JsonParsingStep {
+public class ValidateCharacterStep<C> extends JsonParsingStep<C> {
     private final Predicate<Character> validator;
 
     public ValidateCharacterStep(final Predicate<Character> validator) {
@@ -19,14 +18,11 @@ public class ValidateCharacterStep extends JsonParsingStep {
     }
 
     @Override
-    public Optional<JsonParsingResult.JsonParsingResultError> execute(final JsonParsingProcess parsingProcess) {
+    public boolean execute(final JsonParsingProcess parsingProcess, final C context) {
         if (parsingProcess.isCharValid(this.validator)) {
-            return Optional.empty();
+            return true;
         } else {
-            return Optional.of(new JsonParsingResult.JsonParsingResultError(
-                    "The character to validate was not found or invalid.",
-                    parsingProcess
-            ));
+            return parsingProcess.fail(JsonParsingErrorCode.CHARACTER_INVALID);
         }
     }
 }
@@ -1,28 +1,25 @@
 package org.parstastic.jparstastic_json.parser.steps;
 
 import org.parstastic.jparstastic_json.parser.JsonParsingProcess;
-import org.parstastic.jparstastic_json.parser.JsonParsingResult;
 
-import java.util.Optional;
 import java.util.function.Predicate;
 
-public class WhileLoopStep extends LoopStep {
+public class WhileLoopStep<C> extends LoopStep<C> {
     private final Predicate<JsonParsingProcess> continueCriteria;
 
-    public WhileLoopStep(final JsonParsingStep instruction,
+    public WhileLoopStep(final JsonParsingStep<C> instruction,
                          final Predicate<JsonParsingProcess> continueCriteria) {
         super(instruction);
         this.continueCriteria = continueCriteria;
     }
 
     @Override
-    public Optional<JsonParsingResult.JsonParsingResultError> execute(final JsonParsingProcess parsingProcess) {
+    public boolean execute(final JsonParsingProcess parsingProcess, final C context) {
         while (this.continueCriteria.test(parsingProcess)) {
-            final Optional<JsonParsingResult.JsonParsingResultError> result = this.instruction.execute(parsingProcess);
-            if (result.isPresent()) {
-                return result;
+            if (!this.instruction.execute(parsingProcess, context)) {
+                return false;
             }
         }
-        return Optional.empty();
+        return true;
     }
 }
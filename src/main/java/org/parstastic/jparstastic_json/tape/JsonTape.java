@@ -0,0 +1,267 @@
+package org.parstastic.jparstastic_json.tape;
+
+import org.parstastic.jparstastic_json.node.JsonParticle;
+import org.parstastic.jparstastic_json.node.JsonParticleInstantiationException;
+import org.parstastic.jparstastic_json.node.JsonValue;
+import org.parstastic.jparstastic_json.node.StringifyOptions;
+import org.parstastic.jparstastic_json.node.Whitespace;
+import org.parstastic.jparstastic_json.node.nodes.*;
+import org.parstastic.jparstastic_json.parser.parsers.nodes.DoubleConversion;
+import org.parstastic.jparstastic_json.parser.parsers.nodes.NumberNodeParser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.parstastic.jparstastic_json.node.nodes.ObjectNode.ObjectNodeProperty;
+
+/**
+ * This class represents a read-only <code>JSON</code> document stored as a flat tape of {@code long}s
+ * and a single buffer holding the text of all strings and numbers, instead of a graph of {@link JsonParticle}s.
+ * <p>
+ * Every value is one or two entries of the tape in document order. The highest byte of the first entry is a tag
+ * naming the kind of value, the remaining bytes are its payload:
+ * <ul>
+ *     <li>the start of an object or array holds the index of its end entry and the number of its elements,
+ *     so whole containers are skipped at once, and the end entry holds the index of the start entry</li>
+ *     <li>a string or non-integer number holds the offset of its text, followed by an entry holding its length</li>
+ *     <li>an integer fitting a {@code long} is followed by an entry holding its value</li>
+ *     <li>{@code true}, {@code false} and {@code null} consist of the tag only</li>
+ * </ul>
+ * Keys of objects are strings in front of the values of their properties.
+ * Whitespace between values is not kept, strings keep their escape sequences like {@link StringNode}s do.
+ * <p>
+ * Values are read with a {@link JsonTapeCursor}. {@link #toJsonValue()} converts the document into the
+ * {@link JsonValue} tree of the same document without any whitespace.
+ *
+ * @see JsonTapeParser
+ */
+public final class JsonTape extends JsonParticle {
+    /**
+     * This enum represents the kinds of values stored on a {@link JsonTape}.
+     */
+    public enum ValueType {
+        OBJECT,
+        ARRAY,
+        STRING,
+        NUMBER,
+        BOOLEAN,
+        NULL
+    }
+
+    static final int OBJECT_START = ObjectNode.DELIMITER_START;
+    static final int OBJECT_END = ObjectNode.DELIMITER_END;
+    static final int ARRAY_START = ArrayNode.DELIMITER_START;
+    static final int ARRAY_END = ArrayNode.DELIMITER_END;
+    static final int STRING = StringNode.DELIMITER;
+    static final int INTEGER = 'l';
+    static final int NUMBER = 'd';
+    static final int TRUE = 't';
+    static final int FALSE = 'f';
+    static final int NULL = 'n';
+
+    static final int TAG_SHIFT = 56;
+    static final long PAYLOAD_MASK = (1L << TAG_SHIFT) - 1;
+    static final int COUNT_SHIFT = 32;
+    static final long INDEX_MASK = (1L << COUNT_SHIFT) - 1;
+    /**
+     * Largest number of elements stored in the start entry of a container, larger containers are counted when asked
+     */
+    static final int MAX_STORED_COUNT = (1 << (TAG_SHIFT - COUNT_SHIFT)) - 1;
+
+    private final long[] tape;
+    private final String text;
+
+    JsonTape(final long[] tape, final String text) {
+        super();
+        this.tape = tape;
+        this.text = text;
+    }
+
+    /**
+     * Creates a {@link JsonTapeCursor} positioned at the top-level value of this document.
+     *
+     * @return new {@link JsonTapeCursor}
+     */
+    public JsonTapeCursor cursor() {
+        return new JsonTapeCursor(this);
+    }
+
+    /**
+     * Returns the number of {@code long}s of the tape, which is at most twice the number of values.
+     *
+     * @return length of the tape
+     */
+    public int getTapeLength() {
+        return this.tape.length;
+    }
+
+    /**
+     * Returns the number of characters of the text buffer, which holds all strings, keys and non-integer numbers.
+     *
+     * @return length of the text buffer
+     */
+    public int getTextLength() {
+        return this.text.length();
+    }
+
+    /**
+     * Converts this document into a {@link JsonValue} tree without any whitespace.
+     *
+     * @return created {@link JsonValue}
+     */
+    public JsonValue toJsonValue() {
+        return toJsonValue(0);
+    }
+
+    /**
+     * Creates the <code>JSON</code> {@link String} by converting this document into a {@link JsonValue} tree first.
+     */
+    @Override
+    public String stringify(final StringifyOptions options) {
+        return toJsonValue().stringify(options);
+    }
+
+    int tag(final int index) {
+        return (int) (this.tape[index] >>> TAG_SHIFT);
+    }
+
+    long payload(final int index) {
+        return this.tape[index] & PAYLOAD_MASK;
+    }
+
+    long raw(final int index) {
+        return this.tape[index];
+    }
+
+    /**
+     * Returns the index of the entry following the value starting at the given index.
+     *
+     * @param index index of the first entry of a value
+     * @return index of the first entry after the value
+     */
+    int skip(final int index) {
+        return switch (tag(index)) {
+            case OBJECT_START, ARRAY_START -> (int) (payload(index) & INDEX_MASK) + 1;
+            case STRING, NUMBER, INTEGER -> index + 2;
+            default -> index + 1;
+        };
+    }
+
+    String text(final int index) {
+        final int offset = (int) payload(index);
+        return this.text.substring(offset, offset + (int) this.tape[index + 1]);
+    }
+
+    double toDouble(final int index) {
+        final int offset = (int) payload(index);
+        return DoubleConversion.toDouble(this.text, offset, offset + (int) this.tape[index + 1]);
+    }
+
+    boolean textEquals(final int index, final String string) {
+        return this.tape[index + 1] == string.length()
+                && this.text.regionMatches((int) payload(index), string, 0, string.length());
+    }
+
+    /**
+     * Converts the value starting at the given index into a {@link JsonValue} tree without recursion.
+     *
+     * @param index index of the first entry of the value
+     * @return created {@link JsonValue}
+     */
+    JsonValue toJsonValue(final int index) {
+        final List<Container> containers = new ArrayList<>();
+        int i = index;
+        try {
+            while (true) {
+                final JsonNode node;
+                switch (tag(i)) {
+                    case OBJECT_START, ARRAY_START -> {
+                        final boolean isObject = tag(i) == OBJECT_START;
+                        final int end = (int) (payload(i) & INDEX_MASK);
+                        if (end == i + 1) {
+                            node = isObject ? new ObjectNode(Whitespace.EMPTY) : new ArrayNode(Whitespace.EMPTY);
+                            i = end + 1;
+                        } else {
+                            final Container container = new Container(isObject);
+                            containers.add(container);
+                            i++;
+                            if (isObject) {
+                                container.key = new StringNode(text(i));
+                                i += 2;
+                            }
+                            continue;
+                        }
+                    }
+                    case OBJECT_END, ARRAY_END -> {
+                        node = containers.removeLast().createNode();
+                        i++;
+                    }
+                    case STRING -> {
+                        node = new StringNode(text(i));
+                        i += 2;
+                    }
+                    case INTEGER -> {
+                        node = new NumberNode(this.tape[i + 1]);
+                        i += 2;
+                    }
+                    case NUMBER -> {
+                        node = NumberNodeParser.createNumberNode(text(i));
+                        i += 2;
+                    }
+                    case TRUE -> {
+                        node = BooleanNode.TRUE;
+                        i++;
+                    }
+                    case FALSE -> {
+                        node = BooleanNode.FALSE;
+                        i++;
+                    }
+                    default -> {
+                        node = NullNode.NULL_NODE;
+                        i++;
+                    }
+                }
+
+                final JsonValue value = new JsonValue(Whitespace.EMPTY, node, Whitespace.EMPTY);
+                if (containers.isEmpty()) {
+                    return value;
+                }
+                final Container container = containers.getLast();
+                container.add(value);
+                if (container.isObject && tag(i) != OBJECT_END) {
+                    container.key = new StringNode(text(i));
+                    i += 2;
+                }
+            }
+        } catch (final JsonParticleInstantiationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * This class collects the elements of a container while converting it into a {@link ContainerNode}.
+     */
+    private static final class Container {
+        private final boolean isObject;
+        private final List<JsonValue> values = new ArrayList<>();
+        private final List<ObjectNodeProperty> properties = new ArrayList<>();
+        private StringNode key;
+
+        private Container(final boolean isObject) {
+            super();
+            this.isObject = isObject;
+        }
+
+        private void add(final JsonValue value) throws JsonParticleInstantiationException {
+            if (this.isObject) {
+                this.properties.add(new ObjectNodeProperty(Whitespace.EMPTY, this.key, Whitespace.EMPTY, value));
+            } else {
+                this.values.add(value);
+            }
+        }
+
+        private ContainerNode<?> createNode() throws JsonParticleInstantiationException {
+            return this.isObject ? new ObjectNode(this.properties) : ArrayNode.of(this.values);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package org.parstastic.jparstastic_json.tape;
+
+import java.util.Arrays;
+
+/**
+ * This class appends the values of a document to a growing tape in document order and creates the {@link JsonTape}.
+ * The start entry of a container is written when the container is opened and completed once it is closed.
+ */
+final class JsonTapeBuilder {
+    private long[] tape = new long[64];
+    private int length = 0;
+    private final StringBuilder text = new StringBuilder();
+
+    JsonTapeBuilder() {
+        super();
+    }
+
+    /**
+     * Appends the start of a container.
+     *
+     * @param isObject whether the container is an object
+     * @return index of the start entry, to be passed to {@link #endContainer(int, int)}
+     */
+    int startContainer(final boolean isObject) {
+        final int index = this.length;
+        append(tagged(isObject ? JsonTape.OBJECT_START : JsonTape.ARRAY_START, 0));
+        return index;
+    }
+
+    /**
+     * Appends the end of the container started at the given index and completes its start entry.
+     *
+     * @param start index of the start entry of the container
+     * @param count number of elements of the container
+     */
+    void endContainer(final int start, final int count) {
+        final int tag = (int) (this.tape[start] >>> JsonTape.TAG_SHIFT);
+        final long storedCount = Math.min(count, JsonTape.MAX_STORED_COUNT);
+        this.tape[start] = tagged(tag, storedCount << JsonTape.COUNT_SHIFT | this.length);
+        append(tagged(tag == JsonTape.OBJECT_START ? JsonTape.OBJECT_END : JsonTape.ARRAY_END, start));
+    }
+
+    void appendString(final String value) {
+        appendText(JsonTape.STRING, value);
+    }
+
+    void appendNumber(final String value) {
+        appendText(JsonTape.NUMBER, value);
+    }
+
+    void appendInteger(final long value) {
+        append(tagged(JsonTape.INTEGER, 0));
+        append(value);
+    }
+
+    void appendLiteral(final int tag) {
+        append(tagged(tag, 0));
+    }
+
+    /**
+     * Returns the number of entries appended so far.
+     *
+     * @return length of the tape
+     */
+    int length() {
+        return this.length;
+    }
+
+    JsonTape build() {
+        return new JsonTape(Arrays.copyOf(this.tape, this.length), this.text.toString());
+    }
+
+    private void appendText(final int tag, final String value) {
+        append(tagged(tag, this.text.length()));
+        append(value.length());
+        this.text.append(value);
+    }
+
+    private void append(final long entry) {
+        if (this.length == this.tape.length) {
+            this.tape = Arrays.copyOf(this.tape, 2 * this.length);
+        }
+        this.tape[this.length++] = entry;
+    }
+
+    private static long tagged(final int tag, final long payload) {
+        return (long) tag << JsonTape.TAG_SHIFT | payload;
+    }
+}
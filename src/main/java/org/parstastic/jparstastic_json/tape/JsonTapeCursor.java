@@ -0,0 +1,288 @@
+package org.parstastic.jparstastic_json.tape;
+
+import org.parstastic.jparstastic_json.node.JsonValue;
+
+import java.util.Arrays;
+
+/**
+ * This class navigates the values of a {@link JsonTape} without creating any object per value.
+ * <p>
+ * A cursor is positioned at one value, starting at the top-level value. {@link #enter()} moves it to the first element
+ * of the current container, {@link #next()} to the following element of the enclosing container and {@link #exit()}
+ * back to the enclosing container. Inside objects the cursor is positioned at the values of the properties,
+ * whose keys are returned by {@link #getKey()}. Skipping a value never looks at its nested values.
+ * <p>
+ * Instances are not thread-safe, but any number of cursors may read the same {@link JsonTape}.
+ */
+public final class JsonTapeCursor {
+    private final JsonTape tape;
+    /**
+     * Index of the first entry of the current value
+     */
+    private int index = 0;
+    /**
+     * Indices of the start entries of the containers enclosing the current value, outermost first
+     */
+    private int[] parents = new int[8];
+    private int depth = 0;
+
+    JsonTapeCursor(final JsonTape tape) {
+        super();
+        this.tape = tape;
+    }
+
+    /**
+     * Returns the kind of the current value.
+     *
+     * @return {@link JsonTape.ValueType} of the current value
+     */
+    public JsonTape.ValueType getType() {
+        return switch (this.tape.tag(this.index)) {
+            case JsonTape.OBJECT_START -> JsonTape.ValueType.OBJECT;
+            case JsonTape.ARRAY_START -> JsonTape.ValueType.ARRAY;
+            case JsonTape.STRING -> JsonTape.ValueType.STRING;
+            case JsonTape.INTEGER, JsonTape.NUMBER -> JsonTape.ValueType.NUMBER;
+            case JsonTape.TRUE, JsonTape.FALSE -> JsonTape.ValueType.BOOLEAN;
+            default -> JsonTape.ValueType.NULL;
+        };
+    }
+
+    /**
+     * Returns the number of containers enclosing the current value.
+     *
+     * @return {@code 0} at the top-level value, number of enclosing containers otherwise
+     */
+    public int getDepth() {
+        return this.depth;
+    }
+
+    /**
+     * Returns the current string, with its escape sequences like {@link org.parstastic.jparstastic_json.node.nodes.StringNode#getValue()}.
+     *
+     * @return current string
+     * @throws IllegalStateException if the current value is no string
+     */
+    public String getString() throws IllegalStateException {
+        requireTag(JsonTape.STRING, "string");
+        return this.tape.text(this.index);
+    }
+
+    /**
+     * Returns the current boolean.
+     *
+     * @return current boolean
+     * @throws IllegalStateException if the current value is no boolean
+     */
+    public boolean getBoolean() throws IllegalStateException {
+        if (getType() != JsonTape.ValueType.BOOLEAN) {
+            throw new IllegalStateException("The current value is no boolean.");
+        }
+        return this.tape.tag(this.index) == JsonTape.TRUE;
+    }
+
+    /**
+     * Returns the current number as {@code long}.
+     *
+     * @return current number
+     * @throws IllegalStateException if the current value is no number
+     * @throws NumberFormatException if the current number is no integer fitting a {@code long}
+     */
+    public long getLong() throws IllegalStateException, NumberFormatException {
+        if (this.tape.tag(this.index) == JsonTape.INTEGER) {
+            return this.tape.raw(this.index + 1);
+        }
+        return Long.parseLong(getNumberText());
+    }
+
+    /**
+     * Returns the current number as {@code double}.
+     *
+     * @return current number, rounded to the nearest {@code double}
+     * @throws IllegalStateException if the current value is no number
+     */
+    public double getDouble() throws IllegalStateException {
+        if (this.tape.tag(this.index) == JsonTape.INTEGER) {
+            return this.tape.raw(this.index + 1);
+        }
+        requireTag(JsonTape.NUMBER, "number");
+        return this.tape.toDouble(this.index);
+    }
+
+    /**
+     * Returns the current number as text. Integers stored as {@code long} are returned in their canonical form.
+     *
+     * @return text of the current number
+     * @throws IllegalStateException if the current value is no number
+     */
+    public String getNumberText() throws IllegalStateException {
+        if (this.tape.tag(this.index) == JsonTape.INTEGER) {
+            return Long.toString(this.tape.raw(this.index + 1));
+        }
+        requireTag(JsonTape.NUMBER, "number");
+        return this.tape.text(this.index);
+    }
+
+    /**
+     * Returns the number of elements of the current object or array.
+     *
+     * @return number of elements
+     * @throws IllegalStateException if the current value is no container
+     */
+    public int size() throws IllegalStateException {
+        requireContainer();
+        final int count = (int) (this.tape.payload(this.index) >>> JsonTape.COUNT_SHIFT);
+        if (count < JsonTape.MAX_STORED_COUNT) {
+            return count;
+        }
+        final int end = end(this.index);
+        final int keyLength = keyLength(this.index);
+        int size = 0;
+        for (int i = this.index + 1; i < end; size++) {
+            i = this.tape.skip(i + keyLength);
+        }
+        return size;
+    }
+
+    /**
+     * Returns the key of the property whose value is the current value.
+     *
+     * @return key of the current property
+     * @throws IllegalStateException if the current value is no value of a property
+     */
+    public String getKey() throws IllegalStateException {
+        if (this.depth == 0 || this.tape.tag(this.parents[this.depth - 1]) != JsonTape.OBJECT_START) {
+            throw new IllegalStateException("The current value is no value of a property.");
+        }
+        return this.tape.text(this.index - 2);
+    }
+
+    /**
+     * Moves to the first element of the current object or array.
+     *
+     * @return {@code true} if the cursor was moved, {@code false} if the container is empty
+     * @throws IllegalStateException if the current value is no container
+     */
+    public boolean enter() throws IllegalStateException {
+        requireContainer();
+        if (this.index + 1 == end(this.index)) {
+            return false;
+        }
+        enterAt(this.index + 1 + keyLength(this.index));
+        return true;
+    }
+
+    /**
+     * Moves to the element following the current value in the enclosing container.
+     *
+     * @return {@code true} if the cursor was moved, {@code false} if the current value is the last one
+     */
+    public boolean next() {
+        if (this.depth == 0) {
+            return false;
+        }
+        final int parent = this.parents[this.depth - 1];
+        final int following = this.tape.skip(this.index);
+        if (following == end(parent)) {
+            return false;
+        }
+        this.index = following + keyLength(parent);
+        return true;
+    }
+
+    /**
+     * Moves back to the container enclosing the current value.
+     *
+     * @throws IllegalStateException if the cursor is positioned at the top-level value
+     */
+    public void exit() throws IllegalStateException {
+        if (this.depth == 0) {
+            throw new IllegalStateException("The top-level value has no enclosing container.");
+        }
+        this.index = this.parents[--this.depth];
+    }
+
+    /**
+     * Moves to the value of the first property of the current object with the given key.
+     * The key is compared with the keys as they are written in the document, including escape sequences.
+     *
+     * @param key key of the property
+     * @return {@code true} if the cursor was moved, {@code false} if the object has no such property
+     * @throws IllegalStateException if the current value is no object
+     */
+    public boolean enterProperty(final String key) throws IllegalStateException {
+        requireTag(JsonTape.OBJECT_START, "object");
+        final int end = end(this.index);
+        for (int i = this.index + 1; i < end; i = this.tape.skip(i + 2)) {
+            if (this.tape.textEquals(i, key)) {
+                enterAt(i + 2);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Moves to the element of the current array at the given index.
+     *
+     * @param elementIndex index of the element
+     * @return {@code true} if the cursor was moved, {@code false} if the array has no such element
+     * @throws IllegalStateException if the current value is no array
+     */
+    public boolean enterElement(final int elementIndex) throws IllegalStateException {
+        requireTag(JsonTape.ARRAY_START, "array");
+        if (elementIndex < 0) {
+            return false;
+        }
+        final int end = end(this.index);
+        int i = this.index + 1;
+        for (int j = 0; j < elementIndex && i < end; j++) {
+            i = this.tape.skip(i);
+        }
+        if (i >= end) {
+            return false;
+        }
+        enterAt(i);
+        return true;
+    }
+
+    /**
+     * Converts the current value into a {@link JsonValue} tree without any whitespace.
+     *
+     * @return created {@link JsonValue}
+     */
+    public JsonValue toJsonValue() {
+        return this.tape.toJsonValue(this.index);
+    }
+
+    private void enterAt(final int valueIndex) {
+        if (this.depth == this.parents.length) {
+            this.parents = Arrays.copyOf(this.parents, 2 * this.depth);
+        }
+        this.parents[this.depth++] = this.index;
+        this.index = valueIndex;
+    }
+
+    /**
+     * Returns the number of entries of the key in front of each element of the given container.
+     */
+    private int keyLength(final int containerIndex) {
+        return this.tape.tag(containerIndex) == JsonTape.OBJECT_START ? 2 : 0;
+    }
+
+    private int end(final int containerIndex) {
+        return (int) (this.tape.payload(containerIndex) & JsonTape.INDEX_MASK);
+    }
+
+    private void requireContainer() throws IllegalStateException {
+        final int tag = this.tape.tag(this.index);
+        if (tag != JsonTape.OBJECT_START && tag != JsonTape.ARRAY_START) {
+            throw new IllegalStateException("The current value is no container.");
+        }
+    }
+
+    private void requireTag(final int tag, final String name) throws IllegalStateException {
+        if (this.tape.tag(this.index) != tag) {
+            throw new IllegalStateException("The current value is no " + name + ".");
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package org.parstastic.jparstastic_json.tape;
+
+import org.parstastic.jparstastic_json.node.nodes.ArrayNode;
+import org.parstastic.jparstastic_json.node.nodes.NumberNode;
+import org.parstastic.jparstastic_json.node.nodes.ObjectNode;
+import org.parstastic.jparstastic_json.node.nodes.StringNode;
+import org.parstastic.jparstastic_json.parser.FastJsonParser;
+import org.parstastic.jparstastic_json.parser.JsonParsingProcess;
+import org.parstastic.jparstastic_json.parser.input.JsonInputEncodingException;
+import org.parstastic.jparstastic_json.parser.parsers.JsonParticleParser;
+
+import java.io.Serial;
+import java.util.Arrays;
+
+import static org.parstastic.jparstastic_json.node.nodes.ObjectNode.ObjectNodeProperty;
+
+/**
+ * This class parses <code>JSON</code> documents into {@link JsonTape}s.
+ * It accepts exactly the documents accepted by {@link FastJsonParser}, looking at every character once in a tight loop
+ * and writing each value straight to the tape, so no {@link org.parstastic.jparstastic_json.node.JsonParticle}
+ * is created for it. Nested containers are kept on an explicit stack limited by a configurable maximum depth.
+ * <p>
+ * Invalid documents are parsed again by a {@link FastJsonParser}, so errors are exactly the same as its errors.
+ */
+public class JsonTapeParser extends JsonParticleParser<JsonTape> {
+    /**
+     * This exception signals that the document is invalid. It is thrown without stack trace.
+     */
+    private static final class JsonTapeParsingException extends Exception {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private JsonTapeParsingException() {
+            super(null, null, false, false);
+        }
+    }
+
+    private static final JsonTapeParsingException FAILURE = new JsonTapeParsingException();
+    /**
+     * Largest number of digits of an integer which always fits a {@code long}
+     */
+    private static final int MAX_INTEGER_DIGITS = 18;
+
+    private final int maxDepth;
+    private final FastJsonParser fallbackParser;
+
+    /**
+     * Creates a {@link JsonTapeParser} allowing up to {@link FastJsonParser#DEFAULT_MAX_DEPTH} nested containers.
+     */
+    public JsonTapeParser() {
+        this(FastJsonParser.DEFAULT_MAX_DEPTH);
+    }
+
+    /**
+     * Creates a {@link JsonTapeParser} allowing up to the given number of nested containers.
+     *
+     * @param maxDepth maximum number of nested containers
+     * @throws IllegalArgumentException if {@code maxDepth} is negative
+     */
+    public JsonTapeParser(final int maxDepth) throws IllegalArgumentException {
+        super();
+        this.fallbackParser = new FastJsonParser(maxDepth);
+        this.maxDepth = maxDepth;
+    }
+
+    @Override
+    public boolean canParse(final JsonParsingProcess parsingProcess) {
+        return true;
+    }
+
+    @Override
+    public JsonTape tryParse(final JsonParsingProcess parsingProcess) {
+        final JsonParsingProcess tapeParsingProcess = new JsonParsingProcess(parsingProcess);
+        final JsonTapeBuilder builder = new JsonTapeBuilder();
+        try {
+            parseDocument(tapeParsingProcess, builder);
+        } catch (final JsonTapeParsingException | JsonInputEncodingException e) {
+            if (this.fallbackParser.tryParse(parsingProcess) != null) {
+                throw new IllegalStateException("The document was rejected, but is valid.");
+            }
+            return null;
+        }
+        parsingProcess.incrementIndex(tapeParsingProcess.getIndex() - parsingProcess.getIndex());
+        return builder.build();
+    }
+
+    /**
+     * Parses a whole document, including the whitespace around its value, without recursion.
+     * Every opened non-empty container pushes the index of its start entry and counts its elements,
+     * until its end delimiter is parsed.
+     *
+     * @param parsingProcess {@link JsonParsingProcess} to parse from
+     * @param builder        {@link JsonTapeBuilder} to append the values to
+     * @throws JsonTapeParsingException if the document is invalid or nested too deep
+     */
+    private void parseDocument(final JsonParsingProcess parsingProcess, final JsonTapeBuilder builder)
+            throws JsonTapeParsingException {
+        int[] starts = new int[16];
+        int[] counts = new int[16];
+        boolean[] isObjects = new boolean[16];
+        int depth = 0;
+        parsingProcess.skipWhitespace();
+        while (true) {
+            if (!parsingProcess.isIndexInJson()) {
+                throw FAILURE;
+            }
+            final char c = parsingProcess.getChar();
+            if (c == ObjectNode.DELIMITER_START || c == ArrayNode.DELIMITER_START) {
+                if (depth == this.maxDepth) {
+                    throw FAILURE;
+                }
+                final boolean isObject = c == ObjectNode.DELIMITER_START;
+                final int start = builder.startContainer(isObject);
+                parsingProcess.incrementIndex();
+                parsingProcess.skipWhitespace();
+                if (parsingProcess.isAtChar(isObject ? ObjectNode.DELIMITER_END : ArrayNode.DELIMITER_END)) {
+                    parsingProcess.incrementIndex();
+                    builder.endContainer(start, 0);
+                } else {
+                    if (depth == starts.length) {
+                        starts = Arrays.copyOf(starts, 2 * depth);
+                        counts = Arrays.copyOf(counts, 2 * depth);
+                        isObjects = Arrays.copyOf(isObjects, 2 * depth);
+                    }
+                    starts[depth] = start;
+                    counts[depth] = 0;
+                    isObjects[depth] = isObject;
+                    depth++;
+                    if (isObject) {
+                        parseKey(parsingProcess, builder);
+                    }
+                    continue;
+                }
+            } else {
+                parseScalar(parsingProcess, builder);
+            }
+
+            parsingProcess.skipWhitespace();
+            while (true) {
+                if (depth == 0) {
+                    if (!parsingProcess.isFinished()) {
+                        throw FAILURE;
+                    }
+                    return;
+                }
+                final boolean isObject = isObjects[depth - 1];
+                counts[depth - 1]++;
+                if (parsingProcess.isAtChar(isObject ? ObjectNode.DELIMITER_ELEMENTS : ArrayNode.DELIMITER_ELEMENTS)) {
+                    parsingProcess.incrementIndex();
+                    parsingProcess.skipWhitespace();
+                    if (isObject) {
+                        parseKey(parsingProcess, builder);
+                    }
+                    break;
+                }
+                parseCharacter(parsingProcess, isObject ? ObjectNode.DELIMITER_END : ArrayNode.DELIMITER_END);
+                depth--;
+                builder.endContainer(starts[depth], counts[depth]);
+                parsingProcess.skipWhitespace();
+            }
+        }
+    }
+
+    /**
+     * Parses the key of a property up to the leading whitespace of its value.
+     *
+     * @param parsingProcess {@link JsonParsingProcess} to parse from
+     * @param builder        {@link JsonTapeBuilder} to append the key to
+     * @throws JsonTapeParsingException if the key cannot be parsed
+     */
+    private static void parseKey(final JsonParsingProcess parsingProcess, final JsonTapeBuilder builder)
+            throws JsonTapeParsingException {
+        if (!parsingProcess.isAtChar(StringNode.DELIMITER)) {
+            throw FAILURE;
+        }
+        builder.appendString(parseString(parsingProcess));
+        parsingProcess.skipWhitespace();
+        parseCharacter(parsingProcess, ObjectNodeProperty.KEY_VALUE_DELIMITER);
+        parsingProcess.skipWhitespace();
+    }
+
+    private static void parseScalar(final JsonParsingProcess parsingProcess, final JsonTapeBuilder builder)
+            throws JsonTapeParsingException {
+        switch (parsingProcess.getChar()) {
+            case StringNode.DELIMITER -> builder.appendString(parseString(parsingProcess));
+            case 't' -> parseLiteral(parsingProcess, builder, "true", JsonTape.TRUE);
+            case 'f' -> parseLiteral(parsingProcess, builder, "false", JsonTape.FALSE);
+            case 'n' -> parseLiteral(parsingProcess, builder, "null", JsonTape.NULL);
+            default -> parseNumber(parsingProcess, builder);
+        }
+    }
+
+    private static void parseLiteral(final JsonParsingProcess parsingProcess,
+                                     final JsonTapeBuilder builder,
+                                     final String literal,
+                                     final int tag)
+            throws JsonTapeParsingException {
+        if (!parsingProcess.startsWith(literal)) {
+            throw FAILURE;
+        }
+        parsingProcess.incrementIndex(literal.length());
+        builder.appendLiteral(tag);
+    }
+
+    private static String parseString(final JsonParsingProcess parsingProcess) throws JsonTapeParsingException {
+        parsingProcess.incrementIndex();
+        final long start = parsingProcess.getIndex();
+        while (true) {
+            parsingProcess.skipStringCharacters();
+            if (!parsingProcess.isIndexInJson()) {
+                throw FAILURE;
+            }
+            final char c = parsingProcess.getChar();
+            if (c == StringNode.DELIMITER) {
+                break;
+            }
+            parsingProcess.incrementIndex();
+            if (c == '\\') {
+                parseEscapeTarget(parsingProcess);
+            }
+        }
+        final String value = parsingProcess.substring(start);
+        parsingProcess.incrementIndex();
+        return value;
+    }
+
+    private static void parseEscapeTarget(final JsonParsingProcess parsingProcess) throws JsonTapeParsingException {
+        if (!parsingProcess.isIndexInJson()) {
+            throw FAILURE;
+        }
+        switch (parsingProcess.getChar()) {
+            case '"', '\\', '/', 'b', 'f', 'n', 'r', 't' -> parsingProcess.incrementIndex();
+            case 'u' -> {
+                parsingProcess.incrementIndex();
+                for (int i = 0; i < 4; i++) {
+                    if (!parsingProcess.isIndexInJson() || Character.digit(parsingProcess.getChar(), 16) < 0) {
+                        throw FAILURE;
+                    }
+                    parsingProcess.incrementIndex();
+                }
+            }
+            default -> throw FAILURE;
+        }
+    }
+
+    /**
+     * Parses a number. Integers with up to {@link #MAX_INTEGER_DIGITS} digits are stored as {@code long},
+     * all other numbers as text.
+     *
+     * @param parsingProcess {@link JsonParsingProcess} to parse from
+     * @param builder        {@link JsonTapeBuilder} to append the number to
+     * @throws JsonTapeParsingException if the number cannot be parsed
+     */
+    private static void parseNumber(final JsonParsingProcess parsingProcess, final JsonTapeBuilder builder)
+            throws JsonTapeParsingException {
+        final long start = parsingProcess.getIndex();
+        final boolean isNegative = parsingProcess.isAtChar(NumberNode.NEGATIVE_NUMBER_PREFIX);
+        if (isNegative) {
+            parsingProcess.incrementIndex();
+        }
+        long integer = 0;
+        if (parsingProcess.isAtChar('0')) {
+            parsingProcess.incrementIndex();
+        } else if (parsingProcess.isIndexInJson() && isDigitOneToNine(parsingProcess.getChar())) {
+            while (parsingProcess.isIndexInJson() && isDigit(parsingProcess.getChar())) {
+                integer = 10 * integer + (parsingProcess.getChar() - '0');
+                parsingProcess.incrementIndex();
+            }
+        } else {
+            throw FAILURE;
+        }
+        final long digits = parsingProcess.getIndex() - start - (isNegative ? 1 : 0);
+        boolean isInteger = digits <= MAX_INTEGER_DIGITS && !(isNegative && integer == 0);
+        if (parsingProcess.isAtChar(NumberNode.DECIMAL_DELIMITER)) {
+            isInteger = false;
+            parsingProcess.incrementIndex();
+            parseDigits(parsingProcess);
+        }
+        if (parsingProcess.isAtChar(NumberNode.EXPONENT_SYMBOL)
+                || parsingProcess.isAtChar(NumberNode.EXPONENT_SYMBOL_CAPITALIZED)) {
+            isInteger = false;
+            parsingProcess.incrementIndex();
+            if (parsingProcess.isAtChar('-') || parsingProcess.isAtChar('+')) {
+                parsingProcess.incrementIndex();
+            }
+            parseDigits(parsingProcess);
+        }
+        if (isInteger) {
+            builder.appendInteger(isNegative ? -integer : integer);
+        } else {
+            builder.appendNumber(parsingProcess.substring(start));
+        }
+    }
+
+    private static void parseDigits(final JsonParsingProcess parsingProcess) throws JsonTapeParsingException {
+        if (!parsingProcess.isIndexInJson() || !isDigit(parsingProcess.getChar())) {
+            throw FAILURE;
+        }
+        do {
+            parsingProcess.incrementIndex();
+        } while (parsingProcess.isIndexInJson() && isDigit(parsingProcess.getChar()));
+    }
+
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isDigitOneToNine(final char c) {
+        return c >= '1' && c <= '9';
+    }
+
+    private static void parseCharacter(final JsonParsingProcess parsingProcess, final char c)
+            throws JsonTapeParsingException {
+        if (!parsingProcess.isAtChar(c)) {
+            throw FAILURE;
+        }
+        parsingProcess.incrementIndex();
+    }
+}
@@ -1,10 +1,16 @@
 package org.parstastic.jparstastic_json;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.parstastic.jparstastic_json.node.JsonParticleInstantiationException;
 import org.parstastic.jparstastic_json.node.JsonValue;
 import org.parstastic.jparstastic_json.node.Whitespace;
 import org.parstastic.jparstastic_json.node.nodes.StringNode;
+import org.parstastic.jparstastic_json.parser.JsonParsingEngine;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -27,9 +33,37 @@ class JSONTest {
                 ));
     }
 
+    @Test
+    void parse_successWithEngine() throws JsonParticleInstantiationException {
+        for (final JsonParsingEngine engine : JsonParsingEngine.values()) {
+            assertThat(JSON.parse("\"test\"", engine))
+                    .usingRecursiveComparison()
+                    .isEqualTo(new JsonValue(
+                            new Whitespace(""),
+                            new StringNode("test"),
+                            new Whitespace("")
+                    ));
+        }
+    }
+
     @Test
     void parse_failure() {
         assertThatThrownBy(() -> JSON.parse("\"test"))
                 .isInstanceOf(RuntimeException.class);
     }
-}
\ No newline at end of file
+
+    @Test
+    void parse_successWithPath(@TempDir final Path directory) throws IOException, JsonParticleInstantiationException {
+        final Path path = Files.writeString(directory.resolve("test.json"), "\"test\"");
+
+        for (final JsonParsingEngine engine : JsonParsingEngine.values()) {
+            assertThat(JSON.parse(path, engine))
+                    .usingRecursiveComparison()
+                    .isEqualTo(new JsonValue(
+                            new Whitespace(""),
+                            new StringNode("test"),
+                            new Whitespace("")
+                    ));
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package org.parstastic.jparstastic_json.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.parstastic.jparstastic_json.node.JsonValue;
+import org.parstastic.jparstastic_json.node.nodes.ObjectNode;
+import org.parstastic.jparstastic_json.node.nodes.StringNode;
+import org.parstastic.jparstastic_json.parser.FastJsonParser;
+import org.parstastic.jparstastic_json.parser.JsonParsingResult;
+import org.parstastic.jparstastic_json.parser.lazy.LazyJsonParser;
+import org.parstastic.jparstastic_json.parser.parsers.JsonParticleParser;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.parstastic.jparstastic_json.node.nodes.ObjectNode.ObjectNodeProperty;
+
+/**
+ * Compares eager and lazy parsing of a document with many fields of which only a few are read.
+ * Run {@link #main(String[])} and compare the {@code Score} and {@code gc.alloc.rate.norm} columns.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LazyParsingBenchmark {
+    private static final String[] READ_FIELDS = {"field7", "field42", "field113", "nested"};
+
+    /**
+     * Number of fields of the document
+     */
+    @Param({"200"})
+    public int fields;
+
+    @Param({"eager", "lazy"})
+    public String mode;
+
+    private String json;
+    private JsonParticleParser<JsonValue> parser;
+
+    @Setup
+    public void setUp() {
+        final StringBuilder json = new StringBuilder("{\n");
+        for (int i = 0; i < this.fields; i++) {
+            json.append("  \"field").append(i).append("\": ");
+            switch (i % 4) {
+                case 0 -> json.append("\"value of field ").append(i).append('"');
+                case 1 -> json.append(i * 31);
+                case 2 -> json.append("[").append(i).append(", \"").append(i).append("\", true, null]");
+                default -> json.append("{\"id\": ").append(i).append(", \"name\": \"n").append(i).append("\"}");
+            }
+            json.append(",\n");
+        }
+        this.json = json.append("  \"nested\": {\"deep\": [1, 2, 3]}\n}").toString();
+        this.parser = this.mode.equals("lazy") ? new LazyJsonParser() : new FastJsonParser();
+    }
+
+    @Benchmark
+    public int parseAndReadFields() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final ObjectNode root = (ObjectNode) this.parser.parse(this.json).getValue().getJsonNode();
+        int length = 0;
+        for (final String field : READ_FIELDS) {
+            for (final ObjectNodeProperty property : root.getElements()) {
+                if (property.getKey().getValue().equals(field)) {
+                    length += property.getValue().getJsonNode() instanceof StringNode string
+                            ? string.getValue().length()
+                            : property.getValue().stringify().length();
+                    break;
+                }
+            }
+        }
+        return length;
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(LazyParsingBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()
+        ).run();
+    }
+}
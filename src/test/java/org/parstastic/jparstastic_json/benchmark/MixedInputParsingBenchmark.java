@@ -0,0 +1,101 @@
+package org.parstastic.jparstastic_json.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.parstastic.jparstastic_json.node.JsonValue;
+import org.parstastic.jparstastic_json.parser.JsonParser;
+import org.parstastic.jparstastic_json.parser.JsonParsingEngine;
+import org.parstastic.jparstastic_json.parser.JsonParsingResult;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing a {@link String} after the same JVM parsed other kinds of inputs.
+ * Every kind of input is a different {@link org.parstastic.jparstastic_json.parser.input.JsonInput} class behind the
+ * same call sites of {@link org.parstastic.jparstastic_json.parser.JsonParsingProcess}, which are monomorphic if only
+ * one kind is parsed, bimorphic for two and megamorphic for more.
+ * Run {@link #main(String[])} and compare the results of the {@code inputKinds} parameter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MixedInputParsingBenchmark {
+    /**
+     * Number of parses of every other kind of input before measuring, enough for the JIT to profile them
+     */
+    private static final int PROFILING_PARSES = 2000;
+
+    /**
+     * Number of kinds of inputs parsed in the JVM, one for {@link String}s only
+     */
+    @Param({"1", "2", "5"})
+    public int inputKinds;
+
+    @Param({"FAST", "STEP_INTERPRETER"})
+    public JsonParsingEngine engine;
+
+    private String json;
+    private JsonParser parser;
+
+    @Setup
+    public void setUp() throws IOException, JsonParsingResult.JsonParsingResultNoSuchElementException {
+        this.json = createPayload();
+        this.parser = JsonParser.getInstance(this.engine);
+        final byte[] utf8 = this.json.getBytes(StandardCharsets.UTF_8);
+        final char[] chars = this.json.toCharArray();
+        for (int i = 0; i < PROFILING_PARSES; i++) {
+            if (this.inputKinds >= 2) {
+                this.parser.parse(utf8).getValue();
+            }
+            if (this.inputKinds >= 3) {
+                this.parser.parse(chars, 0, chars.length).getValue();
+            }
+            if (this.inputKinds >= 4) {
+                this.parser.parse(new StringBuilder(this.json)).getValue();
+            }
+            if (this.inputKinds >= 5) {
+                this.parser.parse(new StringReader(this.json)).getValue();
+            }
+        }
+    }
+
+    @Benchmark
+    public JsonValue parseString() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        return this.parser.parse(this.json).getValue();
+    }
+
+    /**
+     * Creates an API-like response of 200 records.
+     *
+     * @return <code>JSON</code> {@link String} of the response
+     */
+    private static String createPayload() {
+        final StringBuilder json = new StringBuilder("{\"items\": [");
+        for (int i = 0; i < 200; i++) {
+            if (i > 0) {
+                json.append(", ");
+            }
+            json.append("{\"id\": ").append(i)
+                    .append(", \"name\": \"item").append(i).append("\"")
+                    .append(", \"price\": ").append(i * 0.25)
+                    .append(", \"available\": ").append(i % 3 == 0)
+                    .append(", \"tags\": [\"a\", \"b\", null]}");
+        }
+        return json.append("]}").toString();
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MixedInputParsingBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+}
@@ -0,0 +1,124 @@
+package org.parstastic.jparstastic_json.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.parstastic.jparstastic_json.node.JsonValue;
+import org.parstastic.jparstastic_json.parser.FastJsonParser;
+import org.parstastic.jparstastic_json.parser.JsonParsingResult;
+import org.parstastic.jparstastic_json.parser.ParsingOptions;
+import org.parstastic.jparstastic_json.parser.parsers.nodes.DoubleConversion;
+import org.parstastic.jparstastic_json.parser.parsers.nodes.LazyNumberNode;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures converting the coordinates of a GeoJSON document shaped like the well known {@code canada.json},
+ * a polygon of about 110,000 coordinate pairs written with 17 significant digits, with {@link DoubleConversion}
+ * and with {@link Double#parseDouble(String)}, and parsing the whole document, which consists almost only of
+ * such numbers, once converting them and once keeping their text in {@link LazyNumberNode}s. Run {@link #main(String[])} and compare the {@code Score} columns.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NumberParsingBenchmark {
+    /**
+     * Number of coordinate pairs of the document
+     */
+    @Param({"111000"})
+    public int points;
+
+    private String json;
+    private String[] numbers;
+    private final FastJsonParser parser = new FastJsonParser();
+    private final FastJsonParser textKeepingParser = new FastJsonParser(
+            FastJsonParser.DEFAULT_MAX_DEPTH,
+            ParsingOptions.DEFAULT_PARSING_OPTIONS.withNumberTextKept(true)
+    );
+
+    @Setup
+    public void setUp() {
+        this.numbers = createCoordinates(this.points);
+        this.json = createDocument(this.numbers);
+    }
+
+    @Benchmark
+    public double convertWithDoubleConversion() {
+        double sum = 0;
+        for (final String number : this.numbers) {
+            sum += DoubleConversion.toDouble(number);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double convertWithParseDouble() {
+        double sum = 0;
+        for (final String number : this.numbers) {
+            sum += Double.parseDouble(number);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public JsonValue parseDocument() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        return this.parser.parse(this.json).getValue();
+    }
+
+    @Benchmark
+    public JsonValue parseDocumentKeepingNumberText() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        return this.textKeepingParser.parse(this.json).getValue();
+    }
+
+    /**
+     * Creates longitudes and latitudes following a random walk, alternating, written like a {@code double} printed
+     * with 17 significant digits.
+     *
+     * @param points number of coordinate pairs
+     * @return texts of the coordinates
+     */
+    private static String[] createCoordinates(final int points) {
+        final Random random = new Random(42);
+        final MathContext digits = new MathContext(17);
+        final String[] coordinates = new String[2 * points];
+        double longitude = -65.613616999999977;
+        double latitude = 43.420273000000009;
+        for (int i = 0; i < points; i++) {
+            longitude += (random.nextDouble() - 0.5) / 100;
+            latitude += (random.nextDouble() - 0.5) / 100;
+            coordinates[2 * i] = new BigDecimal(longitude).round(digits).toPlainString();
+            coordinates[2 * i + 1] = new BigDecimal(latitude).round(digits).toPlainString();
+        }
+        return coordinates;
+    }
+
+    private static String createDocument(final String[] coordinates) {
+        final StringBuilder json = new StringBuilder(
+                "{\"type\":\"FeatureCollection\",\"features\":[{\"type\":\"Feature\",\"properties\":{\"name\":\"Canada\"},"
+                        + "\"geometry\":{\"type\":\"Polygon\",\"coordinates\":[["
+        );
+        for (int i = 0; i < coordinates.length; i += 2) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append('[').append(coordinates[i]).append(',').append(coordinates[i + 1]).append(']');
+        }
+        return json.append("]]}}]}").toString();
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(NumberParsingBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()
+        ).run();
+    }
+}
@@ -0,0 +1,70 @@
+package org.parstastic.jparstastic_json.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.parstastic.jparstastic_json.node.JsonValue;
+import org.parstastic.jparstastic_json.parser.FastJsonParser;
+import org.parstastic.jparstastic_json.parser.JsonParser;
+import org.parstastic.jparstastic_json.parser.JsonParsingResult;
+import org.parstastic.jparstastic_json.parser.ParallelArrayJsonParser;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares parsing a huge top-level array sequentially with parsing its elements in parallel
+ * on the common {@link java.util.concurrent.ForkJoinPool}.
+ * Run {@link #main(String[])} and compare the {@code Score} column.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParallelArrayParsingBenchmark {
+    /**
+     * Number of elements of the top-level array, about 120 characters each
+     */
+    @Param({"100000"})
+    public int elements;
+
+    private String json;
+    private JsonParser sequentialParser;
+    private JsonParser parallelParser;
+
+    @Setup
+    public void setUp() {
+        final StringBuilder json = new StringBuilder("[\n");
+        for (int i = 0; i < this.elements; i++) {
+            if (i > 0) {
+                json.append(",\n");
+            }
+            json.append("  {\"id\": ").append(i)
+                    .append(", \"name\": \"element ").append(i).append("\"")
+                    .append(", \"price\": ").append(i * 0.01)
+                    .append(", \"tags\": [\"a\", \"b\"], \"stock\": {\"count\": ").append(i % 50).append("}}");
+        }
+        this.json = json.append("\n]").toString();
+        this.sequentialParser = new JsonParser(new FastJsonParser());
+        this.parallelParser = new JsonParser(new ParallelArrayJsonParser());
+    }
+
+    @Benchmark
+    public JsonValue sequential() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        return this.sequentialParser.parse(this.json).getValue();
+    }
+
+    @Benchmark
+    public JsonValue parallel() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        return this.parallelParser.parse(this.json).getValue();
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ParallelArrayParsingBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+}
@@ -0,0 +1,54 @@
+package org.parstastic.jparstastic_json.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.parstastic.jparstastic_json.node.JsonValue;
+import org.parstastic.jparstastic_json.parser.JsonParsingEngine;
+import org.parstastic.jparstastic_json.parser.JsonParsingResult;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures time and bytes allocated per parsed small <code>JSON</code> document.
+ * Run {@link #main(String[])} and read the {@code gc.alloc.rate.norm} column for bytes allocated per document.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParsingAllocationBenchmark {
+    private static final String MALFORMED_JSON = "{\"id\": 42, \"name\": \"foo\", \"active\": tru}";
+
+    @Param({
+            "null",
+            "[1, 2, 3]",
+            "{\"id\": 42, \"name\": \"foo\", \"active\": true, \"tags\": [\"a\", \"b\"]}"
+    })
+    public String json;
+
+    @Param
+    public JsonParsingEngine engine;
+
+    @Benchmark
+    public JsonValue parse() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        return this.engine.getParser().parse(this.json).getValue();
+    }
+
+    @Benchmark
+    public JsonParsingResult<JsonValue> parseMalformed() {
+        return this.engine.getParser().parse(MALFORMED_JSON);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ParsingAllocationBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()
+        ).run();
+    }
+}
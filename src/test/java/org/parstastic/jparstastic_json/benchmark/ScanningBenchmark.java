@@ -0,0 +1,134 @@
+package org.parstastic.jparstastic_json.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.parstastic.jparstastic_json.parser.input.JsonScanner;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the vectorized {@link JsonScanner} with the scalar one on a pretty-printed document
+ * with long string values. The forks enable the Vector API, so both scanners are available.
+ * Run {@link #main(String[])} and compare the {@code Score} column.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class ScanningBenchmark {
+    @Param({"true", "false"})
+    public boolean vectorized;
+
+    private JsonScanner scanner;
+    private char[] chars;
+    private byte[] bytes;
+    /**
+     * Indices of the first characters of all lines
+     */
+    private int[] lineStarts;
+
+    @Setup
+    public void setUp() {
+        this.scanner = this.vectorized ? JsonScanner.getInstance() : JsonScanner.getScalarInstance();
+        if (this.scanner.isVectorized() != this.vectorized) {
+            throw new IllegalStateException("The Vector API is not enabled.");
+        }
+        final String json = createDocument();
+        this.chars = json.toCharArray();
+        this.bytes = json.getBytes(StandardCharsets.UTF_8);
+        this.lineStarts = json.lines().mapToInt(String::length).toArray();
+        for (int i = 0, start = 0; i < this.lineStarts.length; i++) {
+            final int lineLength = this.lineStarts[i];
+            this.lineStarts[i] = start;
+            start += lineLength + 1;
+        }
+    }
+
+    /**
+     * Skips the indentation of every line.
+     */
+    @Benchmark
+    public int skipIndentation() {
+        int sum = 0;
+        for (final int lineStart : this.lineStarts) {
+            sum += this.scanner.skipWhitespace(this.chars, lineStart, this.chars.length);
+        }
+        return sum;
+    }
+
+    /**
+     * Finds all quotes and backslashes in the characters.
+     */
+    @Benchmark
+    public int skipStringCharacters() {
+        int count = 0;
+        for (int i = this.scanner.skipStringCharacters(this.chars, 0, this.chars.length);
+             i < this.chars.length;
+             i = this.scanner.skipStringCharacters(this.chars, i + 1, this.chars.length)) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Finds all quotes and backslashes in the <code>UTF-8</code> encoded bytes.
+     */
+    @Benchmark
+    public int skipStringBytes() {
+        int count = 0;
+        for (int i = this.scanner.skipStringCharacters(this.bytes, 0, this.bytes.length);
+             i < this.bytes.length;
+             i = this.scanner.skipStringCharacters(this.bytes, i + 1, this.bytes.length)) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Finds all structural characters and quotes.
+     */
+    @Benchmark
+    public int findStructural() {
+        int count = 0;
+        for (int i = this.scanner.findStructural(this.chars, 0, this.chars.length);
+             i < this.chars.length;
+             i = this.scanner.findStructural(this.chars, i + 1, this.chars.length)) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Creates a pretty-printed document of 1000 articles with long texts.
+     *
+     * @return <code>JSON</code> {@link String} of the document
+     */
+    private static String createDocument() {
+        final StringBuilder json = new StringBuilder("{\n    \"articles\": [\n");
+        for (int i = 0; i < 1000; i++) {
+            if (i > 0) {
+                json.append(",\n");
+            }
+            json.append("        {\n")
+                    .append("            \"id\": ").append(i).append(",\n")
+                    .append("            \"title\": \"Article number ").append(i).append(" about parsing\",\n")
+                    .append("            \"body\": \"").append("Lorem ipsum dolor sit amet, consectetur adipiscing elit. ".repeat(1 + i % 8))
+                    .append("\\\"Quoted\\\" text follows.\",\n")
+                    .append("            \"tags\": [\n                \"json\",\n                \"simd\"\n            ]\n")
+                    .append("        }");
+        }
+        return json.append("\n    ]\n}\n").toString();
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ScanningBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+}
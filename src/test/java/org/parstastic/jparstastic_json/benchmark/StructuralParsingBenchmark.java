@@ -0,0 +1,90 @@
+package org.parstastic.jparstastic_json.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.parstastic.jparstastic_json.node.JsonValue;
+import org.parstastic.jparstastic_json.parser.JsonParser;
+import org.parstastic.jparstastic_json.parser.JsonParsingEngine;
+import org.parstastic.jparstastic_json.parser.JsonParsingResult;
+import org.parstastic.jparstastic_json.parser.StructuralIndex;
+import org.parstastic.jparstastic_json.parser.input.JsonInput;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the engines on a large document, and measures the first stage of the
+ * {@link JsonParsingEngine#STRUCTURAL} engine on its own.
+ * Run {@link #main(String[])} and compare the {@code Score} and {@code gc.alloc.rate.norm} columns.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StructuralParsingBenchmark {
+    /**
+     * Number of records of the document, about 250 characters each
+     */
+    @Param({"20000"})
+    public int records;
+
+    @Param({"STEP_INTERPRETER", "FAST", "STRUCTURAL"})
+    public JsonParsingEngine engine;
+
+    private String json;
+    private JsonParser parser;
+
+    @Setup
+    public void setUp() {
+        this.json = createDocument(this.records);
+        this.parser = JsonParser.getInstance(this.engine);
+    }
+
+    @Benchmark
+    public JsonValue parse() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        return this.parser.parse(this.json).getValue();
+    }
+
+    @Benchmark
+    public StructuralIndex buildIndex() {
+        return StructuralIndex.build(JsonInput.of(this.json), 0, this.json.length());
+    }
+
+    /**
+     * Creates a log-like document of records with strings, escapes, numbers and nested containers.
+     *
+     * @param records number of records
+     * @return <code>JSON</code> {@link String} of the document
+     */
+    static String createDocument(final int records) {
+        final StringBuilder json = new StringBuilder("[\n");
+        for (int i = 0; i < records; i++) {
+            if (i > 0) {
+                json.append(",\n");
+            }
+            json.append("  {\"id\": ").append(i)
+                    .append(", \"timestamp\": \"2024-01-").append(10 + i % 20).append("T12:00:00Z\"")
+                    .append(", \"level\": \"").append(i % 7 == 0 ? "WARN" : "INFO").append("\"")
+                    .append(", \"message\": \"request \\\"GET /api/items/").append(i).append("\\\" took ")
+                    .append(i % 1000).append(" ms\"")
+                    .append(", \"duration\": ").append(i * 0.125)
+                    .append(", \"ok\": ").append(i % 13 != 0)
+                    .append(", \"tags\": [\"http\", \"api\", null]")
+                    .append(", \"client\": {\"ip\": \"10.0.").append(i % 256).append('.').append(i % 100)
+                    .append("\", \"retries\": ").append(i % 3).append("}}");
+        }
+        return json.append("\n]").toString();
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(StructuralParsingBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()
+        ).run();
+    }
+}
@@ -0,0 +1,79 @@
+package org.parstastic.jparstastic_json.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.parstastic.jparstastic_json.node.JsonValue;
+import org.parstastic.jparstastic_json.parser.FastJsonParser;
+import org.parstastic.jparstastic_json.parser.JsonParsingResult;
+import org.parstastic.jparstastic_json.tape.JsonTape;
+import org.parstastic.jparstastic_json.tape.JsonTapeCursor;
+import org.parstastic.jparstastic_json.tape.JsonTapeParser;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares parsing the document of {@link StructuralParsingBenchmark} into a {@link JsonValue} tree and into a
+ * {@link JsonTape}, and reading one field of every record of the {@link JsonTape} with a {@link JsonTapeCursor}.
+ * Run {@link #main(String[])} and compare the {@code Score} and {@code gc.alloc.rate.norm} columns,
+ * the allocated bytes of a parse being close to the retained heap of its result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TapeBenchmark {
+    /**
+     * Number of records of the document, about 250 characters each
+     */
+    @Param({"20000"})
+    public int records;
+
+    private String json;
+    private final FastJsonParser treeParser = new FastJsonParser();
+    private final JsonTapeParser tapeParser = new JsonTapeParser();
+    private JsonTape tape;
+
+    @Setup
+    public void setUp() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        this.json = StructuralParsingBenchmark.createDocument(this.records);
+        this.tape = this.tapeParser.parse(this.json).getValue();
+    }
+
+    @Benchmark
+    public JsonValue parseTree() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        return this.treeParser.parse(this.json).getValue();
+    }
+
+    @Benchmark
+    public JsonTape parseTape() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        return this.tapeParser.parse(this.json).getValue();
+    }
+
+    @Benchmark
+    public double sumDurations() {
+        final JsonTapeCursor cursor = this.tape.cursor();
+        double sum = 0;
+        if (cursor.enter()) {
+            do {
+                if (cursor.enterProperty("duration")) {
+                    sum += cursor.getDouble();
+                    cursor.exit();
+                }
+            } while (cursor.next());
+        }
+        return sum;
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TapeBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()
+        ).run();
+    }
+}
@@ -0,0 +1,91 @@
+package org.parstastic.jparstastic_json.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.parstastic.jparstastic_json.node.JsonValue;
+import org.parstastic.jparstastic_json.parser.JsonParser;
+import org.parstastic.jparstastic_json.parser.JsonParsingEngine;
+import org.parstastic.jparstastic_json.parser.JsonParsingResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares parsing <code>UTF-8</code> encoded <code>JSON</code> documents directly on their bytes
+ * with decoding them into a {@link String} first.
+ * Run {@link #main(String[])} and compare the {@code gc.alloc.rate.norm} column for bytes allocated per document.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Utf8ParsingBenchmark {
+    private static final String[] NAMES = {"Anna", "Zoë", "José", "Łukasz", "東京", "Müller", "Søren", "Ana María"};
+
+    /**
+     * Share of records whose strings contain non-<code>ASCII</code> characters, in percent
+     */
+    @Param({"0", "50"})
+    public int nonAsciiPercentage;
+
+    @Param({"FAST"})
+    public JsonParsingEngine engine;
+
+    private byte[] utf8;
+    private JsonParser parser;
+
+    @Setup
+    public void setUp() {
+        this.utf8 = createPayload(this.nonAsciiPercentage).getBytes(StandardCharsets.UTF_8);
+        this.parser = JsonParser.getInstance(this.engine);
+    }
+
+    @Benchmark
+    public JsonValue parseBytes() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        return this.parser.parse(this.utf8).getValue();
+    }
+
+    @Benchmark
+    public JsonValue decodeThenParse() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        return this.parser.parse(new String(this.utf8, StandardCharsets.UTF_8)).getValue();
+    }
+
+    /**
+     * Creates an API-like response of 500 user records.
+     *
+     * @param nonAsciiPercentage share of records whose strings contain non-<code>ASCII</code> characters, in percent
+     * @return <code>JSON</code> {@link String} of the response
+     */
+    private static String createPayload(final int nonAsciiPercentage) {
+        final StringBuilder json = new StringBuilder("{\"page\": 1, \"users\": [");
+        for (int i = 0; i < 500; i++) {
+            final boolean nonAscii = i % 100 < nonAsciiPercentage;
+            final String name = nonAscii ? NAMES[i % NAMES.length] : "user" + i;
+            if (i > 0) {
+                json.append(", ");
+            }
+            json.append("{\"id\": ").append(i)
+                    .append(", \"name\": \"").append(name).append("\"")
+                    .append(", \"email\": \"").append("user").append(i).append("@example.com\"")
+                    .append(", \"score\": ").append(i * 0.25)
+                    .append(", \"active\": ").append(i % 3 == 0)
+                    .append(", \"tags\": [\"a\", \"").append(nonAscii ? "größe" : "size").append("\"]")
+                    .append(", \"address\": {\"city\": \"").append(nonAscii ? "München" : "Berlin")
+                    .append("\", \"zip\": \"").append(10000 + i).append("\"}}");
+        }
+        return json.append("]}").toString();
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(Utf8ParsingBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()
+        ).run();
+    }
+}
@@ -0,0 +1,295 @@
+package org.parstastic.jparstastic_json.parser;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.parstastic.jparstastic_json.node.JsonValue;
+import org.parstastic.jparstastic_json.node.StringifyOptions;
+import org.parstastic.jparstastic_json.node.Whitespace;
+import org.parstastic.jparstastic_json.node.nodes.ArrayNode;
+import org.parstastic.jparstastic_json.node.nodes.NumberNode;
+import org.parstastic.jparstastic_json.node.nodes.ObjectNode;
+import org.parstastic.jparstastic_json.node.nodes.StringNode;
+import org.parstastic.jparstastic_json.parser.input.JsonInput;
+import org.parstastic.jparstastic_json.parser.parsers.JsonParticleParser;
+import org.parstastic.jparstastic_json.parser.parsers.nodes.LazyNumberNode;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.parstastic.jparstastic_json.node.nodes.ObjectNode.ObjectNodeProperty;
+
+class FastJsonParserTest extends FullStringJsonParserTest {
+    private static final ParsingOptions NUMBER_TEXT_KEEPING_OPTIONS =
+            ParsingOptions.DEFAULT_PARSING_OPTIONS.withNumberTextKept(true);
+    private static final ParsingOptions NO_KEY_TABLE_OPTIONS =
+            ParsingOptions.DEFAULT_PARSING_OPTIONS.withKeyTableCapacity(0);
+
+    @Override
+    protected JsonParticleParser<?> getInstance() {
+        return new FastJsonParser();
+    }
+
+    @Test
+    void parse_successWithMaxDepth() {
+        assertThat(new FastJsonParser(2).parse("[{\"a\": 1}]").hasValue())
+                .isTrue();
+    }
+
+    @Test
+    void parse_failureWithExceededMaxDepth() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final JsonParsingProcess parsingProcess = new JsonParsingProcess("[{\"a\": []}]");
+        for (int i = 0; i < 7; i++) {
+            parsingProcess.incrementIndex();
+        }
+
+        assertThat(new FastJsonParser(2).parse("[{\"a\": []}]").getError())
+                .usingRecursiveComparison()
+                .isEqualTo(new JsonParsingResult.JsonParsingResultError(
+                        "The maximum nesting depth was exceeded.",
+                        parsingProcess
+                ));
+    }
+
+    @Test
+    void parse_successWithNumberTextKept() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final String json = "[1.50, 1e0, -0, 0.1000000000000000000001, 12345678901234567890123, -2.5E+3]";
+        final JsonValue value = new FastJsonParser(FastJsonParser.DEFAULT_MAX_DEPTH, NUMBER_TEXT_KEEPING_OPTIONS).parse(json).getValue();
+        final List<NumberNode> numbers = ((ArrayNode) value.getJsonNode()).getElements().stream()
+                .map(element -> (NumberNode) element.getJsonNode())
+                .toList();
+
+        assertThat(value.stringify())
+                .isEqualTo(json);
+        assertThat(numbers)
+                .allSatisfy(number -> assertThat(number)
+                        .isInstanceOf(LazyNumberNode.class)
+                        .matches(lazyNumber -> !((LazyNumberNode) lazyNumber).isMaterialized()));
+        assertThat(numbers.get(3).toBigDecimal())
+                .isEqualTo(new BigDecimal("0.1000000000000000000001"));
+        assertThat(numbers.get(5).doubleValue())
+                .isEqualTo(-2500.0);
+        assertThat(numbers.get(4).getRepresentation())
+                .isEqualTo(NumberNode.NumberNodeRepresentation.BIG_INTEGER);
+        assertThat(numbers.get(5).longValue())
+                .isEqualTo(-2500);
+        assertThat(((LazyNumberNode) numbers.get(5)).isMaterialized())
+                .isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"-", "01", "1.", "1e", "1e+", "[1.5e-]", "[1,-x]"})
+    void parse_failureWithNumberTextKept(final String json) throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        assertThat(new FastJsonParser(FastJsonParser.DEFAULT_MAX_DEPTH, NUMBER_TEXT_KEEPING_OPTIONS).parse(json).getError())
+                .usingRecursiveComparison()
+                .isEqualTo(new FastJsonParser().parse(json).getError());
+    }
+
+    @Test
+    void parse_successWithWhitespaceDropped() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final String json = "\n{\n    \"a\": [1, 2.5, {\"b\": null}],\r\n\t\"c\": {\"d\": [ [ ], { } ]}\n}\n";
+        final JsonValue value = new FastJsonParser(FastJsonParser.DEFAULT_MAX_DEPTH, ParsingOptions.DATA_ONLY_PARSING_OPTIONS)
+                .parse(json)
+                .getValue();
+
+        assertThat(value.stringify())
+                .isEqualTo(new FastJsonParser().parse(json).getValue().stringify(StringifyOptions.MINIMAL_STRINGIFY_OPTIONS));
+        assertThat(value.getLeadingWhitespace())
+                .isSameAs(Whitespace.EMPTY);
+        assertThat(value.getTrailingWhitespace())
+                .isSameAs(Whitespace.EMPTY);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", " ", "[1 2]", "[1,]", "{\"a\" 1}", "null null", "[1,\u000B2]", " \f1"})
+    void parse_failureWithWhitespaceDropped(final String json) throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        assertThat(new FastJsonParser(FastJsonParser.DEFAULT_MAX_DEPTH, ParsingOptions.DATA_ONLY_PARSING_OPTIONS).parse(json).getError())
+                .usingRecursiveComparison()
+                .isEqualTo(new FastJsonParser().parse(json).getError());
+    }
+
+    @Test
+    void parse_successWithInternedKeys() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final String json = "[{\"id\": 1, \"n\\u00e4me\": 2, \"ü\": 3}, {\"id\": 4, \"n\\u00e4me\": 5, \"ü\": 6}]";
+        final FastJsonParser parser = new FastJsonParser();
+        final List<StringNode> keys = getKeys(parser.parse(json).getValue());
+        final byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        final List<StringNode> utf8Keys = getKeys(parser.parse(JsonInput.ofUtf8(bytes, 0, bytes.length)).getValue());
+
+        assertThat(keys)
+                .extracting(StringNode::getValue)
+                .containsExactly("id", "n\\u00e4me", "ü", "id", "n\\u00e4me", "ü");
+        assertThat(utf8Keys)
+                .extracting(StringNode::getValue)
+                .containsExactlyElementsOf(keys.stream().map(StringNode::getValue).toList());
+        assertThat(keys.get(3))
+                .isSameAs(keys.getFirst())
+                .isSameAs(utf8Keys.getFirst())
+                .isSameAs(utf8Keys.get(3));
+        assertThat(keys.get(4))
+                .isNotSameAs(keys.get(1));
+        assertThat(keys.get(5))
+                .isNotSameAs(keys.get(2));
+    }
+
+    @Test
+    void parse_successWithKeyTableOverflow() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final String json = "{\"a\": {\"b\": {\"c\": 1}}, \"b\": 2, \"a\": 3, \"c\": 4}";
+        final JsonValue expected = new FastJsonParser(FastJsonParser.DEFAULT_MAX_DEPTH, NO_KEY_TABLE_OPTIONS)
+                .parse(json)
+                .getValue();
+
+        assertThat(new FastJsonParser(FastJsonParser.DEFAULT_MAX_DEPTH, ParsingOptions.DEFAULT_PARSING_OPTIONS.withKeyTableCapacity(2))
+                .parse(json)
+                .getValue())
+                .usingRecursiveComparison()
+                .isEqualTo(expected);
+        assertThat(getKeys(expected))
+                .extracting(StringNode::getValue)
+                .containsExactly("a", "b", "c", "b", "a", "c");
+    }
+
+    @Test
+    void parse_successWithoutInternedKeys() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final List<StringNode> keys = getKeys(new FastJsonParser(FastJsonParser.DEFAULT_MAX_DEPTH, NO_KEY_TABLE_OPTIONS)
+                .parse("[{\"id\": 1}, {\"id\": 2}]")
+                .getValue());
+
+        assertThat(keys.get(1))
+                .isNotSameAs(keys.getFirst())
+                .usingRecursiveComparison()
+                .isEqualTo(keys.getFirst());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"{\"a", "{\"a\\", "{\"a\\x\": 1}", "{\"a\" 1}", "[{\"a\": 1}, {\"a\": }]"})
+    void parse_failureWithInternedKeys(final String json) throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        assertThat(new FastJsonParser().parse(json).getError())
+                .usingRecursiveComparison()
+                .isEqualTo(new FastJsonParser(FastJsonParser.DEFAULT_MAX_DEPTH, NO_KEY_TABLE_OPTIONS).parse(json).getError());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, ParsingOptions.MAX_KEY_TABLE_CAPACITY + 1})
+    void withKeyTableCapacity_failureWithInvalidCapacity(final int capacity) {
+        assertThatThrownBy(() -> ParsingOptions.DEFAULT_PARSING_OPTIONS.withKeyTableCapacity(capacity))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Collects the keys of all properties of the given value, depth first.
+     */
+    static List<StringNode> getKeys(final JsonValue value) {
+        final List<StringNode> keys = new ArrayList<>();
+        if (value.getJsonNode() instanceof ObjectNode objectNode) {
+            for (final ObjectNodeProperty property : objectNode.getElements()) {
+                keys.add(property.getKey());
+                keys.addAll(getKeys(property.getValue()));
+            }
+        } else if (value.getJsonNode() instanceof ArrayNode arrayNode) {
+            for (final JsonValue element : arrayNode.getElements()) {
+                keys.addAll(getKeys(element));
+            }
+        }
+        return keys;
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "KEEP_ALL   | {\"a\":1,\"b\":2,\"a\":3,\"a\":{\"b\":4,\"b\":5}}",
+            "KEEP_FIRST | {\"a\":1,\"b\":2}",
+            "KEEP_LAST  | {\"a\":{\"b\":5},\"b\":2}"
+    })
+    void parse_successWithDuplicateKeyPolicy(final ParsingOptions.DuplicateKeyPolicy duplicateKeyPolicy,
+                                             final String expected)
+            throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final ParsingOptions options = ParsingOptions.DATA_ONLY_PARSING_OPTIONS.withDuplicateKeyPolicy(duplicateKeyPolicy);
+
+        assertThat(new FastJsonParser(FastJsonParser.DEFAULT_MAX_DEPTH, options)
+                .parse("{\"a\": 1, \"b\": 2, \"a\": 3, \"a\": {\"b\": 4, \"b\": 5}}")
+                .getValue()
+                .stringify())
+                .isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "KEEP_ALL   | '{\n    \"a\": 1,\n    \"b\": 2,\n    \"a\": 3\n}'",
+            "KEEP_FIRST | '{\n    \"a\": 1,\n    \"b\": 2\n}'",
+            "KEEP_LAST  | '{\n    \"a\": 3,\n    \"b\": 2\n}'"
+    })
+    void parse_successWithDuplicateKeyPolicyAndPrettyPrintedObject(
+            final ParsingOptions.DuplicateKeyPolicy duplicateKeyPolicy,
+            final String expected
+    ) throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final ParsingOptions options = ParsingOptions.DEFAULT_PARSING_OPTIONS.withDuplicateKeyPolicy(duplicateKeyPolicy);
+
+        assertThat(new FastJsonParser(FastJsonParser.DEFAULT_MAX_DEPTH, options)
+                .parse("{\n    \"a\": 1,\n    \"b\": 2,\n    \"a\": 3\n}")
+                .getValue()
+                .stringify())
+                .isEqualTo(expected);
+    }
+
+    @Test
+    void parse_successWithDuplicateKeyPolicyAndManyProperties()
+            throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final StringBuilder json = new StringBuilder("[");
+        for (int j = 0; j < 3; j++) {
+            json.append('{');
+            for (int i = 0; i < 100; i++) {
+                json.append("\"field").append(i).append("\":").append(i).append(',');
+            }
+            json.append("\"field42\":-1},");
+        }
+        json.setLength(json.length() - 1);
+        final ParsingOptions options = ParsingOptions.DATA_ONLY_PARSING_OPTIONS
+                .withDuplicateKeyPolicy(ParsingOptions.DuplicateKeyPolicy.KEEP_LAST);
+        final ArrayNode arrayNode = (ArrayNode) new FastJsonParser(FastJsonParser.DEFAULT_MAX_DEPTH, options)
+                .parse(json.append(']').toString())
+                .getValue()
+                .getJsonNode();
+
+        assertThat(arrayNode.getElements())
+                .allSatisfy(element -> assertThat((ObjectNode) element.getJsonNode())
+                        .satisfies(objectNode -> assertThat(objectNode.getElements())
+                                .hasSize(100))
+                        .satisfies(objectNode -> assertThat(objectNode.get("field42").stringify())
+                                .isEqualTo("-1"))
+                        .satisfies(objectNode -> assertThat(objectNode.get("field99").stringify())
+                                .isEqualTo("99")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"{\"a\": 1, \"a\": 2}", "[{\"a\": 1}, {\"b\": {\"c\": 1, \"d\": 2, \"c\": 3}}]"})
+    void parse_failureWithRejectedDuplicateKey(final String json)
+            throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final ParsingOptions options = ParsingOptions.DEFAULT_PARSING_OPTIONS
+                .withDuplicateKeyPolicy(ParsingOptions.DuplicateKeyPolicy.REJECT);
+
+        assertThat(new FastJsonParser(FastJsonParser.DEFAULT_MAX_DEPTH, options).parse(json).getErrorCode())
+                .isEqualTo(JsonParsingErrorCode.DUPLICATE_KEY);
+        assertThat(new FastJsonParser(FastJsonParser.DEFAULT_MAX_DEPTH, options).parse("{\"a\": {\"a\": 1}, \"b\": [{\"a\": 2}]}").hasValue())
+                .isTrue();
+    }
+
+    @Test
+    void parse_successWithDeepNestingOnSmallStack() throws InterruptedException {
+        final int depth = 100_000;
+        final String json = "[".repeat(depth) + "]".repeat(depth);
+        final AtomicReference<JsonParsingResult<?>> result = new AtomicReference<>();
+
+        final Thread thread = new Thread(null, () -> result.set(new FastJsonParser(depth).parse(json)), "parser", 64 * 1024);
+        thread.start();
+        thread.join();
+
+        assertThat(result.get().hasValue())
+                .isTrue();
+    }
+}
@@ -0,0 +1,119 @@
+package org.parstastic.jparstastic_json.parser;
+
+import org.junit.jupiter.api.Test;
+import org.parstastic.jparstastic_json.node.JsonValue;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonFeedParserTest {
+    /**
+     * Documents of the stream, each with the whitespace preceding it
+     */
+    private static final List<String> DOCUMENTS = List.of(
+            "{\"a\": [1, \"x]}\\\"\", {\"b\": {}}], \"ü\": \"€😀\"}",
+            " 123",
+            "\n\"str\\\\\"",
+            " true",
+            "[[],[{}]]",
+            "\r\n\t-1.5e3"
+    );
+
+    @Test
+    void feed_successWithAnyChunkSize() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final byte[] stream = String.join("", DOCUMENTS).getBytes(StandardCharsets.UTF_8);
+        final List<String> expected = new ArrayList<>();
+        for (final String document : DOCUMENTS) {
+            expected.add(JsonParser.getInstance().parse(document).getValue().toString());
+        }
+
+        for (int chunkSize = 1; chunkSize <= stream.length; chunkSize++) {
+            final JsonFeedParser feedParser = new JsonFeedParser();
+            final List<JsonParsingResult<JsonValue>> results = new ArrayList<>();
+            for (int i = 0; i < stream.length; i += chunkSize) {
+                results.addAll(feedParser.feed(ByteBuffer.wrap(stream, i, Math.min(chunkSize, stream.length - i))));
+            }
+            results.addAll(feedParser.finish());
+
+            assertThat(describe(results))
+                    .as("chunk size %d", chunkSize)
+                    .isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void feed_completesOnlyWhenDocumentEnds() {
+        final JsonFeedParser feedParser = new JsonFeedParser();
+
+        assertThat(feedParser.feed(utf8("{\"a\": \"}")))
+                .isEmpty();
+        assertThat(feedParser.feed(utf8("\"} 4")))
+                .hasSize(1);
+        assertThat(feedParser.feed(utf8("2")))
+                .isEmpty();
+        assertThat(feedParser.feed(utf8(" ")))
+                .hasSize(1);
+        assertThat(feedParser.finish())
+                .isEmpty();
+    }
+
+    @Test
+    void feed_successWithDirectBuffer() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final byte[] bytes = "[\"direct\"]".getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer chunk = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+
+        final List<JsonParsingResult<JsonValue>> results = new JsonFeedParser().feed(chunk);
+
+        assertThat(describe(results))
+                .containsExactly(JsonParser.getInstance().parse("[\"direct\"]").getValue().toString());
+        assertThat(chunk.hasRemaining())
+                .isFalse();
+    }
+
+    @Test
+    void feed_failureContinuesWithNextDocument() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final JsonFeedParser feedParser = new JsonFeedParser();
+
+        final List<JsonParsingResult<JsonValue>> results = new ArrayList<>(feedParser.feed(utf8("[1, tru] [2]")));
+
+        assertThat(results)
+                .hasSize(2);
+        assertThat(results.get(0).hasError())
+                .isTrue();
+        assertThat(results.get(1).getValue().toString())
+                .isEqualTo(JsonParser.getInstance().parse(" [2]").getValue().toString());
+    }
+
+    @Test
+    void finish_failureWithIncompleteDocument() {
+        final JsonFeedParser feedParser = new JsonFeedParser();
+        feedParser.feed(utf8("{\"a\": [1, 2"));
+
+        final List<JsonParsingResult<JsonValue>> results = feedParser.finish();
+
+        assertThat(results)
+                .hasSize(1);
+        assertThat(results.getFirst().hasError())
+                .isTrue();
+        assertThat(feedParser.feed(utf8("[] ")))
+                .hasSize(1);
+    }
+
+    private static ByteBuffer utf8(final String json) {
+        return ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<String> describe(final List<JsonParsingResult<JsonValue>> results)
+            throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final String[] descriptions = new String[results.size()];
+        for (int i = 0; i < descriptions.length; i++) {
+            descriptions[i] = results.get(i).getValue().toString();
+        }
+        return Arrays.asList(descriptions);
+    }
+}
@@ -0,0 +1,117 @@
+package org.parstastic.jparstastic_json.parser;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.parstastic.jparstastic_json.node.JsonValue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonLinesReaderTest {
+    private static final List<String> RECORDS = List.of(
+            "{\"id\": 1, \"message\": \"started\"}",
+            "[1, 2, {\"ü\": \"€\"}]",
+            "\"plain\"",
+            "{\"id\": 2, \"message\": \"" + "x".repeat(100) + "\"}",
+            "{\"broken\": tru}",
+            "-4.5e1"
+    );
+
+    @Test
+    void next_inInputOrderOnVirtualThreads() throws IOException, JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            lines.add(RECORDS.get(i % RECORDS.size()));
+        }
+        final byte[] ndjson = (String.join("\n", lines) + "\n").getBytes(StandardCharsets.UTF_8);
+
+        final List<String> actual = new ArrayList<>();
+        try (final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             final JsonLinesReader reader = new JsonLinesReader(
+                     new ByteArrayInputStream(ndjson),
+                     JsonParser.getInstance(JsonParsingEngine.FAST),
+                     executor,
+                     64,
+                     4
+             )) {
+            while (reader.hasNext()) {
+                actual.add(describe(reader.next()));
+            }
+        }
+
+        final List<String> expected = new ArrayList<>();
+        for (final String line : lines) {
+            expected.add(describe(JsonParser.getInstance(JsonParsingEngine.FAST).parse(line)));
+        }
+        assertThat(actual)
+                .isEqualTo(expected);
+    }
+
+    @Test
+    void stream_skipsEmptyLinesAndCarriageReturns() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final byte[] ndjson = "1\r\n\r\n\n[2]\n  3  ".getBytes(StandardCharsets.UTF_8);
+
+        try (final Stream<JsonParsingResult<JsonValue>> results = new JsonLinesReader(new ByteArrayInputStream(ndjson)).stream()) {
+            final List<String> actual = new ArrayList<>();
+            for (final JsonParsingResult<JsonValue> result : results.toList()) {
+                actual.add(describe(result));
+            }
+
+            assertThat(actual)
+                    .containsExactly(
+                            describe(JsonParser.getInstance(JsonParsingEngine.FAST).parse("1")),
+                            describe(JsonParser.getInstance(JsonParsingEngine.FAST).parse("[2]")),
+                            describe(JsonParser.getInstance(JsonParsingEngine.FAST).parse("  3  "))
+                    );
+        }
+    }
+
+    @Test
+    void stream_closesInput() {
+        final AtomicBoolean closed = new AtomicBoolean();
+        final InputStream input = new ByteArrayInputStream("1\n2\n".getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+
+        try (final Stream<JsonParsingResult<JsonValue>> results = new JsonLinesReader(input).stream()) {
+            assertThat(results.count())
+                    .isEqualTo(2);
+        }
+
+        assertThat(closed)
+                .isTrue();
+    }
+
+    @Test
+    void open_successWithPath(@TempDir final Path directory) throws IOException {
+        final Path path = Files.writeString(directory.resolve("test.ndjson"), String.join("\n", RECORDS));
+
+        try (final JsonLinesReader reader = JsonLinesReader.open(path)) {
+            assertThat(reader.stream().filter(JsonParsingResult::hasError).count())
+                    .isEqualTo(1);
+        }
+    }
+
+    private static String describe(final JsonParsingResult<JsonValue> result)
+            throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        if (result.hasValue()) {
+            return result.getValue().toString();
+        }
+        return result.getError().message() + " at " + result.getError().parsingProcess().getIndex();
+    }
+}
@@ -0,0 +1,58 @@
+package org.parstastic.jparstastic_json.parser;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.parstastic.jparstastic_json.node.JsonValue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonParserTest {
+    private static final List<String> DOCUMENTS = List.of(
+            "null",
+            "[1, [2, [3, []]], {}]",
+            "{\"id\": 42, \"tags\": [\"a\", \"b\"], \"nested\": {\"x\": -1.5e3}}",
+            "[1, 2,",
+            "{\"a\": tru}"
+    );
+
+    @Test
+    void getInstance_shared() {
+        assertThat(JsonParser.getInstance())
+                .isSameAs(JsonParser.getInstance(JsonParsingEngine.STEP_INTERPRETER));
+    }
+
+    @ParameterizedTest
+    @EnumSource(JsonParsingEngine.class)
+    void parse_concurrentlyOnVirtualThreads(final JsonParsingEngine engine)
+            throws InterruptedException, ExecutionException, JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final JsonParser parser = JsonParser.getInstance(engine);
+        final List<Future<String>> futures = new ArrayList<>();
+        try (final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 2000; i++) {
+                final String json = DOCUMENTS.get(i % DOCUMENTS.size());
+                futures.add(executor.submit(() -> describe(parser.parse(json))));
+            }
+        }
+
+        for (int i = 0; i < futures.size(); i++) {
+            assertThat(futures.get(i).get())
+                    .isEqualTo(describe(engine.getParser().parse(DOCUMENTS.get(i % DOCUMENTS.size()))));
+        }
+    }
+
+    private static String describe(final JsonParsingResult<JsonValue> result)
+            throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        if (result.hasValue()) {
+            return result.getValue().toString();
+        }
+        return result.getError().message() + " at " + result.getError().parsingProcess().getIndex();
+    }
+}
@@ -0,0 +1,109 @@
+package org.parstastic.jparstastic_json.parser;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.parstastic.jparstastic_json.node.JsonValue;
+import org.parstastic.jparstastic_json.node.nodes.ArrayNode;
+import org.parstastic.jparstastic_json.node.nodes.NumberNode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonParsingEngineConformanceTest {
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "\"Hello World\"",
+            "\"\\u2468\"",
+            "\"\\\"Hello World\\\"\"",
+            "\"\\\\ \\/ \\b \\f \\n \\r \\t\"",
+            "-1",
+            "0",
+            "0.5",
+            "-12.0625",
+            "100E100",
+            "100E+100",
+            "2e-3",
+            "true",
+            "false",
+            "null",
+            "[]",
+            "[ ]",
+            "[\"string\", true, null, []]",
+            "[ \"hello\" , \"world\" ]",
+            "{}",
+            "{ \"hello\" : \"world\" }",
+            "{\"key\": \"value\", \"boolean\": true}",
+            "{\"foo\":\"foo\", \"bar\":\"bar\", \"baz\":\"baz\"}",
+            "\n{\n    \"a\": [1, 2.5, {\"b\": null}],\r\n\t\"c\": {\"d\": [[], {}]}\n}\n"
+    })
+    void parse_identicalTrees(final String json) throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final JsonValue expected = JsonParsingEngine.STEP_INTERPRETER.getParser().parse(json).getValue();
+
+        for (final JsonParsingEngine engine : JsonParsingEngine.values()) {
+            final JsonValue actual = engine.getParser().parse(json).getValue();
+
+            assertThat(actual)
+                    .usingRecursiveComparison()
+                    .isEqualTo(expected);
+            assertThat(actual.stringify())
+                    .isEqualTo(expected.stringify());
+            assertThat(engine.getParser().parse(actual.stringify()).getValue())
+                    .usingRecursiveComparison()
+                    .isEqualTo(actual);
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "[1e99999999999999999999]           | Infinity",
+            "[-1.5E+99999999999999999999]       | -Infinity",
+            "[1e-99999999999999999999]          | 0.0",
+            "[0e99999999999999999999]           | 0.0",
+            "[2.5e00000000000000000000000001]   | 25.0"
+    })
+    void parse_successWithExponentBeyondLong(final String json, final double expected)
+            throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        for (final JsonParsingEngine engine : JsonParsingEngine.values()) {
+            final ArrayNode array = (ArrayNode) engine.getParser().parse(json).getValue().getJsonNode();
+
+            assertThat(((NumberNode) array.getElements().getFirst().getJsonNode()).doubleValue())
+                    .as(engine.name())
+                    .isEqualTo(expected);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            " ",
+            "text",
+            "tru",
+            "\"test",
+            "\"\\x\"",
+            "\"\\u12G4\"",
+            "-",
+            "01",
+            "1.",
+            "1e",
+            "1e+",
+            "[1,]",
+            "[1 2]",
+            "[1",
+            "{,}",
+            "{1: 2}",
+            "{\"a\" 1}",
+            "{\"a\": 1,}",
+            "{\"a\": }",
+            "null null"
+    })
+    void parse_identicalErrors(final String json) throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final JsonParsingResult.JsonParsingResultError expected =
+                JsonParsingEngine.STEP_INTERPRETER.getParser().parse(json).getError();
+
+        for (final JsonParsingEngine engine : JsonParsingEngine.values()) {
+            assertThat(engine.getParser().parse(json).getError())
+                    .usingRecursiveComparison()
+                    .isEqualTo(expected);
+        }
+    }
+}
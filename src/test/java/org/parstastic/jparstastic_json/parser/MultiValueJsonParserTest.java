@@ -0,0 +1,78 @@
+package org.parstastic.jparstastic_json.parser;
+
+import org.junit.jupiter.api.Test;
+import org.parstastic.jparstastic_json.node.JsonValue;
+import org.parstastic.jparstastic_json.parser.input.JsonInput;
+import org.parstastic.jparstastic_json.parser.parsers.JsonValueParser;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MultiValueJsonParserTest {
+    @Test
+    void iterate_successWithConcatenatedValues() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final Iterator<JsonParsingResult<JsonValue>> values = new MultiValueJsonParser()
+                .iterate(" {\"a\": 1}{\"b\": [2]} \n[3]\"s\"4 true");
+
+        final List<String> actual = new ArrayList<>();
+        while (values.hasNext()) {
+            actual.add(values.next().getValue().toString());
+        }
+
+        assertThat(actual)
+                .containsExactly(
+                        parse(" {\"a\": 1}"),
+                        parse("{\"b\": [2]} \n"),
+                        parse("[3]"),
+                        parse("\"s\""),
+                        parse("4 "),
+                        parse("true")
+                );
+        assertThatThrownBy(values::next)
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void iterate_lazilyOnSharedParsingProcess() {
+        final JsonParsingProcess parsingProcess = new JsonParsingProcess("[1] [2]");
+        final Iterator<JsonParsingResult<JsonValue>> values = new MultiValueJsonParser().iterate(parsingProcess);
+
+        values.next();
+
+        assertThat(parsingProcess.getIndex())
+                .isEqualTo(4);
+        assertThat(values.hasNext())
+                .isTrue();
+    }
+
+    @Test
+    void iterate_stopsAfterFailure() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final Iterator<JsonParsingResult<JsonValue>> values = new MultiValueJsonParser().iterate("[1] [2, ] [3]");
+
+        assertThat(values.next().hasValue())
+                .isTrue();
+        assertThat(values.next().getErrorCode())
+                .isEqualTo(JsonParsingErrorCode.PARSER_FAILED);
+        assertThat(values.hasNext())
+                .isFalse();
+    }
+
+    @Test
+    void stream_successWithUtf8Input() {
+        final byte[] bytes = "{\"ä\": 1} {\"ö\": 2}".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(new MultiValueJsonParser(new JsonValueParser()).stream(JsonInput.ofUtf8(bytes, 0, bytes.length)))
+                .hasSize(2)
+                .allMatch(JsonParsingResult::hasValue);
+    }
+
+    private static String parse(final String json) throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        return JsonParser.getInstance().parse(json).getValue().toString();
+    }
+}
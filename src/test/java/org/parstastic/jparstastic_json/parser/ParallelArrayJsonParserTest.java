@@ -0,0 +1,131 @@
+package org.parstastic.jparstastic_json.parser;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.parstastic.jparstastic_json.node.JsonValue;
+import org.parstastic.jparstastic_json.parser.input.JsonInput;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ParallelArrayJsonParserTest {
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    @TempDir
+    private Path directory;
+
+    @AfterEach
+    void tearDown() {
+        this.pool.shutdown();
+    }
+
+    @Test
+    void parse_sameTreeAsSequential() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final String json = createArray(1000);
+
+        final JsonValue value = new ParallelArrayJsonParser(this.pool, 0).parse(json).getValue();
+
+        assertThat(value.toString())
+                .isEqualTo(new FastJsonParser().parse(json).getValue().toString());
+        assertThat(value.stringify())
+                .isEqualTo(json);
+        assertThat(this.pool.getPoolSize())
+                .isPositive();
+    }
+
+    @Test
+    void parse_sameTreeAsSequentialWithUtf8() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final String json = createArray(100);
+        final byte[] utf8 = json.getBytes(StandardCharsets.UTF_8);
+
+        assertThat(new ParallelArrayJsonParser(this.pool, 0).parse(JsonInput.ofUtf8(utf8, 0, utf8.length)).getValue())
+                .usingRecursiveComparison()
+                .isEqualTo(new FastJsonParser().parse(json).getValue());
+    }
+
+    @Test
+    void parse_sameTreeAsSequentialWithMappedFile()
+            throws IOException, JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 20000; i++) {
+            json.append(i > 0 ? ", " : "").append('"').append(String.valueOf((char) ('a' + i % 26)).repeat(i % 50));
+            json.append("ä€").append(i).append('"');
+        }
+        final Path path = Files.writeString(this.directory.resolve("test.json"), json.append(']'));
+
+        assertThat(new JsonParser(new ParallelArrayJsonParser(this.pool, 0)).parse(path).getValue().stringify())
+                .isEqualTo(json.toString());
+    }
+
+    @Test
+    void parse_sequentialBelowThreshold() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final String json = createArray(10);
+
+        assertThat(new ParallelArrayJsonParser(this.pool, json.length() + 1).parse(json).getValue())
+                .usingRecursiveComparison()
+                .isEqualTo(new FastJsonParser().parse(json).getValue());
+        assertThat(this.pool.getPoolSize())
+                .isZero();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "[1]",
+            " [ ] ",
+            "[\"a,]\\\"\", {\"b\": [1, {}]}, [[]]]",
+            "{\"a\": [1, 2]}",
+            "\"[1, 2]\"",
+            "42"
+    })
+    void parse_sameTreeAsSequentialForAnyDocument(final String json)
+            throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        assertThat(new ParallelArrayJsonParser(this.pool, 0).parse(json).getValue())
+                .usingRecursiveComparison()
+                .isEqualTo(new FastJsonParser().parse(json).getValue());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            "[",
+            "[1, tru]",
+            "[1,]",
+            "[,1]",
+            "[1, 2] x",
+            "[1, 2",
+            "[{]}",
+            "[1}, 2]",
+            "[\"a, 2]",
+            "[1 2, 3]",
+            "[[[]]]"
+    })
+    void parse_sameErrorAsSequential(final String json)
+            throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        assertThat(new ParallelArrayJsonParser(this.pool, 0, 2).parse(json).getError())
+                .usingRecursiveComparison()
+                .isEqualTo(new FastJsonParser(2).parse(json).getError());
+    }
+
+    private static String createArray(final int elements) {
+        final StringBuilder json = new StringBuilder("\n[");
+        for (int i = 0; i < elements; i++) {
+            if (i > 0) {
+                json.append(i % 2 == 0 ? ",\n  " : " ,");
+            }
+            json.append(switch (i % 4) {
+                case 0 -> "{\"id\": " + i + ", \"name\": \"n,[\\\"" + i + "\\\"]\", \"tags\": [\"ä\", null]}";
+                case 1 -> "[" + i + ", -" + i + ".5e3, true]";
+                case 2 -> "\"€" + i + "\"";
+                default -> String.valueOf(i);
+            });
+        }
+        return json.append(" ]\t").toString();
+    }
+}
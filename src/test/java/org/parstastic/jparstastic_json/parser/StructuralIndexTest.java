@@ -0,0 +1,88 @@
+package org.parstastic.jparstastic_json.parser;
+
+import org.junit.jupiter.api.Test;
+import org.parstastic.jparstastic_json.parser.input.JsonInput;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StructuralIndexTest {
+    @Test
+    void build_successWithStructuralCharacters() {
+        final StructuralIndex index = StructuralIndex.build(JsonInput.of("{\"a\": [1, true]}"), 0, 16);
+
+        assertThat(positions(index))
+                .containsExactly(0, 1, 3, 4, 6, 8, 14, 15, 16);
+        assertThat(index.areStringsTerminated())
+                .isTrue();
+    }
+
+    @Test
+    void build_successWithStructuralCharactersInStrings() {
+        final String json = "[\"{a:b,[]}\", \"\\\"\\\\\", \"\\\\\\\"]\"]";
+
+        final StructuralIndex index = StructuralIndex.build(JsonInput.of(json), 0, json.length());
+
+        assertThat(positions(index))
+                .containsExactly(0, 1, 10, 11, 13, 18, 19, 21, 27, 28, 29);
+    }
+
+    @Test
+    void build_successWithPartOfInput() {
+        final StructuralIndex index = StructuralIndex.build(JsonInput.of("xx[1]yy"), 2, 5);
+
+        assertThat(positions(index))
+                .containsExactly(0, 2, 3);
+    }
+
+    @Test
+    void build_successAcrossBlocks() {
+        final String json = "[\"" + "\\\\".repeat(5000) + "\\\"" + "\"]";
+
+        final StructuralIndex index = StructuralIndex.build(JsonInput.of(json), 0, json.length());
+
+        assertThat(positions(index))
+                .containsExactly(0, 1, json.length() - 2, json.length() - 1, json.length());
+    }
+
+    @Test
+    void build_successWithEscapeAcrossBlocks() {
+        final String json = "[\"" + "a".repeat(4093) + "\\\"\"]";
+
+        final StructuralIndex index = StructuralIndex.build(JsonInput.of(json), 0, json.length());
+
+        assertThat(json.charAt(4095))
+                .isEqualTo('\\');
+        assertThat(positions(index))
+                .containsExactly(0, 1, 4097, 4098, 4099);
+    }
+
+    @Test
+    void build_successWithUnterminatedString() {
+        final StructuralIndex index = StructuralIndex.build(JsonInput.of("[\"a]"), 0, 4);
+
+        assertThat(positions(index))
+                .containsExactly(0, 1, 4);
+        assertThat(index.areStringsTerminated())
+                .isFalse();
+    }
+
+    @Test
+    void getPosition_failureAfterEnd() {
+        final StructuralIndex index = StructuralIndex.build(JsonInput.of("[]"), 0, 2);
+
+        assertThatThrownBy(() -> index.getPosition(3))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    /**
+     * Returns all positions of the given index, including the end position.
+     */
+    private static int[] positions(final StructuralIndex index) {
+        final int[] positions = new int[index.size() + 1];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = index.getPosition(i);
+        }
+        return positions;
+    }
+}
@@ -0,0 +1,181 @@
+package org.parstastic.jparstastic_json.parser;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.parstastic.jparstastic_json.node.JsonValue;
+import org.parstastic.jparstastic_json.node.StringifyOptions;
+import org.parstastic.jparstastic_json.node.nodes.StringNode;
+import org.parstastic.jparstastic_json.parser.input.JsonInput;
+import org.parstastic.jparstastic_json.parser.parsers.JsonParticleParser;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StructuralJsonParserTest extends FullStringJsonParserTest {
+    private static final String DOCUMENT =
+            " {\"a\\\"[\": [1, -2.5E+3, \"x,y:}\" , {\"b\" :null}],\r\n\t\"ü\": \"€😀\", \"c\": [ ], \"d\": { }} ";
+
+    private static final ParsingOptions NUMBER_TEXT_KEEPING_OPTIONS =
+            ParsingOptions.DEFAULT_PARSING_OPTIONS.withNumberTextKept(true);
+
+    @Override
+    protected JsonParticleParser<?> getInstance() {
+        return new StructuralJsonParser();
+    }
+
+    @Test
+    void parse_successWithFastJsonParserTree() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final JsonValue expected = new FastJsonParser().parse(DOCUMENT).getValue();
+
+        assertThat(new StructuralJsonParser().parse(DOCUMENT).getValue())
+                .usingRecursiveComparison()
+                .isEqualTo(expected);
+        assertThat(new StructuralJsonParser().parse(new JsonParsingProcess(utf8(DOCUMENT))).getValue())
+                .usingRecursiveComparison()
+                .isEqualTo(expected);
+    }
+
+    @Test
+    void parse_successWithNumberTextKept() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final String json = "[1.50 , 1e0,-0,0.1000000000000000000001]";
+
+        assertThat(new StructuralJsonParser(FastJsonParser.DEFAULT_MAX_DEPTH, NUMBER_TEXT_KEEPING_OPTIONS).parse(json).getValue())
+                .usingRecursiveComparison()
+                .isEqualTo(new FastJsonParser(FastJsonParser.DEFAULT_MAX_DEPTH, NUMBER_TEXT_KEEPING_OPTIONS).parse(json).getValue());
+        assertThat(new StructuralJsonParser(FastJsonParser.DEFAULT_MAX_DEPTH, NUMBER_TEXT_KEEPING_OPTIONS).parse(json).getValue().stringify())
+                .isEqualTo(json);
+    }
+
+    @Test
+    void parse_successWithWhitespaceDropped() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        assertThat(new StructuralJsonParser(FastJsonParser.DEFAULT_MAX_DEPTH, ParsingOptions.DATA_ONLY_PARSING_OPTIONS).parse(DOCUMENT).getValue())
+                .usingRecursiveComparison()
+                .isEqualTo(new FastJsonParser(FastJsonParser.DEFAULT_MAX_DEPTH, ParsingOptions.DATA_ONLY_PARSING_OPTIONS).parse(DOCUMENT).getValue());
+        assertThat(new StructuralJsonParser(FastJsonParser.DEFAULT_MAX_DEPTH, ParsingOptions.DATA_ONLY_PARSING_OPTIONS).parse(DOCUMENT).getValue().stringify())
+                .isEqualTo(new StructuralJsonParser().parse(DOCUMENT).getValue().stringify(StringifyOptions.MINIMAL_STRINGIFY_OPTIONS));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", " ", "[1 2]", "[ ,]", "{\"a\" 1}", "null null", "[1,\u000B2]", "{\f}", " \f1"})
+    void parse_failureWithWhitespaceDropped(final String json) throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        assertThat(new StructuralJsonParser(FastJsonParser.DEFAULT_MAX_DEPTH, ParsingOptions.DATA_ONLY_PARSING_OPTIONS).parse(json).getError())
+                .usingRecursiveComparison()
+                .isEqualTo(new FastJsonParser().parse(json).getError());
+    }
+
+    @Test
+    void parse_successWithInternedKeys() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final List<StringNode> keys = FastJsonParserTest.getKeys(new StructuralJsonParser().parse(DOCUMENT).getValue());
+        final List<StringNode> repeatedKeys = FastJsonParserTest.getKeys(
+                new StructuralJsonParser().parse("[{\"id\": 1, \"a\\\"\": 2}, {\"id\": 3, \"a\\\"\": 4}]").getValue()
+        );
+
+        assertThat(keys)
+                .extracting(StringNode::getValue)
+                .containsExactly("a\\\"[", "b", "ü", "c", "d");
+        assertThat(repeatedKeys.get(2))
+                .isSameAs(repeatedKeys.getFirst());
+        assertThat(repeatedKeys.get(3))
+                .isNotSameAs(repeatedKeys.get(1))
+                .extracting(StringNode::getValue)
+                .isEqualTo("a\\\"");
+        assertThat(new StructuralJsonParser(FastJsonParser.DEFAULT_MAX_DEPTH, ParsingOptions.DEFAULT_PARSING_OPTIONS.withKeyTableCapacity(0))
+                .parse(DOCUMENT)
+                .getValue())
+                .usingRecursiveComparison()
+                .isEqualTo(new StructuralJsonParser().parse(DOCUMENT).getValue());
+    }
+
+    @ParameterizedTest
+    @EnumSource(ParsingOptions.DuplicateKeyPolicy.class)
+    void parse_successWithDuplicateKeyPolicy(final ParsingOptions.DuplicateKeyPolicy duplicateKeyPolicy)
+            throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final ParsingOptions options = ParsingOptions.DEFAULT_PARSING_OPTIONS.withDuplicateKeyPolicy(duplicateKeyPolicy);
+        final String json = "[{\"a\": 1, \"b\": 2, \"a\": 3}, {\"c\": 1}, {\"a\": {\"a\": 1, \"a\": 2}}]";
+        final JsonParsingResult<JsonValue> expected = new FastJsonParser(FastJsonParser.DEFAULT_MAX_DEPTH, options).parse(json);
+        final JsonParsingResult<JsonValue> result = new StructuralJsonParser(FastJsonParser.DEFAULT_MAX_DEPTH, options).parse(json);
+
+        if (duplicateKeyPolicy == ParsingOptions.DuplicateKeyPolicy.REJECT) {
+            assertThat(result.getError())
+                    .usingRecursiveComparison()
+                    .isEqualTo(expected.getError());
+        } else {
+            assertThat(result.getValue())
+                    .usingRecursiveComparison()
+                    .isEqualTo(expected.getValue());
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "KEEP_ALL   | '{\n  \"a\": [1],\n  \"b\": 2,\n  \"a\": {}\n}\n'",
+            "KEEP_FIRST | '{\n  \"a\": [1],\n  \"b\": 2\n}\n'",
+            "KEEP_LAST  | '{\n  \"a\": {},\n  \"b\": 2\n}\n'"
+    })
+    void parse_successWithDuplicateKeyPolicyAndPrettyPrintedObject(
+            final ParsingOptions.DuplicateKeyPolicy duplicateKeyPolicy,
+            final String expected
+    ) throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final ParsingOptions options = ParsingOptions.DEFAULT_PARSING_OPTIONS.withDuplicateKeyPolicy(duplicateKeyPolicy);
+        final String json = "{\n  \"a\": [1],\n  \"b\": 2,\n  \"a\": {}\n}\n";
+
+        assertThat(new StructuralJsonParser(FastJsonParser.DEFAULT_MAX_DEPTH, options).parse(json).getValue().stringify())
+                .isEqualTo(expected);
+    }
+
+    @Test
+    void parse_successWithStreamedInput() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final JsonParsingProcess parsingProcess = new JsonParsingProcess(JsonInput.of(new StringReader(DOCUMENT)));
+
+        assertThat(new StructuralJsonParser().parse(parsingProcess).getValue())
+                .usingRecursiveComparison()
+                .isEqualTo(new FastJsonParser().parse(DOCUMENT).getValue());
+    }
+
+    @Test
+    void parse_successWithLargeDocument() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 2000; i++) {
+            json.append(i == 0 ? "" : ", ").append("{\"id\": ").append(i).append(", \"name\": \"n\\\\").append(i).append("\"}");
+        }
+        final String document = json.append(']').toString();
+
+        assertThat(new StructuralJsonParser().parse(document).getValue().toString())
+                .isEqualTo(new FastJsonParser().parse(document).getValue().toString());
+    }
+
+    @Test
+    void parse_failureWithExceededMaxDepth() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        assertThat(new StructuralJsonParser(2).parse("[{\"a\": 1}]").hasValue())
+                .isTrue();
+        assertThat(new StructuralJsonParser(2).parse("[{\"a\": []}]").getError())
+                .usingRecursiveComparison()
+                .isEqualTo(new FastJsonParser(2).parse("[{\"a\": []}]").getError());
+    }
+
+    @Test
+    void parse_successWithDeepNestingOnSmallStack() throws InterruptedException {
+        final int depth = 100_000;
+        final String json = "[".repeat(depth) + "]".repeat(depth);
+        final AtomicReference<JsonParsingResult<?>> result = new AtomicReference<>();
+
+        final Thread thread = new Thread(null, () -> result.set(new StructuralJsonParser(depth).parse(json)), "parser", 64 * 1024);
+        thread.start();
+        thread.join();
+
+        assertThat(result.get().hasValue())
+                .isTrue();
+    }
+
+    private static JsonInput utf8(final String json) {
+        final byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        return JsonInput.ofUtf8(bytes, 0, bytes.length);
+    }
+}
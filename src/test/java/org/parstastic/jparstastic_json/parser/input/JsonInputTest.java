@@ -0,0 +1,148 @@
+package org.parstastic.jparstastic_json.parser.input;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.parstastic.jparstastic_json.parser.JsonParser;
+import org.parstastic.jparstastic_json.parser.JsonParsingEngine;
+import org.parstastic.jparstastic_json.parser.JsonParsingProcess;
+import org.parstastic.jparstastic_json.parser.JsonParsingResult;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JsonInputTest {
+    private static final String JSON = " {\"key\": [1, -2.5e3, \"v\\u00e4lue\", true, null]} ";
+
+    static Stream<Arguments> inputs() {
+        final char[] padded = ("xx" + JSON + "yy").toCharArray();
+        final byte[] paddedBytes = ("xx" + JSON + "yy").getBytes(StandardCharsets.UTF_8);
+        final CharBuffer heapBuffer = CharBuffer.wrap(padded);
+        heapBuffer.position(2).limit(2 + JSON.length());
+        final CharBuffer directBuffer = ByteBuffer.allocateDirect(2 * JSON.length()).asCharBuffer();
+        directBuffer.put(JSON).flip();
+
+        return Stream.of(
+                Arguments.of(CharArrayJsonInput.class, JsonInput.of(padded, 2, JSON.length())),
+                Arguments.of(CharArrayJsonInput.class, JsonInput.of(heapBuffer)),
+                Arguments.of(CharSequenceJsonInput.class, JsonInput.of(directBuffer)),
+                Arguments.of(CharSequenceJsonInput.class, JsonInput.of(new StringBuilder(JSON))),
+                Arguments.of(StringJsonInput.class, JsonInput.of(JSON)),
+                Arguments.of(Utf8JsonInput.class, JsonInput.ofUtf8(paddedBytes, 2, JSON.length()))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("inputs")
+    void of_mostSpecificInput(final Class<?> expectedType, final JsonInput input) {
+        assertThat(input)
+                .isInstanceOf(expectedType);
+    }
+
+    @ParameterizedTest
+    @MethodSource("inputs")
+    void methods(final Class<?> expectedType, final JsonInput input) {
+        assertThat(input.length())
+                .isEqualTo(JSON.length());
+        assertThat(input.charAt(1))
+                .isEqualTo('{');
+        assertThat(input.startsWith("true", JSON.indexOf("true")))
+                .isTrue();
+        assertThat(input.startsWith("null} !", JSON.indexOf("null")))
+                .isFalse();
+        assertThat(input.substring(2, 7))
+                .isEqualTo("\"key\"");
+        assertThatThrownBy(() -> input.charAt(JSON.length()))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> input.charAt((1L << 32) + 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThat(input.hasCharAt((1L << 32) + 1))
+                .isFalse();
+    }
+
+    @ParameterizedTest
+    @MethodSource("inputs")
+    void slice_relativeToBeginIndex(final Class<?> expectedType, final JsonInput input) {
+        final JsonInput slice = input.slice(2, 10);
+
+        assertThat(slice.length())
+                .isEqualTo(8);
+        assertThat(slice.charAt(0))
+                .isEqualTo('"');
+        assertThat(slice.substring(0, 5))
+                .isEqualTo("\"key\"");
+        assertThat(slice.startsWith(": [", 5))
+                .isTrue();
+        assertThat(slice.startsWith(": [1", 5))
+                .isFalse();
+        assertThat(slice.skipStringCharacters(1))
+                .isEqualTo(4);
+        assertThat(slice.skipStringCharacters(5))
+                .isEqualTo(8);
+        assertThat(slice.skipWhitespace(6))
+                .isEqualTo(7);
+        assertThat(slice.slice(5, 8).substring(0, 3))
+                .isEqualTo(": [");
+        assertThat(slice.hasCharAt(8))
+                .isFalse();
+        assertThatThrownBy(() -> slice.charAt(8))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> input.slice(2, JSON.length() + 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @ParameterizedTest
+    @MethodSource("inputs")
+    void skip_sameAsCharacterByCharacter(final Class<?> expectedType, final JsonInput input) {
+        assertThat(input.skipWhitespace(0))
+                .isEqualTo(1);
+        assertThat(input.skipWhitespace(1))
+                .isEqualTo(1);
+        assertThat(input.skipWhitespace(JSON.length() - 1))
+                .isEqualTo(JSON.length());
+        assertThat(input.skipWhitespace(JSON.length()))
+                .isEqualTo(JSON.length());
+        assertThat(input.skipStringCharacters(3))
+                .isEqualTo(6);
+        assertThat(input.skipStringCharacters(JSON.indexOf("v\\u")))
+                .isEqualTo(JSON.indexOf("\\u"));
+        assertThat(input.skipStringCharacters(JSON.indexOf("true")))
+                .isEqualTo(JSON.length());
+    }
+
+    @ParameterizedTest
+    @MethodSource("inputs")
+    void parse_sameAsString(final Class<?> expectedType, final JsonInput input)
+            throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        for (final JsonParsingEngine engine : JsonParsingEngine.values()) {
+            assertThat(engine.getParser().parse(input).getValue())
+                    .usingRecursiveComparison()
+                    .isEqualTo(JsonParser.getInstance(engine).parse(JSON).getValue());
+        }
+    }
+
+    @Test
+    void parse_errorRelativeToSlice() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final char[] chars = "xx[1, x]yy".toCharArray();
+        final JsonInput input = JsonInput.of(chars, 2, 6);
+        final JsonParsingProcess parsingProcess = new JsonParsingProcess(input);
+        for (int i = 0; i < 4; i++) {
+            parsingProcess.incrementIndex();
+        }
+
+        for (final JsonParsingEngine engine : JsonParsingEngine.values()) {
+            assertThat(engine.getParser().parse(input).getError())
+                    .usingRecursiveComparison()
+                    .isEqualTo(new JsonParsingResult.JsonParsingResultError(
+                            "An error occurred during usage of the parser.",
+                            parsingProcess
+                    ));
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package org.parstastic.jparstastic_json.parser.input;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonScannerTest {
+    /**
+     * Characters the random inputs consist of, mostly plain ones
+     */
+    private static final String ALPHABET = "   \t\n\r\"\\{}[]:,abcxyz019äö€\u007B\u005B\u015B\u207B";
+
+    static Stream<JsonScanner> scanners() {
+        return Stream.of(JsonScanner.getInstance(), JsonScanner.getScalarInstance());
+    }
+
+    @Test
+    void getInstance_vectorizedIfModuleEnabled() {
+        assertThat(JsonScanner.getInstance().isVectorized())
+                .isEqualTo(ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent());
+        assertThat(JsonScanner.getScalarInstance().isVectorized())
+                .isFalse();
+    }
+
+    @ParameterizedTest
+    @MethodSource("scanners")
+    void skip_sameAsCharacterByCharacter(final JsonScanner scanner) {
+        final Random random = new Random(42);
+        for (int length = 0; length < 300; length++) {
+            final char[] chars = randomChars(random, length);
+            final byte[] bytes = new String(chars).getBytes(StandardCharsets.UTF_8);
+            final int from = length == 0 ? 0 : random.nextInt(length);
+
+            assertThat(scanner.skipWhitespace(chars, from, chars.length))
+                    .isEqualTo(firstIndex(chars, from, c -> !JsonScanner.isWhitespace(c)));
+            assertThat(scanner.skipStringCharacters(chars, from, chars.length))
+                    .isEqualTo(firstIndex(chars, from, JsonScanner::isStringDelimiter));
+            assertThat(scanner.findStructural(chars, from, chars.length))
+                    .isEqualTo(firstIndex(chars, from, JsonScanner::isStructural));
+            assertThat(scanner.skipWhitespace(bytes, 0, bytes.length))
+                    .isEqualTo(firstIndex(bytes, c -> !JsonScanner.isWhitespace(c)));
+            assertThat(scanner.skipStringCharacters(bytes, 0, bytes.length))
+                    .isEqualTo(firstIndex(bytes, JsonScanner::isStringDelimiter));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("scanners")
+    void skip_successWithLongRuns(final JsonScanner scanner) {
+        final char[] chars = (" \n".repeat(100) + "x" + "a".repeat(200) + "\"").toCharArray();
+        final byte[] bytes = new String(chars).getBytes(StandardCharsets.UTF_8);
+
+        assertThat(scanner.skipWhitespace(chars, 0, chars.length))
+                .isEqualTo(200);
+        assertThat(scanner.skipWhitespace(bytes, 0, bytes.length))
+                .isEqualTo(200);
+        assertThat(scanner.skipStringCharacters(chars, 201, chars.length))
+                .isEqualTo(401);
+        assertThat(scanner.skipStringCharacters(chars, 201, 301))
+                .isEqualTo(301);
+        assertThat(scanner.findStructural(chars, 0, chars.length))
+                .isEqualTo(401);
+    }
+
+    private static char[] randomChars(final Random random, final int length) {
+        final char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = random.nextInt(4) == 0
+                    ? ALPHABET.charAt(random.nextInt(ALPHABET.length()))
+                    : ALPHABET.charAt(random.nextInt(3));
+        }
+        return chars;
+    }
+
+    private interface CharacterPredicate {
+        boolean test(int c);
+    }
+
+    private static int firstIndex(final char[] chars, final int from, final CharacterPredicate predicate) {
+        int i = from;
+        while (i < chars.length && !predicate.test(chars[i])) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int firstIndex(final byte[] bytes, final CharacterPredicate predicate) {
+        int i = 0;
+        while (i < bytes.length && !predicate.test(bytes[i])) {
+            i++;
+        }
+        return i;
+    }
+}
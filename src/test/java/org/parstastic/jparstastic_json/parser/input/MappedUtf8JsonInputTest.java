@@ -0,0 +1,83 @@
+package org.parstastic.jparstastic_json.parser.input;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.parstastic.jparstastic_json.parser.JsonParser;
+import org.parstastic.jparstastic_json.parser.JsonParsingEngine;
+import org.parstastic.jparstastic_json.parser.JsonParsingErrorCode;
+import org.parstastic.jparstastic_json.parser.JsonParsingResult;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MappedUtf8JsonInputTest {
+    private static final String JSON = " {\"käy\": [1, -2.5e3, \"v\\u00e4lue\", true, false, null], \"€\": \"😀 größe\"} ";
+
+    @TempDir
+    private Path directory;
+
+    private Path write(final String json) throws IOException {
+        return Files.writeString(this.directory.resolve("test.json"), json);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 3, 5, 30})
+    void parse_sameAsStringWithChunkShift(final int chunkShift)
+            throws IOException, JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final Path path = write(JSON);
+
+        for (final JsonParsingEngine engine : JsonParsingEngine.values()) {
+            final JsonInput input = new MappedUtf8JsonInput(path, chunkShift);
+
+            assertThat(engine.getParser().parse(input).getValue())
+                    .usingRecursiveComparison()
+                    .isEqualTo(JsonParser.getInstance(engine).parse(JSON).getValue());
+        }
+    }
+
+    @Test
+    void methods() throws IOException {
+        final JsonInput input = new MappedUtf8JsonInput(write("[true, \"ä\"]"), 2);
+
+        assertThat(input.length())
+                .isEqualTo(12);
+        assertThat(input.charAt(5))
+                .isEqualTo(',');
+        assertThat(input.startsWith("true", 1))
+                .isTrue();
+        assertThat(input.startsWith("true", 2))
+                .isFalse();
+        assertThat(input.substring(1, 5))
+                .isEqualTo("true");
+        assertThat(input.substring(8, 10))
+                .isEqualTo("ä");
+        assertThatThrownBy(() -> input.charAt(12))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void parse_failureWithEmptyFile() throws IOException, JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final Path path = write("");
+
+        for (final JsonParsingEngine engine : JsonParsingEngine.values()) {
+            assertThat(JsonParser.getInstance(engine).parse(path).hasError())
+                    .isTrue();
+        }
+    }
+
+    @Test
+    void parse_failureWithMalformedBytes() throws IOException, JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final Path path = Files.write(this.directory.resolve("test.json"), new byte[]{'[', '"', (byte) 0xC3, '"', ']'});
+
+        for (final JsonParsingEngine engine : JsonParsingEngine.values()) {
+            assertThat(JsonParser.getInstance(engine).parse(path).getErrorCode())
+                    .isEqualTo(JsonParsingErrorCode.INVALID_ENCODING);
+        }
+    }
+}
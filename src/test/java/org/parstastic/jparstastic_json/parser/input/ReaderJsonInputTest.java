@@ -0,0 +1,141 @@
+package org.parstastic.jparstastic_json.parser.input;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.parstastic.jparstastic_json.node.JsonValue;
+import org.parstastic.jparstastic_json.node.nodes.ArrayNode;
+import org.parstastic.jparstastic_json.parser.JsonParser;
+import org.parstastic.jparstastic_json.parser.JsonParsingEngine;
+import org.parstastic.jparstastic_json.parser.JsonParsingErrorCode;
+import org.parstastic.jparstastic_json.parser.JsonParsingResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReaderJsonInputTest {
+    private static final String JSON = " {\"key\": [1, -2.5e3, \"v\\u00e4lue\", true, false, null], "
+            + "\"long\": \"" + "x".repeat(100) + "\"} ";
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 4, 5, 7, 16, ReaderJsonInput.DEFAULT_BUFFER_SIZE})
+    void parse_sameAsStringWithBufferSize(final int bufferSize)
+            throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        for (final JsonParsingEngine engine : JsonParsingEngine.values()) {
+            final JsonInput input = new ReaderJsonInput(new StringReader(JSON), bufferSize);
+
+            assertThat(engine.getParser().parse(input).getValue())
+                    .usingRecursiveComparison()
+                    .isEqualTo(JsonParser.getInstance(engine).parse(JSON).getValue());
+        }
+    }
+
+    @Test
+    void parse_dropsParsedCharacters() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 200; i++) {
+            json.append(i).append(", true, \"value\", ");
+        }
+        json.append("null]");
+
+        for (final JsonParsingEngine engine : JsonParsingEngine.values()) {
+            final JsonInput input = new ReaderJsonInput(new StringReader(json.toString()), 16);
+
+            assertThat(engine.getParser().parse(input).getValue())
+                    .usingRecursiveComparison()
+                    .isEqualTo(JsonParser.getInstance(engine).parse(json.toString()).getValue());
+            assertThatThrownBy(() -> input.charAt(0))
+                    .isInstanceOf(IndexOutOfBoundsException.class);
+        }
+    }
+
+    @Test
+    void parse_boundedBufferWithLiterals() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final String json = "[" + "true,null,".repeat(50000) + "false]";
+
+        for (final JsonParsingEngine engine : JsonParsingEngine.values()) {
+            final ReaderJsonInput input = new ReaderJsonInput(new StringReader(json));
+
+            final JsonValue value = engine.getParser().parse(input).getValue();
+
+            assertThat(((ArrayNode) value.getJsonNode()).getElements())
+                    .hasSize(100001);
+            assertThat(input.getBufferCapacity())
+                    .isEqualTo(ReaderJsonInput.DEFAULT_BUFFER_SIZE);
+        }
+    }
+
+    @Test
+    void methods() {
+        final JsonInput input = new ReaderJsonInput(new StringReader("[true]"), 2);
+
+        assertThat(input.startsWith("true", 1))
+                .isTrue();
+        assertThat(input.startsWith("true]!", 1))
+                .isFalse();
+        assertThat(input.hasCharAt(5))
+                .isTrue();
+        assertThat(input.hasCharAt(6))
+                .isFalse();
+        assertThat(input.substring(1, 5))
+                .isEqualTo("true");
+        assertThatThrownBy(() -> input.charAt(6))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(input::length)
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void constructor_failureWithNonPositiveBufferSize() {
+        assertThatThrownBy(() -> new ReaderJsonInput(new StringReader(JSON), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void parse_successWithInputStream() throws IOException, JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final String json = "{\"käy\": \"€ 😀\"}";
+
+        for (final JsonParsingEngine engine : JsonParsingEngine.values()) {
+            final byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+
+            assertThat(JsonParser.getInstance(engine).parse(new ByteArrayInputStream(bytes)).getValue())
+                    .usingRecursiveComparison()
+                    .isEqualTo(JsonParser.getInstance(engine).parse(json).getValue());
+        }
+    }
+
+    @Test
+    void parse_failureWithMalformedInputStream()
+            throws IOException, JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final byte[] bytes = {'[', '"', (byte) 0xC3, '"', ']'};
+
+        for (final JsonParsingEngine engine : JsonParsingEngine.values()) {
+            assertThat(JsonParser.getInstance(engine).parse(new ByteArrayInputStream(bytes)).getErrorCode())
+                    .isEqualTo(JsonParsingErrorCode.INVALID_ENCODING);
+        }
+    }
+
+    @Test
+    void parse_failureWithReadError() {
+        final Reader reader = new Reader() {
+            @Override
+            public int read(final char[] buffer, final int offset, final int length) throws IOException {
+                throw new IOException("read failed");
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        assertThatThrownBy(() -> JsonParser.getInstance().parse(reader))
+                .isInstanceOf(IOException.class)
+                .hasMessage("read failed");
+    }
+}
@@ -0,0 +1,74 @@
+package org.parstastic.jparstastic_json.parser.input;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.parstastic.jparstastic_json.parser.JsonParser;
+import org.parstastic.jparstastic_json.parser.JsonParsingEngine;
+import org.parstastic.jparstastic_json.parser.JsonParsingProcess;
+import org.parstastic.jparstastic_json.parser.JsonParsingResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class Utf8JsonInputTest {
+    @Test
+    void substring_decodesMultibyteCharacters() {
+        final byte[] bytes = "aä東😀".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(new Utf8JsonInput(bytes, 0, bytes.length).substring(0, bytes.length))
+                .isEqualTo("aä東😀");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"80", "c0af", "c1bf", "e080af", "eda080", "f08fbfbf", "f4908080", "f5808080", "e69d", "ff"})
+    void substring_failureWithInvalidUtf8(final String hex) {
+        final byte[] bytes = HexFormat.of().parseHex(hex);
+
+        assertThatThrownBy(() -> new Utf8JsonInput(bytes, 0, bytes.length).substring(0, bytes.length))
+                .isInstanceOf(JsonInputEncodingException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"80", "c0af", "e080af", "eda080", "f4908080", "e69d", "ff"})
+    void checkEncoding_failureWithInvalidUtf8(final String hex) {
+        final byte[] bytes = HexFormat.of().parseHex("61" + hex);
+
+        new Utf8JsonInput(bytes, 0, bytes.length).checkEncoding(0, 1);
+        assertThatThrownBy(() -> new Utf8JsonInput(bytes, 0, bytes.length).checkEncoding(0, bytes.length))
+                .isInstanceOf(JsonInputEncodingException.class);
+    }
+
+    @Test
+    void parse_sameAsString() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final String json = "{\"näme\": [\"東京\", \"😀\", \"\\u00e4\", 1.5e3, true, null], \"\": {}}";
+        for (final JsonParsingEngine engine : JsonParsingEngine.values()) {
+            final JsonParser parser = JsonParser.getInstance(engine);
+
+            assertThat(parser.parse(json.getBytes(StandardCharsets.UTF_8)).getValue())
+                    .usingRecursiveComparison()
+                    .isEqualTo(parser.parse(json).getValue());
+        }
+    }
+
+    @Test
+    void parse_failureWithInvalidUtf8InString() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final byte[] bytes = HexFormat.of().parseHex("5b2261ff225d");
+        final JsonParsingProcess parsingProcess = new JsonParsingProcess(new Utf8JsonInput(bytes, 0, bytes.length));
+        for (int i = 0; i < 4; i++) {
+            parsingProcess.incrementIndex();
+        }
+
+        for (final JsonParsingEngine engine : JsonParsingEngine.values()) {
+            assertThat(JsonParser.getInstance(engine).parse(bytes).getError())
+                    .usingRecursiveComparison()
+                    .isEqualTo(new JsonParsingResult.JsonParsingResultError(
+                            "The JSON input is not validly encoded.",
+                            parsingProcess
+                    ));
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package org.parstastic.jparstastic_json.parser.lazy;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.parstastic.jparstastic_json.node.JsonValue;
+import org.parstastic.jparstastic_json.node.StringifyOptions;
+import org.parstastic.jparstastic_json.node.nodes.ArrayNode;
+import org.parstastic.jparstastic_json.node.nodes.NumberNode;
+import org.parstastic.jparstastic_json.node.nodes.ObjectNode;
+import org.parstastic.jparstastic_json.node.nodes.StringNode;
+import org.parstastic.jparstastic_json.parser.FastJsonParser;
+import org.parstastic.jparstastic_json.parser.JsonParsingResult;
+import org.parstastic.jparstastic_json.parser.input.JsonInput;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.parstastic.jparstastic_json.node.nodes.ObjectNode.ObjectNodeProperty;
+
+class LazyJsonParserTest {
+    private static final String DOCUMENT =
+            " {\"a\\\"[\": [1, -2.5E+3, \"x,y:}\" , {\"b\" :null}],\r\n\t\"ü\": \"€😀\", \"c\": [ ], \"d\": { }} ";
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "\"Hello World\"",
+            "\"\\u2468\"",
+            "-12.0625",
+            "100E+100",
+            "true",
+            "null",
+            "[ ]",
+            "[\"string\", true, null, []]",
+            "{ \"hello\" : \"world\" }",
+            "\n{\n    \"a\": [1, 2.5, {\"b\": null}],\r\n\t\"c\": {\"d\": [[], {}]}\n}\n"
+    })
+    void parse_successWithFastJsonParserString(final String json)
+            throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final JsonValue expected = new FastJsonParser().parse(json).getValue();
+
+        assertThat(new LazyJsonParser().parse(json).getValue().stringify())
+                .isEqualTo(json);
+        assertThat(new LazyJsonParser().parse(json).getValue().stringify(StringifyOptions.PRETTY_STRINGIFY_OPTIONS))
+                .isEqualTo(expected.stringify(StringifyOptions.PRETTY_STRINGIFY_OPTIONS));
+        assertThat(new LazyJsonParser().parse(json).getValue().stringify(StringifyOptions.MINIMAL_STRINGIFY_OPTIONS))
+                .isEqualTo(expected.stringify(StringifyOptions.MINIMAL_STRINGIFY_OPTIONS));
+    }
+
+    @Test
+    void parse_successWithAllInputs() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final byte[] bytes = DOCUMENT.getBytes(StandardCharsets.UTF_8);
+        final String expected = new FastJsonParser().parse(DOCUMENT).getValue()
+                .stringify(StringifyOptions.PRETTY_STRINGIFY_OPTIONS);
+
+        assertThat(new LazyJsonParser().parse(DOCUMENT).getValue().stringify(StringifyOptions.PRETTY_STRINGIFY_OPTIONS))
+                .isEqualTo(expected);
+        assertThat(new LazyJsonParser().parse(JsonInput.ofUtf8(bytes, 0, bytes.length)).getValue()
+                .stringify(StringifyOptions.PRETTY_STRINGIFY_OPTIONS))
+                .isEqualTo(expected);
+        assertThat(new LazyJsonParser().parse(JsonInput.of(new StringReader(DOCUMENT))).getValue()
+                .stringify(StringifyOptions.PRETTY_STRINGIFY_OPTIONS))
+                .isEqualTo(expected);
+    }
+
+    @Test
+    void parse_successWithLazyNodes() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final LazyObjectNode root = (LazyObjectNode) new LazyJsonParser().parse(DOCUMENT).getValue().getJsonNode();
+
+        assertThat(root.isMaterialized())
+                .isFalse();
+
+        final List<ObjectNodeProperty> properties = root.getElements();
+
+        assertThat(root.isMaterialized())
+                .isTrue();
+        assertThat(properties)
+                .extracting(property -> property.getKey().getValue())
+                .containsExactly("a\\\"[", "ü", "c", "d");
+        assertThat(properties.get(2).getValue().getJsonNode())
+                .isInstanceOf(ArrayNode.class)
+                .isNotInstanceOf(LazyArrayNode.class);
+
+        final LazyArrayNode array = (LazyArrayNode) properties.get(0).getValue().getJsonNode();
+        final LazyStringNode string = (LazyStringNode) properties.get(1).getValue().getJsonNode();
+
+        assertThat(array.isMaterialized())
+                .isFalse();
+        assertThat(string.isMaterialized())
+                .isFalse();
+        assertThat(array.getElements().get(2).getJsonNode())
+                .isInstanceOf(StringNode.class)
+                .extracting(node -> ((StringNode) node).getValue())
+                .isEqualTo("x,y:}");
+        assertThat(array.getElements().get(1).getJsonNode())
+                .isInstanceOf(NumberNode.class)
+                .hasToString("-2.5E+3");
+        assertThat(((LazyObjectNode) array.getElements().get(3).getJsonNode()).isMaterialized())
+                .isFalse();
+        assertThat(string.getValue())
+                .isEqualTo("€😀");
+        assertThat(string.isMaterialized())
+                .isTrue();
+    }
+
+    @Test
+    void stringify_copiesSourceOfUntouchedNode() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final JsonValue value = new LazyJsonParser().parse(DOCUMENT).getValue();
+        final ObjectNode root = (ObjectNode) value.getJsonNode();
+        final LazyArrayNode array = (LazyArrayNode) root.getElements().getFirst().getValue().getJsonNode();
+
+        assertThat(array.stringify())
+                .isEqualTo("[1, -2.5E+3, \"x,y:}\" , {\"b\" :null}]");
+        assertThat(array.isMaterialized())
+                .isFalse();
+        assertThat(value.stringify())
+                .isEqualTo(DOCUMENT);
+    }
+
+    @Test
+    void parse_successWithExponentBeyondLong() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final String json = "[1e99999999999999999999, 1e-99999999999999999999]";
+        final ArrayNode array = (ArrayNode) new LazyJsonParser().parse(json).getValue().getJsonNode();
+
+        assertThat(array.getElements())
+                .extracting(element -> ((NumberNode) element.getJsonNode()).doubleValue())
+                .containsExactly(Double.POSITIVE_INFINITY, 0.0);
+        assertThat(array.stringify())
+                .isEqualTo(json);
+    }
+
+    @Test
+    void stringify_copiesNumbersOfContainerVerbatim() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final String json = "[-0, 0.10, 1.23456789012345678, 1.0e0]";
+        final JsonValue expected = new FastJsonParser().parse(json).getValue();
+        final JsonValue value = new LazyJsonParser().parse(json).getValue();
+
+        assertThat(value.stringify())
+                .isEqualTo(json);
+        assertThat(expected.stringify())
+                .isEqualTo("[0, 0.1, 1.23456789012345678, 1.0e0]");
+        assertThat(value.stringify(StringifyOptions.MINIMAL_STRINGIFY_OPTIONS))
+                .isEqualTo(expected.stringify(StringifyOptions.MINIMAL_STRINGIFY_OPTIONS));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            " ",
+            "text",
+            "tru",
+            "\"test",
+            "\"\\x\"",
+            "\"\\u12G4\"",
+            "-",
+            "01",
+            "1.",
+            "1e+",
+            "[1,]",
+            "[1 2]",
+            "[1",
+            "[1]]",
+            "{,}",
+            "{1: 2}",
+            "{\"a\" 1}",
+            "{\"a\": 1,}",
+            "{\"a\": }",
+            "{\"a\": 1]",
+            "null null"
+    })
+    void parse_failureWithFastJsonParserError(final String json)
+            throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        assertThat(new LazyJsonParser().parse(json).getError())
+                .usingRecursiveComparison()
+                .isEqualTo(new FastJsonParser().parse(json).getError());
+    }
+
+    @Test
+    void parse_failureWithInvalidUtf8InString() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final byte[] bytes = HexFormat.of().parseHex("5b2261ff225d");
+
+        assertThat(new LazyJsonParser().parse(JsonInput.ofUtf8(bytes, 0, bytes.length)).getError())
+                .usingRecursiveComparison()
+                .isEqualTo(new FastJsonParser().parse(JsonInput.ofUtf8(bytes, 0, bytes.length)).getError());
+    }
+
+    @Test
+    void parse_failureWithExceededMaxDepth() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        assertThat(new LazyJsonParser(2).parse("[{\"a\": 1}]").hasValue())
+                .isTrue();
+        assertThat(new LazyJsonParser(2).parse("[{\"a\": []}]").getError())
+                .usingRecursiveComparison()
+                .isEqualTo(new FastJsonParser(2).parse("[{\"a\": []}]").getError());
+    }
+}
@@ -9,6 +9,7 @@ import org.junit.jupiter.params.provider.ArgumentsSource;
 import org.junit.jupiter.params.support.ParameterDeclarations;
 import org.parstastic.jparstastic_json.node.JsonParticle;
 import org.parstastic.jparstastic_json.node.JsonParticleInstantiationException;
+import org.parstastic.jparstastic_json.parser.JsonParsingProcess;
 import org.parstastic.jparstastic_json.parser.JsonParsingResult;
 
 import java.util.Map;
@@ -152,6 +153,25 @@ public abstract class JsonParticleParserTest {
                 .isEqualTo(validTarget.getValue());
     }
 
+    @ParameterizedTest
+    @ArgumentsSource(ParseValidTargetsSource.class)
+    void parse_successWithReusedInstance(final Map.Entry<String, JsonParticle> validTarget)
+            throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        if (validTarget == null) {
+            return;
+        }
+
+        final JsonParticleParser<?> parser = getInstance();
+        parser.parse(validTarget.getKey());
+        final JsonParsingResult<?> result = parser.parse(validTarget.getKey());
+
+        assertThat(result.hasValue())
+                .isTrue();
+        assertThat(result.getValue())
+                .usingRecursiveComparison()
+                .isEqualTo(validTarget.getValue());
+    }
+
     @ParameterizedTest
     @ArgumentsSource(ParseInvalidTargetsSource.class)
     void parse_failure(final Map.Entry<String, JsonParsingResult.JsonParsingResultError> invalidTarget)
@@ -170,4 +190,21 @@ public abstract class JsonParticleParserTest {
         assertThatThrownBy(result::getValue)
                 .isInstanceOf(JsonParsingResult.JsonParsingResultNoSuchElementException.class);
     }
+
+    @ParameterizedTest
+    @ArgumentsSource(ParseInvalidTargetsSource.class)
+    void parse_failureRecordedInParsingProcess(final Map.Entry<String, JsonParsingResult.JsonParsingResultError> invalidTarget) {
+        if (invalidTarget == null) {
+            return;
+        }
+        final JsonParsingProcess parsingProcess = new JsonParsingProcess(invalidTarget.getKey());
+
+        assertThat(getInstance().tryParse(parsingProcess))
+                .isNull();
+        assertThat(parsingProcess.getErrorCode().getMessage())
+                .isEqualTo(invalidTarget.getValue().message());
+        assertThat(parsingProcess.getErrorPosition())
+                .usingRecursiveComparison()
+                .isEqualTo(invalidTarget.getValue().parsingProcess());
+    }
 }
\ No newline at end of file
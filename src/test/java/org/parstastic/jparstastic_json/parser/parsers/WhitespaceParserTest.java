@@ -1,5 +1,8 @@
 package org.parstastic.jparstastic_json.parser.parsers;
 
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.parstastic.jparstastic_json.node.JsonParticle;
 import org.parstastic.jparstastic_json.node.JsonParticleInstantiationException;
 import org.parstastic.jparstastic_json.node.Whitespace;
@@ -7,6 +10,9 @@ import org.parstastic.jparstastic_json.parser.JsonParsingResult;
 
 import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
 class WhitespaceParserTest extends JsonParticleParserTest {
     @Override
     protected JsonParticleParser<?> getInstance() {
@@ -31,4 +37,41 @@ class WhitespaceParserTest extends JsonParticleParserTest {
     protected Map<String, JsonParsingResult.JsonParsingResultError> getInvalidTargets() {
         return Map.of();
     }
-}
\ No newline at end of file
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", " ", "\n", "\n    ", "\r\n        ", "\n\t\t", "\r\n\t"})
+    void of_successWithSharedInstance(final String value) throws JsonParticleInstantiationException {
+        assertThat(Whitespace.of(value))
+                .isSameAs(Whitespace.of(value))
+                .extracting(Whitespace::getValue)
+                .isEqualTo(value);
+    }
+
+    @Test
+    void of_successWithNewInstance() throws JsonParticleInstantiationException {
+        assertThat(Whitespace.of(" \n"))
+                .isNotSameAs(Whitespace.of(" \n"))
+                .extracting(Whitespace::getValue)
+                .isEqualTo(" \n");
+        assertThat(Whitespace.of(""))
+                .isSameAs(Whitespace.EMPTY);
+        assertThat(Whitespace.of(" "))
+                .isSameAs(Whitespace.SPACE);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"x", "\n  x", "\u000B"})
+    void of_failureWithInvalidWhitespace(final String value) {
+        assertThatThrownBy(() -> Whitespace.of(value))
+                .isInstanceOf(JsonParticleInstantiationException.class);
+    }
+
+    @Test
+    void isWhitespaceCharacter_sameAsCharacters() {
+        for (char c = Character.MIN_VALUE; c < Character.MAX_VALUE; c++) {
+            assertThat(Whitespace.WhitespaceCharacter.isWhitespaceCharacter(c))
+                    .as("character %d", (int) c)
+                    .isEqualTo(Whitespace.WhitespaceCharacter.CHARACTERS.contains(c));
+        }
+    }
+}
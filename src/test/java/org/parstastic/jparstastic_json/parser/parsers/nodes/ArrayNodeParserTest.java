@@ -1,13 +1,20 @@
 package org.parstastic.jparstastic_json.parser.parsers.nodes;
 
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.parstastic.jparstastic_json.node.JsonParticle;
 import org.parstastic.jparstastic_json.node.JsonParticleInstantiationException;
 import org.parstastic.jparstastic_json.node.JsonValue;
+import org.parstastic.jparstastic_json.node.StringifyOptions;
 import org.parstastic.jparstastic_json.node.Whitespace;
 import org.parstastic.jparstastic_json.node.nodes.ArrayNode;
 import org.parstastic.jparstastic_json.node.nodes.BooleanNode;
 import org.parstastic.jparstastic_json.node.nodes.NullNode;
+import org.parstastic.jparstastic_json.node.nodes.NumberArrayNode;
+import org.parstastic.jparstastic_json.node.nodes.NumberNode;
 import org.parstastic.jparstastic_json.node.nodes.StringNode;
+import org.parstastic.jparstastic_json.parser.FastJsonParser;
 import org.parstastic.jparstastic_json.parser.JsonParsingProcess;
 import org.parstastic.jparstastic_json.parser.JsonParsingResult;
 import org.parstastic.jparstastic_json.parser.parsers.JsonParticleParser;
@@ -16,6 +23,9 @@ import org.parstastic.jparstastic_json.parser.parsers.JsonParticleParserTest;
 import java.util.List;
 import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
 class ArrayNodeParserTest extends JsonParticleParserTest {
     @Override
     protected JsonParticleParser<?> getInstance() {
@@ -63,4 +73,90 @@ class ArrayNodeParserTest extends JsonParticleParserTest {
                 )
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    void parse_successWithPackedIntegers() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final String json = "[1, -0, 9223372036854775807, -42]";
+        final ArrayNode arrayNode = new ArrayNodeParser().parse(json).getValue();
+
+        assertThat(arrayNode)
+                .isInstanceOf(NumberArrayNode.class);
+        final NumberArrayNode numberArrayNode = (NumberArrayNode) arrayNode;
+        assertThat(numberArrayNode.isIntegral())
+                .isTrue();
+        assertThat(numberArrayNode.toLongArray())
+                .containsExactly(1, 0, Long.MAX_VALUE, -42);
+        assertThat(numberArrayNode.getDouble(3))
+                .isEqualTo(-42.0);
+        assertThat(arrayNode.stringify())
+                .isEqualTo("[1, 0, 9223372036854775807, -42]");
+    }
+
+    @Test
+    void parse_successWithPackedDoubles() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final String json = "[\n    1.5,\n    -0.0,\n    2,\n    0.30000000000000004\n]";
+        final ArrayNode arrayNode = new ArrayNodeParser().parse(json).getValue();
+
+        assertThat(arrayNode)
+                .isInstanceOf(NumberArrayNode.class);
+        final NumberArrayNode numberArrayNode = (NumberArrayNode) arrayNode;
+        assertThat(numberArrayNode.isIntegral())
+                .isFalse();
+        assertThat(numberArrayNode.toDoubleArray())
+                .containsExactly(1.5, -0.0, 2.0, 0.30000000000000004);
+        assertThat(numberArrayNode.getLong(0))
+                .isEqualTo(1);
+        assertThat(arrayNode.getElements())
+                .extracting(element -> ((NumberNode) element.getJsonNode()).getRepresentation())
+                .containsExactly(
+                        NumberNode.NumberNodeRepresentation.DOUBLE,
+                        NumberNode.NumberNodeRepresentation.DOUBLE,
+                        NumberNode.NumberNodeRepresentation.LONG,
+                        NumberNode.NumberNodeRepresentation.DOUBLE
+                );
+        assertThat(arrayNode.stringify())
+                .isEqualTo(json);
+        assertThat(arrayNode.stringify(StringifyOptions.MINIMAL_STRINGIFY_OPTIONS))
+                .isEqualTo("[1.5,-0.0,2,0.30000000000000004]");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "[1, 2 , 3]",
+            "[1,2, 3]",
+            "[1, \"2\"]",
+            "[1, [2]]",
+            "[\"1\", 2]",
+            "[[1], 2]",
+            "[1e5, 2]",
+            "[12345678901234567890]",
+            "[9007199254740993, 0.5]",
+            "[0.10000000000000000000000001]"
+    })
+    void parse_successWithoutPacking(final String json) throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final ArrayNode arrayNode = new ArrayNodeParser().parse(json).getValue();
+
+        assertThat(arrayNode)
+                .isNotInstanceOf(NumberArrayNode.class);
+        assertThat(arrayNode.stringify())
+                .isEqualTo(new FastJsonParser().parse(json).getValue().stringify());
+    }
+
+    @Test
+    void numberArrayNode_successWithValues() throws JsonParticleInstantiationException {
+        final long[] longValues = {3, 1, 2};
+        final NumberArrayNode longArrayNode = new NumberArrayNode(longValues);
+        longValues[0] = 0;
+
+        assertThat(longArrayNode.stringify())
+                .isEqualTo("[3,1,2]");
+        assertThat(longArrayNode.size())
+                .isEqualTo(3);
+        assertThat(new NumberArrayNode(new double[]{0.5, 1}).stringify())
+                .isEqualTo("[0.5,1.0]");
+        assertThatThrownBy(() -> new NumberArrayNode(new long[0]))
+                .isInstanceOf(JsonParticleInstantiationException.class);
+        assertThatThrownBy(() -> new NumberArrayNode((double[]) null))
+                .isInstanceOf(JsonParticleInstantiationException.class);
+    }
+}
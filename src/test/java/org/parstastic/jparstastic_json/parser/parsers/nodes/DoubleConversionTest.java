@@ -0,0 +1,149 @@
+package org.parstastic.jparstastic_json.parser.parsers.nodes;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DoubleConversionTest {
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "0",
+            "-0",
+            "0.0",
+            "-0.0e10",
+            "1",
+            "-1.5",
+            "0.1",
+            "0.3",
+            "3.141592653589793",
+            "-65.613616999999977",
+            "43.420273000000009",
+            "9007199254740993",
+            "9007199254740993.0",
+            "12345678901234567890",
+            "1234567890123456789012345",
+            "0.12345678901234567890123",
+            "1e23",
+            "8.98846567431158e307",
+            "1.7976931348623157e308",
+            "1.7976931348623158e308",
+            "1.7976931348623159e308",
+            "1e309",
+            "2.2250738585072011e-308",
+            "2.2250738585072014E-308",
+            "4.9e-324",
+            "2.4703282292062327e-324",
+            "2.4703282292062328e-324",
+            "1e-400",
+            "7.2057594037927933e16",
+            "9.007199254740993e15",
+            "1.00000000000000011102230246251565404236316680908203125",
+            "1.00000000000000011102230246251565404236316680908203124",
+            "0.000000000000000000000000000000000000000000001e45",
+            "1e+0",
+            "1E-0",
+            "5e-324",
+            "123456789e-20",
+            "1e99999999999"
+    })
+    void toDouble_successWithSameResultAsParseDouble(final String number) {
+        assertThat(DoubleConversion.toDouble(number))
+                .isEqualTo(Double.parseDouble(number));
+    }
+
+    @Test
+    void toDouble_successWithRange() {
+        assertThat(DoubleConversion.toDouble("[-12.5e-1,", 1, 9))
+                .isEqualTo(-1.25);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "0.9225665884132121, -1",
+            "-1.5, 3",
+            "12345678901234567890.5, -30",
+            "0, 99999999999",
+            "1, 400",
+            "1, -400"
+    })
+    void toDouble_successWithScale(final String mantissa, final long exponent) {
+        assertThat(DoubleConversion.toDouble(mantissa, exponent))
+                .isEqualTo(Double.parseDouble(mantissa + "e" + exponent));
+    }
+
+    @Test
+    void toDouble_successWithRandomNumbers() {
+        final Random random = new Random(42);
+        for (int i = 0; i < 200_000; i++) {
+            final String number = switch (i % 4) {
+                case 0 -> Double.toString(Double.longBitsToDouble(random.nextLong() & 0x7FEF_FFFF_FFFF_FFFFL));
+                case 1 -> Double.toString(random.nextDouble() * 360 - 180);
+                case 2 -> String.format(Locale.ROOT, "%.17g", random.nextDouble() * 1000 - 500);
+                default -> createDigits(random) + "." + createDigits(random) + "e" + (random.nextInt(700) - 350);
+            };
+
+            assertThat(DoubleConversion.toDouble(number))
+                    .as(number)
+                    .isEqualTo(Double.parseDouble(number));
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "0.1, true",
+            "-0.0, true",
+            "1.50, true",
+            "100.0, true",
+            "0.3, true",
+            "0.30000000000000001, false",
+            "0.30000000000000004, true",
+            "-65.613616999999977, false",
+            "-65.61361699999998, true",
+            "0.9225665884132121, false",
+            "0.09225665884132121, true",
+            "9007199254740993.0, false",
+            "9007199254740992.0, true",
+            "0.12345678901234567890123, false",
+            "0.000000000000000000000000000000012345678901234567, false",
+            "0.00000000000000000000000000000001234567890123456, true",
+            "123456789012345670000.0, true"
+    })
+    void isShortest_success(final String number, final boolean expected) {
+        assertThat(DoubleConversion.isShortest(number, DoubleConversion.toDouble(number)))
+                .isEqualTo(expected);
+    }
+
+    @Test
+    void isShortest_successWithRandomNumbers() {
+        final Random random = new Random(42);
+        for (int i = 0; i < 200_000; i++) {
+            final String number = switch (i % 4) {
+                case 0 -> new BigDecimal(Double.toString(random.nextDouble() * 360 - 180)).toPlainString();
+                case 1 -> String.format(Locale.ROOT, "%.17f", random.nextDouble() * 2 - 1);
+                case 2 -> String.format(Locale.ROOT, "%." + random.nextInt(20) + "f", random.nextDouble() * 1000);
+                default -> createDigits(random) + "." + createDigits(random);
+            };
+            final double value = Double.parseDouble(number);
+
+            assertThat(DoubleConversion.isShortest(number, value))
+                    .as(number)
+                    .isEqualTo(new BigDecimal(Double.toString(value)).compareTo(new BigDecimal(number)) == 0);
+        }
+    }
+
+    private static String createDigits(final Random random) {
+        final StringBuilder digits = new StringBuilder();
+        final int length = 1 + random.nextInt(20);
+        for (int i = 0; i < length; i++) {
+            digits.append((char) ('0' + random.nextInt(10)));
+        }
+        return digits.toString();
+    }
+}
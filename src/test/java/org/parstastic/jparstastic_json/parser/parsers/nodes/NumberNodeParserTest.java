@@ -1,5 +1,8 @@
 package org.parstastic.jparstastic_json.parser.parsers.nodes;
 
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.parstastic.jparstastic_json.node.JsonParticle;
 import org.parstastic.jparstastic_json.node.JsonParticleInstantiationException;
 import org.parstastic.jparstastic_json.node.nodes.NumberNode;
@@ -8,11 +11,17 @@ import org.parstastic.jparstastic_json.parser.JsonParsingResult;
 import org.parstastic.jparstastic_json.parser.parsers.JsonParticleParser;
 import org.parstastic.jparstastic_json.parser.parsers.JsonParticleParserTest;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.AbstractMap;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Random;
 import java.util.stream.Collectors;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 class NumberNodeParserTest extends JsonParticleParserTest {
     @Override
     protected JsonParticleParser<?> getInstance() {
@@ -27,7 +36,9 @@ class NumberNodeParserTest extends JsonParticleParserTest {
                 "0.5", new NumberNode(0.5),
                 "25", new NumberNode(25L),
                 "100E100", new NumberNode(100L, true, NumberNode.NumberNodeExponentSignSymbol.BLANK, 100),
-                "100E+100", new NumberNode(100L, true, NumberNode.NumberNodeExponentSignSymbol.PLUS, 100)
+                "100E+100", new NumberNode(100L, true, NumberNode.NumberNodeExponentSignSymbol.PLUS, 100),
+                "-12345678901234567890", new NumberNode(new BigInteger("-12345678901234567890")),
+                "0.12345678901234567890", new NumberNode(new BigDecimal("0.12345678901234567890"))
         );
     }
 
@@ -64,4 +75,88 @@ class NumberNodeParserTest extends JsonParticleParserTest {
 
         return mergeMaps(invalidTargets, validTargetsAsStrings);
     }
-}
\ No newline at end of file
+
+    @ParameterizedTest
+    @CsvSource({
+            "0, LONG, 0",
+            "-9223372036854775808, LONG, -9223372036854775808",
+            "9223372036854775808, BIG_INTEGER, 9223372036854775808",
+            "0.5, DOUBLE, 0.5",
+            "1.50, DOUBLE, 1.5",
+            "0.30000000000000001, BIG_DECIMAL, 0.30000000000000001",
+            "-65.613616999999977, BIG_DECIMAL, -65.613616999999977",
+            "-65.61361699999998, DOUBLE, -65.61361699999998",
+            "0.1234567890123456, DOUBLE, 0.1234567890123456",
+            "0.300000000000000001, BIG_DECIMAL, 0.300000000000000001",
+            "1.23456789012345678, BIG_DECIMAL, 1.23456789012345678",
+            "-1.23456789012345678, BIG_DECIMAL, -1.23456789012345678",
+            "0.9225665884132121e-1, BIG_DECIMAL, 0.9225665884132121e-1",
+            "1.2345678901234567e5, DOUBLE, 1.2345678901234567e5",
+            "1.5e5, DOUBLE, 1.5e5",
+            "0.1000000000000000000, DOUBLE, 0.1",
+            "-2.5E+3, DOUBLE, -2.5E+3",
+            "0.0001e5, DOUBLE, 0.00010e5",
+            "1e400, LONG, 1e400"
+    })
+    void createNumberNode_successWithRepresentation(final String json,
+                                                    final NumberNode.NumberNodeRepresentation representation,
+                                                    final String stringified)
+            throws JsonParticleInstantiationException {
+        final NumberNode numberNode = NumberNodeParser.createNumberNode(json);
+
+        assertThat(numberNode.getRepresentation())
+                .isEqualTo(representation);
+        assertThat(numberNode.stringify())
+                .isEqualTo(stringified);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "25, 25, 25.0",
+            "-2.5E+3, -2500, -2500.0",
+            "2e-3, 0, 0.002",
+            "12.75, 12, 12.75",
+            "-12345678901234567890, -9223372036854775808, -1.2345678901234567E19",
+            "1E400, 9223372036854775807, Infinity",
+            "-1e-400, 0, -0.0",
+            "9007199254740993, 9007199254740993, 9007199254740992.0",
+            "0.9225665884132121e-1, 0, 0.09225665884132121",
+            "-0.9225665884132121E+1, -9, -9.225665884132121"
+    })
+    void longValueAndDoubleValue_successWithExactExponent(final String json,
+                                                          final long longValue,
+                                                          final double doubleValue)
+            throws JsonParticleInstantiationException {
+        final NumberNode numberNode = NumberNodeParser.createNumberNode(json);
+
+        assertThat(numberNode.longValue())
+                .isEqualTo(longValue);
+        assertThat(numberNode.doubleValue())
+                .isEqualTo(doubleValue);
+        assertThat(numberNode.getNumericValue())
+                .isEqualTo(doubleValue);
+    }
+
+    @Test
+    void doubleValue_successWithRandomExponents() throws JsonParticleInstantiationException {
+        final Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            final String digits = (1 + random.nextInt(9))
+                    + String.format(Locale.ROOT, "%018d", random.nextLong(1_000_000_000_000_000_000L));
+            final String number = (random.nextBoolean() ? "-" : "") + "0."
+                    + digits.substring(0, 1 + i % digits.length()) + "e" + (random.nextInt(600) - 300);
+
+            assertThat(NumberNodeParser.createNumberNode(number).doubleValue())
+                    .as(number)
+                    .isEqualTo(Double.parseDouble(number));
+        }
+    }
+
+    @Test
+    void toBigDecimal_successWithExactValue() throws JsonParticleInstantiationException {
+        assertThat(NumberNodeParser.createNumberNode("-12345678901234567890e-2").toBigDecimal())
+                .isEqualTo(new BigDecimal("-123456789012345678.90"));
+        assertThat(NumberNodeParser.createNumberNode("1.25E+3").toBigDecimal())
+                .isEqualByComparingTo("1250");
+    }
+}
@@ -1,5 +1,6 @@
 package org.parstastic.jparstastic_json.parser.parsers.nodes;
 
+import org.junit.jupiter.api.Test;
 import org.parstastic.jparstastic_json.node.JsonParticle;
 import org.parstastic.jparstastic_json.node.JsonParticleInstantiationException;
 import org.parstastic.jparstastic_json.node.JsonValue;
@@ -15,6 +16,8 @@ import org.parstastic.jparstastic_json.parser.parsers.JsonParticleParserTest;
 import java.util.List;
 import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 class ObjectNodeParserTest extends JsonParticleParserTest {
     @Override
     protected JsonParticleParser<?> getInstance() {
@@ -158,4 +161,49 @@ class ObjectNodeParserTest extends JsonParticleParserTest {
                 )
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    void get_successWithFewProperties() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final ObjectNode objectNode = new ObjectNodeParser().parse("{\"a\": 1, \"b\\n\": true, \"a\": 2}").getValue();
+
+        assertThat(objectNode.get("a"))
+                .extracting(JsonValue::stringify)
+                .isEqualTo(" 1");
+        assertThat(objectNode.get("b\\n"))
+                .extracting(JsonValue::stringify)
+                .isEqualTo(" true");
+        assertThat(objectNode.get("b\n"))
+                .isNull();
+        assertThat(objectNode.has("a"))
+                .isTrue();
+        assertThat(objectNode.has("c"))
+                .isFalse();
+    }
+
+    @Test
+    void get_successWithManyProperties() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final StringBuilder json = new StringBuilder("{");
+        for (int i = 0; i < 300; i++) {
+            json.append("\"field").append(i).append("\":").append(i).append(',');
+        }
+        final ObjectNode objectNode = new ObjectNodeParser().parse(json.append("\"field7\":-1}").toString()).getValue();
+
+        for (int i = 0; i < 300; i++) {
+            assertThat(objectNode.get("field" + i))
+                    .extracting(JsonValue::stringify)
+                    .isEqualTo(String.valueOf(i));
+        }
+        assertThat(objectNode.has("field300"))
+                .isFalse();
+        assertThat(objectNode.get("field"))
+                .isNull();
+        assertThat(objectNode.stringify())
+                .isEqualTo(json.toString());
+    }
+
+    @Test
+    void get_successWithoutProperties() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        assertThat(new ObjectNodeParser().parse("{ }").getValue().has(""))
+                .isFalse();
+    }
+}
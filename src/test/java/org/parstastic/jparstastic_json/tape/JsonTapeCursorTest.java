@@ -0,0 +1,139 @@
+package org.parstastic.jparstastic_json.tape;
+
+import org.junit.jupiter.api.Test;
+import org.parstastic.jparstastic_json.parser.FastJsonParser;
+import org.parstastic.jparstastic_json.parser.JsonParsingResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JsonTapeCursorTest {
+    private static final String DOCUMENT =
+            "{\"id\": 7, \"name\": \"a\\\"b\", \"tags\": [\"x\", [], {}], \"score\": -1.5e2, \"ok\": true, \"none\": null}";
+
+    @Test
+    void navigate_allValuesInDocumentOrder() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final JsonTapeCursor cursor = cursor(DOCUMENT);
+        final List<String> keys = new ArrayList<>();
+
+        assertThat(cursor.getType())
+                .isEqualTo(JsonTape.ValueType.OBJECT);
+        assertThat(cursor.size())
+                .isEqualTo(6);
+        assertThat(cursor.enter())
+                .isTrue();
+        do {
+            keys.add(cursor.getKey());
+        } while (cursor.next());
+        cursor.exit();
+
+        assertThat(keys)
+                .containsExactly("id", "name", "tags", "score", "ok", "none");
+        assertThat(cursor.getDepth())
+                .isZero();
+        assertThat(cursor.getType())
+                .isEqualTo(JsonTape.ValueType.OBJECT);
+    }
+
+    @Test
+    void enterProperty_readsScalars() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final JsonTapeCursor cursor = cursor(DOCUMENT);
+
+        assertThat(cursor.enterProperty("id"))
+                .isTrue();
+        assertThat(cursor.getLong())
+                .isEqualTo(7);
+        assertThat(cursor.getNumberText())
+                .isEqualTo("7");
+        cursor.exit();
+        assertThat(cursor.enterProperty("name"))
+                .isTrue();
+        assertThat(cursor.getString())
+                .isEqualTo("a\\\"b");
+        cursor.exit();
+        assertThat(cursor.enterProperty("score"))
+                .isTrue();
+        assertThat(cursor.getDouble())
+                .isEqualTo(-150.0);
+        assertThat(cursor.getNumberText())
+                .isEqualTo("-1.5e2");
+        cursor.exit();
+        assertThat(cursor.enterProperty("ok"))
+                .isTrue();
+        assertThat(cursor.getBoolean())
+                .isTrue();
+        cursor.exit();
+        assertThat(cursor.enterProperty("none"))
+                .isTrue();
+        assertThat(cursor.getType())
+                .isEqualTo(JsonTape.ValueType.NULL);
+        cursor.exit();
+
+        assertThat(cursor.enterProperty("missing"))
+                .isFalse();
+    }
+
+    @Test
+    void enterElement_skipsNestedContainers() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final JsonTapeCursor cursor = cursor(DOCUMENT);
+
+        assertThat(cursor.enterProperty("tags"))
+                .isTrue();
+        assertThat(cursor.size())
+                .isEqualTo(3);
+        assertThat(cursor.enterElement(2))
+                .isTrue();
+        assertThat(cursor.getType())
+                .isEqualTo(JsonTape.ValueType.OBJECT);
+        assertThat(cursor.enter())
+                .isFalse();
+        assertThat(cursor.next())
+                .isFalse();
+        cursor.exit();
+        assertThat(cursor.enterElement(3))
+                .isFalse();
+        assertThat(cursor.enterElement(1))
+                .isTrue();
+        assertThat(cursor.getType())
+                .isEqualTo(JsonTape.ValueType.ARRAY);
+        assertThat(cursor.next())
+                .isTrue();
+        assertThat(cursor.getDepth())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void toJsonValue_convertsCurrentValue() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final JsonTapeCursor cursor = cursor(DOCUMENT);
+
+        cursor.enterProperty("tags");
+
+        assertThat(cursor.toJsonValue())
+                .usingRecursiveComparison()
+                .isEqualTo(new FastJsonParser().parse("[\"x\",[],{}]").getValue());
+    }
+
+    @Test
+    void getters_failureWithOtherType() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final JsonTapeCursor cursor = cursor("[\"text\"]");
+
+        assertThatThrownBy(cursor::getString)
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(cursor::exit)
+                .isInstanceOf(IllegalStateException.class);
+        cursor.enter();
+        assertThatThrownBy(cursor::getLong)
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(cursor::getKey)
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(cursor::enter)
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static JsonTapeCursor cursor(final String json) throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        return new JsonTapeParser().parse(json).getValue().cursor();
+    }
+}
@@ -0,0 +1,155 @@
+package org.parstastic.jparstastic_json.tape;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.parstastic.jparstastic_json.node.JsonValue;
+import org.parstastic.jparstastic_json.node.Whitespace;
+import org.parstastic.jparstastic_json.parser.FastJsonParser;
+import org.parstastic.jparstastic_json.parser.JsonParsingProcess;
+import org.parstastic.jparstastic_json.parser.JsonParsingResult;
+import org.parstastic.jparstastic_json.parser.input.JsonInput;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonTapeParserTest {
+    private static final String DOCUMENT =
+            " {\"a\\\"[\": [1, -2.5E+3, \"x,y:}\" , {\"b\" :null}],\r\n\t\"ü\": \"€😀\", \"c\": [ ], \"d\": { }} ";
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "\"Hello World\"",
+            "\"\\u2468\"",
+            "\"\\\\ \\/ \\b \\f \\n \\r \\t\"",
+            "-1",
+            "-0",
+            "0",
+            "0.5",
+            "-12.0625",
+            "100E100",
+            "100E+100",
+            "2e-3",
+            "123456789012345678",
+            "true",
+            "false",
+            "null",
+            "[]",
+            "[ ]",
+            "[\"string\", true, null, []]",
+            "{}",
+            "{ \"hello\" : \"world\" }",
+            "{\"key\": \"value\", \"boolean\": true}",
+            "\n{\n    \"a\": [1, 2.5, {\"b\": null}],\r\n\t\"c\": {\"d\": [[], {}]}\n}\n"
+    })
+    void parse_successWithFastJsonParserTreeWithoutWhitespace(final String json)
+            throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final JsonTape tape = new JsonTapeParser().parse(json).getValue();
+
+        assertThat(tape.toJsonValue())
+                .usingRecursiveComparison()
+                .ignoringFieldsOfTypes(Whitespace.class)
+                .isEqualTo(new FastJsonParser().parse(json).getValue());
+        assertThat(new FastJsonParser().parse(tape.stringify()).getValue())
+                .usingRecursiveComparison()
+                .isEqualTo(tape.toJsonValue());
+    }
+
+    @Test
+    void parse_successWithAllInputs() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final String expected = new JsonTapeParser().parse(DOCUMENT).getValue().stringify();
+        final byte[] bytes = DOCUMENT.getBytes(StandardCharsets.UTF_8);
+
+        assertThat(expected)
+                .isEqualTo("{\"a\\\"[\":[1,-2.5E+3,\"x,y:}\",{\"b\":null}],\"ü\":\"€😀\",\"c\":[],\"d\":{}}");
+        assertThat(new JsonTapeParser().parse(JsonInput.ofUtf8(bytes, 0, bytes.length)).getValue().stringify())
+                .isEqualTo(expected);
+        assertThat(new JsonTapeParser().parse(JsonInput.of(new StringReader(DOCUMENT))).getValue().stringify())
+                .isEqualTo(expected);
+    }
+
+    @Test
+    void parse_successWithCompactTape() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        final JsonTape tape = new JsonTapeParser().parse("[1, 2.5, \"ab\", true, {\"c\": null}]").getValue();
+
+        assertThat(tape.getTapeLength())
+                .isEqualTo(14);
+        assertThat(tape.getTextLength())
+                .isEqualTo("2.5abc".length());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            " ",
+            "text",
+            "tru",
+            "\"test",
+            "\"\\x\"",
+            "\"\\u12G4\"",
+            "-",
+            "01",
+            "1.",
+            "1e",
+            "1e+",
+            "[1,]",
+            "[1 2]",
+            "[1",
+            "[1]]",
+            "{,}",
+            "{1: 2}",
+            "{\"a\" 1}",
+            "{\"a\": 1,}",
+            "{\"a\": }",
+            "{\"a\": 1]",
+            "null null"
+    })
+    void parse_failureWithFastJsonParserError(final String json)
+            throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        assertThat(new JsonTapeParser().parse(json).getError())
+                .usingRecursiveComparison()
+                .isEqualTo(new FastJsonParser().parse(json).getError());
+    }
+
+    @Test
+    void parse_failureWithExceededMaxDepth() throws JsonParsingResult.JsonParsingResultNoSuchElementException {
+        assertThat(new JsonTapeParser(2).parse("[{\"a\": 1}]").hasValue())
+                .isTrue();
+        assertThat(new JsonTapeParser(2).parse("[{\"a\": []}]").getError())
+                .usingRecursiveComparison()
+                .isEqualTo(new FastJsonParser(2).parse("[{\"a\": []}]").getError());
+    }
+
+    @Test
+    void parse_successWithDeepNestingOnSmallStack() throws InterruptedException {
+        final int depth = 100_000;
+        final String json = "[".repeat(depth) + "]".repeat(depth);
+        final AtomicReference<JsonValue> result = new AtomicReference<>();
+
+        final Thread thread = new Thread(null, () -> {
+            try {
+                result.set(new JsonTapeParser(depth).parse(json).getValue().toJsonValue());
+            } catch (final JsonParsingResult.JsonParsingResultNoSuchElementException e) {
+                throw new IllegalStateException(e);
+            }
+        }, "parser", 64 * 1024);
+        thread.start();
+        thread.join();
+
+        assertThat(result.get())
+                .isNotNull();
+    }
+
+    @Test
+    void tryParse_advancesParsingProcess() {
+        final JsonParsingProcess parsingProcess = new JsonParsingProcess(" [1, 2] ");
+
+        assertThat(new JsonTapeParser().tryParse(parsingProcess))
+                .isNotNull();
+        assertThat(parsingProcess.isFinished())
+                .isTrue();
+    }
+}